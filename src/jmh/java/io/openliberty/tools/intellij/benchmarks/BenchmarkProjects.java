@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmarks;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sample projects imported by {@link PsiBenchmarksRunner} and shared with the benchmarks, which run in the same JVM.
+ */
+public final class BenchmarkProjects {
+
+    static final String MICROPROFILE_SAMPLE = "singleModMavenMP";
+
+    static final String JAKARTA_SAMPLE = "jakarta-sample";
+
+    private static Project project;
+
+    private static Module microProfileModule;
+
+    private static Module jakartaModule;
+
+    private BenchmarkProjects() {
+    }
+
+    static void init(Project project, Module microProfileModule, Module jakartaModule) {
+        BenchmarkProjects.project = project;
+        BenchmarkProjects.microProfileModule = microProfileModule;
+        BenchmarkProjects.jakartaModule = jakartaModule;
+    }
+
+    static void dispose() {
+        project = null;
+        microProfileModule = null;
+        jakartaModule = null;
+    }
+
+    public static Project getProject() {
+        return checkInitialized(project);
+    }
+
+    public static Module getMicroProfileModule() {
+        return checkInitialized(microProfileModule);
+    }
+
+    public static Module getJakartaModule() {
+        return checkInitialized(jakartaModule);
+    }
+
+    public static IPsiUtils getUtils() {
+        return PsiUtilsLSImpl.getInstance(getProject());
+    }
+
+    /**
+     * Returns the URI of the given file of the given module.
+     *
+     * @param module       the module.
+     * @param relativePath the path of the file relative to the module directory.
+     * @return the URI of the given file of the given module.
+     */
+    public static String getUri(Module module, String relativePath) {
+        VirtualFile file = LocalFileSystem.getInstance().refreshAndFindFileByPath(ModuleUtilCore.getModuleDirPath(module)
+                + "/" + relativePath);
+        if (file == null) {
+            throw new IllegalStateException("Cannot find " + relativePath + " in " + module.getName());
+        }
+        return VfsUtilCore.virtualToIoFile(file).toURI().toString();
+    }
+
+    /**
+     * Returns the URIs of the Java source files of the given module.
+     *
+     * @param module the module.
+     * @return the URIs of the Java source files of the given module.
+     */
+    public static List<String> getJavaUris(Module module) {
+        VirtualFile sourceDir = LocalFileSystem.getInstance().refreshAndFindFileByPath(ModuleUtilCore.getModuleDirPath(module)
+                + "/src/main/java");
+        List<String> uris = new ArrayList<>();
+        if (sourceDir != null) {
+            VfsUtilCore.iterateChildrenRecursively(sourceDir, null, file -> {
+                if (!file.isDirectory() && "java".equals(file.getExtension())) {
+                    uris.add(VfsUtilCore.virtualToIoFile(file).toURI().toString());
+                }
+                return true;
+            });
+        }
+        return uris;
+    }
+
+    private static <T> T checkInitialized(T value) {
+        if (value == null) {
+            throw new IllegalStateException("The benchmarks must be run with PsiBenchmarksRunner");
+        }
+        return value;
+    }
+}
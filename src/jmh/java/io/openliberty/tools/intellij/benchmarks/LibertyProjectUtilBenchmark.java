@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmarks;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.Project;
+import io.openliberty.tools.intellij.util.BuildFile;
+import io.openliberty.tools.intellij.util.LibertyProjectUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the scan of the Liberty build files of the project which contains the sample projects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LibertyProjectUtilBenchmark {
+
+    private Project project;
+
+    @Setup
+    public void setUp() {
+        project = BenchmarkProjects.getProject();
+    }
+
+    /**
+     * Scans both the Maven and the Gradle build files, as LibertyModules does on each rescan.
+     */
+    @Benchmark
+    public List<BuildFile> getBuildFiles() throws Exception {
+        return ReadAction.compute(() -> {
+            List<BuildFile> buildFiles = new ArrayList<>(LibertyProjectUtil.getMavenBuildFiles(project));
+            buildFiles.addAll(LibertyProjectUtil.getGradleBuildFiles(project));
+            return buildFiles;
+        });
+    }
+}
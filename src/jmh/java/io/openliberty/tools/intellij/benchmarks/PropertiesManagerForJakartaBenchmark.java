@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmarks;
+
+import com.intellij.openapi.application.ReadAction;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.PropertiesManagerForJakarta;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Jakarta diagnostics of all the Java files of the Jakarta sample project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PropertiesManagerForJakartaBenchmark {
+
+    private IPsiUtils utils;
+
+    private JakartaJavaDiagnosticsParams diagnosticsParams;
+
+    @Setup
+    public void setUp() {
+        utils = BenchmarkProjects.getUtils();
+        diagnosticsParams = new JakartaJavaDiagnosticsParams();
+        diagnosticsParams.setUris(BenchmarkProjects.getJavaUris(BenchmarkProjects.getJakartaModule()));
+    }
+
+    @Benchmark
+    public List<PublishDiagnosticsParams> diagnostics() {
+        return ReadAction.compute(() -> PropertiesManagerForJakarta.getInstance().diagnostics(diagnosticsParams, utils));
+    }
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmarks;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import org.eclipse.lsp4j.CodeLens;
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4j.Hover;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeLensParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaHoverParams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the MicroProfile Java file handlers on the REST resource of the MicroProfile sample project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PropertiesManagerForJavaBenchmark {
+
+    private static final String RESOURCE_PATH = "src/main/java/io/openliberty/sample/SampleResource.java";
+
+    private IPsiUtils utils;
+
+    private MicroProfileJavaDiagnosticsParams diagnosticsParams;
+
+    private MicroProfileJavaHoverParams hoverParams;
+
+    private MicroProfileJavaCompletionParams completionParams;
+
+    private MicroProfileJavaCodeLensParams codeLensParams;
+
+    @Setup
+    public void setUp() {
+        utils = BenchmarkProjects.getUtils();
+        String uri = BenchmarkProjects.getUri(BenchmarkProjects.getMicroProfileModule(), RESOURCE_PATH);
+
+        diagnosticsParams = new MicroProfileJavaDiagnosticsParams(List.of(uri),
+                new MicroProfileJavaDiagnosticsSettings(Collections.emptyList()));
+        diagnosticsParams.setDocumentFormat(DocumentFormat.Markdown);
+
+        // @Path("/resource")
+        hoverParams = new MicroProfileJavaHoverParams();
+        hoverParams.setUri(uri);
+        hoverParams.setPosition(new Position(16, 2));
+        hoverParams.setDocumentFormat(DocumentFormat.Markdown);
+
+        // Body of the class
+        completionParams = new MicroProfileJavaCompletionParams(uri, new Position(18, 0));
+
+        codeLensParams = new MicroProfileJavaCodeLensParams();
+        codeLensParams.setUri(uri);
+        codeLensParams.setUrlCodeLensEnabled(true);
+        codeLensParams.setCheckServerAvailable(false);
+        codeLensParams.setLocalServerPort(9080);
+    }
+
+    @Benchmark
+    public List<PublishDiagnosticsParams> diagnostics() {
+        return ReadAction.compute(() -> PropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams, utils));
+    }
+
+    @Benchmark
+    public Hover hover() {
+        return ReadAction.compute(() -> PropertiesManagerForJava.getInstance().hover(hoverParams, utils));
+    }
+
+    @Benchmark
+    public CompletionList completion() {
+        return ReadAction.compute(() -> PropertiesManagerForJava.getInstance().completion(completionParams, utils));
+    }
+
+    @Benchmark
+    public List<? extends CodeLens> codeLens() {
+        return ReadAction.compute(() -> PropertiesManagerForJava.getInstance().codeLens(codeLensParams, utils,
+                new EmptyProgressIndicator()));
+    }
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmarks;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import io.openliberty.tools.intellij.lsp4jakarta.it.core.BaseJakartaTest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Imports the sample projects in a test fixture and runs the JMH benchmarks of this package against them.
+ *
+ * <p>
+ * The benchmarks need the IntelliJ test application, so they run in the JVM of this test instead of forked JVMs. The
+ * benchmarks to run are selected with the "jmh.include" system property (all by default) and the results are written
+ * as JSON to the file given by the "jmh.result" system property.
+ * </p>
+ */
+@RunWith(JUnit4.class)
+public class PsiBenchmarksRunner extends BaseJakartaTest {
+
+    @Test
+    public void runBenchmarks() throws Exception {
+        List<Module> modules = createMavenModules(List.of(
+                new File("src/test/resources/projects/maven/" + BenchmarkProjects.MICROPROFILE_SAMPLE),
+                new File("src/test/resources/projects/maven/" + BenchmarkProjects.JAKARTA_SAMPLE)));
+        BenchmarkProjects.init(getProject(), findModule(modules, BenchmarkProjects.MICROPROFILE_SAMPLE),
+                findModule(modules, BenchmarkProjects.JAKARTA_SAMPLE));
+        try {
+            String include = System.getProperty("jmh.include", "");
+            Path result = Path.of(System.getProperty("jmh.result", "build/reports/jmh/results.json"));
+            Files.createDirectories(result.toAbsolutePath().getParent());
+            Options options = new OptionsBuilder()
+                    .include(PsiBenchmarksRunner.class.getPackageName() + ".*" + include + ".*Benchmark.*")
+                    .forks(0)
+                    .warmupIterations(3)
+                    .measurementIterations(5)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(result.toString())
+                    .build();
+            assertFalse("No benchmark has been run", new Runner(options).run().isEmpty());
+        } finally {
+            BenchmarkProjects.dispose();
+        }
+    }
+
+    private static Module findModule(List<Module> modules, String sampleName) {
+        return modules.stream()
+                .filter(module -> new File(ModuleUtilCore.getModuleDirPath(module)).getName().startsWith(sampleName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("The " + sampleName + " sample has not been imported"));
+    }
+}
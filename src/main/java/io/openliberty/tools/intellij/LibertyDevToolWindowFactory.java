@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 IBM Corporation.
+ * Copyright (c) 2020, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -27,7 +27,14 @@ final class LibertyDevToolWindowFactory implements ToolWindowFactory {
         ContentManager contentManager = toolWindow.getContentManager();
         Content content = contentManager.getFactory().createContent(explorer,
                 LocalizedResourceUtil.getMessage("liberty.tool.window.display.name"), false);
+        content.setDisposer(explorer);
         contentManager.addContent(content);
 
+        // language servers launched by Liberty Tools
+        LibertyLanguageServersPanel languageServersPanel = new LibertyLanguageServersPanel(project);
+        Content languageServersContent = contentManager.getFactory().createContent(languageServersPanel,
+                LocalizedResourceUtil.getMessage("language.servers.tab"), false);
+        languageServersContent.setDisposer(languageServersPanel);
+        contentManager.addContent(languageServersContent);
     }
 }
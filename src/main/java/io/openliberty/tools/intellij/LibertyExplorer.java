@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 IBM Corporation.
+ * Copyright (c) 2020, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -10,6 +10,7 @@
 package io.openliberty.tools.intellij;
 
 import com.intellij.ide.DataManager;
+import com.intellij.openapi.Disposable;
 import com.intellij.openapi.actionSystem.*;
 import com.intellij.openapi.actionSystem.ex.ActionUtil;
 import com.intellij.openapi.actionSystem.impl.SimpleDataContext;
@@ -26,6 +27,7 @@ import com.intellij.ui.PopupHandler;
 import com.intellij.ui.components.JBScrollPane;
 import com.intellij.ui.components.JBTextArea;
 import com.intellij.ui.treeStructure.Tree;
+import com.intellij.util.messages.MessageBusConnection;
 import io.openliberty.tools.intellij.actions.LibertyGeneralAction;
 import io.openliberty.tools.intellij.actions.LibertyToolbarActionGroup;
 import io.openliberty.tools.intellij.util.*;
@@ -34,6 +36,7 @@ import org.jetbrains.annotations.NotNull;
 import javax.swing.*;
 import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeCellRenderer;
+import javax.swing.tree.DefaultTreeModel;
 import javax.swing.tree.TreePath;
 import java.awt.*;
 import java.awt.event.KeyAdapter;
@@ -41,8 +44,9 @@ import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
-public class LibertyExplorer extends SimpleToolWindowPanel {
+public class LibertyExplorer extends SimpleToolWindowPanel implements Disposable {
     private final static Logger LOGGER = Logger.getInstance(LibertyExplorer.class);
 
     public LibertyExplorer(@NotNull Project project) {
@@ -50,34 +54,89 @@ public class LibertyExplorer extends SimpleToolWindowPanel {
         //NOTE: To address the "Slow operations are prohibited on EDT" Exception (https://github.com/OpenLiberty/liberty-tools-intellij/issues/674), we have implemented the workaround outlined in the document (https://plugins.jetbrains.com/docs/intellij/general-threading-rules.html).
         // We have now moved the method "buildTree(project, getBackground())" to a background thread. To pass control from a background thread to the Event Dispatch Thread (EDT), UI operations are now included within the method "ApplicationManager.getApplication().invokeLater()".
         ModalityState modalityState = getModalityState();
+        // the connection is closed when the tool window content is removed
+        MessageBusConnection connection = project.getMessageBus().connect(this);
         ApplicationManager.getApplication().executeOnPooledThread(() -> {
             // build tree (Read operations need to be wrapped in a read action)
             Tree tree = ApplicationManager.getApplication().runReadAction((Computable<Tree>) () -> buildTree(project, getBackground()));
 
-            if (tree != null) {
-                ApplicationManager.getApplication().invokeLater(() -> {
-                    JBScrollPane scrollPane = new JBScrollPane(tree);
-                    scrollPane.setName(Constants.LIBERTY_SCROLL_PANE);
-                    this.setContent(scrollPane);
-                }, modalityState);
-            } else {
-                ApplicationManager.getApplication().invokeLater(() -> {
-                    JBTextArea jbTextArea = new JBTextArea(LocalizedResourceUtil.getMessage("no.liberty.projects.detected"));
-                    jbTextArea.setEditable(false);
-                    jbTextArea.setBackground(getBackground());
-                    jbTextArea.setLineWrap(true);
-
-                    this.setContent(jbTextArea);
-                }, modalityState);
-            }
+            ApplicationManager.getApplication().invokeLater(() -> setTree(tree), modalityState);
 
-            ApplicationManager.getApplication().invokeLater(() -> {
-                ActionToolbar actionToolbar = buildActionToolbar(tree);
-                this.setToolbar(actionToolbar.getComponent());
-            }, modalityState);
+            // update the tree when build files are created, changed or deleted, instead of scanning the project again
+            connection.subscribe(LibertyModules.TOPIC,
+                    (LibertyModules.Listener) (added, changed, removed) -> ApplicationManager.getApplication().invokeLater(
+                            () -> updateTree(project, added, changed, removed), modalityState, project.getDisposed()));
+            LibertyModulesUpdater.getInstance(project);
         });
     }
 
+    @Override
+    public void dispose() {
+    }
+
+    private void setTree(Tree tree) {
+        if (tree != null) {
+            JBScrollPane scrollPane = new JBScrollPane(tree);
+            scrollPane.setName(Constants.LIBERTY_SCROLL_PANE);
+            this.setContent(scrollPane);
+        } else {
+            JBTextArea jbTextArea = new JBTextArea(LocalizedResourceUtil.getMessage("no.liberty.projects.detected"));
+            jbTextArea.setEditable(false);
+            jbTextArea.setBackground(getBackground());
+            jbTextArea.setLineWrap(true);
+
+            this.setContent(jbTextArea);
+        }
+
+        ActionToolbar actionToolbar = buildActionToolbar(tree);
+        this.setToolbar(actionToolbar.getComponent());
+    }
+
+    /**
+     * Apply the changes of the Liberty modules to the nodes of the current tree, or replace the tree when the first
+     * Liberty module is added or the last one is removed.
+     */
+    private void updateTree(Project project, List<LibertyModule> added, List<LibertyModule> changed, List<LibertyModule> removed) {
+        Tree tree = getTree();
+        if (tree == null || LibertyModules.getInstance().getLibertyModules(project).isEmpty()) {
+            setTree(createTree(project, getBackground()));
+            revalidate();
+            repaint();
+            return;
+        }
+        DefaultTreeModel model = (DefaultTreeModel) tree.getModel();
+        DefaultMutableTreeNode top = (DefaultMutableTreeNode) model.getRoot();
+        TreeDataProvider treeDataProvider = (TreeDataProvider) DataManager.getDataProvider(tree);
+        HashMap<String, ArrayList<Object>> projectMap = treeDataProvider != null ? treeDataProvider.map : new HashMap<>();
+        for (int i = top.getChildCount() - 1; i >= 0; i--) {
+            LibertyModuleNode node = (LibertyModuleNode) top.getChildAt(i);
+            if (removed.contains(node.getLibertyModule())) {
+                projectMap.remove(node.getUserObject());
+                model.removeNodeFromParent(node);
+            } else if (changed.contains(node.getLibertyModule())) {
+                projectMap.remove(node.getUserObject());
+                projectMap.put(node.getName(), getProjectSettings(node.getLibertyModule()));
+                node.setUserObject(node.getName());
+                node.removeAllChildren();
+                addActionNodes(node, node.getLibertyModule());
+                model.nodeStructureChanged(node);
+            }
+        }
+        for (LibertyModule libertyModule : added) {
+            LibertyModuleNode node = new LibertyModuleNode(libertyModule);
+            addActionNodes(node, libertyModule);
+            projectMap.put(libertyModule.getName(), getProjectSettings(libertyModule));
+            model.insertNodeInto(node, top, top.getChildCount());
+        }
+    }
+
+    private Tree getTree() {
+        if (getContent() instanceof JBScrollPane scrollPane && scrollPane.getViewport().getView() instanceof Tree tree) {
+            return tree;
+        }
+        return null;
+    }
+
     private ModalityState getModalityState() {
         return ModalityState.nonModal();
     }
@@ -103,7 +162,19 @@ public class LibertyExplorer extends SimpleToolWindowPanel {
      * @return Tree object of all valid Liberty Gradle and Liberty Maven projects
      */
     public static Tree buildTree(Project project, Color backgroundColor) {
-        LibertyModules libertyModules = LibertyModules.getInstance().scanLibertyModules(project);
+        LibertyModules.getInstance().scanLibertyModules(project);
+        return createTree(project, backgroundColor);
+    }
+
+    /**
+     * Creates the Open Liberty Tools Dashboard tree from the Liberty modules of the project, without scanning it
+     *
+     * @param project         current project
+     * @param backgroundColor
+     * @return Tree object of all valid Liberty Gradle and Liberty Maven projects
+     */
+    private static Tree createTree(Project project, Color backgroundColor) {
+        LibertyModules libertyModules = LibertyModules.getInstance();
         // This singleton may contain entries from old projects if you close a project and open another
         if (libertyModules.getLibertyModules(project).isEmpty()) {
             return null;
@@ -115,28 +186,8 @@ public class LibertyExplorer extends SimpleToolWindowPanel {
             LibertyModuleNode node = new LibertyModuleNode(libertyModule);
 
             top.add(node);
-            ArrayList<Object> settings = new ArrayList<Object>();
-            settings.add(libertyModule.getBuildFile());
-            settings.add(libertyModule.getProjectType());
-            projectMap.put(libertyModule.getName(), settings);
-
-            // ordered to align with IntelliJ's right-click menu
-            node.add(new LibertyActionNode(Constants.LIBERTY_DEV_START, libertyModule));
-            // check if Liberty Maven Plugin is 3.3-M1+ or Liberty Gradle Plugin is 3.1-M1+
-            // if version is not specified in pom, assume latest version as downloaded from maven central
-            boolean validContainerVersion = libertyModule.isValidContainerVersion();
-            if (validContainerVersion) {
-                node.add(new LibertyActionNode(Constants.LIBERTY_DEV_START_CONTAINER, libertyModule));
-            }
-            node.add(new LibertyActionNode(Constants.LIBERTY_DEV_CUSTOM_START, libertyModule));
-            node.add(new LibertyActionNode(Constants.LIBERTY_DEV_STOP, libertyModule));
-            node.add(new LibertyActionNode(Constants.LIBERTY_DEV_TESTS, libertyModule));
-            if (libertyModule.getProjectType().equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT)) {
-                node.add(new LibertyActionNode(Constants.VIEW_INTEGRATION_TEST_REPORT, libertyModule));
-                node.add(new LibertyActionNode(Constants.VIEW_UNIT_TEST_REPORT, libertyModule));
-            } else {
-                node.add(new LibertyActionNode(Constants.VIEW_GRADLE_TEST_REPORT, libertyModule));
-            }
+            projectMap.put(libertyModule.getName(), getProjectSettings(libertyModule));
+            addActionNodes(node, libertyModule);
         }
 
         Tree tree = new Tree(top);
@@ -233,6 +284,33 @@ public class LibertyExplorer extends SimpleToolWindowPanel {
         return tree;
     }
 
+    private static ArrayList<Object> getProjectSettings(LibertyModule libertyModule) {
+        ArrayList<Object> settings = new ArrayList<Object>();
+        settings.add(libertyModule.getBuildFile());
+        settings.add(libertyModule.getProjectType());
+        return settings;
+    }
+
+    private static void addActionNodes(LibertyModuleNode node, LibertyModule libertyModule) {
+        // ordered to align with IntelliJ's right-click menu
+        node.add(new LibertyActionNode(Constants.LIBERTY_DEV_START, libertyModule));
+        // check if Liberty Maven Plugin is 3.3-M1+ or Liberty Gradle Plugin is 3.1-M1+
+        // if version is not specified in pom, assume latest version as downloaded from maven central
+        boolean validContainerVersion = libertyModule.isValidContainerVersion();
+        if (validContainerVersion) {
+            node.add(new LibertyActionNode(Constants.LIBERTY_DEV_START_CONTAINER, libertyModule));
+        }
+        node.add(new LibertyActionNode(Constants.LIBERTY_DEV_CUSTOM_START, libertyModule));
+        node.add(new LibertyActionNode(Constants.LIBERTY_DEV_STOP, libertyModule));
+        node.add(new LibertyActionNode(Constants.LIBERTY_DEV_TESTS, libertyModule));
+        if (libertyModule.getProjectType().equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT)) {
+            node.add(new LibertyActionNode(Constants.VIEW_INTEGRATION_TEST_REPORT, libertyModule));
+            node.add(new LibertyActionNode(Constants.VIEW_UNIT_TEST_REPORT, libertyModule));
+        } else {
+            node.add(new LibertyActionNode(Constants.VIEW_GRADLE_TEST_REPORT, libertyModule));
+        }
+    }
+
     static class LibertyTreeRenderer extends DefaultTreeCellRenderer {
         public LibertyTreeRenderer(Color backgroundColor) {
             setBackgroundNonSelectionColor(backgroundColor);
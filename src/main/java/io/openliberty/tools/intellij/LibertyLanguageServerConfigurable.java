@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij;
+
+import com.intellij.openapi.options.Configurable;
+import com.intellij.ui.JBIntSpinner;
+import com.intellij.ui.components.JBCheckBox;
+import com.intellij.ui.components.JBTextField;
+import com.intellij.util.ui.FormBuilder;
+import io.openliberty.tools.intellij.util.Constants;
+import io.openliberty.tools.intellij.util.LanguageServerJvmOptions;
+import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Settings page of the language servers launched by Liberty Tools.
+ */
+public class LibertyLanguageServerConfigurable implements Configurable {
+
+    private static final String[] SERVER_NAMES = {Constants.LIBERTY_CONFIG_SERVER, Constants.LIBERTY_XML_SERVER,
+            Constants.MICROPROFILE_SERVER, Constants.JAKARTA_LANG_SERVER};
+
+    private JBCheckBox classDataSharingCheckBox;
+
+    private JBIntSpinner idleTimeoutSpinner;
+
+    private final Map<String, JBTextField> jvmOptionsFields = new LinkedHashMap<>();
+
+    @Override
+    public @Nls(capitalization = Nls.Capitalization.Title) String getDisplayName() {
+        return LocalizedResourceUtil.getMessage("language.servers.settings");
+    }
+
+    @Override
+    public @Nullable JComponent createComponent() {
+        classDataSharingCheckBox = new JBCheckBox(LocalizedResourceUtil.getMessage("language.servers.class.data.sharing"));
+        idleTimeoutSpinner = new JBIntSpinner(LibertyLanguageServerSettings.DEFAULT_IDLE_TIMEOUT_MINUTES, 0, 24 * 60);
+        idleTimeoutSpinner.setToolTipText(LocalizedResourceUtil.getMessage("language.servers.idle.timeout.tool.tip"));
+        FormBuilder builder = FormBuilder.createFormBuilder()
+                .addLabeledComponent(LocalizedResourceUtil.getMessage("language.servers.idle.timeout"), idleTimeoutSpinner)
+                .addComponent(classDataSharingCheckBox);
+        for (String serverName : SERVER_NAMES) {
+            JBTextField jvmOptionsField = new JBTextField();
+            jvmOptionsField.setToolTipText(LocalizedResourceUtil.getMessage("language.servers.jvm.options.tool.tip",
+                    LanguageServerJvmOptions.STARTUP_JVM_OPTIONS));
+            jvmOptionsFields.put(serverName, jvmOptionsField);
+            builder.addLabeledComponent(LocalizedResourceUtil.getMessage("language.servers.jvm.options", serverName),
+                    jvmOptionsField, true);
+        }
+        reset();
+        return builder.addComponentFillVertically(new JPanel(), 0).getPanel();
+    }
+
+    @Override
+    public boolean isModified() {
+        LibertyLanguageServerSettings settings = LibertyLanguageServerSettings.getInstance();
+        if (classDataSharingCheckBox.isSelected() != settings.isClassDataSharingEnabled()
+                || idleTimeoutSpinner.getNumber() != settings.getIdleTimeoutMinutes()) {
+            return true;
+        }
+        for (Map.Entry<String, JBTextField> entry : jvmOptionsFields.entrySet()) {
+            if (!Objects.equals(getJvmOptions(entry.getValue()), settings.getJvmOptions(entry.getKey()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void apply() {
+        LibertyLanguageServerSettings settings = LibertyLanguageServerSettings.getInstance();
+        settings.setClassDataSharingEnabled(classDataSharingCheckBox.isSelected());
+        settings.setIdleTimeoutMinutes(idleTimeoutSpinner.getNumber());
+        jvmOptionsFields.forEach((serverName, jvmOptionsField) ->
+                settings.setJvmOptions(serverName, getJvmOptions(jvmOptionsField)));
+    }
+
+    @Override
+    public void reset() {
+        LibertyLanguageServerSettings settings = LibertyLanguageServerSettings.getInstance();
+        classDataSharingCheckBox.setSelected(settings.isClassDataSharingEnabled());
+        idleTimeoutSpinner.setNumber(settings.getIdleTimeoutMinutes());
+        jvmOptionsFields.forEach((serverName, jvmOptionsField) ->
+                jvmOptionsField.setText(Objects.requireNonNullElse(settings.getJvmOptions(serverName), "")));
+    }
+
+    @Override
+    public void disposeUIResources() {
+        classDataSharingCheckBox = null;
+        idleTimeoutSpinner = null;
+        jvmOptionsFields.clear();
+    }
+
+    private static @Nullable String getJvmOptions(JBTextField jvmOptionsField) {
+        String jvmOptions = jvmOptionsField.getText().trim();
+        return jvmOptions.isEmpty() ? null : jvmOptions;
+    }
+}
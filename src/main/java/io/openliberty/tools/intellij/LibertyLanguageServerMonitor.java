@@ -0,0 +1,425 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.fileEditor.FileEditorManagerEvent;
+import com.intellij.openapi.fileEditor.FileEditorManagerListener;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.startup.StartupActivity;
+import com.intellij.openapi.util.SystemInfo;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.util.Alarm;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.messages.MessageBusConnection;
+import com.redhat.devtools.lsp4ij.DocumentMatcher;
+import com.redhat.devtools.lsp4ij.LanguageServerManager;
+import com.redhat.devtools.lsp4ij.LanguageServerWrapper;
+import com.redhat.devtools.lsp4ij.ServerStatus;
+import com.redhat.devtools.lsp4ij.lifecycle.LanguageServerLifecycleListener;
+import com.redhat.devtools.lsp4ij.lifecycle.LanguageServerLifecycleManager;
+import io.openliberty.tools.intellij.liberty.lsp.LibertyConfigMatcher;
+import io.openliberty.tools.intellij.liberty.lsp.LibertyXmlMatcher;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp.JakartaJavaMatcher;
+import io.openliberty.tools.intellij.lsp4mp.lsp.MicroProfileJavaMatcher;
+import io.openliberty.tools.intellij.util.Constants;
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops the language servers launched by Liberty Tools when they have been idle for the time set in
+ * {@link LibertyLanguageServerSettings}, and restarts them when one of their files is opened, selected or saved.
+ *
+ * <p>
+ * LSP4IJ only starts a language server when a file matching its language mappings is opened, and the document
+ * matchers of the mappings make sure that a server is only started for the files it can process. When a server is
+ * restarted, LSP4IJ connects the opened files again, which sends their current content to the new process.
+ * </p>
+ * <p>
+ * Only the editors and the files of this project restart the servers. The files are collected for
+ * {@link #RESTART_DELAY_MILLIS} and matched in a pooled thread, since some matchers read the PSI of the file.
+ * </p>
+ * <p>
+ * The monitor also samples the resident memory of the language server processes, which is displayed with the memory
+ * reclaimed by stopping the idle servers in the Liberty tool window.
+ * </p>
+ */
+public final class LibertyLanguageServerMonitor implements Disposable {
+
+    private static final Logger LOGGER = Logger.getInstance(LibertyLanguageServerMonitor.class);
+
+    private static final long CHECK_PERIOD_SECONDS = 30;
+
+    private static final int RESTART_DELAY_MILLIS = 300;
+
+    /**
+     * Starts and stops the language servers, with {@link LanguageServerManager} outside the tests.
+     */
+    interface ServerLauncher {
+
+        void start(String id);
+
+        void stop(String id);
+    }
+
+    /**
+     * State of a language server launched by Liberty Tools.
+     *
+     * @param id              the id of the language server in lsp.xml.
+     * @param name            the name of the language server.
+     * @param status          the status of the language server, null when it has not been started.
+     * @param idle            true if the language server has been stopped because it was idle.
+     * @param residentMemory  the resident memory of the language server process in bytes, -1 when unknown.
+     */
+    public record ServerInfo(String id, String name, ServerStatus status, boolean idle, long residentMemory) {
+    }
+
+    private static class ServerState {
+
+        private final String id;
+        private final String name;
+        private final DocumentMatcher matcher;
+        private volatile ServerStatus status;
+        private volatile Long pid;
+        private volatile long lastActivity;
+        private volatile boolean idle;
+        private volatile long residentMemory = -1;
+
+        private ServerState(String id, String name, DocumentMatcher matcher, long lastActivity) {
+            this.id = id;
+            this.name = name;
+            this.matcher = matcher;
+            this.lastActivity = lastActivity;
+        }
+    }
+
+    private final Project project;
+
+    private final LongSupplier clock;
+
+    private final ServerLauncher launcher;
+
+    private final Map<String, ServerState> servers = new LinkedHashMap<>();
+
+    private final List<Runnable> myChangeHandlers = ContainerUtil.createConcurrentList();
+
+    private final Set<VirtualFile> pendingFiles = ConcurrentHashMap.newKeySet();
+
+    private final Alarm restartAlarm;
+
+    private final LanguageServerLifecycleListener lifecycleListener = new LanguageServerLifecycleListener() {
+        @Override
+        public void handleStatusChanged(LanguageServerWrapper languageServer) {
+            serverStatusChanged(languageServer.getServerDefinition().getId(), languageServer.getServerStatus(),
+                    languageServer.getCurrentProcessId());
+        }
+
+        @Override
+        public void handleLSPMessage(Message message, MessageConsumer consumer, LanguageServerWrapper languageServer) {
+            ServerState server = servers.get(languageServer.getServerDefinition().getId());
+            if (server != null) {
+                server.lastActivity = clock.getAsLong();
+            }
+        }
+
+        @Override
+        public void handleError(LanguageServerWrapper languageServer, Throwable exception) {
+        }
+
+        @Override
+        public void dispose() {
+        }
+    };
+
+    private final ScheduledFuture<?> idleCheck;
+
+    public LibertyLanguageServerMonitor(Project project) {
+        this(project, System::currentTimeMillis, new ServerLauncher() {
+            @Override
+            public void start(String id) {
+                LanguageServerManager.getInstance(project).start(id);
+            }
+
+            @Override
+            public void stop(String id) {
+                LanguageServerManager.StopOptions options = new LanguageServerManager.StopOptions();
+                options.setWillDisable(false);
+                LanguageServerManager.getInstance(project).stop(id, options);
+            }
+        });
+    }
+
+    /**
+     * @param project  the project.
+     * @param clock    returns the current time in milliseconds.
+     * @param launcher starts and stops the language servers.
+     */
+    LibertyLanguageServerMonitor(Project project, LongSupplier clock, ServerLauncher launcher) {
+        this.project = project;
+        this.clock = clock;
+        this.launcher = launcher;
+        addServer("libertyls", Constants.LIBERTY_CONFIG_SERVER, new LibertyConfigMatcher());
+        addServer("libertyXml", Constants.LIBERTY_XML_SERVER, new LibertyXmlMatcher());
+        addServer("lsp4mp", Constants.MICROPROFILE_SERVER, new MicroProfileJavaMatcher());
+        addServer("jakartals", Constants.JAKARTA_LANG_SERVER, new JakartaJavaMatcher());
+
+        restartAlarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, this);
+
+        LanguageServerLifecycleManager.getInstance(project).addLanguageServerLifecycleListener(lifecycleListener);
+        MessageBusConnection connection = project.getMessageBus().connect(this);
+        connection.subscribe(FileEditorManagerListener.FILE_EDITOR_MANAGER, new FileEditorManagerListener() {
+            @Override
+            public void fileOpened(@NotNull FileEditorManager source, @NotNull VirtualFile file) {
+                scheduleRestart(file);
+            }
+
+            @Override
+            public void selectionChanged(@NotNull FileEditorManagerEvent event) {
+                VirtualFile file = event.getNewFile();
+                if (file != null) {
+                    scheduleRestart(file);
+                }
+            }
+        });
+        connection.subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                if (!hasIdleServers()) {
+                    return;
+                }
+                for (VFileEvent event : events) {
+                    if (event instanceof VFileCreateEvent || event instanceof VFileContentChangeEvent) {
+                        VirtualFile file = event.getFile();
+                        if (file != null) {
+                            scheduleRestart(file);
+                        }
+                    }
+                }
+            }
+        });
+        idleCheck = AppExecutorUtil.getAppScheduledExecutorService().scheduleWithFixedDelay(this::checkServers,
+                CHECK_PERIOD_SECONDS, CHECK_PERIOD_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public static LibertyLanguageServerMonitor getInstance(Project project) {
+        return project.getService(LibertyLanguageServerMonitor.class);
+    }
+
+    private void addServer(String id, String name, DocumentMatcher matcher) {
+        servers.put(id, new ServerState(id, name, matcher, clock.getAsLong()));
+    }
+
+    public void addChangeHandler(Runnable runnable) {
+        myChangeHandlers.add(runnable);
+    }
+
+    public void removeChangeHandler(Runnable runnable) {
+        myChangeHandlers.remove(runnable);
+    }
+
+    private void fireStateChanged() {
+        for (Runnable handler : myChangeHandlers) {
+            handler.run();
+        }
+    }
+
+    /**
+     * Returns the state of the language servers launched by Liberty Tools.
+     *
+     * @return the state of the language servers launched by Liberty Tools.
+     */
+    public List<ServerInfo> getServers() {
+        List<ServerInfo> infos = new ArrayList<>();
+        for (ServerState server : servers.values()) {
+            infos.add(new ServerInfo(server.id, server.name, server.status, server.idle, server.residentMemory));
+        }
+        return infos;
+    }
+
+    /**
+     * Returns the resident memory in bytes of the language server processes which have been stopped because they were
+     * idle, as sampled before they were stopped.
+     *
+     * @return the resident memory reclaimed by stopping the idle language servers.
+     */
+    public long getReclaimedMemory() {
+        long reclaimedMemory = 0;
+        for (ServerState server : servers.values()) {
+            if (server.idle && server.residentMemory > 0) {
+                reclaimedMemory += server.residentMemory;
+            }
+        }
+        return reclaimedMemory;
+    }
+
+    private boolean hasIdleServers() {
+        for (ServerState server : servers.values()) {
+            if (server.idle) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void serverStatusChanged(String id, ServerStatus status, Long pid) {
+        ServerState server = servers.get(id);
+        if (server != null) {
+            server.status = status;
+            server.lastActivity = clock.getAsLong();
+            if (status == ServerStatus.starting || status == ServerStatus.started) {
+                server.idle = false;
+                server.pid = pid;
+            } else if (status == ServerStatus.stopped) {
+                server.pid = null;
+            }
+            fireStateChanged();
+        }
+    }
+
+    void checkServers() {
+        if (project.isDisposed()) {
+            return;
+        }
+        long idleTimeout = TimeUnit.MINUTES.toMillis(LibertyLanguageServerSettings.getInstance().getIdleTimeoutMinutes());
+        long now = clock.getAsLong();
+        for (ServerState server : servers.values()) {
+            if (server.status != ServerStatus.started) {
+                continue;
+            }
+            Long pid = server.pid;
+            if (pid != null) {
+                server.residentMemory = getResidentMemory(pid);
+            }
+            if (idleTimeout > 0 && now - server.lastActivity > idleTimeout) {
+                LOGGER.info(String.format("Stopping the %s language server which has been idle for %d minutes",
+                        server.name, TimeUnit.MILLISECONDS.toMinutes(now - server.lastActivity)));
+                server.idle = true;
+                launcher.stop(server.id);
+            }
+        }
+        fireStateChanged();
+    }
+
+    private void scheduleRestart(VirtualFile file) {
+        if (!hasIdleServers() || file.isDirectory() || project.isDisposed()) {
+            return;
+        }
+        if (pendingFiles.add(file)) {
+            restartAlarm.cancelAllRequests();
+            restartAlarm.addRequest(this::restartIdleServers, RESTART_DELAY_MILLIS);
+        }
+    }
+
+    private void restartIdleServers() {
+        List<VirtualFile> files = new ArrayList<>(pendingFiles);
+        pendingFiles.removeAll(files);
+        for (VirtualFile file : files) {
+            if (!hasIdleServers() || project.isDisposed()) {
+                return;
+            }
+            if (ReadAction.compute(() -> file.isValid() && ProjectFileIndex.getInstance(project).isInContent(file))) {
+                restartIdleServers(file);
+            }
+        }
+    }
+
+    private void restartIdleServers(VirtualFile file) {
+        for (ServerState server : servers.values()) {
+            if (server.idle && server.matcher.match(file, project)) {
+                LOGGER.info(String.format("Restarting the idle %s language server for %s", server.name, file.getPath()));
+                server.idle = false;
+                server.lastActivity = clock.getAsLong();
+                launcher.start(server.id);
+                fireStateChanged();
+            }
+        }
+    }
+
+    @TestOnly
+    void waitForRestarts() throws Exception {
+        restartAlarm.waitForAllExecuted(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns the resident memory in bytes of the given process, or -1 when it cannot be read on this platform.
+     */
+    private static long getResidentMemory(long pid) {
+        try {
+            if (SystemInfo.isLinux) {
+                for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+                    if (line.startsWith("VmRSS:")) {
+                        return parseKiloBytes(line.substring("VmRSS:".length()));
+                    }
+                }
+            } else if (SystemInfo.isMac) {
+                Process process = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+                String output = new String(process.getInputStream().readAllBytes());
+                if (process.waitFor(5, TimeUnit.SECONDS) && process.exitValue() == 0) {
+                    return parseKiloBytes(output);
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.debug("Unable to read the resident memory of the process " + pid, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return -1;
+    }
+
+    private static long parseKiloBytes(String value) {
+        return Long.parseLong(value.replace("kB", "").trim()) * 1024;
+    }
+
+    @Override
+    public void dispose() {
+        idleCheck.cancel(false);
+        pendingFiles.clear();
+        if (!project.isDisposed()) {
+            LanguageServerLifecycleManager.getInstance(project).removeLanguageServerLifecycleListener(lifecycleListener);
+        }
+        myChangeHandlers.clear();
+    }
+
+    /**
+     * Creates the monitor when a project is opened.
+     */
+    public static class Starter implements StartupActivity, DumbAware {
+        @Override
+        public void runActivity(@NotNull Project project) {
+            LibertyLanguageServerMonitor.getInstance(project);
+        }
+    }
+}
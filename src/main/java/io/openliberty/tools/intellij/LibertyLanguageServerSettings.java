@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.util.xmlb.XmlSerializerUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of the language server processes launched by Liberty Tools.
+ *
+ * <p>
+ * The JVM options are stored by server name (see {@link io.openliberty.tools.intellij.util.Constants#LIBERTY_XML_SERVER}
+ * and the other server names). When no JVM options are set for a server, the defaults of
+ * {@link io.openliberty.tools.intellij.util.LanguageServerJvmOptions} are used.
+ * </p>
+ */
+@State(
+        name = "LibertyLanguageServerSettings",
+        storages = @Storage("liberty-language-servers.xml")
+)
+public class LibertyLanguageServerSettings implements PersistentStateComponent<LibertyLanguageServerSettings> {
+
+    public static final int DEFAULT_IDLE_TIMEOUT_MINUTES = 30;
+
+    private boolean classDataSharingEnabled = true;
+
+    private int idleTimeoutMinutes = DEFAULT_IDLE_TIMEOUT_MINUTES;
+
+    private Map<String, String> jvmOptions = new HashMap<>();
+
+    public static LibertyLanguageServerSettings getInstance() {
+        return ApplicationManager.getApplication().getService(LibertyLanguageServerSettings.class);
+    }
+
+    public synchronized boolean isClassDataSharingEnabled() {
+        return classDataSharingEnabled;
+    }
+
+    public synchronized void setClassDataSharingEnabled(boolean classDataSharingEnabled) {
+        this.classDataSharingEnabled = classDataSharingEnabled;
+    }
+
+    /**
+     * Returns the number of minutes without any message exchanged with a language server after which it is stopped,
+     * or 0 when the language servers are never stopped for inactivity.
+     *
+     * @return the idle timeout of the language servers in minutes.
+     */
+    public synchronized int getIdleTimeoutMinutes() {
+        return idleTimeoutMinutes;
+    }
+
+    public synchronized void setIdleTimeoutMinutes(int idleTimeoutMinutes) {
+        this.idleTimeoutMinutes = Math.max(0, idleTimeoutMinutes);
+    }
+
+    public synchronized Map<String, String> getJvmOptions() {
+        if (jvmOptions == null) {
+            jvmOptions = new HashMap<>();
+        }
+        return jvmOptions;
+    }
+
+    public synchronized void setJvmOptions(Map<String, String> jvmOptions) {
+        this.jvmOptions = jvmOptions;
+    }
+
+    /**
+     * Returns the JVM options set for the given language server and null when the defaults must be used.
+     *
+     * @param serverName the name of the language server.
+     * @return the JVM options set for the given language server and null when the defaults must be used.
+     */
+    public synchronized @Nullable String getJvmOptions(@NotNull String serverName) {
+        String options = getJvmOptions().get(serverName);
+        return options == null || options.isBlank() ? null : options;
+    }
+
+    public synchronized void setJvmOptions(@NotNull String serverName, @Nullable String options) {
+        if (options == null || options.isBlank()) {
+            getJvmOptions().remove(serverName);
+        } else {
+            getJvmOptions().put(serverName, options.trim());
+        }
+    }
+
+    @Nullable
+    @Override
+    public LibertyLanguageServerSettings getState() {
+        return this;
+    }
+
+    @Override
+    public void loadState(@NotNull LibertyLanguageServerSettings state) {
+        XmlSerializerUtil.copyBean(state, this);
+    }
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.ui.JBUI;
+import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.util.List;
+
+/**
+ * Liberty tool window tab which lists the language servers launched by Liberty Tools with their status and resident
+ * memory, and the memory reclaimed by stopping the idle language servers.
+ */
+public class LibertyLanguageServersPanel extends SimpleToolWindowPanel implements Disposable {
+
+    private final LibertyLanguageServerMonitor monitor;
+
+    private final ServersTableModel tableModel = new ServersTableModel();
+
+    private final JBLabel reclaimedMemoryLabel = new JBLabel();
+
+    private final Runnable changeHandler = () -> ApplicationManager.getApplication().invokeLater(this::refresh,
+            ModalityState.any());
+
+    public LibertyLanguageServersPanel(@NotNull Project project) {
+        super(true, true);
+        monitor = LibertyLanguageServerMonitor.getInstance(project);
+        JPanel content = new JPanel(new BorderLayout());
+        content.add(new JBScrollPane(new JBTable(tableModel)), BorderLayout.CENTER);
+        reclaimedMemoryLabel.setBorder(JBUI.Borders.empty(4, 8));
+        content.add(reclaimedMemoryLabel, BorderLayout.SOUTH);
+        setContent(content);
+        monitor.addChangeHandler(changeHandler);
+        refresh();
+    }
+
+    private void refresh() {
+        tableModel.setServers(monitor.getServers());
+        reclaimedMemoryLabel.setText(LocalizedResourceUtil.getMessage("language.servers.memory.reclaimed",
+                StringUtil.formatFileSize(monitor.getReclaimedMemory())));
+    }
+
+    @Override
+    public void dispose() {
+        monitor.removeChangeHandler(changeHandler);
+    }
+
+    private static class ServersTableModel extends AbstractTableModel {
+
+        private static final String[] COLUMNS = {
+                LocalizedResourceUtil.getMessage("language.servers.column.server"),
+                LocalizedResourceUtil.getMessage("language.servers.column.status"),
+                LocalizedResourceUtil.getMessage("language.servers.column.memory")};
+
+        private List<LibertyLanguageServerMonitor.ServerInfo> servers = List.of();
+
+        private void setServers(List<LibertyLanguageServerMonitor.ServerInfo> servers) {
+            this.servers = servers;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return servers.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            LibertyLanguageServerMonitor.ServerInfo server = servers.get(rowIndex);
+            return switch (columnIndex) {
+                case 0 -> server.name();
+                case 1 -> getStatus(server);
+                default -> server.residentMemory() > 0 ? StringUtil.formatFileSize(server.residentMemory())
+                        : LocalizedResourceUtil.getMessage("language.servers.memory.unknown");
+            };
+        }
+
+        private static String getStatus(LibertyLanguageServerMonitor.ServerInfo server) {
+            if (server.idle()) {
+                return LocalizedResourceUtil.getMessage("language.servers.status.idle");
+            }
+            if (server.status() == null) {
+                return LocalizedResourceUtil.getMessage("language.servers.status.not.started");
+            }
+            return StringUtil.capitalize(server.status().name());
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 IBM Corporation.
+ * Copyright (c) 2020, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -23,6 +23,10 @@ public class LibertyModuleNode extends DefaultMutableTreeNode {
         this.libertyModule = libertyModule;
     }
 
+    public LibertyModule getLibertyModule() {
+        return libertyModule;
+    }
+
     public String getName() {
         return libertyModule.getName();
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2025 IBM Corporation.
+ * Copyright (c) 2022, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,27 +14,41 @@ import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.messages.Topic;
 import io.openliberty.tools.intellij.util.*;
+import org.jetbrains.annotations.NotNull;
 import org.xml.sax.SAXException;
 
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Singleton to save the Liberty modules in the open project
+ * Singleton to save the Liberty modules in the open projects
  */
 public class LibertyModules {
     private final static Logger LOGGER = Logger.getInstance(LibertyModules.class);
 
+    public static final Topic<Listener> TOPIC = Topic.create(LibertyModules.class.getName(), Listener.class);
+
     private static LibertyModules instance = null;
 
-    // key is build file associated with the Liberty project
-    Map<VirtualFile, LibertyModule> libertyModules;
+    // keys are the project and the build file associated with the Liberty project
+    private final Map<Project, Map<VirtualFile, LibertyModule>> libertyModules;
+
+    /**
+     * Listener notified on the message bus of a project when the Liberty modules of the project are updated
+     * incrementally by {@link #updateLibertyModules(Project, Collection)}.
+     */
+    public interface Listener {
+        void libertyModulesChanged(@NotNull List<LibertyModule> added, @NotNull List<LibertyModule> changed,
+                                   @NotNull List<LibertyModule> removed);
+    }
 
     private LibertyModules() {
-        libertyModules = Collections.synchronizedMap(new HashMap<>());
+        libertyModules = new ConcurrentHashMap<>();
     }
 
     public synchronized static LibertyModules getInstance() {
@@ -49,7 +63,7 @@ public class LibertyModules {
      * @return this singleton, the list will be empty if there are no Liberty modules
      */
     public LibertyModules scanLibertyModules(Project project) {
-        synchronized (libertyModules) {
+        synchronized (this) {
             removeForProject(project); // remove previous data, if any
             return rescanLibertyModules(project);
         }
@@ -60,7 +74,7 @@ public class LibertyModules {
      * @return this singleton, the list will be empty if there are no Liberty modules
      */
     public LibertyModules rescanLibertyModules(Project project) {
-        synchronized (libertyModules) {
+        synchronized (this) {
             ArrayList<BuildFile> buildFiles = new ArrayList<>();
             try {
                 buildFiles.addAll(LibertyProjectUtil.getMavenBuildFiles(project));
@@ -76,33 +90,103 @@ public class LibertyModules {
             for (BuildFile buildFile : buildFiles) {
                 // create a new Liberty Module object for this project
                 VirtualFile virtualFile = buildFile.getBuildFile();
-                String projectName = null;
                 if (virtualFile == null) {
                     LOGGER.error(String.format("Could not resolve current project %s", virtualFile));
                     break;
                 }
+                addLibertyModule(createLibertyModule(project, buildFile));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Re-evaluate the given build files of the project, remove the modules whose build file was deleted, and notify
+     * the {@link Listener}s on the message bus of the project of the modules which were added, changed or removed.
+     * Unlike {@link #rescanLibertyModules(Project)}, the other build files of the project are neither searched nor
+     * parsed again.
+     *
+     * @param project    project
+     * @param buildFiles pom.xml and build.gradle files which were created, changed, moved or renamed, or whose
+     *                   server.xml was created or deleted
+     */
+    public void updateLibertyModules(Project project, Collection<VirtualFile> buildFiles) {
+        List<LibertyModule> added = new ArrayList<>();
+        List<LibertyModule> changed = new ArrayList<>();
+        List<LibertyModule> removed = new ArrayList<>();
+        synchronized (this) {
+            Map<VirtualFile, LibertyModule> modules = libertyModules.computeIfAbsent(project, p -> new ConcurrentHashMap<>());
+            // the build files of the deleted files and folders are no longer valid
+            Iterator<LibertyModule> it = modules.values().iterator();
+            while (it.hasNext()) {
+                LibertyModule libertyModule = it.next();
+                if (!libertyModule.getBuildFile().isValid() && !hasRunningCommands(libertyModule)) {
+                    it.remove();
+                    removed.add(libertyModule);
+                }
+            }
+            for (VirtualFile virtualFile : buildFiles) {
+                BuildFile buildFile;
                 try {
-                    if (buildFile.getProjectType().equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT)) {
-                        projectName = LibertyMavenUtil.getProjectNameFromPom(virtualFile);
-                    } else {
-                        projectName = LibertyGradleUtil.getProjectName(virtualFile);
-                    }
-                } catch (Exception e) {
-                    LOGGER.warn(String.format("Could not resolve project name from build file: %s", virtualFile), e);
+                    buildFile = LibertyProjectUtil.getLibertyBuildFile(project, virtualFile);
+                } catch (IOException e) {
+                    // keep the module while its build file cannot be parsed, e.g. while it is edited
+                    LOGGER.debug(String.format("Error parsing build file %s", virtualFile), e);
+                    continue;
                 }
-                if (projectName == null) {
-                    if (virtualFile.getParent() != null) {
-                        projectName = virtualFile.getParent().getName();
-                    } else {
-                        projectName = project.getName();
+                LibertyModule existing = modules.get(virtualFile);
+                if (buildFile == null) {
+                    if (existing != null && !hasRunningCommands(existing)) {
+                        modules.remove(virtualFile);
+                        removed.add(existing);
+                    }
+                } else if (existing == null) {
+                    LibertyModule libertyModule = createLibertyModule(project, buildFile);
+                    modules.put(virtualFile, libertyModule);
+                    added.add(libertyModule);
+                } else {
+                    LibertyModule libertyModule = createLibertyModule(project, buildFile);
+                    if (!libertyModule.getName().equals(existing.getName())
+                            || libertyModule.getProjectType() != existing.getProjectType()
+                            || libertyModule.isValidContainerVersion() != existing.isValidContainerVersion()) {
+                        existing.setProjectType(libertyModule.getProjectType());
+                        existing.setName(libertyModule.getName());
+                        existing.setValidContainerVersion(libertyModule.isValidContainerVersion());
+                        changed.add(existing);
                     }
                 }
+            }
+        }
+        if (!(added.isEmpty() && changed.isEmpty() && removed.isEmpty()) && !project.isDisposed()) {
+            project.getMessageBus().syncPublisher(TOPIC).libertyModulesChanged(added, changed, removed);
+        }
+    }
 
-                boolean validContainerVersion = buildFile.isValidContainerVersion();
-                addLibertyModule(new LibertyModule(project, virtualFile, projectName, buildFile.getProjectType(), validContainerVersion));
+    /**
+     * Create a Liberty module for the given build file, named after the project declared in the build file.
+     */
+    private static LibertyModule createLibertyModule(Project project, BuildFile buildFile) {
+        VirtualFile virtualFile = buildFile.getBuildFile();
+        String projectName = null;
+        try {
+            if (buildFile.getProjectType().equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT)) {
+                projectName = LibertyMavenUtil.getProjectNameFromPom(virtualFile);
+            } else {
+                projectName = LibertyGradleUtil.getProjectName(virtualFile);
             }
+        } catch (Exception e) {
+            LOGGER.warn(String.format("Could not resolve project name from build file: %s", virtualFile), e);
         }
-        return this;
+        if (projectName == null) {
+            if (virtualFile.getParent() != null) {
+                projectName = virtualFile.getParent().getName();
+            } else {
+                projectName = project.getName();
+            }
+        }
+
+        boolean validContainerVersion = buildFile.isValidContainerVersion();
+        return new LibertyModule(project, virtualFile, projectName, buildFile.getProjectType(), validContainerVersion);
     }
 
     /**
@@ -112,20 +196,24 @@ public class LibertyModules {
      * @param module LibertyModule
      */
     public LibertyModule addLibertyModule(LibertyModule module) {
-        synchronized (libertyModules) {
-            if (libertyModules.containsKey(module.getBuildFile())) {
+        synchronized (this) {
+            LibertyModule existing = getLibertyModule(module.getBuildFile());
+            if (existing != null) {
                 // Update existing Liberty project, projectType module, name and validContainerVersion
                 // Do not update the build file (key), debugMode, shellWidget or customStartParams since
                 // they may modify saved run configs.
-                LibertyModule existing = libertyModules.get(module.getBuildFile());
+                if (!existing.getProject().equals(module.getProject())) {
+                    libertyModules.get(existing.getProject()).remove(existing.getBuildFile());
+                    libertyModules.computeIfAbsent(module.getProject(), p -> new ConcurrentHashMap<>()).put(existing.getBuildFile(), existing);
+                }
                 existing.setProject(module.getProject());
                 existing.setProjectType(module.getProjectType());
                 existing.setName(module.getName());
                 existing.setValidContainerVersion(module.isValidContainerVersion());
-            } else {
-                libertyModules.put(module.getBuildFile(), module);
+                return existing;
             }
-            return libertyModules.get(module.getBuildFile());
+            libertyModules.computeIfAbsent(module.getProject(), p -> new ConcurrentHashMap<>()).put(module.getBuildFile(), module);
+            return module;
         }
     }
 
@@ -136,7 +224,16 @@ public class LibertyModules {
      * @return LibertyModule
      */
     public LibertyModule getLibertyModule(VirtualFile buildFile) {
-        return libertyModules.get(buildFile);
+        if (buildFile == null) {
+            return null;
+        }
+        for (Map<VirtualFile, LibertyModule> modules : libertyModules.values()) {
+            LibertyModule libertyModule = modules.get(buildFile);
+            if (libertyModule != null) {
+                return libertyModule;
+            }
+        }
+        return null;
     }
 
     /**
@@ -147,7 +244,7 @@ public class LibertyModules {
      */
     public LibertyModule getLibertyProjectFromString(String buildFile) {
         VirtualFile vBuildFile = VfsUtil.findFile(Paths.get(buildFile), true);
-        return libertyModules.get(vBuildFile);
+        return getLibertyModule(vBuildFile);
     }
 
     /**
@@ -159,14 +256,10 @@ public class LibertyModules {
      */
     public List<String> getLibertyBuildFilesAsString(Project project) {
         List<String> sBuildFiles = new ArrayList<>();
-        synchronized (libertyModules) {
-            libertyModules.values().forEach(libertyModule -> {
-                if (project.equals(libertyModule.getProject())) {
-                    // need to convert to NioPath for OS specific paths
-                    sBuildFiles.add(libertyModule.getBuildFile().toNioPath().toString());
-                }
-            });
-        }
+        getModules(project).values().forEach(libertyModule -> {
+            // need to convert to NioPath for OS specific paths
+            sBuildFiles.add(libertyModule.getBuildFile().toNioPath().toString());
+        });
         return sBuildFiles;
     }
 
@@ -177,15 +270,7 @@ public class LibertyModules {
      * @return Liberty modules for the given project
      */
     public List<LibertyModule> getLibertyModules(Project project) {
-        ArrayList<LibertyModule> supportedLibertyModules = new ArrayList<>();
-        synchronized (libertyModules) {
-            libertyModules.values().forEach(libertyModule -> {
-                if (project.equals(libertyModule.getProject())) {
-                    supportedLibertyModules.add(libertyModule);
-                }
-            });
-        }
-        return supportedLibertyModules;
+        return new ArrayList<>(getModules(project).values());
     }
 
     /**
@@ -198,13 +283,11 @@ public class LibertyModules {
      */
     public List<LibertyModule> getLibertyModules(Project project, List<Constants.ProjectType> projectTypes) {
         ArrayList<LibertyModule> supportedLibertyModules = new ArrayList<>();
-        synchronized (libertyModules) {
-            libertyModules.values().forEach(libertyModule -> {
-                if (project.equals(libertyModule.getProject()) && projectTypes.contains(libertyModule.getProjectType())) {
-                    supportedLibertyModules.add(libertyModule);
-                }
-            });
-        }
+        getModules(project).values().forEach(libertyModule -> {
+            if (projectTypes.contains(libertyModule.getProjectType())) {
+                supportedLibertyModules.add(libertyModule);
+            }
+        });
         return supportedLibertyModules;
     }
 
@@ -214,7 +297,7 @@ public class LibertyModules {
      * @param libertyModule
      */
     public void removeLibertyModule(LibertyModule libertyModule) {
-        libertyModules.remove(libertyModule.getBuildFile());
+        libertyModules.values().forEach(modules -> modules.remove(libertyModule.getBuildFile()));
     }
 
     /**
@@ -224,15 +307,26 @@ public class LibertyModules {
      * @param project
      */
     public void removeForProject(Project project) {
-        synchronized(libertyModules) {
-            Iterator it = libertyModules.values().iterator();
-            while (it.hasNext()) {
-                LibertyModule libertyModule = (LibertyModule) it.next();
-                // do not remove from list if the corresponding terminal widget has running commands
-                if (project.equals(libertyModule.getProject()) && !(libertyModule.getShellWidget() != null && libertyModule.getShellWidget().hasRunningCommands())) {
-                    it.remove();
-                }
-            }
+        synchronized (this) {
+            // do not remove from list if the corresponding terminal widget has running commands
+            getModules(project).values().removeIf(libertyModule -> !hasRunningCommands(libertyModule));
         }
     }
+
+    /**
+     * Remove all stored Liberty modules for the given project when it is closed
+     *
+     * @param project
+     */
+    void removeProject(Project project) {
+        libertyModules.remove(project);
+    }
+
+    private Map<VirtualFile, LibertyModule> getModules(Project project) {
+        return libertyModules.getOrDefault(project, Collections.emptyMap());
+    }
+
+    private static boolean hasRunningCommands(LibertyModule libertyModule) {
+        return libertyModule.getShellWidget() != null && libertyModule.getShellWidget().hasRunningCommands();
+    }
 }
@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.VirtualFileVisitor;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.*;
+import com.intellij.util.Alarm;
+import io.openliberty.tools.intellij.util.LibertyProjectUtil;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the {@link LibertyModules} of a project up to date when its build files are created, changed, moved, renamed
+ * or deleted, and when the server.xml of a Liberty project is created or deleted.
+ *
+ * <p>
+ * Only the build files affected by the file system events are evaluated again, in a pooled thread, and the changes
+ * are published with {@link LibertyModules#TOPIC} so that the Liberty tool window updates its tree instead of
+ * rebuilding it. The events are collected for {@link #UPDATE_DELAY_MILLIS} so that a bulk change, e.g. a VCS update,
+ * is processed once. The folders created, moved or renamed are scanned for build files in the pooled thread too, in a
+ * read action which yields to write actions, instead of in the listener which runs in the write action.
+ * </p>
+ */
+public final class LibertyModulesUpdater implements BulkFileListener, Disposable {
+
+    private static final Logger LOGGER = Logger.getInstance(LibertyModulesUpdater.class);
+
+    private static final int UPDATE_DELAY_MILLIS = 300;
+
+    private final Project project;
+
+    private final Set<VirtualFile> pendingBuildFiles = ConcurrentHashMap.newKeySet();
+
+    private final Set<VirtualFile> pendingFolders = ConcurrentHashMap.newKeySet();
+
+    private final Alarm updateAlarm;
+
+    public static LibertyModulesUpdater getInstance(Project project) {
+        return project.getService(LibertyModulesUpdater.class);
+    }
+
+    public LibertyModulesUpdater(Project project) {
+        this.project = project;
+        this.updateAlarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, this);
+        ApplicationManager.getApplication().getMessageBus()
+                .connect(LibertyToolPluginDisposable.getInstance(project))
+                .subscribe(VirtualFileManager.VFS_CHANGES, this);
+    }
+
+    @Override
+    public void after(@NotNull List<? extends VFileEvent> events) {
+        boolean update = false;
+        for (VFileEvent event : events) {
+            update |= collectBuildFiles(event);
+        }
+        if (update && !project.isDisposed()) {
+            updateAlarm.cancelAllRequests();
+            updateAlarm.addRequest(this::updateLibertyModules, UPDATE_DELAY_MILLIS);
+        }
+    }
+
+    /**
+     * Collect the build files to evaluate again for the given event.
+     *
+     * @return true if the Liberty modules must be updated
+     */
+    private boolean collectBuildFiles(VFileEvent event) {
+        if (event instanceof VFileDeleteEvent) {
+            return collectDeletedBuildFiles(event.getPath());
+        }
+        VirtualFile file = event.getFile();
+        if (event instanceof VFileCopyEvent copyEvent) {
+            file = copyEvent.findCreatedFile();
+        }
+        if (file == null || !file.isValid()) {
+            return false;
+        }
+        if (event instanceof VFilePropertyChangeEvent propertyEvent) {
+            if (!propertyEvent.isRename()) {
+                return false;
+            }
+            // a file renamed from pom.xml or build.gradle is no longer a build file
+            if (!file.isDirectory() && isBuildFileName((String) propertyEvent.getOldValue())) {
+                pendingBuildFiles.add(file);
+                return true;
+            }
+        } else if (!(event instanceof VFileCreateEvent || event instanceof VFileContentChangeEvent
+                || event instanceof VFileMoveEvent || event instanceof VFileCopyEvent)) {
+            return false;
+        }
+        if (event instanceof VFileContentChangeEvent) {
+            // only the content of a build file changes whether it is a Liberty project
+            if (LibertyProjectUtil.getBuildFileType(file) != null) {
+                pendingBuildFiles.add(file);
+                return true;
+            }
+            return false;
+        }
+        if (collectServerXmlBuildFiles(event)) {
+            return true;
+        }
+        if (file.isDirectory()) {
+            // a folder created, moved or renamed may contain Liberty projects, it is scanned on update
+            pendingFolders.add(file);
+            return true;
+        }
+        if (LibertyProjectUtil.getBuildFileType(file) != null) {
+            pendingBuildFiles.add(file);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * When the server.xml of a Liberty project is created or moved, collect the build files of the project.
+     */
+    private boolean collectServerXmlBuildFiles(VFileEvent event) {
+        String path = event.getPath();
+        String suffix = "/" + LibertyProjectUtil.LIBERTY_SERVER_XML;
+        if (!path.endsWith(suffix)) {
+            return false;
+        }
+        VirtualFile rootDir = event.getFileSystem().findFileByPath(path.substring(0, path.length() - suffix.length()));
+        if (rootDir == null) {
+            return false;
+        }
+        boolean collected = false;
+        for (String name : List.of(LibertyProjectUtil.MAVEN_BUILD_FILE, LibertyProjectUtil.GRADLE_BUILD_FILE)) {
+            VirtualFile buildFile = rootDir.findChild(name);
+            if (buildFile != null) {
+                pendingBuildFiles.add(buildFile);
+                collected = true;
+            }
+        }
+        return collected;
+    }
+
+    private Collection<VirtualFile> collectBuildFilesInFolder(VirtualFile folder) {
+        Collection<VirtualFile> buildFiles = new ArrayList<>();
+        if (!folder.isValid()) {
+            return buildFiles;
+        }
+        ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(project);
+        if (fileIndex.isInContent(folder)) {
+            VfsUtilCore.visitChildrenRecursively(folder, new VirtualFileVisitor<Void>(VirtualFileVisitor.NO_FOLLOW_SYMLINKS) {
+                @Override
+                public boolean visitFile(@NotNull VirtualFile file) {
+                    ProgressManager.checkCanceled();
+                    if (file.isDirectory()) {
+                        return !fileIndex.isExcluded(file);
+                    }
+                    if (LibertyProjectUtil.getBuildFileType(file) != null) {
+                        buildFiles.add(file);
+                    }
+                    return true;
+                }
+            });
+        }
+        // the modules moved out of the project are evaluated again as well
+        for (LibertyModule libertyModule : LibertyModules.getInstance().getLibertyModules(project)) {
+            if (VfsUtilCore.isAncestor(folder, libertyModule.getBuildFile(), true)) {
+                buildFiles.add(libertyModule.getBuildFile());
+            }
+        }
+        return buildFiles;
+    }
+
+    /**
+     * Collect the build files of the modules whose build file or server.xml was deleted, directly or with one of
+     * their folders. The modules whose build file is no longer valid are removed on update.
+     */
+    private boolean collectDeletedBuildFiles(String path) {
+        boolean collected = false;
+        for (LibertyModule libertyModule : LibertyModules.getInstance().getLibertyModules(project)) {
+            VirtualFile buildFile = libertyModule.getBuildFile();
+            VirtualFile rootDir = buildFile.isValid() ? buildFile.getParent() : null;
+            if (rootDir == null || FileUtil.isAncestor(path, rootDir.getPath() + "/" + LibertyProjectUtil.LIBERTY_SERVER_XML, false)) {
+                pendingBuildFiles.add(buildFile);
+                collected = true;
+            }
+        }
+        return collected;
+    }
+
+    private static boolean isBuildFileName(String name) {
+        return LibertyProjectUtil.MAVEN_BUILD_FILE.equals(name) || LibertyProjectUtil.GRADLE_BUILD_FILE.equals(name);
+    }
+
+    private void updateLibertyModules() {
+        List<VirtualFile> folders = new ArrayList<>(pendingFolders);
+        pendingFolders.removeAll(folders);
+        List<VirtualFile> pendingFiles = new ArrayList<>(pendingBuildFiles);
+        pendingBuildFiles.removeAll(pendingFiles);
+        Set<VirtualFile> buildFiles = new LinkedHashSet<>(pendingFiles);
+        if (project.isDisposed()) {
+            return;
+        }
+        try {
+            if (!folders.isEmpty()) {
+                buildFiles.addAll(ReadAction.nonBlocking(() -> {
+                    List<VirtualFile> folderBuildFiles = new ArrayList<>();
+                    for (VirtualFile folder : folders) {
+                        folderBuildFiles.addAll(collectBuildFilesInFolder(folder));
+                    }
+                    return folderBuildFiles;
+                }).expireWith(this).executeSynchronously());
+            }
+            if (!buildFiles.isEmpty()) {
+                LibertyModules.getInstance().updateLibertyModules(project, buildFiles);
+            }
+        } catch (ProcessCanceledException e) {
+            // the folders and build files are evaluated again on the next event
+            pendingFolders.addAll(folders);
+            pendingBuildFiles.addAll(pendingFiles);
+        } catch (Exception e) {
+            LOGGER.warn("Error updating the Liberty projects", e);
+        }
+    }
+
+    @TestOnly
+    void waitForUpdate() throws Exception {
+        updateAlarm.waitForAllExecuted(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void dispose() {
+        pendingFolders.clear();
+        pendingBuildFiles.clear();
+        LibertyModules.getInstance().removeProject(project);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 Red Hat, Inc.
+ * Copyright (c) 2020, 2026 Red Hat, Inc.
  * Distributed under license by Red Hat, Inc. All rights reserved.
  * This program is made available under the terms of the
  * Eclipse Public License v2.0 which accompanies this distribution,
@@ -18,6 +18,7 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.redhat.devtools.lsp4ij.server.OSProcessStreamConnectionProvider;
 import io.openliberty.tools.intellij.util.JavaVersionUtil;
 import io.openliberty.tools.intellij.util.Constants;
+import io.openliberty.tools.intellij.util.LanguageServerJvmOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.File;
@@ -45,6 +46,7 @@ public class LibertyConfigLanguageServer extends OSProcessStreamConnectionProvid
 
             // Uncomment next line to attach debugger to LCLS at port 1064, debug params must come before -jar
             // params.add("-agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address=1064");
+            params.addAll(LanguageServerJvmOptions.getJvmOptions(Constants.LIBERTY_CONFIG_SERVER, javaHome, libertyServerPath));
             params.add("-jar");
             params.add(libertyServerPath.getAbsolutePath());
             setCommandLine(new GeneralCommandLine(params));
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.liberty.lsp;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.lsp4ij.AbstractDocumentMatcher;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Matches the files of the Liberty Config language server mapping: the <code>.properties</code> files such as
+ * <code>bootstrap.properties</code> and the <code>.env</code> files such as <code>server.env</code>.
+ */
+public class LibertyConfigMatcher extends AbstractDocumentMatcher {
+
+    private static final String PROPERTIES_EXTENSION = ".properties";
+
+    private static final String ENV_EXTENSION = ".env";
+
+    @Override
+    public boolean match(@NotNull VirtualFile file, @NotNull Project fileProject) {
+        String name = file.getName();
+        return name.endsWith(PROPERTIES_EXTENSION) || name.endsWith(ENV_EXTENSION);
+    }
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.liberty.lsp;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
+import com.redhat.devtools.lsp4ij.AbstractDocumentMatcher;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Matches the XML files with a <code>server</code> root element, which are the Liberty server configuration files
+ * processed by the Liberty LemMinX language server.
+ */
+public class LibertyXmlMatcher extends AbstractDocumentMatcher {
+
+    private static final String SERVER_ELEMENT = "server";
+
+    @Override
+    public boolean match(@NotNull VirtualFile file, @NotNull Project fileProject) {
+        return ReadAction.compute(() -> {
+            if (!file.isValid()) {
+                return false;
+            }
+            PsiFile psiFile = PsiManager.getInstance(fileProject).findFile(file);
+            if (psiFile instanceof XmlFile xmlFile) {
+                XmlTag rootTag = xmlFile.getRootTag();
+                return rootTag != null && SERVER_ELEMENT.equals(rootTag.getName());
+            }
+            return false;
+        });
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 Red Hat, Inc.
+ * Copyright (c) 2020, 2026 Red Hat, Inc.
  * Distributed under license by Red Hat, Inc. All rights reserved.
  * This program is made available under the terms of the
  * Eclipse Public License v2.0 which accompanies this distribution,
@@ -18,6 +18,7 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.redhat.devtools.lsp4ij.server.OSProcessStreamConnectionProvider;
 import io.openliberty.tools.intellij.util.JavaVersionUtil;
 import io.openliberty.tools.intellij.util.Constants;
+import io.openliberty.tools.intellij.util.LanguageServerJvmOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +49,7 @@ public class LibertyXmlServer extends OSProcessStreamConnectionProvider {
             // Comment out line 46 and replace with the one below for debugging LemMinX, will pause server until debugger attaches to port 1054
             // params.add("-agentlib:jdwp=transport=dt_socket,server=y,address=1054");
             // params.add("-agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address=1054,quiet=y");
+            params.addAll(LanguageServerJvmOptions.getJvmOptions(Constants.LIBERTY_XML_SERVER, javaHome, lemminxServerPath, libertyServerPath));
             params.add("-cp");
             params.add(lemminxServerPath.getAbsolutePath() + File.pathSeparator + libertyServerPath.getAbsolutePath());
             params.add("org.eclipse.lemminx.XMLServerLauncher");
@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4jakarta.lsp;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.util.CachedValue;
+import io.openliberty.tools.intellij.util.JavaClasspathDocumentMatcher;
+
+/**
+ * Matches the Java files processed by the Jakarta EE language server, which are the files of the modules using Jakarta
+ * EE APIs.
+ */
+public class JakartaJavaMatcher extends JavaClasspathDocumentMatcher {
+
+    private static final Key<CachedValue<Boolean>> JAKARTA_CLASSPATH_KEY = Key.create("liberty.jakartaClasspath");
+
+    public JakartaJavaMatcher() {
+        super(JAKARTA_CLASSPATH_KEY, "jakarta");
+    }
+}
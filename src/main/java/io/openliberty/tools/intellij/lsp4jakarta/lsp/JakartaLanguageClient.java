@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Red Hat, Inc. and others
+ * Copyright (c) 2019, 2026 Red Hat, Inc. and others
  * Distributed under license by Red Hat, Inc. All rights reserved.
  * This program is made available under the terms of the
  * Eclipse Public License v2.0 which accompanies this distribution,
@@ -22,9 +22,9 @@ import io.openliberty.tools.intellij.lsp4mp.MicroProfileProjectService;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.ProjectLabelManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
 import com.redhat.devtools.lsp4ij.client.CoalesceByKey;
-import com.redhat.devtools.lsp4ij.client.IndexAwareLanguageClient;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import io.openliberty.tools.intellij.metrics.MeasuredLanguageClient;
 import org.apache.commons.lang3.tuple.Pair;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CompletionList;
@@ -44,7 +44,7 @@ import java.util.concurrent.CompletableFuture;
  * Adapted from https://github.com/redhat-developer/intellij-quarkus/blob/2585eb422beeb69631076d2c39196d6eca2f5f2e/src/main/java/com/redhat/devtools/intellij/quarkus/lsp/QuarkusLanguageClient.java
  * to match LSP4MP, Language Server for MicroProfile
  */
-public final class JakartaLanguageClient extends IndexAwareLanguageClient implements JakartaLanguageClientAPI, MicroProfileProjectService.Listener {
+public final class JakartaLanguageClient extends MeasuredLanguageClient implements JakartaLanguageClientAPI, MicroProfileProjectService.Listener {
 
   public JakartaLanguageClient(Project project) {
     super(project);
@@ -55,8 +55,8 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<List<PublishDiagnosticsParams>> getJavaDiagnostics(JakartaJavaDiagnosticsParams jakartaJavaDiagnosticsParams) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/diagnostics", jakartaJavaDiagnosticsParams.getUris());
-    return runAsBackground("Computing Jakarta Java diagnostics",
-            monitor -> PropertiesManagerForJakarta.getInstance().diagnostics(jakartaJavaDiagnosticsParams, utils), coalesceBy);
+    return runAsMeasuredBackground("jakarta/java/diagnostics", "Computing Jakarta Java diagnostics",
+            monitor -> PropertiesManagerForJakarta.getInstance().diagnostics(jakartaJavaDiagnosticsParams, utils, monitor), coalesceBy);
   }
 
   // Support the message "jakarta/java/codeaction"
@@ -64,8 +64,8 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<List<CodeAction>> getJavaCodeAction(JakartaJavaCodeActionParams jakartaJavaCodeActionParams) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/codeAction", jakartaJavaCodeActionParams.getUri());
-    return runAsBackground("Computing Jakarta code actions",
-            monitor -> (List<CodeAction>) PropertiesManagerForJakarta.getInstance().getCodeAction(jakartaJavaCodeActionParams, utils), coalesceBy);
+    return runAsMeasuredBackground("jakarta/java/codeAction", "Computing Jakarta code actions",
+            monitor -> (List<CodeAction>) PropertiesManagerForJakarta.getInstance().getCodeAction(jakartaJavaCodeActionParams, utils, monitor), coalesceBy);
   }
 
   // Support the message "jakarta/java/resolveCodeAction"
@@ -73,10 +73,10 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<CodeAction> resolveCodeAction(CodeAction codeAction) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/resolveCodeAction");
-    return runAsBackground("Computing Java resolve code actions", monitor -> {
+    return runAsMeasuredBackground("jakarta/java/resolveCodeAction", "Computing Java resolve code actions", monitor -> {
       final CodeActionResolveData data = JSONUtils.toModel(codeAction.getData(), CodeActionResolveData.class);
       codeAction.setData(data);
-      return PropertiesManagerForJakarta.getInstance().resolveCodeAction(codeAction, utils);
+      return PropertiesManagerForJakarta.getInstance().resolveCodeAction(codeAction, utils, monitor);
     }, coalesceBy);
   }
 
@@ -85,7 +85,7 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<JakartaJavaCompletionResult> getJavaCompletion(JakartaJavaCompletionParams jakartaJavaCompletionParams) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/completion", jakartaJavaCompletionParams.getUri(), jakartaJavaCompletionParams.getPosition());
-    return runAsBackground("Computing Java completion", monitor -> {
+    return runAsMeasuredBackground("jakarta/java/completion", "Computing Java completion", monitor -> {
       final CompletionList completionList = PropertiesManagerForJakarta.getInstance().completion(jakartaJavaCompletionParams, utils);
       final JavaCursorContextResult cursorContext = PropertiesManagerForJakarta.getInstance().javaCursorContext(jakartaJavaCompletionParams, utils);
       return new JakartaJavaCompletionResult(completionList, cursorContext);
@@ -98,7 +98,7 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/projectLabels",
             jakartaJavaProjectLabelsParams.getUri(), jakartaJavaProjectLabelsParams.getTypes());
-    return runAsBackground("Computing Java projects labels",
+    return runAsMeasuredBackground("jakarta/java/projectLabels", "Computing Java projects labels",
             monitor -> adapt(ProjectLabelManager.getInstance().getProjectLabelInfo(adapt(jakartaJavaProjectLabelsParams), utils)), coalesceBy);
   }
 
@@ -107,7 +107,7 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<List<ProjectLabelInfoEntry>> getAllJavaProjectLabels() {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/workspaceLabels");
-    return runAsBackground("Computing All Java projects labels",
+    return runAsMeasuredBackground("jakarta/java/workspaceLabels", "Computing All Java projects labels",
             monitor -> adapt(ProjectLabelManager.getInstance().getProjectLabelInfo(utils)), coalesceBy);
   }
 
@@ -116,8 +116,8 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<JakartaJavaFileInfo> getJavaFileInfo(JakartaJavaFileInfoParams jakartaJavaFileInfoParams) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/fileInfo", jakartaJavaFileInfoParams.getUri());
-    return runAsBackground("Computing Java file info",
-            monitor -> adapt(PropertiesManagerForJava.getInstance().fileInfo(adapt(jakartaJavaFileInfoParams), utils)), coalesceBy);
+    return runAsMeasuredBackground("jakarta/java/fileInfo", "Computing Java file info",
+            monitor -> adapt(PropertiesManagerForJava.getInstance().fileInfo(adapt(jakartaJavaFileInfoParams), utils, monitor)), coalesceBy);
   }
 
   @Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 Red Hat, Inc. and others.
+ * Copyright (c) 2020, 2026 Red Hat, Inc. and others.
  * Distributed under license by Red Hat, Inc. All rights reserved.
  * This program is made available under the terms of the
  * Eclipse Public License v2.0 which accompanies this distribution,
@@ -19,12 +19,15 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.redhat.devtools.lsp4ij.server.OSProcessStreamConnectionProvider;
 import io.openliberty.tools.intellij.util.Constants;
 import io.openliberty.tools.intellij.util.JavaVersionUtil;
+import io.openliberty.tools.intellij.util.LanguageServerJvmOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class JakartaLanguageServer extends OSProcessStreamConnectionProvider {
@@ -40,8 +43,11 @@ public class JakartaLanguageServer extends OSProcessStreamConnectionProvider {
             return;
         }
         if (lsp4JakartaServerPath.exists()) {
-            setCommandLine(new GeneralCommandLine(Arrays.asList(javaHome + File.separator + "bin" + File.separator + "java", "-jar",
-                    lsp4JakartaServerPath.getAbsolutePath(), "-DrunAsync=true")));
+            List<String> params = new ArrayList<>();
+            params.add(javaHome + File.separator + "bin" + File.separator + "java");
+            params.addAll(LanguageServerJvmOptions.getJvmOptions(Constants.JAKARTA_LANG_SERVER, javaHome, lsp4JakartaServerPath));
+            params.addAll(Arrays.asList("-jar", lsp4JakartaServerPath.getAbsolutePath(), "-DrunAsync=true"));
+            setCommandLine(new GeneralCommandLine(params));
         } else {
             LOGGER.warn(String.format("Unable to start Eclipse LSP4Jakarta. Eclipse LSP4Jakarta server path: %s does not exist"), lsp4JakartaServerPath);
         }
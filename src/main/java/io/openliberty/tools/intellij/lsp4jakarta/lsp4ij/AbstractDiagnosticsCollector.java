@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 IBM Corporation and others.
+ * Copyright (c) 2022, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -20,7 +20,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.intellij.psi.*;
-import com.intellij.psi.search.GlobalSearchScope;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.ResolvedTypeCache;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4j.Diagnostic;
@@ -143,9 +143,7 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
      */
     protected static boolean isMatchedJavaElement(PsiClass type, String javaElementName, String javaElementFQName) {
         if (javaElementFQName.equals(javaElementName)) {
-            JavaPsiFacade facade = JavaPsiFacade.getInstance(type.getProject());
-            Object o = facade.findClass(javaElementFQName, GlobalSearchScope.allScope(type.getProject()));
-            return (o != null);
+            return ResolvedTypeCache.findClass(type, javaElementFQName) != null;
         }
         return false;
     }
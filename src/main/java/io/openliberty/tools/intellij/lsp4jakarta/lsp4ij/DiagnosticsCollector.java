@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2020 IBM Corporation, Pengyu Xiong and others.
+* Copyright (c) 2020, 2026 IBM Corporation, Pengyu Xiong and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,6 +14,7 @@
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
 
 import java.util.List;
+import java.util.Set;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.psi.PsiClass;
@@ -29,4 +30,16 @@ public interface DiagnosticsCollector {
     public void completeDiagnostic(Diagnostic diagnostic);
 
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics);
+
+    /**
+     * Returns the fully qualified names of the annotations which must be declared
+     * in a Java file for this collector to report diagnostics, and null if the
+     * collector must be called for every Java file.
+     *
+     * @return the fully qualified names of the trigger annotations and null
+     *         otherwise.
+     */
+    public default Set<String> getTriggerAnnotations() {
+        return null;
+    }
 }
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
+
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.IndexNotReadyException;
+import com.intellij.psi.JavaRecursiveElementWalkingVisitor;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiCodeBlock;
+import com.intellij.psi.PsiExpression;
+import com.intellij.psi.PsiJavaFile;
+import io.openliberty.tools.intellij.metrics.LanguageServerMetrics;
+import org.eclipse.lsp4j.Diagnostic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Calls the {@link DiagnosticsCollector}s whose trigger annotations are declared in a
+ * Java file, and skips the others.
+ *
+ * <p>
+ * The declarations of the file (classes, methods, fields and parameters) are walked
+ * first, without entering method bodies or initializers, to record the qualified names
+ * of their annotations. A collector is only called when one of its
+ * {@link DiagnosticsCollector#getTriggerAnnotations() trigger annotations} has been
+ * recorded, or when it declares no trigger annotations.
+ * </p>
+ * <p>
+ * The walk only selects the collectors, the diagnostics are not collected during it:
+ * each selected collector still walks the file itself, so a file is walked once more
+ * than the number of selected collectors. The collectors which don't declare trigger
+ * annotations are called for every file: the annotations collector, which also
+ * validates the annotations of the package, and the JSON-P collector, which validates
+ * method calls.
+ * </p>
+ * <p>
+ * The compute time and the number of diagnostics of each collector are recorded in
+ * {@link LanguageServerMetrics}. The cancellation of the request is checked before each
+ * collector and each visited annotation.
+ * </p>
+ */
+public class DiagnosticsCollectorSelector {
+
+    private static final Logger LOGGER = Logger.getLogger(DiagnosticsCollectorSelector.class.getName());
+
+    private static final String REQUEST_METHOD = "jakarta/java/diagnostics";
+
+    private final Collection<DiagnosticsCollector> collectors;
+
+    public DiagnosticsCollectorSelector(Collection<DiagnosticsCollector> collectors) {
+        this.collectors = collectors;
+    }
+
+    /**
+     * Returns the diagnostics of the collectors whose trigger annotations are declared in
+     * the given Java file.
+     *
+     * @param unit the Java file.
+     * @return the diagnostics of the selected collectors.
+     */
+    public List<Diagnostic> collectDiagnostics(PsiJavaFile unit) {
+        AnnotationNamesVisitor visitor = new AnnotationNamesVisitor();
+        unit.accept(visitor);
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        for (DiagnosticsCollector collector : collectors) {
+            if (!isSelected(collector, visitor.annotationNames)) {
+                continue;
+            }
+            ProgressManager.checkCanceled();
+            String participant = JakartaDiagnosticsParticipant.class.getSimpleName() + "/" + collector.getClass().getSimpleName();
+            long start = System.nanoTime();
+            try {
+                List<Diagnostic> collectorDiagnostics = new ArrayList<>();
+                collector.collectDiagnostics(unit, collectorDiagnostics);
+                diagnostics.addAll(collectorDiagnostics);
+                LanguageServerMetrics.getInstance().recordParticipant(REQUEST_METHOD, participant,
+                        System.nanoTime() - start, collectorDiagnostics.size());
+            } catch (ProcessCanceledException e) {
+                //Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
+                //TODO delete block when minimum required version is 2024.2
+                LanguageServerMetrics.getInstance().recordParticipantCancelled(REQUEST_METHOD, participant);
+                throw e;
+            } catch (IndexNotReadyException | CancellationException e) {
+                LanguageServerMetrics.getInstance().recordParticipantCancelled(REQUEST_METHOD, participant);
+                throw e;
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Error while collecting diagnostics with " + collector.getClass().getName(), e);
+            }
+        }
+        return diagnostics;
+    }
+
+    private static boolean isSelected(DiagnosticsCollector collector, Set<String> annotationNames) {
+        Set<String> triggerAnnotations = collector.getTriggerAnnotations();
+        if (triggerAnnotations == null) {
+            return true;
+        }
+        for (String triggerAnnotation : triggerAnnotations) {
+            if (annotationNames.contains(triggerAnnotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records the qualified names of the annotations of the declarations.
+     */
+    private static class AnnotationNamesVisitor extends JavaRecursiveElementWalkingVisitor {
+
+        private final Set<String> annotationNames = new HashSet<>();
+
+        @Override
+        public void visitAnnotation(PsiAnnotation annotation) {
+            ProgressManager.checkCanceled();
+            String annotationName = annotation.getQualifiedName();
+            if (annotationName != null) {
+                annotationNames.add(annotationName);
+            }
+        }
+
+        @Override
+        public void visitCodeBlock(PsiCodeBlock block) {
+            // The trigger annotations are only declared on declarations
+        }
+
+        @Override
+        public void visitExpression(PsiExpression expression) {
+            // The trigger annotations are only declared on declarations
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2025 IBM Corporation
+ * Copyright (c) 2025, 2026 IBM Corporation
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,9 +13,8 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
 
-import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
-import com.intellij.psi.search.GlobalSearchScope;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.ResolvedTypeCache;
 
 /**
  * Utility class for common IntelliJ PSI-based diagnostic logic.
@@ -31,9 +30,7 @@ public class DiagnosticsUtils {
      * @return
      */
     public static boolean inheritsFrom(PsiClass clazz, String fqSuperType) {
-        Project project = clazz.getProject();
-        PsiClass superClass = JavaPsiFacade.getInstance(project)
-                .findClass(fqSuperType, GlobalSearchScope.allScope(project));
+        PsiClass superClass = ResolvedTypeCache.findClass(clazz, fqSuperType);
         return superClass != null &&
                 (clazz.isEquivalentTo(superClass) || clazz.isInheritor(superClass, true));
     }
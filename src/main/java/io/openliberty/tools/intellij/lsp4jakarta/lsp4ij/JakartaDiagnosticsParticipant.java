@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
+
+import com.intellij.openapi.extensions.ExtensionPointName;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+import org.eclipse.lsp4j.Diagnostic;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The Jakarta diagnostics participant which calls the {@link DiagnosticsCollector}s
+ * registered with the "jakartaDiagnosticsCollector" extension point whose trigger
+ * annotations are declared in the Java file. The selected collectors walk the classes
+ * of the file themselves.
+ */
+public class JakartaDiagnosticsParticipant implements IJavaDiagnosticsParticipant {
+
+    public static final ExtensionPointName<DiagnosticsCollector> EP_NAME = ExtensionPointName.create("open-liberty.intellij.jakartaDiagnosticsCollector");
+
+    @Override
+    public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context) {
+        PsiFile typeRoot = context.getTypeRoot();
+        if (typeRoot instanceof PsiJavaFile unit) {
+            return new DiagnosticsCollectorSelector(EP_NAME.getExtensionList()).collectDiagnostics(unit);
+        }
+        return Collections.emptyList();
+    }
+}
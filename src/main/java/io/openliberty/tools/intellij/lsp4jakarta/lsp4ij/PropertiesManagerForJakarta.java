@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2024 Red Hat, Inc.
+ * Copyright (c) 2020, 2026 Red Hat, Inc.
  * Distributed under license by Red Hat, Inc. All rights reserved.
  * This program is made available under the terms of the
  * Eclipse Public License v2.0 which accompanies this distribution,
@@ -12,11 +12,11 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
 
-import com.intellij.openapi.application.ApplicationManager;
-import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.progress.ProgressIndicator;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.completion.CompletionHandler;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.DiagnosticsHandler;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.ReadActionUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.codeaction.CodeActionHandler;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CompletionList;
@@ -26,6 +26,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeActionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.List;
@@ -49,7 +50,7 @@ public final class PropertiesManagerForJakarta {
     private PropertiesManagerForJakarta() {
         completionHandler = new CompletionHandler(GROUP_NAME);
         codeActionHandler = new CodeActionHandler(GROUP_NAME);
-        diagnosticsHandler = new DiagnosticsHandler(GROUP_NAME);
+        diagnosticsHandler = new DiagnosticsHandler(GROUP_NAME, "jakarta/java/diagnostics");
     }
 
     /**
@@ -60,7 +61,20 @@ public final class PropertiesManagerForJakarta {
      * @return diagnostics for the given uris list.
      */
     public List<PublishDiagnosticsParams> diagnostics(JakartaJavaDiagnosticsParams params, IPsiUtils utils) {
-        return diagnosticsHandler.collectDiagnostics(adapt(params), utils);
+        return diagnostics(params, utils, null);
+    }
+
+    /**
+     * Returns diagnostics for the given uris list.
+     *
+     * @param params  the diagnostics parameters
+     * @param utils   the IPsiUtils
+     * @param monitor the progress monitor of the diagnostics request, or null
+     * @return diagnostics for the given uris list.
+     */
+    public List<PublishDiagnosticsParams> diagnostics(JakartaJavaDiagnosticsParams params, IPsiUtils utils,
+                                                      @Nullable ProgressIndicator monitor) {
+        return diagnosticsHandler.collectDiagnostics(adapt(params), utils, monitor);
     }
 
     /**
@@ -96,7 +110,22 @@ public final class PropertiesManagerForJakarta {
      * @return the list of code actions for the given diagnostics
      */
     public List<? extends CodeAction> getCodeAction(JakartaJavaCodeActionParams params, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<List<? extends CodeAction>>) () ->
+        return getCodeAction(params, utils, null);
+    }
+
+    /**
+     * Returns the list of code actions for the given diagnostics. The code
+     * actions in this list may have already been resolved, or they may be
+     * resolved later.
+     *
+     * @param params  the code action parameters
+     * @param utils   the IPsiUtils
+     * @param monitor the progress monitor of the code action request, or null
+     * @return the list of code actions for the given diagnostics
+     */
+    public List<? extends CodeAction> getCodeAction(JakartaJavaCodeActionParams params, IPsiUtils utils,
+                                                    @Nullable ProgressIndicator monitor) {
+        return ReadActionUtils.computeCancellable(utils.getProject(), monitor, () ->
                 codeActionHandler.codeAction(adapt(params), utils));
     }
 
@@ -108,7 +137,19 @@ public final class PropertiesManagerForJakarta {
      * @return the resolved code action
      */
     public CodeAction resolveCodeAction(CodeAction unresolved, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<CodeAction>) () ->
+        return resolveCodeAction(unresolved, utils, null);
+    }
+
+    /**
+     * Resolves and returns the given code action.
+     *
+     * @param unresolved the unresolved code action
+     * @param utils      the IPsiUtils
+     * @param monitor    the progress monitor of the resolve request, or null
+     * @return the resolved code action
+     */
+    public CodeAction resolveCodeAction(CodeAction unresolved, IPsiUtils utils, @Nullable ProgressIndicator monitor) {
+        return ReadActionUtils.computeCancellable(utils.getProject(), monitor, () ->
                 codeActionHandler.resolveCodeAction(unresolved, utils));
     }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2025 IBM Corporation and others.
+ * Copyright (c) 2021, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,6 +13,7 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.annotations;
 
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.DiagnosticsUtils;
@@ -78,6 +79,7 @@ public class AnnotationDiagnosticsCollector extends AbstractDiagnosticsCollector
 
             PsiClass[] types = unit.getClasses();
             for (PsiClass type : types) {
+                ProgressManager.checkCanceled();
                 // Type
                 processAnnotations(type, annotatables, VALID_TYPE_ANNOTATIONS);
                 // Method
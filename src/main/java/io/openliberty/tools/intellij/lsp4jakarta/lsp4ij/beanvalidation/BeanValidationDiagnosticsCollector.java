@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 IBM Corporation, Reza Akhavan and others.
+ * Copyright (c) 2020, 2026 IBM Corporation, Reza Akhavan and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,6 +13,7 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.beanvalidation;
 
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiUtil;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
@@ -25,6 +26,7 @@ import static io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JDTUtils.getSimpl
 import static io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.beanvalidation.BeanValidationConstants.*;
 
 import java.util.List;
+import java.util.Set;
 
 public class BeanValidationDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
@@ -37,6 +39,12 @@ public class BeanValidationDiagnosticsCollector extends AbstractDiagnosticsColle
         return DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    public Set<String> getTriggerAnnotations() {
+        // Only the constraint annotations of the fields and methods are validated
+        return SET_OF_ANNOTATIONS;
+    }
+
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit != null) {
             PsiClass[] alltypes;
@@ -45,6 +53,7 @@ public class BeanValidationDiagnosticsCollector extends AbstractDiagnosticsColle
 
             alltypes = unit.getClasses();
             for (PsiClass type : alltypes) {
+                ProgressManager.checkCanceled();
                 allFields = type.getFields();
                 for (PsiField field : allFields) {
                     processAnnotations(field, type, diagnostics);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2025 IBM Corporation.
+ * Copyright (c) 2021, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -16,6 +16,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.cdi;
 import java.util.*;
 import java.util.stream.Stream;
 
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
@@ -30,6 +31,14 @@ import static io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.cdi.ManagedBeanCo
 
 public class ManagedBeanDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    /**
+     * Every diagnostic requires a scope annotation, or an injection, producer,
+     * disposer or observer annotation.
+     */
+    private static final Set<String> TRIGGER_ANNOTATIONS = Set.copyOf(Stream.concat(SCOPE_FQ_NAMES.stream(),
+            Stream.of(PRODUCES_FQ_NAME, INJECT_FQ_NAME, DISPOSES_FQ_NAME, OBSERVES_FQ_NAME, OBSERVES_ASYNC_FQ_NAME))
+            .toList());
+
     public ManagedBeanDiagnosticsCollector() {
         super();
     }
@@ -39,6 +48,11 @@ public class ManagedBeanDiagnosticsCollector extends AbstractDiagnosticsCollecto
         return DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    public Set<String> getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit == null)
@@ -47,6 +61,7 @@ public class ManagedBeanDiagnosticsCollector extends AbstractDiagnosticsCollecto
         PsiClass[] types = unit.getClasses();
         String[] scopeFQNames = SCOPE_FQ_NAMES.toArray(String[]::new);
         for (PsiClass type : types) {
+            ProgressManager.checkCanceled();
             List<String> managedBeanAnnotations = getMatchedJavaElementNames(type, Stream.of(type.getAnnotations())
                             .map(annotation -> annotation.getQualifiedName()).toArray(String[]::new),
                     scopeFQNames);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2025 IBM Corporation and others.
+ * Copyright (c) 2021, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,6 +14,7 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.di;
 
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
@@ -24,6 +25,7 @@ import static io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.di.DependencyInje
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -42,6 +44,8 @@ import java.util.stream.Stream;
 
 public class DependencyInjectionDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final Set<String> TRIGGER_ANNOTATIONS = Set.of(INJECT_FQ_NAME);
+
     public DependencyInjectionDiagnosticsCollector() {
         super();
     }
@@ -51,6 +55,11 @@ public class DependencyInjectionDiagnosticsCollector extends AbstractDiagnostics
         return DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    public Set<String> getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit == null)
@@ -59,6 +68,7 @@ public class DependencyInjectionDiagnosticsCollector extends AbstractDiagnostics
         PsiClass[] alltypes;
         alltypes = unit.getClasses();
         for (PsiClass type : alltypes) {
+            ProgressManager.checkCanceled();
             PsiField[] allFields = type.getFields();
             for (PsiField field : allFields) {
                 if (containsAnnotation(type, field.getAnnotations(), INJECT_FQ_NAME)) {
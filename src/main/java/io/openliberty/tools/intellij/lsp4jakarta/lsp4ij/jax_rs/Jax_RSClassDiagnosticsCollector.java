@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 IBM Corporation, Matthew Shocrylas and others.
+ * Copyright (c) 2021, 2026 IBM Corporation, Matthew Shocrylas and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -17,7 +17,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
@@ -32,6 +34,8 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
  */
 public class Jax_RSClassDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final Set<String> TRIGGER_ANNOTATIONS = Set.of(Jax_RSConstants.SET_OF_JAXRS_ANNOTATIONS1);
+
     public Jax_RSClassDiagnosticsCollector() {
         super();
     }
@@ -41,6 +45,11 @@ public class Jax_RSClassDiagnosticsCollector extends AbstractDiagnosticsCollecto
         return Jax_RSConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    public Set<String> getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
 
@@ -49,6 +58,7 @@ public class Jax_RSClassDiagnosticsCollector extends AbstractDiagnosticsCollecto
 
             alltypes = unit.getClasses();
             for (PsiClass type : alltypes) {
+                ProgressManager.checkCanceled();
                 boolean isRootResource = false;
                 boolean isProviderResource = false;
                 PsiAnnotation[] annotationList = type.getAnnotations();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 IBM Corporation, Matthew Shocrylas and others.
+ * Copyright (c) 2021, 2026 IBM Corporation, Matthew Shocrylas and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,6 +13,7 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.jax_rs;
 
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
@@ -21,9 +22,13 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 
 import java.util.List;
+import java.util.Set;
 
 public class ResourceMethodDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final Set<String> TRIGGER_ANNOTATIONS = Set.of(ArrayUtils.addAll(
+            Jax_RSConstants.SET_OF_METHOD_DESIGNATORS_ANNOTATIONS, Jax_RSConstants.PATH_ANNOTATION));
+
     public ResourceMethodDiagnosticsCollector() {
         super();
     }
@@ -33,6 +38,11 @@ public class ResourceMethodDiagnosticsCollector extends AbstractDiagnosticsColle
         return Jax_RSConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    public Set<String> getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
 
@@ -44,6 +54,7 @@ public class ResourceMethodDiagnosticsCollector extends AbstractDiagnosticsColle
 
             alltypes = unit.getClasses();
             for (PsiClass type : alltypes) {
+                ProgressManager.checkCanceled();
                 methods = type.getMethods();
                 for (PsiMethod method : methods) {
                     PsiAnnotation[] methodAnnotations = method.getAnnotations();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 IBM Corporation, Matheus Cruz and others.
+ * Copyright (c) 2020, 2026 IBM Corporation, Matheus Cruz and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -16,6 +16,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.jsonb;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.PsiClassImplUtil;
 import com.intellij.psi.util.InheritanceUtil;
@@ -36,6 +37,8 @@ import org.jetbrains.annotations.NotNull;
  */
 public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final Set<String> TRIGGER_ANNOTATIONS = Set.copyOf(JsonbConstants.JSONB_ANNOTATIONS);
+
     public JsonbDiagnosticsCollector() {
         super();
     }
@@ -45,6 +48,11 @@ public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
         return JsonbConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    public Set<String> getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit == null)
@@ -54,6 +62,8 @@ public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
         PsiAnnotation[] allAnnotations;
 
         for (PsiClass type : types) {
+
+            ProgressManager.checkCanceled();
             methods = type.getMethods();
             List<PsiMethod> jonbMethods = new ArrayList<PsiMethod>();
             // methods
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 IBM Corporation and others.
+ * Copyright (c) 2022, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTreeUtil;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
@@ -44,11 +45,13 @@ public class JsonpDiagnosticCollector extends AbstractDiagnosticsCollector {
         Collection<PsiMethodCallExpression> allMethodInvocations = PsiTreeUtil.findChildrenOfType(unit, PsiMethodCallExpression.class);
         List<PsiMethodCallExpression> createPointerInvocations = new ArrayList<>();
         for (PsiMethodCallExpression mi : allMethodInvocations) {
+            ProgressManager.checkCanceled();
             if (isMatchedJsonCreatePointer(mi)) {
                 createPointerInvocations.add(mi);
             }
         }
         for (PsiMethodCallExpression m: createPointerInvocations) {
+            ProgressManager.checkCanceled();
             PsiExpression arg = m.getArgumentList().getExpressions()[0]; // already checked that call has one arg
             if (isInvalidArgument(arg)) {
                 // If the argument supplied to a createPointer invocation is a String literal and is neither an empty String
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2023 IBM Corporation, Ankush Sharma and others.
+ * Copyright (c) 2020, 2026 IBM Corporation, Ankush Sharma and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,6 +13,7 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.persistence;
 
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
@@ -20,6 +21,7 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author ankushsharma
@@ -28,6 +30,8 @@ import java.util.List;
 
 public class PersistenceEntityDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final Set<String> TRIGGER_ANNOTATIONS = Set.of(PersistenceConstants.ENTITY);
+
     public PersistenceEntityDiagnosticsCollector() {
         super();
     }
@@ -37,6 +41,11 @@ public class PersistenceEntityDiagnosticsCollector extends AbstractDiagnosticsCo
         return PersistenceConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    public Set<String> getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit != null) {
@@ -45,6 +54,7 @@ public class PersistenceEntityDiagnosticsCollector extends AbstractDiagnosticsCo
 
             alltypes = unit.getClasses();
             for (PsiClass type : alltypes) {
+                ProgressManager.checkCanceled();
                 allAnnotations = type.getAnnotations();
 
                 /* ============ Entity Annotation Diagnostics =========== */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 IBM Corporation, Ankush Sharma and others.
+ * Copyright (c) 2020, 2026 IBM Corporation, Ankush Sharma and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,6 +13,7 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.persistence;
 
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
 import com.intellij.psi.util.InheritanceUtil;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
@@ -25,9 +26,12 @@ import java.beans.Introspector;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 public class PersistenceMapKeyDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final Set<String> TRIGGER_ANNOTATIONS = Set.of(PersistenceConstants.SET_OF_PERSISTENCE_ANNOTATIONS);
+
     public PersistenceMapKeyDiagnosticsCollector() {
         super();
     }
@@ -37,6 +41,11 @@ public class PersistenceMapKeyDiagnosticsCollector extends AbstractDiagnosticsCo
         return PersistenceConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    public Set<String> getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit != null) {
@@ -45,6 +54,8 @@ public class PersistenceMapKeyDiagnosticsCollector extends AbstractDiagnosticsCo
             PsiField[] fields;
 
             for (PsiClass type : alltypes) {
+
+                ProgressManager.checkCanceled();
                 methods = type.getMethods();
                 for (PsiMethod method : methods) {
                     collectDiagnostics(unit, diagnostics, type, method);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2023 IBM Corporation, Reza Akhavan and others.
+ * Copyright (c) 2020, 2026 IBM Corporation, Reza Akhavan and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,6 +13,7 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.servlet;
 
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiJavaFile;
@@ -23,9 +24,12 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 
 import java.util.List;
+import java.util.Set;
 
 public class FilterDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final Set<String> TRIGGER_ANNOTATIONS = Set.of(ServletConstants.WEBFILTER_FQ_NAME);
+
     public FilterDiagnosticsCollector() {
         super();
     }
@@ -35,6 +39,11 @@ public class FilterDiagnosticsCollector extends AbstractDiagnosticsCollector {
         return ServletConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    public Set<String> getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
+
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit != null) {
             PsiClass[] alltypes;
@@ -42,6 +51,7 @@ public class FilterDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
             alltypes = unit.getClasses();
             for (PsiClass type : alltypes) {
+                ProgressManager.checkCanceled();
                 allAnnotations = type.getAnnotations();
                 PsiAnnotation webFilterAnnotation = null;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2023 IBM Corporation, Pengyu Xiong and others.
+ * Copyright (c) 2020, 2026 IBM Corporation, Pengyu Xiong and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,14 +13,16 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.servlet;
 
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
-import com.intellij.psi.search.GlobalSearchScope;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.ResolvedTypeCache;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  *
@@ -38,6 +40,8 @@ import java.util.List;
  */
 public class ServletDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final Set<String> TRIGGER_ANNOTATIONS = Set.of(ServletConstants.WEB_SERVLET_FQ_NAME);
+
     public ServletDiagnosticsCollector() {
         super();
     }
@@ -47,6 +51,11 @@ public class ServletDiagnosticsCollector extends AbstractDiagnosticsCollector {
         return ServletConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    public Set<String> getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit != null) {
@@ -55,6 +64,7 @@ public class ServletDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
             alltypes = unit.getClasses();
             for (PsiClass type : alltypes) {
+                ProgressManager.checkCanceled();
                 allAnnotations = type.getAnnotations();
 
                 PsiAnnotation webServletAnnotation = null;
@@ -69,9 +79,7 @@ public class ServletDiagnosticsCollector extends AbstractDiagnosticsCollector {
                 if (webServletAnnotation != null) {
                     // check if the class extends HttpServlet
                     int r = 1;
-                    JavaPsiFacade facade = JavaPsiFacade.getInstance(type.getProject());
-                    PsiClass httpServletClass = facade.findClass("jakarta.servlet.http.HttpServlet",
-                            GlobalSearchScope.allScope(type.getProject()));
+                    PsiClass httpServletClass = ResolvedTypeCache.findClass(type, "jakarta.servlet.http.HttpServlet");
                     if (!type.isInheritor(httpServletClass, true)) {
                         r = -1;
                     }
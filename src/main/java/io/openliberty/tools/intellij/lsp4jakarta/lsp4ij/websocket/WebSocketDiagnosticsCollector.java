@@ -1,5 +1,5 @@
 /******************************************************************************* 
- * Copyright (c) 2022, 2025 IBM Corporation and others.
+ * Copyright (c) 2022, 2026 IBM Corporation and others.
  * 
  * This program and the accompanying materials are made available under the 
  * terms of the Eclipse Public License v. 2.0 which is available at 
@@ -18,6 +18,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.websocket;
 import java.util.*;
 import java.util.stream.Stream;
 
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
 import com.intellij.psi.util.InheritanceUtil;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
@@ -27,6 +28,9 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 
 public class WebSocketDiagnosticsCollector extends AbstractDiagnosticsCollector {
+
+    private static final Set<String> TRIGGER_ANNOTATIONS = Set.of(WebSocketConstants.WS_ANNOTATION_CLASS);
+
     public WebSocketDiagnosticsCollector() {
         super();
     }
@@ -36,6 +40,11 @@ public class WebSocketDiagnosticsCollector extends AbstractDiagnosticsCollector
         return WebSocketConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    public Set<String> getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit == null) {
@@ -46,6 +55,7 @@ public class WebSocketDiagnosticsCollector extends AbstractDiagnosticsCollector
         HashMap<String, Boolean> checkWSEnd = null;
         alltypes = unit.getClasses();
         for (PsiClass type : alltypes) {
+            ProgressManager.checkCanceled();
             checkWSEnd = isWSEndpoint(type);
             // checks if the class uses annotation to create a WebSocket endpoint
             if (checkWSEnd.get(WebSocketConstants.IS_ANNOTATION)) {
@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp.lsp;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.util.CachedValue;
+import io.openliberty.tools.intellij.util.JavaClasspathDocumentMatcher;
+
+/**
+ * Matches the Java files processed by the MicroProfile language server: the files of the modules which use MicroProfile
+ * APIs, or the Jakarta EE / Java EE APIs (JAX-RS, CDI) on which the MicroProfile features rely.
+ */
+public class MicroProfileJavaMatcher extends JavaClasspathDocumentMatcher {
+
+    private static final Key<CachedValue<Boolean>> MICROPROFILE_CLASSPATH_KEY = Key.create("liberty.microProfileClasspath");
+
+    public MicroProfileJavaMatcher() {
+        super(MICROPROFILE_CLASSPATH_KEY, "org.eclipse.microprofile", "jakarta", "javax.ws.rs", "javax.enterprise");
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Red Hat, Inc.
+ * Copyright (c) 2019, 2026 Red Hat, Inc.
  * Distributed under license by Red Hat, Inc. All rights reserved.
  * This program is made available under the terms of the
  * Eclipse Public License v2.0 which accompanies this distribution,
@@ -20,6 +20,7 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.profile.ProfileChangeAdapter;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.messages.MessageBusConnection;
 import com.redhat.devtools.lsp4ij.JSONUtils;
 import io.openliberty.tools.intellij.lsp4mp.MicroProfileDeploymentSupport;
@@ -33,7 +34,9 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSIm
 import io.openliberty.tools.intellij.lsp4mp4ij.settings.MicroProfileInspectionsInfo;
 import io.openliberty.tools.intellij.lsp4mp4ij.settings.UserDefinedMicroProfileSettings;
 import io.openliberty.tools.intellij.lsp4mp.MicroProfileModuleUtil;
+import io.openliberty.tools.intellij.metrics.MeasuredLanguageClient;
 import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import io.openliberty.tools.intellij.util.ServerPortStatusService;
 import org.eclipse.lsp4j.*;
 import org.eclipse.lsp4mp.commons.*;
 import org.eclipse.lsp4mp.commons.codeaction.CodeActionResolveData;
@@ -42,7 +45,6 @@ import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageClientAPI;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageServerAPI;
 import org.jetbrains.annotations.NotNull;
 import com.redhat.devtools.lsp4ij.client.CoalesceByKey;
-import com.redhat.devtools.lsp4ij.client.IndexAwareLanguageClient;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -56,10 +58,15 @@ import java.util.stream.Collectors;
  * Adapted from https://github.com/redhat-developer/intellij-quarkus/blob/2585eb422beeb69631076d2c39196d6eca2f5f2e/src/main/java/com/redhat/devtools/intellij/quarkus/lsp/QuarkusLanguageClient.java
  * to start LSP4MP, Language Server for MicroProfile
  */
-public class MicroProfileLanguageClient extends IndexAwareLanguageClient implements MicroProfileLanguageClientAPI, ClasspathResourceChangedManager.Listener, ProfileChangeAdapter {
+public class MicroProfileLanguageClient extends MeasuredLanguageClient implements MicroProfileLanguageClientAPI, ClasspathResourceChangedManager.Listener, ProfileChangeAdapter {
 
     private final MessageBusConnection connection;
     private MicroProfileInspectionsInfo inspectionsInfo;
+    // Refresh the JAX-RS URL codelens when a server starts or stops listening on their port
+    private final Runnable serverStatusChangeHandler = () -> refreshCodeLenses();
+    private final PropertiesChangeEventBatcher propertiesChangeEventBatcher = new PropertiesChangeEventBatcher(
+            this::sendPropertiesChangeEvent, AppExecutorUtil.getAppScheduledExecutorService(),
+            PropertiesChangeEventBatcher.FLUSH_DELAY_MILLIS);
 
     public MicroProfileLanguageClient(Project project) {
         super(project);
@@ -72,13 +79,16 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
         connection.subscribe(ProfileChangeAdapter.TOPIC, this);
         // Track MicroProfile settings changed to push them to the language server with LSP didChangeConfiguration.
         UserDefinedMicroProfileSettings.getInstance(project).addChangeHandler(getDidChangeConfigurationListener());
+        ServerPortStatusService.getInstance().addChangeHandler(serverStatusChangeHandler);
     }
 
     @Override
     public void dispose() {
         super.dispose();
         connection.disconnect();
+        propertiesChangeEventBatcher.dispose();
         UserDefinedMicroProfileSettings.getInstance(getProject()).removeChangeHandler(getDidChangeConfigurationListener());
+        ServerPortStatusService.getInstance().removeChangeHandler(serverStatusChangeHandler);
     }
 
     @Override
@@ -86,12 +96,12 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
         return UserDefinedMicroProfileSettings.getInstance(getProject()).toSettingsForMicroProfileLS();
     }
 
-    private void sendPropertiesChangeEvent(List<MicroProfilePropertiesScope> scope, Set<String> uris) {
+    private void sendPropertiesChangeEvent(MicroProfilePropertiesChangeEvent event) {
+        if (isDisposed()) {
+            return;
+        }
         MicroProfileLanguageServerAPI server = (MicroProfileLanguageServerAPI) getLanguageServer();
         if (server != null) {
-            MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
-            event.setType(scope);
-            event.setProjectURIs(uris);
             server.propertiesChanged(event);
         }
     }
@@ -120,7 +130,20 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
             // The language client has been disposed, ignore changes in libraries
             return;
         }
-        sendPropertiesChangeEvent(Collections.singletonList(MicroProfilePropertiesScope.dependencies), MicroProfileModuleUtil.getModulesURIs(getProject()));
+        propertiesChangeEventBatcher.propertiesChanged(MicroProfilePropertiesScope.dependencies, MicroProfileModuleUtil.getModulesURIs(getProject()));
+    }
+
+    @Override
+    public void librariesChanged(Set<Module> modules) {
+        if (isDisposed()) {
+            // The language client has been disposed, ignore changes in libraries
+            return;
+        }
+        // Only the properties of the modules using the changed libraries are collected again
+        propertiesChangeEventBatcher.propertiesChanged(MicroProfilePropertiesScope.dependencies, modules.stream()
+                .filter(module -> !module.isDisposed())
+                .map(PsiUtilsLSImpl::getProjectURI)
+                .collect(Collectors.toSet()));
     }
 
     @Override
@@ -129,13 +152,12 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
             // The language client has been disposed, ignore changes in Java source / microprofile-config.properties files
             return;
         }
-        List<Pair<String, MicroProfilePropertiesScope>> info = sources.stream()
-                .filter(pair -> isJavaFile(pair.getFirst()) || isConfigSource(pair.getFirst()))
-                .map(pair -> Pair.pair(PsiUtilsLSImpl.getProjectURI(pair.getSecond()), getScope(pair.getFirst())))
-                .collect(Collectors.toList());
-        if (!info.isEmpty()) {
-            sendPropertiesChangeEvent(info.stream().map(p -> p.getSecond()).collect(Collectors.toList()),
-                    info.stream().map(p -> p.getFirst()).collect(Collectors.toSet()));
+        for (Pair<VirtualFile, Module> pair : sources) {
+            VirtualFile file = pair.getFirst();
+            if (isJavaFile(file) || isConfigSource(file)) {
+                propertiesChangeEventBatcher.propertiesChanged(getScope(file),
+                        Collections.singleton(PsiUtilsLSImpl.getProjectURI(pair.getSecond())));
+            }
         }
     }
 
@@ -176,7 +198,7 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
     private CompletableFuture<MicroProfileProjectInfo> internalGetProjectInfo(MicroProfileProjectInfoParams params) {
         var coalesceBy = new CoalesceByKey("microprofile/projectInfo", params.getUri(), params.getScopes());
         String filePath = getFilePath(params.getUri());
-        return runAsBackground("Computing MicroProfile properties for '" + filePath + "'.", monitor ->
+        return runAsMeasuredBackground("microprofile/projectInfo", "Computing MicroProfile properties for '" + filePath + "'.", monitor ->
                 PropertiesManager.getInstance().getMicroProfileProjectInfo(params, PsiUtilsLSImpl.getInstance(getProject()), monitor),
                 coalesceBy);
     }
@@ -184,7 +206,7 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
     @Override
     public CompletableFuture<Hover> getJavaHover(MicroProfileJavaHoverParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/hover", javaParams.getUri(), javaParams.getPosition());
-        return runAsBackground("Computing MicroProfile Java hover", monitor -> PropertiesManagerForJava.getInstance().hover(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsMeasuredBackground("microprofile/java/hover", "Computing MicroProfile Java hover", monitor -> PropertiesManagerForJava.getInstance().hover(javaParams, PsiUtilsLSImpl.getInstance(getProject()), monitor), coalesceBy);
     }
 
     @Override
@@ -195,43 +217,43 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
         // "Too many non-blocking read actions submitted at once in". To avoid having this error, we create a coalesceBy key
         // managed by IJ ReadAction.nonBlocking() to cancel the previous request.
         var coalesceBy = new CoalesceByKey("microprofile/java/diagnostics", javaParams.getUris());
-        return runAsBackground("Computing MicroProfile Java diagnostics", monitor -> PropertiesManagerForJava.getInstance().diagnostics(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsMeasuredBackground("microprofile/java/diagnostics", "Computing MicroProfile Java diagnostics", monitor -> PropertiesManagerForJava.getInstance().diagnostics(javaParams, PsiUtilsLSImpl.getInstance(getProject()), monitor), coalesceBy);
     }
 
     @Override
     public CompletableFuture<Location> getPropertyDefinition(MicroProfilePropertyDefinitionParams params) {
         var coalesceBy = new CoalesceByKey("microprofile/propertyDefinition", params.getUri(), params.getSourceType(), params.getSourceField(), params.getSourceMethod());
-        return runAsBackground("Computing property definition", monitor -> PropertiesManager.getInstance().findPropertyLocation(params, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsMeasuredBackground("microprofile/propertyDefinition", "Computing property definition", monitor -> PropertiesManager.getInstance().findPropertyLocation(params, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<ProjectLabelInfoEntry> getJavaProjectLabels(MicroProfileJavaProjectLabelsParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/projectLabels", javaParams.getUri(), javaParams.getTypes());
-        return runAsBackground("Computing Java projects labels", monitor -> ProjectLabelManager.getInstance().getProjectLabelInfo(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsMeasuredBackground("microprofile/java/projectLabels", "Computing Java projects labels", monitor -> ProjectLabelManager.getInstance().getProjectLabelInfo(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<List<ProjectLabelInfoEntry>> getAllJavaProjectLabels() {
         var coalesceBy = new CoalesceByKey("microprofile/java/workspaceLabels");
-        return runAsBackground("Computing All Java projects labels", monitor -> ProjectLabelManager.getInstance().getProjectLabelInfo(PsiUtilsLSImpl.getInstance(getProject())),coalesceBy);
+        return runAsMeasuredBackground("microprofile/java/workspaceLabels", "Computing All Java projects labels", monitor -> ProjectLabelManager.getInstance().getProjectLabelInfo(PsiUtilsLSImpl.getInstance(getProject())),coalesceBy);
     }
 
     @Override
     public CompletableFuture<JavaFileInfo> getJavaFileInfo(MicroProfileJavaFileInfoParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/fileInfo", javaParams.getUri());
-        return runAsBackground("Computing Java file info", monitor -> PropertiesManagerForJava.getInstance().fileInfo(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsMeasuredBackground("microprofile/java/fileInfo", "Computing Java file info", monitor -> PropertiesManagerForJava.getInstance().fileInfo(javaParams, PsiUtilsLSImpl.getInstance(getProject()), monitor), coalesceBy);
     }
 
     @Override
     public CompletableFuture<List<MicroProfileDefinition>> getJavaDefinition(MicroProfileJavaDefinitionParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/definition", javaParams.getUri(),javaParams.getPosition());
-        return runAsBackground("Computing Java definitions", monitor -> PropertiesManagerForJava.getInstance().definition(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsMeasuredBackground("microprofile/java/definition", "Computing Java definitions", monitor -> PropertiesManagerForJava.getInstance().definition(javaParams, PsiUtilsLSImpl.getInstance(getProject()), monitor), coalesceBy);
     }
 
     @Override
     public CompletableFuture<MicroProfileJavaCompletionResult> getJavaCompletion(MicroProfileJavaCompletionParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/completion", javaParams.getUri(),javaParams.getPosition());
-        return runAsBackground("Computing Java completion", monitor -> {
+        return runAsMeasuredBackground("microprofile/java/completion", "Computing Java completion", monitor -> {
             IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
             CompletionList completionList = PropertiesManagerForJava.getInstance().completion(javaParams, utils);
             JavaCursorContextResult cursorContext = PropertiesManagerForJava.getInstance().javaCursorContext(javaParams, utils);
@@ -242,35 +264,35 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
     @Override
     public CompletableFuture<List<? extends CodeLens>> getJavaCodelens(MicroProfileJavaCodeLensParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/codeLens", javaParams.getUri());
-        return runAsBackground("Computing Java codelens", monitor -> PropertiesManagerForJava.getInstance().codeLens(javaParams, PsiUtilsLSImpl.getInstance(getProject()), monitor), coalesceBy);
+        return runAsMeasuredBackground("microprofile/java/codeLens", "Computing Java codelens", monitor -> PropertiesManagerForJava.getInstance().codeLens(javaParams, PsiUtilsLSImpl.getInstance(getProject()), monitor), coalesceBy);
     }
 
     @Override
     public CompletableFuture<List<CodeAction>> getJavaCodeAction(MicroProfileJavaCodeActionParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/codeAction", javaParams.getUri());
-        return runAsBackground("Computing Java code actions", monitor -> (List<CodeAction>) PropertiesManagerForJava.getInstance().codeAction(javaParams, PsiUtilsLSImpl.getInstance(getProject())),coalesceBy);
+        return runAsMeasuredBackground("microprofile/java/codeAction", "Computing Java code actions", monitor -> (List<CodeAction>) PropertiesManagerForJava.getInstance().codeAction(javaParams, PsiUtilsLSImpl.getInstance(getProject()), monitor),coalesceBy);
     }
 
     @Override
     public CompletableFuture<CodeAction> resolveCodeAction(CodeAction unresolved) {
         var coalesceBy = new CoalesceByKey("microprofile/java/resolveCodeAction");
-        return runAsBackground("Computing Java resolve code actions", monitor -> {
+        return runAsMeasuredBackground("microprofile/java/resolveCodeAction", "Computing Java resolve code actions", monitor -> {
             CodeActionResolveData data = JSONUtils.toModel(unresolved.getData(), CodeActionResolveData.class);
             unresolved.setData(data);
-            return (CodeAction) PropertiesManagerForJava.getInstance().resolveCodeAction(unresolved, PsiUtilsLSImpl.getInstance(getProject()));
+            return (CodeAction) PropertiesManagerForJava.getInstance().resolveCodeAction(unresolved, PsiUtilsLSImpl.getInstance(getProject()), monitor);
         }, coalesceBy);
     }
 
     @Override
     public CompletableFuture<JavaCursorContextResult> getJavaCursorContext(MicroProfileJavaCompletionParams params) {
         var coalesceBy = new CoalesceByKey("microprofile/java/javaCursorContext", params.getUri(), params.getPosition());
-        return runAsBackground("Computing Java Cursor context", monitor -> PropertiesManagerForJava.getInstance().javaCursorContext(params, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsMeasuredBackground("microprofile/java/javaCursorContext", "Computing Java Cursor context", monitor -> PropertiesManagerForJava.getInstance().javaCursorContext(params, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<List<SymbolInformation>> getJavaWorkspaceSymbols(String projectUri) {
-        //Workspace symbols not supported yet https://github.com/redhat-developer/intellij-quarkus/issues/808
-        return CompletableFuture.completedFuture(null);
+        var coalesceBy = new CoalesceByKey("microprofile/java/workspaceSymbols", projectUri);
+        return runAsMeasuredBackground("microprofile/java/workspaceSymbols", "Computing Java workspace symbols", monitor -> PropertiesManagerForJava.getInstance().workspaceSymbols(projectUri, PsiUtilsLSImpl.getInstance(getProject()), monitor), coalesceBy);
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 Red Hat, Inc.
+ * Copyright (c) 2020, 2026 Red Hat, Inc.
  * Distributed under license by Red Hat, Inc. All rights reserved.
  * This program is made available under the terms of the
  * Eclipse Public License v2.0 which accompanies this distribution,
@@ -18,12 +18,15 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.redhat.devtools.lsp4ij.server.OSProcessStreamConnectionProvider;
 import io.openliberty.tools.intellij.util.Constants;
 import io.openliberty.tools.intellij.util.JavaVersionUtil;
+import io.openliberty.tools.intellij.util.LanguageServerJvmOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -42,8 +45,11 @@ public class MicroProfileServer extends OSProcessStreamConnectionProvider {
             return;
         }
         if (lsp4mpServerPath.exists()) {
-            setCommandLine(new GeneralCommandLine(Arrays.asList(javaHome + File.separator + "bin" + File.separator + "java", "-jar",
-                    lsp4mpServerPath.getAbsolutePath(), "-DrunAsync=true")));
+            List<String> params = new ArrayList<>();
+            params.add(javaHome + File.separator + "bin" + File.separator + "java");
+            params.addAll(LanguageServerJvmOptions.getJvmOptions(Constants.MICROPROFILE_SERVER, javaHome, lsp4mpServerPath));
+            params.addAll(Arrays.asList("-jar", lsp4mpServerPath.getAbsolutePath(), "-DrunAsync=true"));
+            setCommandLine(new GeneralCommandLine(params));
         } else {
             LOGGER.warn(String.format("Unable to start Eclipse LSP4MP. Eclipse LSP4MP server path: %s does not exist"), lsp4mpServerPath);
         }
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp.lsp;
+
+import com.intellij.openapi.diagnostic.Logger;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Batches the <code>microprofile/propertiesChanged</code> notifications sent to the MicroProfile language server.
+ *
+ * <p>
+ * The changes collected during the flush window are merged per project, and the projects with the same scopes are
+ * sent in one notification. A {@link MicroProfilePropertiesScope#dependencies} change makes the language server
+ * collect all the properties of the project again, so it supersedes the sources and config files changes of the
+ * project.
+ * </p>
+ */
+class PropertiesChangeEventBatcher {
+
+    private static final Logger LOGGER = Logger.getInstance(PropertiesChangeEventBatcher.class);
+
+    static final long FLUSH_DELAY_MILLIS = 200;
+
+    private final Consumer<MicroProfilePropertiesChangeEvent> sender;
+
+    private final ScheduledExecutorService executor;
+
+    private final long flushDelayMillis;
+
+    // project URI -> changed scopes
+    private Map<String, EnumSet<MicroProfilePropertiesScope>> pendingChanges = new HashMap<>();
+
+    private boolean disposed;
+
+    PropertiesChangeEventBatcher(@NotNull Consumer<MicroProfilePropertiesChangeEvent> sender,
+                                 @NotNull ScheduledExecutorService executor, long flushDelayMillis) {
+        this.sender = sender;
+        this.executor = executor;
+        this.flushDelayMillis = flushDelayMillis;
+    }
+
+    /**
+     * Collects the change of the given scope in the given projects.
+     *
+     * @param scope       the changed scope
+     * @param projectURIs the URIs of the changed projects
+     */
+    synchronized void propertiesChanged(@NotNull MicroProfilePropertiesScope scope, @NotNull Collection<String> projectURIs) {
+        if (disposed || projectURIs.isEmpty()) {
+            return;
+        }
+        boolean schedule = pendingChanges.isEmpty();
+        for (String projectURI : projectURIs) {
+            EnumSet<MicroProfilePropertiesScope> scopes = pendingChanges.computeIfAbsent(projectURI,
+                    uri -> EnumSet.noneOf(MicroProfilePropertiesScope.class));
+            if (scope == MicroProfilePropertiesScope.dependencies) {
+                // The project properties are collected again, from the sources and the config files too
+                scopes.clear();
+                scopes.add(scope);
+            } else if (!scopes.contains(MicroProfilePropertiesScope.dependencies)) {
+                scopes.add(scope);
+            }
+        }
+        if (schedule) {
+            try {
+                executor.schedule(this::flush, flushDelayMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // The application is shutting down
+                pendingChanges.clear();
+            }
+        }
+    }
+
+    /**
+     * Sends the collected changes, one notification per distinct set of scopes.
+     */
+    void flush() {
+        Map<String, EnumSet<MicroProfilePropertiesScope>> changes;
+        synchronized (this) {
+            if (disposed || pendingChanges.isEmpty()) {
+                return;
+            }
+            changes = pendingChanges;
+            pendingChanges = new HashMap<>();
+        }
+        Map<EnumSet<MicroProfilePropertiesScope>, Set<String>> projectsByScopes = new LinkedHashMap<>();
+        changes.forEach((projectURI, scopes) ->
+                projectsByScopes.computeIfAbsent(scopes, s -> new TreeSet<>()).add(projectURI));
+        projectsByScopes.forEach((scopes, projectURIs) -> {
+            MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+            event.setType(new ArrayList<>(scopes));
+            event.setProjectURIs(projectURIs);
+            try {
+                sender.accept(event);
+            } catch (Exception e) {
+                LOGGER.warn("Failed to send the MicroProfile properties changes", e);
+            }
+        });
+    }
+
+    synchronized void dispose() {
+        disposed = true;
+        pendingChanges.clear();
+    }
+}
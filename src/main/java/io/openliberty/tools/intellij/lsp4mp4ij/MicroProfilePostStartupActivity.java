@@ -5,6 +5,7 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.startup.StartupActivity;
 import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.MicroProfileProjectInfoCache;
 import org.jetbrains.annotations.NotNull;
 
 public class MicroProfilePostStartupActivity implements StartupActivity, DumbAware {
@@ -18,5 +19,7 @@ public class MicroProfilePostStartupActivity implements StartupActivity, DumbAwa
         // - and after the QuarkusLanguageClient throws an event to trigger Java validation.
         // As java validation requires the properties cache, it needs that cache must be updated before.
         PsiMicroProfileProjectManager.getInstance(project);
+        // The properties cache must also track changed Java files before the language client asks for the project info.
+        MicroProfileProjectInfoCache.getInstance(project);
     }
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Red Hat Inc. and others.
+ * Copyright (c) 2023, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,27 +13,49 @@
  *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.classpath;
 
+import com.intellij.openapi.application.ApplicationListener;
+import com.intellij.openapi.command.CommandEvent;
+import com.intellij.openapi.command.CommandListener;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.module.ModuleUtilCore;
 import com.intellij.openapi.project.ModuleListener;
+import com.intellij.openapi.roots.LibraryOrderEntry;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.roots.OrderEntry;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
 import com.intellij.openapi.roots.libraries.Library;
 import com.intellij.openapi.roots.libraries.LibraryTable;
 import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.vfs.newvfs.BulkFileListener;
 import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
 import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
 import com.intellij.openapi.vfs.newvfs.events.VFileDeleteEvent;
 import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiTreeChangeAdapter;
 import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.util.containers.ContainerUtil;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Classpath resource changed listener used to track update of:
@@ -43,13 +65,30 @@ import java.util.List;
  *     <li>Java source file has changed.</li>
  *     <li>microprofile-config.properties file has changed.</li>
  *   </ul>
+ *
+ * <p>
+ * A refactoring or a reformat fires thousands of Psi tree events, so the changed Psi files are collected until the end
+ * of the command, or of the write action when the change is done outside a command, and are notified in one batch.
+ * The module of each file is resolved once per batch, and cached until the project roots change or the file is moved
+ * or renamed.
+ * </p>
  */
-class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements BulkFileListener, LibraryTable.Listener, ModuleListener {
+class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements BulkFileListener, LibraryTable.Listener, ModuleListener, CommandListener, ApplicationListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClasspathResourceChangedListener.class);
 
     private final ClasspathResourceChangedManager manager;
 
+    private final Set<VirtualFile> changedPsiFiles = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger commandDepth = new AtomicInteger();
+
+    private final Map<VirtualFile, Module> fileToModule = ContainerUtil.createConcurrentWeakMap();
+
+    private volatile long fileToModuleStamp = -1;
+
+    private final AtomicInteger moduleLookupCount = new AtomicInteger();
+
     ClasspathResourceChangedListener(ClasspathResourceChangedManager manager) {
         this.manager = manager;
     }
@@ -70,7 +109,28 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
         LOGGER.info("handleLibraryUpdate called " + library.getName());
         // Notify that a library has changed.
         final var notifier = manager.getResourceChangedNotifier();
-        notifier.addLibrary(library);
+        notifier.addLibrary(getModulesUsing(library));
+    }
+
+    /**
+     * Returns the modules which depend on the given library, or which depended on it when it has been removed, directly
+     * or through a module dependency.
+     */
+    private Set<Module> getModulesUsing(Library library) {
+        Set<Module> modules = new LinkedHashSet<>();
+        for (Module module : ModuleManager.getInstance(manager.getProject()).getModules()) {
+            for (OrderEntry entry : ModuleRootManager.getInstance(module).getOrderEntries()) {
+                if (entry instanceof LibraryOrderEntry libraryEntry && !libraryEntry.isModuleLevel()
+                        && (library.equals(libraryEntry.getLibrary()) || Objects.equals(library.getName(), libraryEntry.getLibraryName()))) {
+                    if (modules.add(module)) {
+                        // The library is on the classpath of the modules which depend on this module
+                        modules.addAll(ModuleUtilCore.getAllDependentModules(module));
+                    }
+                    break;
+                }
+            }
+        }
+        return modules;
     }
 
     // Track Psi file changes
@@ -111,7 +171,57 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
         if (psiFile == null) {
             return;
         }
-        tryToAddSourceFile(psiFile.getVirtualFile(), true);
+        VirtualFile file = psiFile.getVirtualFile();
+        if (file != null && (isJavaFile(file) || isConfigSource(file))) {
+            // The file is notified at the end of the command or write action
+            changedPsiFiles.add(file);
+        }
+    }
+
+    // Track the end of the Psi changes
+
+    @Override
+    public void commandStarted(@NotNull CommandEvent event) {
+        commandDepth.incrementAndGet();
+    }
+
+    @Override
+    public void commandFinished(@NotNull CommandEvent event) {
+        if (commandDepth.decrementAndGet() <= 0) {
+            commandDepth.set(0);
+            notifyChangedPsiFiles();
+        }
+    }
+
+    @Override
+    public void afterWriteActionFinished(@NotNull Object action) {
+        if (commandDepth.get() == 0) {
+            // The Psi has been changed outside a command, e.g. when a document is committed
+            notifyChangedPsiFiles();
+        }
+    }
+
+    private void notifyChangedPsiFiles() {
+        if (changedPsiFiles.isEmpty()) {
+            return;
+        }
+        List<Pair<VirtualFile, Module>> sourceFiles = new ArrayList<>();
+        for (Iterator<VirtualFile> it = changedPsiFiles.iterator(); it.hasNext(); ) {
+            VirtualFile file = it.next();
+            it.remove();
+            if (!file.exists()) {
+                // The file doesn't exist
+                continue;
+            }
+            Module module = getModule(file);
+            if (module != null) {
+                sourceFiles.add(Pair.pair(file, module));
+            }
+        }
+        if (!sourceFiles.isEmpty()) {
+            // Notify that the files have changed
+            manager.getResourceChangedNotifier().addSourceFiles(sourceFiles);
+        }
     }
 
     // Track file system changes
@@ -131,6 +241,11 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
     @Override
     public void after(@NotNull List<? extends VFileEvent> events) {
         for (VFileEvent event : events) {
+            if (event instanceof VFileMoveEvent || (event instanceof VFilePropertyChangeEvent propertyChangeEvent && propertyChangeEvent.isRename())) {
+                // The moved or renamed file, or the files of the moved or renamed folder, may belong to another module
+                evictModules(event.getFile());
+                continue;
+            }
             boolean expectedEvent = (event instanceof VFileCreateEvent || event instanceof VFileContentChangeEvent);
             if (expectedEvent) {
                 // A file has been created, updated
@@ -152,13 +267,12 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
             // The file doesn't exist
             return;
         }
-        var project = manager.getProject();
         if (!isJavaFile(file) && !isConfigSource(file)) {
             return;
         }
         // The file is a Java file or microprofile-config.properties
-        Module module = LSPIJUtils.getModule(file, project);
-        if (module == null || module.isDisposed()) {
+        Module module = getModule(file);
+        if (module == null) {
             return;
         }
         // Notify that the file has changed
@@ -166,4 +280,37 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
         notifier.addSourceFile(Pair.pair(file, module));
     }
 
+    private Module getModule(VirtualFile file) {
+        var project = manager.getProject();
+        long stamp = ProjectRootModificationTracker.getInstance(project).getModificationCount();
+        if (stamp != fileToModuleStamp) {
+            // The modules or their content roots have changed
+            fileToModule.clear();
+            fileToModuleStamp = stamp;
+        }
+        Module module = fileToModule.get(file);
+        if (module == null) {
+            moduleLookupCount.incrementAndGet();
+            module = LSPIJUtils.getModule(file, project);
+            if (module == null) {
+                return null;
+            }
+            fileToModule.put(file, module);
+        }
+        return module.isDisposed() ? null : module;
+    }
+
+    private void evictModules(VirtualFile file) {
+        if (file.isDirectory()) {
+            fileToModule.keySet().removeIf(cachedFile -> VfsUtilCore.isAncestor(file, cachedFile, false));
+        } else {
+            fileToModule.remove(file);
+        }
+    }
+
+    @TestOnly
+    int getModuleLookupCount() {
+        return moduleLookupCount.get();
+    }
+
 }
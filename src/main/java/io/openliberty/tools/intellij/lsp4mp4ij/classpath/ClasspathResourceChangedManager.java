@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Red Hat Inc. and others.
+ * Copyright (c) 2023, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,6 +15,7 @@ package io.openliberty.tools.intellij.lsp4mp4ij.classpath;
 
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.command.CommandListener;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.project.ModuleListener;
 import com.intellij.openapi.project.Project;
@@ -26,6 +27,7 @@ import com.intellij.psi.PsiManager;
 import com.intellij.util.messages.MessageBusConnection;
 import com.intellij.util.messages.Topic;
 import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import org.jetbrains.annotations.TestOnly;
 
 import java.util.Set;
 
@@ -41,7 +43,8 @@ import java.util.Set;
  *
  * <ul>
  *     <li>Track update of libraries is done with {@link com.intellij.openapi.roots.libraries.LibraryTable.Listener}.
- *     In other words {@link Listener#librariesChanged()}  are fired when all libraries are inserted, deleted, updated.</li>
+ *     In other words {@link Listener#librariesChanged()}  are fired when all libraries are inserted, deleted, updated,
+ *     and {@link Listener#librariesChanged(Set)} when the modules using these libraries are known.</li>
  *     <li>Track update of Java, microprofile-config properties files are done when Java Psi file is updated, when Java file is created, deleted, saved.</li>
  * </ul>
  */
@@ -62,6 +65,15 @@ public class ClasspathResourceChangedManager implements Disposable {
 
 		void librariesChanged();
 
+		/**
+		 * Called when the libraries used by the given modules have changed. Calls {@link #librariesChanged()} by default.
+		 *
+		 * @param modules the modules whose libraries have changed.
+		 */
+		default void librariesChanged(Set<Module> modules) {
+			librariesChanged();
+		}
+
 		void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources);
 	}
 
@@ -82,6 +94,9 @@ public class ClasspathResourceChangedManager implements Disposable {
 		// Track delete, create, update of file
 		appConnection = ApplicationManager.getApplication().getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
 		appConnection.subscribe(VirtualFileManager.VFS_CHANGES, listener);
+		// Track end of commands and write actions to notify the Psi changes in one batch
+		appConnection.subscribe(CommandListener.TOPIC, listener);
+		ApplicationManager.getApplication().addApplicationListener(listener, LibertyToolPluginDisposable.getInstance(project));
 	}
 
 	@Override
@@ -100,4 +115,9 @@ public class ClasspathResourceChangedManager implements Disposable {
 	ClasspathResourceChangedNotifier getResourceChangedNotifier() {
 		return resourceChangedNotifier;
 	}
+
+	@TestOnly
+	ClasspathResourceChangedListener getListener() {
+		return listener;
+	}
 }
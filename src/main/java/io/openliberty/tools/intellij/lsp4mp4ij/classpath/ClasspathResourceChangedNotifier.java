@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Red Hat Inc. and others.
+ * Copyright (c) 2023, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -20,84 +20,171 @@ import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.roots.libraries.Library;
 import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import io.openliberty.tools.intellij.metrics.BoundedHistogram;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Source file change notifier with a debounce mode.
+ *
+ * <p>
+ * The changes are collected in concurrent structures without locking, and are notified by a single flush task
+ * scheduled on the shared application scheduler. The flush waits until no change has been collected during the
+ * debounce window, which is short for an isolated save and lengthens with the number of changes collected in the
+ * current batch, e.g. during a VCS update. A batch is notified at the latest {@value #MAX_FLUSH_LATENCY} ms after its
+ * first change.
+ * </p>
  */
 public class ClasspathResourceChangedNotifier implements Disposable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClasspathResourceChangedNotifier.class);
 
-    private static final long DEBOUNCE_DELAY = 1000;
+    static final long MIN_DEBOUNCE_DELAY = 200;
+
+    static final long MAX_DEBOUNCE_DELAY = 2000;
+
+    private static final long DEBOUNCE_DELAY_STEP = 20;
+
+    static final long MAX_FLUSH_LATENCY = 10000;
 
     private final Project project;
 
-    private Timer debounceTimer;
-    private TimerTask debounceTask;
+    private final ScheduledExecutorService executor;
+
+    private final boolean debounce;
+
+    private final Set<Pair<VirtualFile, Module>> sourceFiles = ConcurrentHashMap.newKeySet();
+    // The modules using the changed libraries, or all the modules when a changed library is not used by a known module
+    private final Set<Module> librariesModules = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean allModulesLibrariesChanged = new AtomicBoolean();
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicInteger batchChangeCount = new AtomicInteger();
+    private volatile long batchStartNanos;
+    private volatile long lastChangeNanos;
 
-    private final Set<Pair<VirtualFile, Module>> sourceFiles;
-    private boolean librariesChanged;
-    private boolean disposed;
+    // Number of source files per notification and time between the first change of a batch and its notification
+    private final BoundedHistogram batchSizes = new BoundedHistogram();
+    private final BoundedHistogram flushLatencies = new BoundedHistogram();
+
+    private volatile boolean disposed;
 
     public ClasspathResourceChangedNotifier(Project project) {
+        this(project, AppExecutorUtil.getAppScheduledExecutorService(), !ApplicationManager.getApplication().isUnitTestMode());
+    }
+
+    ClasspathResourceChangedNotifier(Project project, ScheduledExecutorService executor, boolean debounce) {
         this.project = project;
-        sourceFiles = new HashSet<>();
+        this.executor = executor;
+        this.debounce = debounce;
     }
 
-    public synchronized void addLibrary(Library library) {
-        if (debounceTask != null) {
-            debounceTask.cancel();
+    public void addLibrary(Collection<Module> modules) {
+        if (modules.isEmpty()) {
+            allModulesLibrariesChanged.set(true);
+        } else {
+            librariesModules.addAll(modules);
         }
-        librariesChanged = true;
         asyncNotifyChanges();
     }
 
-    public synchronized void addSourceFile(Pair<VirtualFile, Module> pair) {
-        if (debounceTask != null) {
-            debounceTask.cancel();
-        }
-        synchronized (sourceFiles) {
-            sourceFiles.add(pair);
-        }
+    public void addSourceFile(Pair<VirtualFile, Module> pair) {
+        sourceFiles.add(pair);
+        asyncNotifyChanges();
+    }
 
+    public void addSourceFiles(Collection<Pair<VirtualFile, Module>> pairs) {
+        sourceFiles.addAll(pairs);
         asyncNotifyChanges();
     }
 
+    /**
+     * Returns the number of source files of the notifications.
+     */
+    public @NotNull BoundedHistogram getBatchSizes() {
+        return batchSizes;
+    }
+
+    /**
+     * Returns the time in milliseconds between the first change of a batch and its notification.
+     */
+    public @NotNull BoundedHistogram getFlushLatencies() {
+        return flushLatencies;
+    }
+
+    /**
+     * Returns the time without change after which the changes are notified.
+     *
+     * @param changeCount the number of changes collected in the current batch.
+     * @return the debounce window in milliseconds.
+     */
+    static long getDebounceDelay(int changeCount) {
+        return Math.min(MAX_DEBOUNCE_DELAY, MIN_DEBOUNCE_DELAY + Math.max(0, changeCount - 1L) * DEBOUNCE_DELAY_STEP);
+    }
+
     private void asyncNotifyChanges() {
         if (isDisposed()) {
             return;
         }
-        if (ApplicationManager.getApplication().isUnitTestMode()) {
+        long now = System.nanoTime();
+        if (!debounce) {
+            batchStartNanos = now;
             notifyChanges();
-        } else {
-            debounceTask = new TimerTask() {
-                @Override
-                public void run() {
-                    try {
-                        notifyChanges();
-                    } catch (Throwable t) {
-                        //Need to catch time task exceptions, or it will cancel the timer
-                        LOGGER.error("Failed to notify classpath resource change", t);
-                    }
-                }
-            };
-
-            if (debounceTimer == null) {
-                debounceTimer = new Timer();
-            }
+            return;
+        }
+        lastChangeNanos = now;
+        batchChangeCount.incrementAndGet();
+        // The change has been collected before, so that it is notified by the scheduled flush
+        if (flushScheduled.compareAndSet(false, true)) {
+            batchStartNanos = now;
+            schedule(getDebounceDelay(1));
+        }
+    }
 
-            debounceTimer.schedule(debounceTask, DEBOUNCE_DELAY);
+    private void schedule(long delay) {
+        try {
+            executor.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The application is shutting down
+            flushScheduled.set(false);
+        }
+    }
+
+    private void flush() {
+        if (isDisposed()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long quietMillis = TimeUnit.NANOSECONDS.toMillis(now - lastChangeNanos);
+        long debounceDelay = getDebounceDelay(batchChangeCount.get());
+        if (quietMillis < debounceDelay && TimeUnit.NANOSECONDS.toMillis(now - batchStartNanos) < MAX_FLUSH_LATENCY) {
+            // Changes are still coming, wait for the end of the burst
+            schedule(debounceDelay - quietMillis);
+            return;
+        }
+        // Release the flush before collecting the changes, so that a change collected from now on schedules a new one
+        flushScheduled.set(false);
+        batchChangeCount.set(0);
+        try {
+            notifyChanges();
+        } catch (Throwable t) {
+            LOGGER.error("Failed to notify classpath resource change", t);
         }
     }
 
@@ -105,17 +192,26 @@ public class ClasspathResourceChangedNotifier implements Disposable {
         if (isDisposed()) {
             return;
         }
-        synchronized (sourceFiles) {
+        Set<Pair<VirtualFile, Module>> changedSourceFiles = drain(sourceFiles);
+        Set<Module> changedLibrariesModules = drain(librariesModules);
+        boolean allModules = allModulesLibrariesChanged.getAndSet(false);
+        boolean changedLibraries = allModules || !changedLibrariesModules.isEmpty();
+        if (changedSourceFiles.isEmpty() && !changedLibraries) {
+            // The changes have been notified by the previous flush
+            return;
+        }
+        batchSizes.record(changedSourceFiles.size());
+        flushLatencies.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batchStartNanos));
+        if (!changedSourceFiles.isEmpty()) {
             // Java, config sources files has changed
-            project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).sourceFilesChanged(sourceFiles);
-            sourceFiles.clear();
+            project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).sourceFilesChanged(changedSourceFiles);
         }
-        if (librariesChanged) {
+        if (changedLibraries) {
             // Java Libraries has changed
+            Set<Module> modules = allModules ? null : changedLibrariesModules;
             if (ApplicationManager.getApplication().isUnitTestMode()) {
                 // Send the libraries changed event
-                project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).librariesChanged();
-                librariesChanged = false;
+                publishLibrariesChanged(modules);
             } else {
                 // There are some preprocessor (ex : Quarkus deployment preprocessor to load Quarkus deployment dependencies in the classpath).
                 ApplicationManager.getApplication().invokeLater(() -> {
@@ -128,8 +224,7 @@ public class ClasspathResourceChangedNotifier implements Disposable {
                                 progressIndicator.checkCanceled();
                             } finally {
                                 // Send the libraries changed event
-                                project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).librariesChanged();
-                                librariesChanged = false;
+                                publishLibrariesChanged(modules);
                             }
                         }
                     }.queue();
@@ -138,23 +233,35 @@ public class ClasspathResourceChangedNotifier implements Disposable {
         }
     }
 
+    /**
+     * Removes the elements of the given concurrent set without losing the elements added concurrently.
+     */
+    private static <T> Set<T> drain(Set<T> pending) {
+        Set<T> elements = new HashSet<>();
+        for (Iterator<T> it = pending.iterator(); it.hasNext(); ) {
+            elements.add(it.next());
+            it.remove();
+        }
+        return elements;
+    }
+
+    private void publishLibrariesChanged(@Nullable Set<Module> modules) {
+        var publisher = project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC);
+        if (modules == null) {
+            publisher.librariesChanged();
+        } else {
+            publisher.librariesChanged(modules);
+        }
+    }
+
     public boolean isDisposed() {
         return disposed;
     }
 
     @Override
     public void dispose() {
-        if (isDisposed()) {
-            return;
-        }
+        // The scheduled flush does nothing once disposed
         this.disposed = true;
-        if (debounceTask != null) {
-            debounceTask.cancel();
-            debounceTask = null;
-        }
-        if (debounceTimer != null) {
-            debounceTimer.cancel();
-            debounceTimer = null;
-        }
+        sourceFiles.clear();
     }
-}
\ No newline at end of file
+}
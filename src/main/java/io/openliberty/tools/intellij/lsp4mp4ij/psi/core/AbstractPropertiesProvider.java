@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2019-2020 Red Hat Inc. and others.
+* Copyright (c) 2019, 2026 Red Hat Inc. and others.
 * All rights reserved. This program and the accompanying materials
 * which accompanies this distribution, and is available at
 * https://www.eclipse.org/legal/epl-v20.html
@@ -10,6 +10,7 @@
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
 
 
+import com.intellij.openapi.project.Project;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
@@ -17,11 +18,14 @@ import com.intellij.psi.PsiEnumConstant;
 import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.psi.impl.source.PsiClassImpl;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.ProjectScope;
 import com.intellij.psi.search.searches.AnnotatedElementsSearch;
 import com.intellij.util.ArrayQuery;
+import com.intellij.util.CollectionQuery;
 import com.intellij.util.EmptyQuery;
 import com.intellij.util.MergeQuery;
 import com.intellij.util.Query;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.index.JavaAnnotationsIndex;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
@@ -81,11 +85,22 @@ public abstract class AbstractPropertiesProvider implements IPropertiesProvider
 	 */
 	protected static Query<PsiModifierListOwner> createAnnotationTypeReferenceSearchPattern(SearchContext context, String annotationName) {
 		PsiClass annotationClass = context.getUtils().findClass(context.getJavaProject(), annotationName);
-		if (annotationClass != null) {
-			return AnnotatedElementsSearch.searchElements(annotationClass, context.getScope(), PsiModifierListOwner.class);
-		} else {
+		if (annotationClass == null) {
 			return new EmptyQuery<>();
 		}
+		if (!(context.getScope() instanceof GlobalSearchScope scope)) {
+			return AnnotatedElementsSearch.searchElements(annotationClass, context.getScope(), PsiModifierListOwner.class);
+		}
+		// Java sources are searched with the annotations index, compiled classes of the libraries with the stub index
+		Project project = context.getJavaProject().getProject();
+		GlobalSearchScope contentScope = ProjectScope.getContentScope(project);
+		Query<PsiModifierListOwner> query = new CollectionQuery<>(JavaAnnotationsIndex.getAnnotatedElements(project,
+				annotationName, scope.intersectWith(contentScope)));
+		if (scope.isSearchInLibraries()) {
+			query = new MergeQuery<>(query, AnnotatedElementsSearch.searchElements(annotationClass,
+					scope.intersectWith(GlobalSearchScope.notScope(contentScope)), PsiModifierListOwner.class));
+		}
+		return query;
 	}
 
 	/**
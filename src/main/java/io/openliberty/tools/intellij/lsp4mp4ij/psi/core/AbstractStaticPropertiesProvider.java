@@ -5,6 +5,7 @@ import com.google.gson.GsonBuilder;
 import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.util.Query;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector.MergingStrategy;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.StaticPropertiesRegistry;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -87,13 +88,33 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 	 * Returns a <code>ConfigurationMetadata</code> instance from
 	 * the data stored from the json file located at <code>this.path</code>
 	 *
+	 * The metadata is taken from the {@link StaticPropertiesRegistry} when the
+	 * json file has been compiled at build time, and the json file is parsed otherwise.
+	 *
 	 * @return <code>ConfigurationMetadata</code> instance from
 	 * the data stored from the json file located at <code>this.path</code>
 	 * @throws IOException
 	 */
 	protected ConfigurationMetadata getMetadata() throws IOException {
-		InputStream in = getInputStream();
-		Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8.name());
+		ConfigurationMetadata compiled = StaticPropertiesRegistry.getInstance().getMetadata(path);
+		if (compiled != null) {
+			return compiled;
+		}
+		try (InputStream in = getInputStream()) {
+			return parseJson(in);
+		}
+	}
+
+	/**
+	 * Returns a <code>ConfigurationMetadata</code> instance from
+	 * the json data of the given stream.
+	 *
+	 * @param in the json data
+	 * @return <code>ConfigurationMetadata</code> instance from
+	 * the json data of the given stream
+	 */
+	public static ConfigurationMetadata parseJson(InputStream in) {
+		Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
 		return createGson().fromJson(reader, ConfigurationMetadata.class);
 	}
 
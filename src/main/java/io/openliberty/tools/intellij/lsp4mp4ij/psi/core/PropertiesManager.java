@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2025 Red Hat, Inc.
+ * Copyright (c) 2019, 2026 Red Hat, Inc.
  * Distributed under license by Red Hat, Inc. All rights reserved.
  * This program is made available under the terms of the
  * Eclipse Public License v2.0 which accompanies this distribution,
@@ -12,20 +12,30 @@ package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.roots.ProjectFileIndex;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.GlobalSearchScopesCore;
 import com.intellij.psi.search.SearchScope;
+import com.intellij.psi.util.PsiUtilCore;
 import com.intellij.util.MergeQuery;
 import com.intellij.util.Query;
 import com.intellij.util.UniqueResultsQuery;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.LibraryPropertiesCache;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.MicroProfileProjectInfoCache;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.MicroProfileProjectInfoCache.Contribution;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.MicroProfileProjectInfoCache.ModuleContributions;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.PropertiesCollector;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.PropertiesInterner;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.StaticPropertyProviderExtensionPointBean;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import org.eclipse.lsp4j.Location;
@@ -35,15 +45,21 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -104,16 +120,15 @@ public class PropertiesManager {
         PropertiesCollector collector = new PropertiesCollector(info, scopes);
         if (module != null) {
             SearchScope scope = createSearchScope(module, scopes, classpathKind == ClasspathKind.TEST);
-            SearchContext context = new SearchContext(module, scope, collector, utils, documentFormat);
-            Query<PsiModifierListOwner> query = createSearchQuery(context);
-            if (query != null) {
-                try {
-                    beginSearch(context, monitor);
-                    query.forEach((Consumer<? super PsiModifierListOwner>) psiMember -> collectProperties(psiMember, context, monitor));
-                }
-                finally {
-                    endSearch(context, monitor);
+            ModuleContributions contributions = MicroProfileProjectInfoCache.getInstance(module.getProject())
+                    .getContributions(module, scopes, classpathKind, documentFormat);
+            synchronized (contributions) {
+                if (contributions.isInitialized()) {
+                    updateContributions(module, scope, scopes, contributions, utils, documentFormat, monitor);
+                } else {
+                    initializeContributions(module, scope, scopes, contributions, utils, documentFormat, monitor);
                 }
+                contributions.mergeInto(collector);
             }
         }
         LOGGER.info("End computing MicroProfile properties for '" + info.getProjectURI() + "' in "
@@ -121,6 +136,190 @@ public class PropertiesManager {
         return info;
     }
 
+    /**
+     * Search the properties in the whole module scope and store them in the given contributions per Java source file
+     * and per library root. The library jars whose properties are available in the persistent
+     * {@link LibraryPropertiesCache} are not searched.
+     */
+    private void initializeContributions(Module module, SearchScope scope, List<MicroProfilePropertiesScope> scopes,
+                                         ModuleContributions contributions, IPsiUtils utils,
+                                         DocumentFormat documentFormat, ProgressIndicator monitor) {
+        LibraryPropertiesCache libraryCache = LibraryPropertiesCache.getInstance(module.getProject());
+        PropertiesInterner interner = PropertiesInterner.getInstance(module.getProject());
+        Map<VirtualFile, Path> libraryJars = getLibraryJars(module, scope);
+        String cacheVariant = libraryJars != null ? getCacheVariant(module, utils, documentFormat) : null;
+        Map<VirtualFile, Contribution> cachedLibraries = getCachedLibraries(libraryCache, libraryJars, cacheVariant, interner);
+        SearchScope searchScope = scope;
+        if (!cachedLibraries.isEmpty()) {
+            searchScope = scope.intersectWith(GlobalSearchScope.notScope(GlobalSearchScopesCore.directoriesScope(module.getProject(),
+                    true, cachedLibraries.keySet().toArray(VirtualFile.EMPTY_ARRAY))));
+        }
+        SearchContext context = new SearchContext(module, searchScope, new PropertiesCollector(new ConfigurationMetadata(), scopes, interner), utils, documentFormat);
+        Map<VirtualFile, SearchContext> sourceContexts = new LinkedHashMap<>();
+        Map<VirtualFile, SearchContext> libraryContexts = new LinkedHashMap<>();
+        Query<PsiModifierListOwner> query = createSearchQuery(context);
+        if (query != null) {
+            ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(module.getProject());
+            try {
+                beginSearch(context, monitor);
+                query.forEach((Consumer<? super PsiModifierListOwner>) psiMember -> {
+                    // Each Java source file and library root is collected with its own context to be able to update it alone.
+                    VirtualFile file = PsiUtilCore.getVirtualFile(psiMember);
+                    SearchContext fileContext;
+                    if (file != null && fileIndex.isInContent(file)) {
+                        fileContext = sourceContexts.computeIfAbsent(file, f -> createFileContext(module, scope, scopes, utils, documentFormat));
+                    } else {
+                        VirtualFile root = file != null ? getLibraryRoot(fileIndex, file) : null;
+                        fileContext = libraryContexts.computeIfAbsent(root, r -> createFileContext(module, scope, scopes, utils, documentFormat));
+                    }
+                    collectProperties(psiMember, fileContext, monitor);
+                });
+            } finally {
+                endSearch(context, monitor);
+            }
+        }
+        Map<VirtualFile, Contribution> sources = new LinkedHashMap<>();
+        PsiManager psiManager = PsiManager.getInstance(module.getProject());
+        sourceContexts.forEach((file, fileContext) -> {
+            PsiFile psiFile = psiManager.findFile(file);
+            if (psiFile != null) {
+                sources.put(file, MicroProfileProjectInfoCache.createSourceContribution(psiFile, getMetadata(fileContext)));
+            }
+        });
+        Map<VirtualFile, Contribution> libraries = new LinkedHashMap<>(cachedLibraries);
+        libraryContexts.forEach((root, fileContext) -> {
+            ConfigurationMetadata metadata = getMetadata(fileContext);
+            libraries.put(root, new Contribution(metadata));
+            Path jar = libraryJars != null ? libraryJars.get(root) : null;
+            // Jars which don't contribute properties are not cached: searching them again is cheap since the search
+            // of the annotated elements doesn't find any of their elements
+            if (jar != null && !isEmpty(metadata)) {
+                libraryCache.put(jar, cacheVariant, metadata);
+            }
+        });
+        contributions.initialize(sources, libraries, getMetadata(context));
+    }
+
+    /**
+     * Returns the jar files of the library roots of the given scope, and null if the scope contains a library root
+     * which is not a local jar (its properties cannot be cached).
+     */
+    private static @Nullable Map<VirtualFile, Path> getLibraryJars(Module module, SearchScope scope) {
+        if (!(scope instanceof GlobalSearchScope globalScope)) {
+            return null;
+        }
+        Map<VirtualFile, Path> libraryJars = new LinkedHashMap<>();
+        for (VirtualFile root : OrderEnumerator.orderEntries(module).recursively().librariesOnly().classes().getRoots()) {
+            if (globalScope.contains(root)) {
+                Path jar = LibraryPropertiesCache.getJarPath(root);
+                if (jar == null) {
+                    return null;
+                }
+                libraryJars.put(root, jar);
+            }
+        }
+        return libraryJars.isEmpty() ? null : libraryJars;
+    }
+
+    /**
+     * Returns the cache variant of the library jars properties: the document format of the descriptions and the
+     * fingerprint of the properties providers which apply to the module. A provider applies when the types that it
+     * searches are declared in the classpath of the module, so the properties of a jar are searched again when a
+     * provider is added or removed, or when the classpath starts or stops declaring one of these types.
+     */
+    private String getCacheVariant(Module module, IPsiUtils utils, DocumentFormat documentFormat) {
+        StringBuilder variant = new StringBuilder(String.valueOf(documentFormat));
+        for (IPropertiesProvider provider : getPropertiesProviders()) {
+            variant.append('|').append(provider.getClass().getName());
+            if (provider instanceof AbstractPropertiesProvider propertiesProvider) {
+                String[] patterns = propertiesProvider.getPatterns();
+                if (patterns != null) {
+                    for (String pattern : patterns) {
+                        variant.append(utils.findClass(module, pattern) != null ? '+' : '-').append(pattern);
+                    }
+                }
+            }
+        }
+        return variant.toString();
+    }
+
+    /**
+     * Returns the cached contributions of the given library jars, without the jars which are not cached.
+     */
+    private static Map<VirtualFile, Contribution> getCachedLibraries(LibraryPropertiesCache libraryCache,
+                                                                  @Nullable Map<VirtualFile, Path> libraryJars,
+                                                                  @Nullable String cacheVariant,
+                                                                  PropertiesInterner interner) {
+        if (libraryJars == null || cacheVariant == null) {
+            return Collections.emptyMap();
+        }
+        Map<VirtualFile, Contribution> libraries = new LinkedHashMap<>();
+        for (var entry : libraryJars.entrySet()) {
+            ConfigurationMetadata metadata = libraryCache.get(entry.getValue(), cacheVariant);
+            if (metadata != null) {
+                libraries.put(entry.getKey(), new Contribution(interner.intern(metadata)));
+            }
+        }
+        return libraries;
+    }
+
+    private static boolean isEmpty(ConfigurationMetadata metadata) {
+        return (metadata.getProperties() == null || metadata.getProperties().isEmpty())
+                && (metadata.getHints() == null || metadata.getHints().isEmpty());
+    }
+
+    /**
+     * Search again the properties of the Java source files which have changed since the last search.
+     */
+    private void updateContributions(Module module, SearchScope scope, List<MicroProfilePropertiesScope> scopes,
+                                     ModuleContributions contributions, IPsiUtils utils,
+                                     DocumentFormat documentFormat, ProgressIndicator monitor) {
+        Set<VirtualFile> staleFiles = contributions.collectStaleFiles();
+        if (staleFiles.isEmpty()) {
+            return;
+        }
+        PsiManager psiManager = PsiManager.getInstance(module.getProject());
+        for (VirtualFile file : staleFiles) {
+            monitor.checkCanceled();
+            PsiFile psiFile = file.isValid() ? psiManager.findFile(file) : null;
+            if (psiFile == null) {
+                // The Java file has been deleted
+                contributions.updateSourceContribution(file, null);
+                continue;
+            }
+            SearchScope fileScope = scope.intersectWith(GlobalSearchScope.fileScope(psiFile));
+            SearchContext fileContext = createFileContext(module, fileScope, scopes, utils, documentFormat);
+            Query<PsiModifierListOwner> query = createSearchQuery(fileContext);
+            Collection<PsiModifierListOwner> psiMembers = query != null ? query.findAll() : List.of();
+            if (psiMembers.isEmpty()) {
+                // The Java file doesn't declare searched Java elements anymore
+                contributions.updateSourceContribution(file, null);
+                continue;
+            }
+            psiMembers.forEach(psiMember -> collectProperties(psiMember, fileContext, monitor));
+            contributions.updateSourceContribution(file, MicroProfileProjectInfoCache.createSourceContribution(psiFile, getMetadata(fileContext)));
+        }
+        LOGGER.info("Updated MicroProfile properties of " + staleFiles.size() + " file(s) for '" + module.getName() + "'.");
+    }
+
+    private static SearchContext createFileContext(Module module, SearchScope scope, List<MicroProfilePropertiesScope> scopes,
+                                                   IPsiUtils utils, DocumentFormat documentFormat) {
+        return new SearchContext(module, scope, new PropertiesCollector(new ConfigurationMetadata(), scopes,
+                PropertiesInterner.getInstance(module.getProject())), utils, documentFormat);
+    }
+
+    private static ConfigurationMetadata getMetadata(SearchContext fileContext) {
+        return ((PropertiesCollector) fileContext.getCollector()).getInternedConfiguration();
+    }
+
+    private static VirtualFile getLibraryRoot(ProjectFileIndex fileIndex, VirtualFile file) {
+        VirtualFile root = fileIndex.getClassRootForFile(file);
+        if (root == null) {
+            root = fileIndex.getSourceRootForFile(file);
+        }
+        return root != null ? root : file;
+    }
+
     private void beginSearch(SearchContext context, ProgressIndicator monitor) {
         for (IPropertiesProvider provider : getPropertiesProviders()) {
             monitor.checkCanceled();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2024 Red Hat, Inc.
+ * Copyright (c) 2020, 2026 Red Hat, Inc.
  * Distributed under license by Red Hat, Inc. All rights reserved.
  * This program is made available under the terms of the
  * Eclipse Public License v2.0 which accompanies this distribution,
@@ -11,12 +11,10 @@
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
 
 import com.intellij.lang.jvm.JvmParameter;
-import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleManager;
 import com.intellij.openapi.progress.ProgressIndicator;
-import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTreeUtil;
@@ -30,7 +28,9 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.Diagnos
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.hover.IJavaHoverParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.hover.JavaHoverContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.ReadActionUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.codeaction.CodeActionHandler;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import org.eclipse.lsp4j.*;
 import org.eclipse.lsp4mp.commons.*;
 import org.jetbrains.annotations.Nullable;
@@ -70,7 +70,7 @@ public final class PropertiesManagerForJava {
     private PropertiesManagerForJava() {
         this.completionHandler = new CompletionHandler(GROUP_NAME);
         this.codeActionHandler = new CodeActionHandler(GROUP_NAME);
-        this.diagnosticsHandler = new DiagnosticsHandler(GROUP_NAME);
+        this.diagnosticsHandler = new DiagnosticsHandler(GROUP_NAME, "microprofile/java/diagnostics");
     }
 
     /**
@@ -83,7 +83,22 @@ public final class PropertiesManagerForJava {
      *         and null otherwise.
      */
     public JavaFileInfo fileInfo(MicroProfileJavaFileInfoParams params, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<JavaFileInfo>) () -> {
+        return fileInfo(params, utils, null);
+    }
+
+    /**
+     * Returns the Java file information (ex : package name) from the given file URI
+     * and null otherwise.
+     *
+     * @param params  the file information parameters.
+     * @param utils   the utilities class
+     * @param monitor the progress monitor of the file information request, or null
+     * @return the Java file information (ex : package name) from the given file URI
+     *         and null otherwise.
+     */
+    public JavaFileInfo fileInfo(MicroProfileJavaFileInfoParams params, IPsiUtils utils,
+                                 @Nullable ProgressIndicator monitor) {
+        return ReadActionUtils.computeCancellable(utils.getProject(), monitor, () -> {
             String uri = params.getUri();
             final PsiFile unit = utils.resolveCompilationUnit(uri);
             if (unit != null && unit.isValid() && unit instanceof PsiJavaFile) {
@@ -101,10 +116,11 @@ public final class PropertiesManagerForJava {
      *
      * @param params  the codelens parameters
      * @param utils   the utilities class
+     * @param monitor the progress monitor of the codelens request
      * @return the codelens list according the given codelens parameters.
      */
     public List<? extends CodeLens> codeLens(MicroProfileJavaCodeLensParams params, IPsiUtils utils,  ProgressIndicator monitor) {
-        return ApplicationManager.getApplication().runReadAction((Computable<List<? extends CodeLens>>) () -> {
+        return ReadActionUtils.computeCancellable(utils.getProject(), monitor, () -> {
             String uri = params.getUri();
             PsiFile typeRoot = resolveTypeRoot(uri, utils);
             if (typeRoot == null) {
@@ -136,6 +152,7 @@ public final class PropertiesManagerForJava {
             // Begin, collect, end participants
             definitions.forEach(definition -> definition.beginCodeLens(context, monitor));
             definitions.forEach(definition -> {
+                ReadActionUtils.checkCanceled(monitor);
                 List<CodeLens> collectedLenses = definition.collectCodeLens(context, monitor);
                 if (collectedLenses != null && !collectedLenses.isEmpty()) {
                     lenses.addAll(collectedLenses);
@@ -166,7 +183,20 @@ public final class PropertiesManagerForJava {
      * @return the definition list according the given definition parameters.
      */
     public List<MicroProfileDefinition> definition(MicroProfileJavaDefinitionParams params, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<List<MicroProfileDefinition>>)() -> {
+        return definition(params, utils, null);
+    }
+
+    /**
+     * Returns the definition list according the given definition parameters.
+     *
+     * @param params  the definition parameters
+     * @param utils   the utilities class
+     * @param monitor the progress monitor of the definition request, or null
+     * @return the definition list according the given definition parameters.
+     */
+    public List<MicroProfileDefinition> definition(MicroProfileJavaDefinitionParams params, IPsiUtils utils,
+                                                   @Nullable ProgressIndicator monitor) {
+        return ReadActionUtils.computeCancellable(utils.getProject(), monitor, () -> {
             String uri = params.getUri();
             PsiFile typeRoot = resolveTypeRoot(uri, utils);
             if (typeRoot == null) {
@@ -179,13 +209,14 @@ public final class PropertiesManagerForJava {
             PsiElement hyperlinkedElement = getHoveredElement(typeRoot, definitionOffset);
 
             List<MicroProfileDefinition> locations = new ArrayList<>();
-            collectDefinition(uri, typeRoot, hyperlinkedElement, utils, hyperlinkedPosition, locations);
+            collectDefinition(uri, typeRoot, hyperlinkedElement, utils, hyperlinkedPosition, locations, monitor);
             return locations;
         });
     }
 
     private void collectDefinition(String uri, PsiFile typeRoot, PsiElement hyperlinkedElement, IPsiUtils utils,
-                                   Position hyperlinkedPosition, List<MicroProfileDefinition> locations) {
+                                   Position hyperlinkedPosition, List<MicroProfileDefinition> locations,
+                                   @Nullable ProgressIndicator monitor) {
         VirtualFile file = null;
         try {
             file = utils.findFile(uri);
@@ -206,6 +237,7 @@ public final class PropertiesManagerForJava {
                     // Begin, collect, end participants
                     definitions.forEach(definition -> definition.beginDefinition(context));
                     definitions.forEach(definition -> {
+                        ReadActionUtils.checkCanceled(monitor);
                         List<MicroProfileDefinition> collectedDefinitions = definition.collectDefinitions(context);
                         if (collectedDefinitions != null && !collectedDefinitions.isEmpty()) {
                             locations.addAll(collectedDefinitions);
@@ -228,7 +260,20 @@ public final class PropertiesManagerForJava {
      * @return diagnostics for the given uris list.
      */
     public List<PublishDiagnosticsParams> diagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils) {
-        return diagnosticsHandler.collectDiagnostics(params, utils);
+        return diagnostics(params, utils, null);
+    }
+
+    /**
+     * Returns diagnostics for the given uris list.
+     *
+     * @param params  the diagnostics parameters
+     * @param utils   the utilities class
+     * @param monitor the progress monitor of the diagnostics request, or null
+     * @return diagnostics for the given uris list.
+     */
+    public List<PublishDiagnosticsParams> diagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils,
+                                                      @Nullable ProgressIndicator monitor) {
+        return diagnosticsHandler.collectDiagnostics(params, utils, monitor);
     }
 
     /**
@@ -239,7 +284,19 @@ public final class PropertiesManagerForJava {
      * @return the hover information according to the given <code>params</code>
      */
     public Hover hover(MicroProfileJavaHoverParams params, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<Hover>) () -> {
+        return hover(params, utils, null);
+    }
+
+    /**
+     * Returns the hover information according to the given <code>params</code>
+     *
+     * @param params  the hover parameters
+     * @param utils   the utilities class
+     * @param monitor the progress monitor of the hover request, or null
+     * @return the hover information according to the given <code>params</code>
+     */
+    public Hover hover(MicroProfileJavaHoverParams params, IPsiUtils utils, @Nullable ProgressIndicator monitor) {
+        return ReadActionUtils.computeCancellable(utils.getProject(), monitor, () -> {
             String uri = params.getUri();
             PsiFile typeRoot = resolveTypeRoot(uri, utils);
             if (typeRoot == null) {
@@ -258,15 +315,57 @@ public final class PropertiesManagerForJava {
             boolean surroundEqualsWithSpaces = params.isSurroundEqualsWithSpaces();
             List<Hover> hovers = new ArrayList<>();
             collectHover(uri, typeRoot, hoverElement, utils, hoverPosition, documentFormat, surroundEqualsWithSpaces,
-                    hovers);
-            if (hovers.isEmpty()) {
-                return null;
-            }
-            // TODO : aggregate the hover
-            return hovers.get(0);
+                    hovers, monitor);
+            return mergeHovers(hovers, documentFormat);
         });
     }
 
+    /**
+     * Returns the hover which merges the contents of the given hovers, separated by a horizontal rule in Markdown,
+     * and null if the list is empty.
+     *
+     * @param hovers         the hovers of the participants
+     * @param documentFormat the document format
+     * @return the merged hover and null if the list is empty
+     */
+    private static @Nullable Hover mergeHovers(List<Hover> hovers, DocumentFormat documentFormat) {
+        if (hovers.isEmpty()) {
+            return null;
+        }
+        if (hovers.size() == 1) {
+            return hovers.get(0);
+        }
+        boolean markdown = DocumentFormat.Markdown.equals(documentFormat);
+        StringBuilder content = new StringBuilder();
+        Range range = null;
+        for (Hover hover : hovers) {
+            String value = getHoverContent(hover);
+            if (value.isEmpty()) {
+                continue;
+            }
+            if (!content.isEmpty()) {
+                content.append(markdown ? "\n\n---\n\n" : "\n\n");
+            }
+            content.append(value);
+            if (range == null) {
+                range = hover.getRange();
+            }
+        }
+        return new Hover(new MarkupContent(markdown ? MarkupKind.MARKDOWN : MarkupKind.PLAINTEXT, content.toString()), range);
+    }
+
+    private static String getHoverContent(Hover hover) {
+        if (hover.getContents() == null) {
+            return "";
+        }
+        if (hover.getContents().isRight()) {
+            return hover.getContents().getRight().getValue();
+        }
+        return hover.getContents().getLeft().stream()
+                .map(content -> content.isLeft() ? content.getLeft() : content.getRight().getValue())
+                .collect(Collectors.joining("\n\n"));
+    }
+
     /**
      * Returns the cursor context for the given file and cursor position.
      *
@@ -321,7 +420,7 @@ public final class PropertiesManagerForJava {
 
     private void collectHover(String uri, PsiFile typeRoot, PsiElement hoverElement, IPsiUtils utils,
                               Position hoverPosition, DocumentFormat documentFormat, boolean surroundEqualsWithSpaces,
-                              List<Hover> hovers) {
+                              List<Hover> hovers, @Nullable ProgressIndicator monitor) {
         try {
             VirtualFile file = utils.findFile(uri);
             if (file != null) {
@@ -339,6 +438,7 @@ public final class PropertiesManagerForJava {
                     // Begin, collect, end participants
                     definitions.forEach(definition -> definition.beginHover(context));
                     definitions.forEach(definition -> {
+                        ReadActionUtils.checkCanceled(monitor);
                         Hover hover = definition.collectHover(context);
                         if (hover != null) {
                             hovers.add(hover);
@@ -373,7 +473,20 @@ public final class PropertiesManagerForJava {
      * @return the codeAction list according the given codeAction parameters.
      */
     public List<? extends CodeAction> codeAction(MicroProfileJavaCodeActionParams params, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<List<? extends CodeAction>>) () -> {
+        return codeAction(params, utils, null);
+    }
+
+    /**
+     * Returns the codeAction list according the given codeAction parameters.
+     *
+     * @param params  the codeAction parameters
+     * @param utils   the utilities class
+     * @param monitor the progress monitor of the codeAction request, or null
+     * @return the codeAction list according the given codeAction parameters.
+     */
+    public List<? extends CodeAction> codeAction(MicroProfileJavaCodeActionParams params, IPsiUtils utils,
+                                                 @Nullable ProgressIndicator monitor) {
+        return ReadActionUtils.computeCancellable(utils.getProject(), monitor, () -> {
             return codeActionHandler.codeAction(params, utils);
         });
     }
@@ -386,7 +499,19 @@ public final class PropertiesManagerForJava {
      * @return the codeAction list according the given codeAction parameters.
      */
     public CodeAction resolveCodeAction(CodeAction unresolved, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<CodeAction>) () -> {
+        return resolveCodeAction(unresolved, utils, null);
+    }
+
+    /**
+     * Returns the codeAction list according the given codeAction parameters.
+     *
+     * @param unresolved the CodeAction to resolve
+     * @param utils      the utilities class
+     * @param monitor    the progress monitor of the resolve request, or null
+     * @return the codeAction list according the given codeAction parameters.
+     */
+    public CodeAction resolveCodeAction(CodeAction unresolved, IPsiUtils utils, @Nullable ProgressIndicator monitor) {
+        return ReadActionUtils.computeCancellable(utils.getProject(), monitor, () -> {
             return codeActionHandler.resolveCodeAction(unresolved, utils);
         });
     }
@@ -411,7 +536,7 @@ public final class PropertiesManagerForJava {
     private static @Nullable Module getModule(String uri, IPsiUtils utils) {
         Module[] modules = ModuleManager.getInstance(utils.getProject()).getModules();
         for (Module module : modules) {
-            if (uri.equals(module.getName())) {
+            if (uri.equals(module.getName()) || uri.equals(PsiUtilsLSImpl.getProjectURI(module))) {
                 return module;
             }
         }
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2020 Red Hat Inc. and others.
+* Copyright (c) 2020, 2026 Red Hat Inc. and others.
 * All rights reserved. This program and the accompanying materials
 * which accompanies this distribution, and is available at
 * https://www.eclipse.org/legal/epl-v20.html
@@ -11,8 +11,8 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.psi.PsiFile;
@@ -34,7 +34,8 @@ public abstract class AbstractJavaContext {
 	private final IPsiUtils utils;
 	private final Module module;
 
-	private Map<String, Object> cache;
+	// The participants of a context can be called from several threads
+	private final Map<String, Object> cache = new ConcurrentHashMap<>();
 
 	public AbstractJavaContext(String uri, PsiFile typeRoot, IPsiUtils utils, Module module) {
 		this.uri = uri;
@@ -67,10 +68,11 @@ public abstract class AbstractJavaContext {
 	 * @param value the value.
 	 */
 	public void put(String key, Object value) {
-		if (cache == null) {
-			cache = new HashMap<>();
+		if (value == null) {
+			cache.remove(key);
+		} else {
+			cache.put(key, value);
 		}
-		cache.put(key, value);
 	}
 
 	/**
@@ -82,9 +84,6 @@ public abstract class AbstractJavaContext {
 	 *         this map contains no mapping for the key.
 	 */
 	public Object get(String key) {
-		if (cache == null) {
-			return null;
-		}
 		return cache.get(key);
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 Red Hat Inc. and others.
+ * Copyright (c) 2020, 2026 Red Hat Inc. and others.
  * All rights reserved. This program and the accompanying materials
  * which accompanies this distribution, and is available at
  * https://www.eclipse.org/legal/epl-v20.html
@@ -12,80 +12,265 @@
 
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
 
+import com.intellij.concurrency.SensitiveProgressWrapper;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.module.Module;
-import com.intellij.openapi.util.Computable;
-import com.intellij.openapi.util.ThrowableComputable;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
+import com.intellij.openapi.util.registry.Registry;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.ReadActionUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.corrections.JavaDiagnosticsDefinition;
+import io.openliberty.tools.intellij.metrics.LanguageServerMetrics;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+/**
+ * Collects the Java diagnostics of a group of participants for a list of URIs.
+ *
+ * <p>
+ * The files are resolved, and the participants begin, collect and end their diagnostics in one cancellable read
+ * action, so that the PSI of the diagnostics contexts stays valid during the request and the side effects of
+ * {@link JavaDiagnosticsDefinition#beginDiagnostics} are never run again by a restarted read action. The participants
+ * collect their diagnostics on a shared bounded pool of threads, each task in a read action which is cancelled (and
+ * not restarted) by a pending write action. The maximum parallelism of a request is configured with the
+ * {@link #PARALLELISM_REGISTRY_KEY} registry key (1 collects the diagnostics sequentially in the calling thread).
+ * Whatever the parallelism, the diagnostics are merged in the order of the URIs and of the participants.
+ * </p>
+ * <p>
+ * The tasks are cancelled with the progress monitor of the diagnostics request, which is checked between each file
+ * and each participant, so that a cancelled or superseded request stops and releases the read lock.
+ * </p>
+ * <p>
+ * The compute time and the number of diagnostics of each participant are recorded in {@link LanguageServerMetrics}
+ * under the method of the diagnostics request.
+ * </p>
+ */
 public final class DiagnosticsHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DiagnosticsHandler.class);
 
+    /**
+     * Registry key of the maximum number of threads used to collect the Java diagnostics.
+     */
+    public static final String PARALLELISM_REGISTRY_KEY = "liberty.java.diagnostics.parallelism";
+
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    private static final ExecutorService EXECUTOR = AppExecutorUtil.createBoundedApplicationPoolExecutor(
+            "Liberty Java Diagnostics", Math.max(DEFAULT_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+
     private final String group;
 
-    public DiagnosticsHandler(String group) {
+    private final String requestMethod;
+
+    public DiagnosticsHandler(String group, String requestMethod) {
         this.group = group;
+        this.requestMethod = requestMethod;
     }
 
-    public List<PublishDiagnosticsParams> collectDiagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils) {
+    /**
+     * Returns the diagnostics of the given URIs.
+     *
+     * @param params  the diagnostics parameters
+     * @param utils   the utilities class
+     * @param monitor the progress monitor of the diagnostics request, or null to use the progress indicator of the
+     *                current thread
+     * @return the diagnostics of the given URIs.
+     */
+    public List<PublishDiagnosticsParams> collectDiagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils,
+                                                             @Nullable ProgressIndicator monitor) {
         List<String> uris = params.getUris();
         if (uris == null) {
             return Collections.emptyList();
         }
-        DocumentFormat documentFormat = params.getDocumentFormat();
-        List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<>();
+        ProgressIndicator requestMonitor = monitor != null ? monitor : ProgressManager.getInstance().getProgressIndicator();
+        return ReadActionUtils.computeCancellable(utils.getProject(), requestMonitor, () ->
+                collectDiagnostics(uris, params.getDocumentFormat(), params.getSettings(), utils, requestMonitor));
+    }
+
+    private List<PublishDiagnosticsParams> collectDiagnostics(List<String> uris, DocumentFormat documentFormat,
+                                                              MicroProfileJavaDiagnosticsSettings settings,
+                                                              IPsiUtils utils, @Nullable ProgressIndicator monitor) {
+        // Resolve the files and begin the diagnostics of the adapted participants
+        List<FileDiagnostics> files = new ArrayList<>(uris.size());
         for (String uri : uris) {
+            ReadActionUtils.checkCanceled(monitor);
+            files.add(beginDiagnostics(uri, utils, documentFormat, settings));
+        }
+
+        // Collect the diagnostics for each file and each participant
+        List<Callable<List<Diagnostic>>> collectTasks = new ArrayList<>();
+        for (FileDiagnostics file : files) {
+            if (file != null) {
+                for (JavaDiagnosticsDefinition definition : file.definitions()) {
+                    collectTasks.add(() -> collectDiagnostics(definition, file.context()));
+                }
+            }
+        }
+        List<List<Diagnostic>> collectedDiagnostics = invokeAll(collectTasks, getParallelism(collectTasks.size()), monitor);
+
+        // End the diagnostics of the participants
+        for (FileDiagnostics file : files) {
+            if (file != null) {
+                file.definitions().forEach(definition -> definition.endDiagnostics(file.context()));
+            }
+        }
+
+        // Merge the diagnostics in the order of the URIs and of the participants
+        List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<>(uris.size());
+        Iterator<List<Diagnostic>> results = collectedDiagnostics.iterator();
+        for (int i = 0; i < uris.size(); i++) {
             List<Diagnostic> diagnostics = new ArrayList<>();
-            PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
-            publishDiagnostics.add(publishDiagnostic);
-            collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics);
+            FileDiagnostics file = files.get(i);
+            if (file != null) {
+                for (int j = 0; j < file.definitions().size(); j++) {
+                    List<Diagnostic> definitionDiagnostics = results.next();
+                    if (definitionDiagnostics != null && !definitionDiagnostics.isEmpty()) {
+                        diagnostics.addAll(definitionDiagnostics);
+                    }
+                }
+            }
+            publishDiagnostics.add(new PublishDiagnosticsParams(uris.get(i), diagnostics));
         }
         return publishDiagnostics;
     }
 
-    private void collectDiagnostics(String uri, IPsiUtils utils, DocumentFormat documentFormat,
-                                    MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics) {
-        PsiFile typeRoot = ApplicationManager.getApplication().runReadAction((Computable<PsiFile>) () -> resolveTypeRoot(uri, utils));
+    private FileDiagnostics beginDiagnostics(String uri, IPsiUtils utils, DocumentFormat documentFormat,
+                                             MicroProfileJavaDiagnosticsSettings settings) {
+        PsiFile typeRoot = resolveTypeRoot(uri, utils);
         if (typeRoot == null) {
-            return;
+            return null;
         }
-
         try {
-            Module module = ApplicationManager.getApplication().runReadAction((ThrowableComputable<Module, IOException>) () -> utils.getModule(uri));
-            // Collect all adapted diagnostic definitions
+            Module module = utils.getModule(uri);
             JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, module, documentFormat, settings);
+            // Collect all adapted diagnostic definitions
             List<JavaDiagnosticsDefinition> definitions = JavaDiagnosticsDefinition.EP_NAME.getExtensionList()
                     .stream()
                     .filter(definition -> group.equals(definition.getGroup()))
                     .filter(definition -> definition.isAdaptedForDiagnostics(context))
                     .toList();
-
-            // Begin, collect, end participants
             definitions.forEach(definition -> definition.beginDiagnostics(context));
-            definitions.forEach(definition -> {
-                List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(context);
-                if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
-                    diagnostics.addAll(collectedDiagnostics);
-                }
-            });
-            definitions.forEach(definition -> definition.endDiagnostics(context));
+            return new FileDiagnostics(context, definitions);
         } catch (IOException e) {
             LOGGER.warn(e.getLocalizedMessage(), e);
+            return null;
+        }
+    }
+
+    private List<Diagnostic> collectDiagnostics(JavaDiagnosticsDefinition definition, JavaDiagnosticsContext context) {
+        String participant = StringUtil.getShortName(definition.implementationClass);
+        long start = System.nanoTime();
+        try {
+            List<Diagnostic> diagnostics = definition.collectDiagnostics(context);
+            LanguageServerMetrics.getInstance().recordParticipant(requestMethod, participant, System.nanoTime() - start,
+                    diagnostics.size());
+            return diagnostics;
+        } catch (ProcessCanceledException e) {
+            //Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
+            //TODO delete block when minimum required version is 2024.2
+            LanguageServerMetrics.getInstance().recordParticipantCancelled(requestMethod, participant);
+            throw e;
+        } catch (CancellationException e) {
+            LanguageServerMetrics.getInstance().recordParticipantCancelled(requestMethod, participant);
+            throw e;
+        }
+    }
+
+    private static int getParallelism(int taskCount) {
+        if (ApplicationManager.getApplication().isDispatchThread()) {
+            // Never block the EDT while waiting for the pooled threads
+            return 1;
+        }
+        return Math.max(1, Math.min(taskCount, Registry.intValue(PARALLELISM_REGISTRY_KEY, DEFAULT_PARALLELISM)));
+    }
+
+    /**
+     * Executes the given tasks and returns their results in the order of the tasks.
+     *
+     * <p>
+     * The calling thread holds the read lock of the request, so the PSI doesn't change while the tasks are executed.
+     * When the parallelism is greater than 1, the given number of workers of the shared pool execute the tasks, each
+     * task in a read action which gives the priority to the write actions: a pending write action cancels the task
+     * instead of restarting it, and the whole request is cancelled.
+     * </p>
+     */
+    private static <T> List<T> invokeAll(List<Callable<T>> tasks, int parallelism, @Nullable ProgressIndicator monitor) {
+        if (parallelism <= 1 || tasks.size() <= 1) {
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                ReadActionUtils.checkCanceled(monitor);
+                results.add(call(task));
+            }
+            return results;
+        }
+        ReadActionUtils.checkCanceled(monitor);
+        // Cancelled when the request is cancelled, or when a task fails, to stop the other workers
+        ProgressIndicator requestIndicator = monitor != null ? new SensitiveProgressWrapper(monitor) : new EmptyProgressIndicator();
+        AtomicReferenceArray<T> results = new AtomicReferenceArray<>(tasks.size());
+        AtomicInteger nextTask = new AtomicInteger();
+        Runnable worker = () -> {
+            for (int i = nextTask.getAndIncrement(); i < tasks.size(); i = nextTask.getAndIncrement()) {
+                int index = i;
+                boolean executed = ProgressIndicatorUtils.runInReadActionWithWriteActionPriority(
+                        () -> results.set(index, call(tasks.get(index))), new SensitiveProgressWrapper(requestIndicator));
+                if (!executed) {
+                    throw new ProcessCanceledException();
+                }
+            }
+        };
+        List<Future<?>> workers = new ArrayList<>(parallelism);
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                workers.add(EXECUTOR.submit(worker));
+            }
+            for (Future<?> future : workers) {
+                ReadActionUtils.checkCanceled(monitor);
+                ProgressIndicatorUtils.awaitWithCheckCanceled(future);
+            }
+        } finally {
+            // Stop the remaining tasks when the request has been cancelled or a task has failed
+            requestIndicator.cancel();
+        }
+        List<T> list = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            list.add(results.get(i));
+        }
+        return list;
+    }
+
+    private static <T> T call(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
         }
     }
 
@@ -93,4 +278,7 @@ public final class DiagnosticsHandler {
     private static PsiFile resolveTypeRoot(String uri, IPsiUtils utils) {
         return utils.resolveCompilationUnit(uri);
     }
+
+    private record FileDiagnostics(JavaDiagnosticsContext context, List<JavaDiagnosticsDefinition> definitions) {
+    }
 }
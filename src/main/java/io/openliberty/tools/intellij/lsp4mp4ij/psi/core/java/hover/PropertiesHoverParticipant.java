@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2020 Red Hat Inc. and others.
+* Copyright (c) 2020, 2026 Red Hat Inc. and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,18 +13,26 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.hover;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.ModificationTracker;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiParameter;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.MicroProfileConfigPropertyInformation;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
@@ -51,12 +59,17 @@ import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationU
  */
 public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 
+	// Hover documentation cached on the annotation until its file or the config sources of its project change
+	private static final Key<CachedValue<Map<HoverKey, MarkupContent>>> HOVER_CACHE_KEY = Key.create(PropertiesHoverParticipant.class.getName());
+
 	private final String annotationName;
 
 	private final String defaultValueAnnotationMemberName;
 
 	private final String[] annotationMembers;
 
+	private final Pattern[] annotationMemberPatterns;
+
 	private Function<String, String> propertyReplacer;
 
 	public PropertiesHoverParticipant(String annotationName, String annotationMemberName) {
@@ -95,6 +108,10 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 									  String defaultValueAnnotationMemberName) {
 		this.annotationName = annotationName;
 		this.annotationMembers = annotationMembers;
+		this.annotationMemberPatterns = Arrays.stream(annotationMembers)
+				.map(annotationMemberName -> Pattern.compile(".*[^\"]\\s*(" + annotationMemberName + ")\\s*=.*",
+						Pattern.DOTALL))
+				.toArray(Pattern[]::new);
 		this.defaultValueAnnotationMemberName = defaultValueAnnotationMemberName;
 	}
 
@@ -146,13 +163,11 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 		String propertyKey = null;
 		Range propertyKeyRange = null;
 		boolean found = false;
-		for (String annotationMemberName : annotationMembers) {
-			propertyKey = getAnnotationMemberValue(annotation, annotationMemberName);
+		for (int i = 0; i < annotationMembers.length; i++) {
+			propertyKey = getAnnotationMemberValue(annotation, annotationMembers[i]);
 			if (propertyKey != null) {
 				TextRange r = annotation.getTextRange();
-				Pattern memberPattern = Pattern.compile(".*[^\"]\\s*(" + annotationMemberName + ")\\s*=.*",
-						Pattern.DOTALL);
-				Matcher match = memberPattern.matcher(annotationSource);
+				Matcher match = annotationMemberPatterns[i].matcher(annotationSource);
 				if (match.matches()) {
 					int offset = annotationSource.indexOf(propertyKey);
 					propertyKeyRange = utils.toRange(typeRoot, r.getStartOffset() + offset, propertyKey.length());
@@ -191,12 +206,21 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 
 		PsiMicroProfileProject mpProject = PsiMicroProfileProjectManager.getInstance(javaProject.getProject())
 				.getMicroProfileProject(javaProject);
-		List<MicroProfileConfigPropertyInformation> propertyInformation = getConfigPropertyInformation(propertyKey,
-				annotation,
+		HoverKey key = new HoverKey(annotationName, propertyKey,
 				defaultAnnotationValue == null? defaultValue : defaultAnnotationValue,
-				typeRoot, mpProject, utils);
-		return new Hover(getDocumentation(propertyInformation, context.getDocumentFormat(),
-				context.isSurroundEqualsWithSpaces()), propertyKeyRange);
+				context.getDocumentFormat(), context.isSurroundEqualsWithSpaces());
+		MarkupContent documentation = getHoverCache(annotation, mpProject).computeIfAbsent(key, k -> {
+			List<MicroProfileConfigPropertyInformation> propertyInformation = getConfigPropertyInformation(k.propertyKey(),
+					annotation, k.defaultValue(), typeRoot, mpProject, utils);
+			return getDocumentation(propertyInformation, k.documentFormat(), k.insertSpacing());
+		});
+		return new Hover(documentation, propertyKeyRange);
+	}
+
+	private static Map<HoverKey, MarkupContent> getHoverCache(PsiAnnotation annotation, PsiMicroProfileProject mpProject) {
+		return CachedValuesManager.getCachedValue(annotation, HOVER_CACHE_KEY,
+				() -> CachedValueProvider.Result.create(new ConcurrentHashMap<>(), annotation.getContainingFile(),
+						(ModificationTracker) mpProject::getConfigSourcesModificationStamp));
 	}
 
 	/**
@@ -321,4 +345,8 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 			}
 		}
 	}
+
+	private record HoverKey(String annotationName, String propertyKey, String defaultValue,
+							DocumentFormat documentFormat, boolean insertSpacing) {
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Red Hat, Inc.
+ * Copyright (c) 2022, 2026 Red Hat, Inc.
  * Distributed under license by Red Hat, Inc. All rights reserved.
  * This program is made available under the terms of the
  * Eclipse Public License v2.0 which accompanies this distribution,
@@ -16,11 +16,18 @@ import com.intellij.openapi.extensions.PluginDescriptor;
 import com.intellij.util.xmlb.annotations.Attribute;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Supplier;
 
 public class JavaASTValidatorExtensionPointBean implements PluginAware {
     private PluginDescriptor pluginDescriptor;
 
+    private volatile Supplier<? extends JavaASTValidator> validatorFactory;
+
     @Attribute
     public String implementation;
 
@@ -29,7 +36,39 @@ public class JavaASTValidatorExtensionPointBean implements PluginAware {
         this.pluginDescriptor = pluginDescriptor;
     }
 
-    public JavaASTValidator createValidator() throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        return (JavaASTValidator) pluginDescriptor.getPluginClassLoader().loadClass(implementation).getConstructor(new Class[0]).newInstance(new Object[0]);
+    /**
+     * Returns a new instance of the validator. Validators hold the state of a validation, so each validation needs its
+     * own instance, but the factory of the validator is created once per bean: it calls the constructor directly
+     * instead of through reflection.
+     *
+     * @return a new instance of the validator.
+     */
+    public JavaASTValidator createValidator() throws ReflectiveOperationException {
+        Supplier<? extends JavaASTValidator> factory = validatorFactory;
+        if (factory == null) {
+            factory = createValidatorFactory(pluginDescriptor.getPluginClassLoader().loadClass(implementation)
+                    .asSubclass(JavaASTValidator.class));
+            validatorFactory = factory;
+        }
+        return factory.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<? extends JavaASTValidator> createValidatorFactory(Class<? extends JavaASTValidator> validatorClass)
+            throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(validatorClass, MethodHandles.lookup());
+        MethodHandle constructor = lookup.findConstructor(validatorClass, MethodType.methodType(void.class));
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class), constructor, MethodType.methodType(validatorClass));
+            return (Supplier<? extends JavaASTValidator>) site.getTarget().invoke();
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            InstantiationException exception = new InstantiationException(
+                    "Unable to create the factory of " + validatorClass.getName());
+            exception.initCause(e);
+            throw exception;
+        }
     }
 }
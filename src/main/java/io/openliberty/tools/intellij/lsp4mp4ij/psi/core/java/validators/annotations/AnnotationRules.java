@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations;
+
+import com.intellij.psi.PsiAnnotation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of annotation rules by annotation name.
+ *
+ * <p>
+ * A rule is indexed by each suffix of the qualified name of its annotation, so
+ * that the rules of an annotation are the ones whose annotation name ends with
+ * the qualified name of the annotation, in the order of registration. This is
+ * the matching of
+ * {@link io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils#isMatchAnnotation(PsiAnnotation, String)},
+ * which also matches the annotations that cannot be resolved and whose
+ * qualified name is the name written in the source.
+ * </p>
+ */
+public final class AnnotationRules {
+
+	private final Collection<AnnotationRule> rules;
+
+	private final Map<String /* suffix of the annotation name */, List<AnnotationRule>> rulesByName;
+
+	public AnnotationRules(Collection<AnnotationRule> rules) {
+		this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+		Map<String, List<AnnotationRule>> rulesByName = new HashMap<>();
+		for (AnnotationRule rule : this.rules) {
+			String annotation = rule.getAnnotation();
+			for (int index = 0; index < annotation.length(); index++) {
+				rulesByName.computeIfAbsent(annotation.substring(index), k -> new ArrayList<>()).add(rule);
+			}
+		}
+		this.rulesByName = rulesByName;
+	}
+
+	/**
+	 * Returns all the annotation rules.
+	 *
+	 * @return all the annotation rules.
+	 */
+	public Collection<AnnotationRule> getRules() {
+		return rules;
+	}
+
+	/**
+	 * Returns the rules which match the given annotation.
+	 *
+	 * @param annotation the annotation.
+	 * @return the rules which match the given annotation.
+	 */
+	public List<AnnotationRule> getRules(PsiAnnotation annotation) {
+		String annotationName = annotation.getQualifiedName();
+		if (annotationName == null) {
+			return Collections.emptyList();
+		}
+		return rulesByName.getOrDefault(annotationName, Collections.emptyList());
+	}
+
+	public boolean isEmpty() {
+		return rules.isEmpty();
+	}
+}
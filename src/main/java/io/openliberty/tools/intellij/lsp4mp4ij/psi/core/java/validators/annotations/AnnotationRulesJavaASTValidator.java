@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Red Hat Inc. and others.
+ * Copyright (c) 2021, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -20,6 +20,7 @@ import com.intellij.psi.PsiAnnotationMemberValue;
 import com.intellij.psi.PsiBinaryExpression;
 import com.intellij.psi.PsiLiteral;
 import com.intellij.psi.PsiPrefixExpression;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.validators.JavaASTValidatorRegistry;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
@@ -41,33 +42,39 @@ public class AnnotationRulesJavaASTValidator extends JavaASTValidator {
 
 	private static final Logger LOGGER = Logger.getLogger(AnnotationRulesJavaASTValidator.class.getName());
 
-	private final Collection<AnnotationRule> rules;
+	private final AnnotationRules rules;
 
 	public AnnotationRulesJavaASTValidator(Collection<AnnotationRule> rules) {
+		this(new AnnotationRules(rules));
+	}
+
+	public AnnotationRulesJavaASTValidator(AnnotationRules rules) {
 		this.rules = rules;
 	}
 
 	@Override
 	public void visitAnnotation(PsiAnnotation annotation) {
-		// Loop for rules
-		for (AnnotationRule annotationRule : rules) {
-			if (AnnotationUtils.isMatchAnnotation(annotation, annotationRule.getAnnotation())) {
-				// The AST annotation matches a rule
-				List<AnnotationAttributeRule> attributeRules = annotationRule.getRules();
-				// Validate attributes of the AST annotation
-				for (AnnotationAttributeRule attributeRule : attributeRules) {
+		// Loop for the rules of the annotation
+		for (AnnotationRule annotationRule : rules.getRules(annotation)) {
+			// The AST annotation matches a rule
+			List<AnnotationAttributeRule> attributeRules = annotationRule.getRules();
+			// Validate attributes of the AST annotation
+			for (AnnotationAttributeRule attributeRule : attributeRules) {
 
-					PsiAnnotationMemberValue attributeValueExpr = AnnotationUtils.getAnnotationMemberValueExpression(annotation,
-							attributeRule.getAttribute());
-					if (attributeValueExpr != null) {
-						validateAnnotationAttributeValue(attributeValueExpr, attributeRule);
-					}
+				PsiAnnotationMemberValue attributeValueExpr = AnnotationUtils.getAnnotationMemberValueExpression(annotation,
+						attributeRule.getAttribute());
+				if (attributeValueExpr != null) {
+					validateAnnotationAttributeValue(attributeValueExpr, attributeRule);
 				}
-
 			}
 		}
 	}
 
+	@Override
+	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
+		return !rules.isEmpty();
+	}
+
 	/**
 	 * Validate the given AST attribute value expression
 	 * <code>attributeValueExpr</code> by using the given rule
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2020 Red Hat Inc. and others.
+* Copyright (c) 2020, 2026 Red Hat Inc. and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,13 +15,14 @@ package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.psi.PsiClass;
-import com.intellij.psi.search.searches.AnnotatedElementsSearch;
-import com.intellij.util.Query;
+import com.intellij.psi.PsiModifierListOwner;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codelens.JavaCodeLensContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.index.IndexedAnnotation;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.index.JavaAnnotationsIndex;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Consumer;
 
 import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.getJaxRsApplicationPathValue;
 import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION;
@@ -91,14 +92,16 @@ public class JaxRsContext {
 		if (applicationPathLoaded) {
 			return applicationPath;
 		}
+		String applicationPathAnnotation = JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION;
 		PsiClass applicationPathType = PsiTypeUtils.findType(javaProject,
 				JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION);
 		if (applicationPathType == null) {
+			applicationPathAnnotation = JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION;
 			applicationPathType = PsiTypeUtils.findType(javaProject,
 					JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION);
 		}
 		if (applicationPathType != null) {
-			applicationPath = findApplicationPath(applicationPathType, javaProject);
+			applicationPath = findApplicationPath(applicationPathAnnotation, javaProject);
 		}
 		applicationPathLoaded = true;
 		return applicationPath;
@@ -145,19 +148,23 @@ public class JaxRsContext {
 	}
 
 	/**
-	 * Use the java search engine to search the java project for the location and
+	 * Use the Java annotations index to search the java project for the location and
 	 * value of the @ApplicationPath annotation, or null if not found
 	 *
-	 * @param annotationType the type representing the @ApplicationPath annotation
+	 * @param annotationName the qualified name of the @ApplicationPath annotation
 	 * @param javaProject        the java project the code lens applies to
 	 * @return the value of the @ApplicationPath annotation, or null if not found
 	 */
-	private static String findApplicationPath(PsiClass annotationType, Module javaProject) {
+	private static String findApplicationPath(String annotationName, Module javaProject) {
 		AtomicReference<String> applicationPathRef = new AtomicReference<String>();
 
-		Query<PsiClass> pattern = AnnotatedElementsSearch.searchElements(annotationType, javaProject.getModuleWithDependenciesScope(),
-				PsiClass.class);
-		pattern.forEach((Consumer<? super PsiClass>) match -> collectApplicationPath(match, applicationPathRef));
+		List<PsiModifierListOwner> matches = JavaAnnotationsIndex.getAnnotatedElements(javaProject.getProject(), annotationName,
+				javaProject.getModuleWithDependenciesScope(), annotation -> annotation.target() == IndexedAnnotation.Target.TYPE);
+		for (PsiModifierListOwner match : matches) {
+			if (match instanceof PsiClass type) {
+				collectApplicationPath(type, applicationPathRef);
+			}
+		}
 		return applicationPathRef.get();
 	}
 
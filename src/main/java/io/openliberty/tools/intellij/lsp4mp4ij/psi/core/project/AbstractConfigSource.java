@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2020 Red Hat Inc. and others.
+* Copyright (c) 2020, 2026 Red Hat Inc. and others.
 * All rights reserved. This program and the accompanying materials
 * which accompanies this distribution, and is available at
 * https://www.eclipse.org/legal/epl-v20.html
@@ -11,10 +11,12 @@ package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
 
 import com.intellij.openapi.compiler.CompilerPaths;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.ModuleRootManager;
 import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.PropertiesInterner;
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -154,6 +156,12 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
         return file.equals(sourceConfigFile);
     }
 
+    @Override
+    public long getModificationStamp() {
+        // getConfig() reloads the config file when it has been modified
+        return getConfig() != null ? lastModified : -1L;
+    }
+
     private static String fixURI(String uri) {
         return VfsUtil.toUri(uri).toString();
     }
@@ -214,6 +222,17 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
         return null;
     }
 
+    /**
+     * Returns the canonical instance of the given string for the project of the config source.
+     *
+     * @param value the string
+     * @return the canonical instance of the given string for the project of the config source.
+     */
+    protected String intern(String value) {
+        Project project = javaProject.getProject();
+        return project.isDisposed() ? value : PropertiesInterner.getInstance(project).intern(value);
+    }
+
     private void reset() {
         config = null;
         propertyInformations = null;
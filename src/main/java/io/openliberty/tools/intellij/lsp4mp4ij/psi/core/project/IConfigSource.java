@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2020 Red Hat Inc. and others.
+* Copyright (c) 2020, 2026 Red Hat Inc. and others.
 * All rights reserved. This program and the accompanying materials
 * which accompanies this distribution, and is available at
 * https://www.eclipse.org/legal/epl-v20.html
@@ -62,6 +62,15 @@ public interface IConfigSource {
 
 	boolean isSourceConfigFile(VirtualFile file);
 
+	/**
+	 * Returns the modification stamp of the loaded config file and -1 if the
+	 * config file doesn't exist.
+	 *
+	 * @return the modification stamp of the loaded config file and -1 if the
+	 *         config file doesn't exist.
+	 */
+	long getModificationStamp();
+
 	/**
 	 * Returns a list of all values for properties and different profiles that are
 	 * defined in this config source.
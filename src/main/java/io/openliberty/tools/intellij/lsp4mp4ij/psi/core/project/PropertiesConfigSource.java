@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2020 Red Hat Inc. and others.
+* Copyright (c) 2020, 2026 Red Hat Inc. and others.
 * All rights reserved. This program and the accompanying materials
 * which accompanies this distribution, and is available at
 * https://www.eclipse.org/legal/epl-v20.html
@@ -80,20 +80,22 @@ public class PropertiesConfigSource extends AbstractConfigSource<Properties> {
 	protected Map<String, List<MicroProfileConfigPropertyInformation>> loadPropertyInformations() {
 		Properties config = super.getConfig();
 		Map<String /* property key without profile */, List<MicroProfileConfigPropertyInformation>> propertiesMap = new HashMap<>();
+		String sourceConfigFileURI = getSourceConfigFileURI();
 		config.forEach((key, val) -> {
 			if (key != null) {
-				String propertyKeyWithProfile = key.toString();
-				String propertyValue = val != null ? val.toString() : null;
+				// The property keys and values are shared with the other config sources and the collected properties
+				String propertyKeyWithProfile = intern(key.toString());
+				String propertyValue = val != null ? intern(val.toString()) : null;
 
-				String propertyKey = MicroProfileConfigPropertyInformation
-						.getPropertyNameWithoutProfile(propertyKeyWithProfile);
+				String propertyKey = intern(MicroProfileConfigPropertyInformation
+						.getPropertyNameWithoutProfile(propertyKeyWithProfile));
 				List<MicroProfileConfigPropertyInformation> info = propertiesMap.get(propertyKey);
 				if (info == null) {
 					info = new ArrayList<>();
 					propertiesMap.put(propertyKey, info);
 				}
 				info.add(new MicroProfileConfigPropertyInformation(propertyKeyWithProfile, propertyValue,
-						getSourceConfigFileURI(), getConfigFileName()));
+						sourceConfigFileURI, getConfigFileName()));
 			}
 		});
 		return propertiesMap;
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2020, 2023 Red Hat Inc. and others.
+* Copyright (c) 2020, 2026 Red Hat Inc. and others.
 * All rights reserved. This program and the accompanying materials
 * which accompanies this distribution, and is available at
 * https://www.eclipse.org/legal/epl-v20.html
@@ -16,12 +16,13 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.project.ConfigSourcePropertiesProvider;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.project.MemoizedPropertyValueExpander;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
 import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
-import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -37,7 +38,13 @@ public class PsiMicroProfileProject {
     private List<IConfigSource> configSources;
 
     private transient IConfigSourcePropertiesProvider aggregatedPropertiesProvider = null;
-    private transient PropertyValueExpander propertyValueExpander = null;
+    private final MemoizedPropertyValueExpander propertyValueExpander = new MemoizedPropertyValueExpander(this::getPropertiesProvider);
+
+    // Config sources stamp when the expanded property values were last revalidated
+    private volatile long expandedValuesStamp;
+
+    // Incremented each time the config sources cache is evicted
+    private final AtomicLong configSourcesEvictionCount = new AtomicLong();
 
     public PsiMicroProfileProject(Module javaProject) {
         this.javaProject = javaProject;
@@ -60,16 +67,15 @@ public class PsiMicroProfileProject {
      */
     public String getProperty(String propertyKey, String defaultValue) {
 
-        if (aggregatedPropertiesProvider == null) {
-            aggregatedPropertiesProvider = getAggregatedPropertiesProvider();
-        }
-
-        String unresolved = aggregatedPropertiesProvider.getValue(propertyKey);
+        String unresolved = getPropertiesProvider().getValue(propertyKey);
         if (unresolved == null) {
             return defaultValue;
         } else if (unresolved.contains("${")) {
-            if (propertyValueExpander == null) {
-                propertyValueExpander = new PropertyValueExpander(aggregatedPropertiesProvider);
+            long stamp = getConfigSourcesModificationStamp();
+            if (stamp != expandedValuesStamp) {
+                // Only the values depending on modified properties are expanded again
+                propertyValueExpander.revalidate();
+                expandedValuesStamp = stamp;
             }
             String expandedValue = propertyValueExpander.getValue(propertyKey);
             if (expandedValue == null) {
@@ -81,6 +87,15 @@ public class PsiMicroProfileProject {
         }
     }
 
+    private IConfigSourcePropertiesProvider getPropertiesProvider() {
+        IConfigSourcePropertiesProvider provider = aggregatedPropertiesProvider;
+        if (provider == null) {
+            provider = getAggregatedPropertiesProvider();
+            aggregatedPropertiesProvider = provider;
+        }
+        return provider;
+    }
+
     /**
      * Returns the value of this property or null if it is not defined in this
      * project.
@@ -155,7 +170,7 @@ public class PsiMicroProfileProject {
         // Use a map to override property values
         // eg. if application.yaml defines a value for a property it should override the
         // value defined in application.properties
-        Map<String, MicroProfileConfigPropertyInformation> propertyToInfoMap = new HashMap<>();
+        Map<String, MicroProfileConfigPropertyInformation> propertyToInfoMap = new TreeMap<>();
         // Go backwards so that application.properties replaces
         // microprofile-config.properties, etc.
         List<IConfigSource> configSources = getConfigSources();
@@ -169,10 +184,8 @@ public class PsiMicroProfileProject {
                 }
             }
         }
+        // The tree map sorts the information by property name with profile
         return propertyToInfoMap.values().stream() //
-                .sorted((a, b) -> {
-                    return a.getPropertyNameWithProfile().compareTo(b.getPropertyNameWithProfile());
-                }) //
                 .map(info -> {
                     String resolved = this.getProperty(info.getPropertyNameWithProfile());
                     return new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(), resolved,
@@ -187,6 +200,21 @@ public class PsiMicroProfileProject {
         return configSources;
     }
 
+    /**
+     * Returns a stamp which changes when a config source of this project is added,
+     * removed, reloaded or modified.
+     *
+     * @return a stamp which changes when a config source of this project is
+     * modified.
+     */
+    public long getConfigSourcesModificationStamp() {
+        long stamp = configSourcesEvictionCount.get();
+        for (IConfigSource configSource : getConfigSources()) {
+            stamp = 31 * stamp + configSource.getModificationStamp();
+        }
+        return stamp;
+    }
+
     /**
      * Evict the config sources cache and related cached information as soon as one
      * of properties, yaml file is saved.
@@ -214,8 +242,8 @@ public class PsiMicroProfileProject {
             // The config source file doesn't exist, evict the full cache
             configSources = null;
         }
-        propertyValueExpander = null;
         aggregatedPropertiesProvider = null;
+        configSourcesEvictionCount.incrementAndGet();
     }
 
     private IConfigSource findConfigSource(VirtualFile file) {
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.NonBlockingReadAction;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Read action utilities for the PSI handlers of the language server requests.
+ */
+public final class ReadActionUtils {
+
+    private ReadActionUtils() {
+    }
+
+    /**
+     * Computes the given PSI computation in a read action which is cancelled by the given progress monitor and by a
+     * pending write action, so that typing never waits for the computation.
+     *
+     * <p>
+     * The language server requests are already computed in a non-blocking read action, in this case the computation
+     * is called directly, a pending write action cancels the request which is restarted by LSP4IJ. Otherwise the
+     * computation is run in a non-blocking read action which is restarted after the write action, and which expires
+     * when the project is disposed.
+     * </p>
+     *
+     * @param project     the project
+     * @param monitor     the progress monitor of the language server request, or null to use the progress indicator of
+     *                    the current thread
+     * @param computation the PSI computation
+     * @return the result of the computation.
+     * @throws com.intellij.openapi.progress.ProcessCanceledException if the request has been cancelled
+     */
+    public static <T> T computeCancellable(@NotNull Project project, @Nullable ProgressIndicator monitor,
+                                           @NotNull Callable<T> computation) {
+        if (ApplicationManager.getApplication().isReadAccessAllowed()) {
+            checkCanceled(monitor);
+            return call(computation);
+        }
+        NonBlockingReadAction<T> readAction = ReadAction.nonBlocking(computation)
+                .expireWhen(project::isDisposed);
+        if (monitor != null) {
+            readAction = readAction.wrapProgress(monitor);
+        }
+        return readAction.executeSynchronously();
+    }
+
+    /**
+     * Throws a {@link com.intellij.openapi.progress.ProcessCanceledException} if the given progress monitor or the
+     * progress indicator of the current thread has been cancelled.
+     *
+     * @param monitor the progress monitor of the language server request, or null
+     */
+    public static void checkCanceled(@Nullable ProgressIndicator monitor) {
+        if (monitor != null) {
+            monitor.checkCanceled();
+        }
+        ProgressManager.checkCanceled();
+    }
+
+    private static <T> T call(Callable<T> computation) {
+        try {
+            return computation.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
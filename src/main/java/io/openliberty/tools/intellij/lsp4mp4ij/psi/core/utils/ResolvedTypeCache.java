@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.ClassUtil;
+import com.intellij.psi.util.PsiModificationTracker;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the classes resolved by qualified name in the scope of a module.
+ *
+ * <p>
+ * The classes are searched in the module with its dependencies and libraries, and both the found and the missing
+ * classes are cached.
+ * </p>
+ *
+ * <p>
+ * The found classes are kept as smart pointers until the library roots change, so they survive the edits of the
+ * Java files: a pointer is checked to still point to a class with the same qualified name before it is returned,
+ * which covers deleted, moved and renamed classes. The missing classes are dropped on any change of the Java PSI,
+ * since any edit may declare the class. The misses are still reused by all the lookups of a request, which repeat the
+ * same names for each annotation and each class of a file.
+ * </p>
+ */
+public final class ResolvedTypeCache {
+
+    private static final Key<CachedValue<Map<String, SmartPsiElementPointer<PsiClass>>>> RESOLVED_TYPES_KEY =
+            Key.create("liberty.resolvedTypes");
+
+    private static final Key<CachedValue<Set<String>>> MISSING_TYPES_KEY = Key.create("liberty.missingTypes");
+
+    private ResolvedTypeCache() {
+    }
+
+    /**
+     * Returns the class with the given qualified name visible from the given module and null otherwise.
+     *
+     * @param module    the module.
+     * @param className the qualified name of the class.
+     * @return the class with the given qualified name visible from the given module and null otherwise.
+     */
+    public static @Nullable PsiClass findClass(@NotNull Module module, @NotNull String className) {
+        Map<String, SmartPsiElementPointer<PsiClass>> resolvedTypes = getResolvedTypes(module);
+        SmartPsiElementPointer<PsiClass> resolvedType = resolvedTypes.get(className);
+        if (resolvedType != null) {
+            PsiClass type = resolvedType.getElement();
+            if (type != null && className.equals(type.getQualifiedName())) {
+                return type;
+            }
+            resolvedTypes.remove(className, resolvedType);
+        }
+        Set<String> missingTypes = getMissingTypes(module);
+        if (missingTypes.contains(className)) {
+            return null;
+        }
+        PsiClass type = ClassUtil.findPsiClass(PsiManager.getInstance(module.getProject()), className, null, false,
+                module.getModuleWithDependenciesAndLibrariesScope(true));
+        if (type != null) {
+            resolvedTypes.put(className, SmartPointerManager.createPointer(type));
+        } else {
+            missingTypes.add(className);
+        }
+        return type;
+    }
+
+    /**
+     * Returns the class with the given qualified name visible from the module of the given element and null
+     * otherwise.
+     *
+     * <p>
+     * The class is searched in the whole project when the element doesn't belong to a module, for instance when it
+     * comes from a library.
+     * </p>
+     *
+     * @param context   the element from which the class is searched.
+     * @param className the qualified name of the class.
+     * @return the class with the given qualified name visible from the module of the given element and null
+     * otherwise.
+     */
+    public static @Nullable PsiClass findClass(@NotNull PsiElement context, @NotNull String className) {
+        Module module = ModuleUtilCore.findModuleForPsiElement(context);
+        if (module != null) {
+            return findClass(module, className);
+        }
+        Project project = context.getProject();
+        return ClassUtil.findPsiClass(PsiManager.getInstance(project), className, null, false,
+                GlobalSearchScope.allScope(project));
+    }
+
+    /**
+     * Returns true if the class with the given qualified name is cached as found in the given module.
+     */
+    @TestOnly
+    static boolean isResolved(@NotNull Module module, @NotNull String className) {
+        return getResolvedTypes(module).containsKey(className);
+    }
+
+    private static Map<String, SmartPsiElementPointer<PsiClass>> getResolvedTypes(Module module) {
+        Project project = module.getProject();
+        return CachedValuesManager.getManager(project).getCachedValue(module, RESOLVED_TYPES_KEY,
+                () -> CachedValueProvider.Result.create(new ConcurrentHashMap<>(),
+                        ProjectRootModificationTracker.getInstance(project)),
+                false);
+    }
+
+    private static Set<String> getMissingTypes(Module module) {
+        Project project = module.getProject();
+        return CachedValuesManager.getManager(project).getCachedValue(module, MISSING_TYPES_KEY,
+                () -> CachedValueProvider.Result.create(ConcurrentHashMap.newKeySet(),
+                        PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE),
+                        ProjectRootModificationTracker.getInstance(project)),
+                false);
+    }
+}
@@ -0,0 +1,322 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.intellij.ide.plugins.IdeaPluginDescriptor;
+import com.intellij.ide.plugins.PluginManagerCore;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.extensions.PluginId;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.JarFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.EnumTypeAdapter;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Persistent cache of the MicroProfile properties contributed by library jars.
+ *
+ * <p>
+ * Jars of the classpath rarely change between two IDE sessions, so the properties collected from a jar are stored
+ * under the IDE system directory and are reused as long as the jar path, size and content hash match. The entries are
+ * also keyed by a variant, which identifies the other inputs of the search (ex : the document format of the
+ * descriptions and the properties providers which apply to the classpath). An entry is also ignored when it has been
+ * written by another cache format version or another version of the plugin, because the properties providers may have
+ * changed. The total size of the cache is capped and the least recently used entries are evicted first.
+ * </p>
+ */
+public final class LibraryPropertiesCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryPropertiesCache.class);
+
+    /**
+     * Version of the cache format, to increment when the format of the entries changes.
+     */
+    static final int VERSION = 2;
+
+    private static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+    private static final String VERSION_DIR_PREFIX = "v";
+
+    private static final String ENTRY_EXTENSION = ".json";
+
+    public static LibraryPropertiesCache getInstance(@NotNull Project project) {
+        return project.getService(LibraryPropertiesCache.class);
+    }
+
+    private final Path cacheDir;
+
+    private final long maxSize;
+
+    private final String producer;
+
+    private final Gson gson;
+
+    private final Map<Path, JarSignature> signatures = new ConcurrentHashMap<>();
+
+    private LibraryPropertiesCache(Project project) {
+        this(PathManager.getSystemDir().resolve("liberty-tools").resolve("library-properties").resolve(project.getLocationHash()),
+                DEFAULT_MAX_SIZE, getPluginVersion());
+    }
+
+    /**
+     * Creates a cache stored in the given directory.
+     *
+     * @param rootDir  the root directory of the cache.
+     * @param maxSize  the maximum size in bytes of the cache entries.
+     * @param producer the version of the code which produces the entries.
+     */
+    LibraryPropertiesCache(@NotNull Path rootDir, long maxSize, @NotNull String producer) {
+        this.cacheDir = rootDir.resolve(VERSION_DIR_PREFIX + VERSION);
+        this.maxSize = maxSize;
+        this.producer = producer;
+        // EnumTypeAdapter from LSP4J cannot be used, see AbstractStaticPropertiesProvider
+        this.gson = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+        deleteOutdatedVersions(rootDir);
+    }
+
+    /**
+     * Returns the local path of the jar file of the given library root and null if the root is not a jar.
+     *
+     * @param libraryRoot the library root.
+     * @return the local path of the jar file of the given library root and null if the root is not a jar.
+     */
+    public static @Nullable Path getJarPath(@NotNull VirtualFile libraryRoot) {
+        VirtualFile jar = JarFileSystem.getInstance().getVirtualFileForJar(libraryRoot);
+        if (jar == null || !jar.isInLocalFileSystem()) {
+            return null;
+        }
+        return jar.toNioPath();
+    }
+
+    /**
+     * Returns the cached properties of the given jar and null if they are not cached or if the jar has changed since
+     * they have been cached.
+     *
+     * @param jar     the jar file.
+     * @param variant the variant of the properties (ex : the document format of the descriptions).
+     * @return the cached properties of the given jar and null otherwise.
+     */
+    public @Nullable ConfigurationMetadata get(@NotNull Path jar, @NotNull String variant) {
+        Path entryFile = getEntryFile(jar, variant);
+        if (!Files.isRegularFile(entryFile)) {
+            return null;
+        }
+        try {
+            Entry entry;
+            try (Reader reader = Files.newBufferedReader(entryFile, StandardCharsets.UTF_8)) {
+                entry = gson.fromJson(reader, Entry.class);
+            }
+            JarSignature signature = getSignature(jar);
+            if (entry == null || entry.metadata == null || entry.version != VERSION || !producer.equals(entry.producer)
+                    || !jar.toString().equals(entry.jarPath) || !variant.equals(entry.variant)
+                    || signature.size() != entry.jarSize || !signature.hash().equals(entry.jarHash)) {
+                // The jar or the plugin has changed
+                Files.deleteIfExists(entryFile);
+                return null;
+            }
+            // Track the last access for the LRU eviction
+            Files.setLastModifiedTime(entryFile, FileTime.from(Instant.now()));
+            return entry.metadata;
+        } catch (IOException | JsonParseException e) {
+            LOGGER.warn("Cannot read cached MicroProfile properties of '" + jar + "'.", e);
+            deleteQuietly(entryFile);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the properties of the given jar.
+     *
+     * @param jar      the jar file.
+     * @param variant  the variant of the properties (ex : the document format of the descriptions).
+     * @param metadata the properties contributed by the jar.
+     */
+    public void put(@NotNull Path jar, @NotNull String variant, @NotNull ConfigurationMetadata metadata) {
+        Path entryFile = getEntryFile(jar, variant);
+        Path tempFile = null;
+        try {
+            JarSignature signature = getSignature(jar);
+            Entry entry = new Entry();
+            entry.version = VERSION;
+            entry.producer = producer;
+            entry.jarPath = jar.toString();
+            entry.jarSize = signature.size();
+            entry.jarHash = signature.hash();
+            entry.variant = variant;
+            entry.metadata = metadata;
+            Files.createDirectories(cacheDir);
+            tempFile = Files.createTempFile(cacheDir, "entry", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                gson.toJson(entry, writer);
+            }
+            Files.move(tempFile, entryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot cache MicroProfile properties of '" + jar + "'.", e);
+            if (tempFile != null) {
+                deleteQuietly(tempFile);
+            }
+            return;
+        }
+        evict();
+    }
+
+    Path getEntryFile(@NotNull Path jar, @NotNull String variant) {
+        return cacheDir.resolve(sha256(jar + "|" + variant) + ENTRY_EXTENSION);
+    }
+
+    /**
+     * Deletes the least recently used entries until the cache size doesn't exceed the maximum size.
+     */
+    private synchronized void evict() {
+        List<Path> entries = new ArrayList<>();
+        long totalSize = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir, "*" + ENTRY_EXTENSION)) {
+            for (Path entryFile : stream) {
+                entries.add(entryFile);
+                totalSize += Files.size(entryFile);
+            }
+            if (totalSize <= maxSize) {
+                return;
+            }
+            Map<Path, FileTime> accessTimes = new HashMap<>();
+            for (Path entryFile : entries) {
+                accessTimes.put(entryFile, Files.getLastModifiedTime(entryFile));
+            }
+            entries.sort(Comparator.comparing(accessTimes::get));
+            for (Path entryFile : entries) {
+                if (totalSize <= maxSize) {
+                    break;
+                }
+                long size = Files.size(entryFile);
+                Files.deleteIfExists(entryFile);
+                totalSize -= size;
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Cannot evict MicroProfile properties cache entries in '" + cacheDir + "'.", e);
+        }
+    }
+
+    private JarSignature getSignature(Path jar) throws IOException {
+        long size = Files.size(jar);
+        long lastModified = Files.getLastModifiedTime(jar).toMillis();
+        JarSignature signature = signatures.get(jar);
+        if (signature == null || signature.size() != size || signature.lastModified() != lastModified) {
+            // Hash the jar only once per session while it isn't modified
+            signature = new JarSignature(size, lastModified, hash(jar));
+            signatures.put(jar, signature);
+        }
+        return signature;
+    }
+
+    private static String hash(Path jar) throws IOException {
+        MessageDigest digest = createDigest();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(jar)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String sha256(String value) {
+        return HexFormat.of().formatHex(createDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deleteOutdatedVersions(Path rootDir) {
+        if (!Files.isDirectory(rootDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(rootDir, VERSION_DIR_PREFIX + "*")) {
+            for (Path versionDir : stream) {
+                if (!versionDir.equals(cacheDir)) {
+                    deleteRecursively(versionDir);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Cannot delete outdated MicroProfile properties cache in '" + rootDir + "'.", e);
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Ignore
+        }
+    }
+
+    private static String getPluginVersion() {
+        IdeaPluginDescriptor descriptor = PluginManagerCore.getPlugin(PluginId.getId("open-liberty.intellij"));
+        return descriptor != null ? descriptor.getVersion() : "unknown";
+    }
+
+    private record JarSignature(long size, long lastModified, String hash) {
+    }
+
+    /**
+     * Serialized cache entry.
+     */
+    private static class Entry {
+        int version;
+        String producer;
+        String jarPath;
+        long jarSize;
+        String jarHash;
+        String variant;
+        ConfigurationMetadata metadata;
+    }
+}
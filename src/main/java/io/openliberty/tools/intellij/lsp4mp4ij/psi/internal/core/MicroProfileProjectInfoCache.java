@@ -0,0 +1,434 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.ModuleListener;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.messages.MessageBusConnection;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector.MergingStrategy;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the MicroProfile properties contributed by the properties providers.
+ *
+ * <p>
+ * The contributions are stored per module and per collect configuration (scopes, classpath kind and document format).
+ * Inside a module, the properties are grouped by the Java source file or the library root which declares them, and
+ * the properties contributed at the begin/end of the search (ex : static properties) are stored apart. When a Java
+ * source file is updated ({@link ClasspathResourceChangedManager#TOPIC}) or when its PSI modification stamp
+ * doesn't match the cached one, only this file needs to be searched again by the properties providers. A contribution
+ * also depends on the source files which declare the super types, the field and method types of its classes and the
+ * types of its properties (ex : the super class of a <code>@ConfigProperties</code> class or an enum declared in
+ * another file), and it is searched again when one of them has changed. When libraries change, the whole module
+ * contributions are evicted.
+ * </p>
+ */
+public final class MicroProfileProjectInfoCache implements Disposable {
+
+    public static MicroProfileProjectInfoCache getInstance(@NotNull Project project) {
+        return project.getService(MicroProfileProjectInfoCache.class);
+    }
+
+    private final Project project;
+
+    private final MessageBusConnection connection;
+
+    private final Map<Module, Map<ContributionsKey, ModuleContributions>> cache = new ConcurrentHashMap<>();
+
+    private class MicroProfileProjectInfoCacheListener implements ModuleListener, ClasspathResourceChangedManager.Listener {
+
+        @Override
+        public void librariesChanged() {
+            // The classpath has changed, static properties and library properties must be collected again.
+            cache.clear();
+        }
+
+        @Override
+        public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+            for (var pair : sources) {
+                VirtualFile file = pair.getFirst();
+                if (PsiMicroProfileProjectManager.isJavaFile(file)) {
+                    Map<ContributionsKey, ModuleContributions> moduleCache = cache.get(pair.getSecond());
+                    if (moduleCache != null) {
+                        moduleCache.values().forEach(contributions -> contributions.markDirty(file));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void beforeModuleRemoved(@NotNull Project project, @NotNull Module module) {
+            cache.remove(module);
+        }
+    }
+
+    private MicroProfileProjectInfoCache(Project project) {
+        this.project = project;
+        MicroProfileProjectInfoCacheListener listener = new MicroProfileProjectInfoCacheListener();
+        connection = project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
+        connection.subscribe(ClasspathResourceChangedManager.TOPIC, listener);
+        connection.subscribe(ModuleListener.TOPIC, listener);
+    }
+
+    /**
+     * Returns the cached contributions of the given module for the given collect configuration.
+     *
+     * @param module         the module.
+     * @param scopes         the properties scopes.
+     * @param classpathKind  the classpath kind.
+     * @param documentFormat the document format used for the descriptions.
+     * @return the cached contributions of the given module for the given collect configuration.
+     */
+    public @NotNull ModuleContributions getContributions(@NotNull Module module, List<MicroProfilePropertiesScope> scopes,
+                                                         ClasspathKind classpathKind, DocumentFormat documentFormat) {
+        return cache.computeIfAbsent(module, m -> new ConcurrentHashMap<>())
+                .computeIfAbsent(new ContributionsKey(scopes, classpathKind, documentFormat), k -> new ModuleContributions(project));
+    }
+
+    @Override
+    public void dispose() {
+        cache.clear();
+        connection.disconnect();
+    }
+
+    private record ContributionsKey(List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind,
+                                    DocumentFormat documentFormat) {
+    }
+
+    /**
+     * Properties contributed by a Java source file or a library root.
+     *
+     * @param modificationStamp the PSI modification stamp of the Java source file (-1 for library root).
+     * @param metadata          the properties and hints contributed by the file.
+     * @param dependencies      the PSI modification stamps of the other source files the contribution depends on.
+     */
+    public record Contribution(long modificationStamp, ConfigurationMetadata metadata,
+                               Map<VirtualFile, Long> dependencies) {
+
+        /**
+         * Creates the contribution of a library root.
+         *
+         * @param metadata the properties and hints contributed by the library root.
+         */
+        public Contribution(ConfigurationMetadata metadata) {
+            this(-1, metadata, Collections.emptyMap());
+        }
+    }
+
+    /**
+     * Returns the contribution of the given Java source file, with the source files it depends on.
+     *
+     * @param file     the Java source file.
+     * @param metadata the properties and hints contributed by the file.
+     * @return the contribution of the given Java source file.
+     */
+    public static @NotNull Contribution createSourceContribution(@NotNull PsiFile file, @NotNull ConfigurationMetadata metadata) {
+        return new Contribution(file.getModificationStamp(), metadata, collectDependencies(file, metadata));
+    }
+
+    /**
+     * Returns the PSI modification stamps of the source files which declare the types that the contribution of the
+     * given file depends on, transitively.
+     */
+    private static Map<VirtualFile, Long> collectDependencies(PsiFile file, ConfigurationMetadata metadata) {
+        Project project = file.getProject();
+        ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(project);
+        Deque<PsiClass> toVisit = new ArrayDeque<>(PsiTreeUtil.findChildrenOfType(file, PsiClass.class));
+        JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance(project);
+        GlobalSearchScope scope = file.getResolveScope();
+        for (String typeName : getTypeNames(metadata)) {
+            PsiClass type = javaPsiFacade.findClass(typeName, scope);
+            if (type != null) {
+                toVisit.add(type);
+            }
+        }
+        Set<PsiClass> visited = new HashSet<>();
+        Map<VirtualFile, Long> dependencies = new HashMap<>();
+        while (!toVisit.isEmpty()) {
+            PsiClass type = toVisit.poll();
+            if (!visited.add(type)) {
+                continue;
+            }
+            PsiFile typeFile = type.getContainingFile();
+            VirtualFile virtualFile = typeFile != null ? typeFile.getVirtualFile() : null;
+            if (virtualFile == null || !fileIndex.isInContent(virtualFile)) {
+                // The library types change with the libraries, which evict the whole module contributions
+                continue;
+            }
+            if (!virtualFile.equals(file.getVirtualFile())) {
+                dependencies.put(virtualFile, typeFile.getModificationStamp());
+            }
+            Collections.addAll(toVisit, type.getSupers());
+            Collections.addAll(toVisit, type.getInnerClasses());
+            for (PsiField field : type.getFields()) {
+                addClasses(field.getType(), toVisit);
+            }
+            for (PsiMethod method : type.getMethods()) {
+                addClasses(method.getReturnType(), toVisit);
+            }
+        }
+        return dependencies;
+    }
+
+    private static void addClasses(@Nullable PsiType type, Collection<PsiClass> classes) {
+        if (type != null && type.getDeepComponentType() instanceof PsiClassType classType) {
+            PsiClass psiClass = classType.resolve();
+            if (psiClass != null) {
+                classes.add(psiClass);
+            }
+            for (PsiType parameter : classType.getParameters()) {
+                addClasses(parameter, classes);
+            }
+        }
+    }
+
+    /**
+     * Returns the qualified names of the types referenced by the given properties and hints.
+     */
+    private static Set<String> getTypeNames(ConfigurationMetadata metadata) {
+        Set<String> typeNames = new HashSet<>();
+        if (metadata.getProperties() != null) {
+            for (ItemMetadata property : metadata.getProperties()) {
+                addTypeNames(property.getType(), typeNames);
+                addTypeNames(property.getSourceType(), typeNames);
+            }
+        }
+        if (metadata.getHints() != null) {
+            for (ItemHint hint : metadata.getHints()) {
+                addTypeNames(hint.getName(), typeNames);
+                addTypeNames(hint.getSourceType(), typeNames);
+            }
+        }
+        return typeNames;
+    }
+
+    private static void addTypeNames(@Nullable String type, Set<String> typeNames) {
+        if (type == null) {
+            return;
+        }
+        // ex : java.util.List<org.acme.Config$Server>
+        for (String name : type.split("[^\\w.$]+")) {
+            if (name.indexOf('.') != -1) {
+                typeNames.add(name.replace('$', '.'));
+            }
+        }
+    }
+
+    /**
+     * Properties contributions of a module.
+     *
+     * <p>
+     * Callers must synchronize on the instance while updating and merging the contributions.
+     * </p>
+     */
+    public static class ModuleContributions {
+
+        private final Project project;
+
+        private final Set<VirtualFile> dirtyFiles = ConcurrentHashMap.newKeySet();
+
+        private Map<VirtualFile, Contribution> sourceContributions = new LinkedHashMap<>();
+
+        private Map<VirtualFile, Contribution> libraryContributions = new LinkedHashMap<>();
+
+        private ConfigurationMetadata searchContribution;
+
+        private ModuleContributions(Project project) {
+            this.project = project;
+        }
+
+        /**
+         * Returns true if the contributions have been collected for the whole module and false otherwise.
+         *
+         * @return true if the contributions have been collected for the whole module and false otherwise.
+         */
+        public boolean isInitialized() {
+            return searchContribution != null;
+        }
+
+        /**
+         * Replaces all the contributions with the result of a whole module search.
+         *
+         * @param sources            contributions per Java source file.
+         * @param libraries          contributions per library root.
+         * @param searchContribution contributions added at the begin/end of the search.
+         */
+        public void initialize(Map<VirtualFile, Contribution> sources, Map<VirtualFile, Contribution> libraries,
+                               ConfigurationMetadata searchContribution) {
+            this.sourceContributions = new LinkedHashMap<>(sources);
+            this.libraryContributions = new LinkedHashMap<>(libraries);
+            this.searchContribution = searchContribution;
+            this.dirtyFiles.clear();
+        }
+
+        void markDirty(VirtualFile file) {
+            dirtyFiles.add(file);
+        }
+
+        /**
+         * Returns the Java source files which must be searched again: the files tracked as updated and the cached
+         * files whose PSI modification stamp, or the PSI modification stamp of a file they depend on, has changed.
+         *
+         * @return the Java source files which must be searched again.
+         */
+        public Set<VirtualFile> collectStaleFiles() {
+            Set<VirtualFile> staleFiles = new HashSet<>(dirtyFiles);
+            dirtyFiles.removeAll(staleFiles);
+            PsiManager psiManager = PsiManager.getInstance(project);
+            for (var entry : sourceContributions.entrySet()) {
+                VirtualFile file = entry.getKey();
+                Contribution contribution = entry.getValue();
+                if (!staleFiles.contains(file) && (isModified(psiManager, file, contribution.modificationStamp())
+                        || contribution.dependencies().entrySet().stream()
+                        .anyMatch(dependency -> isModified(psiManager, dependency.getKey(), dependency.getValue())))) {
+                    staleFiles.add(file);
+                }
+            }
+            return staleFiles;
+        }
+
+        private static boolean isModified(PsiManager psiManager, VirtualFile file, long modificationStamp) {
+            PsiFile psiFile = file.isValid() ? psiManager.findFile(file) : null;
+            return psiFile == null || psiFile.getModificationStamp() != modificationStamp;
+        }
+
+        /**
+         * Updates the contribution of the given Java source file.
+         *
+         * @param file         the Java source file.
+         * @param contribution the new contribution and null if the file doesn't declare Java elements searched by the
+         *                     properties providers anymore. A contribution without properties is kept, to be
+         *                     searched again when the files it depends on change.
+         */
+        public void updateSourceContribution(@NotNull VirtualFile file, @Nullable Contribution contribution) {
+            if (contribution == null) {
+                sourceContributions.remove(file);
+            } else {
+                sourceContributions.put(file, contribution);
+            }
+        }
+
+        /**
+         * Merges the cached contributions into the given collector.
+         *
+         * @param collector the properties collector.
+         */
+        public void mergeInto(IPropertiesCollector collector) {
+            Set<PropertyKey> existingProperties = new HashSet<>();
+            for (Contribution contribution : libraryContributions.values()) {
+                merge(contribution.metadata(), collector, existingProperties);
+            }
+            for (Contribution contribution : sourceContributions.values()) {
+                merge(contribution.metadata(), collector, existingProperties);
+            }
+            if (searchContribution != null) {
+                // Static properties are only added if they are not declared by a Java element
+                collector.merge(searchContribution, MergingStrategy.IGNORE_IF_EXISTS);
+            }
+        }
+
+        private static void merge(ConfigurationMetadata metadata, IPropertiesCollector collector, Set<PropertyKey> existingProperties) {
+            if (metadata.getProperties() != null) {
+                List<ItemMetadata> properties = new ArrayList<>();
+                for (ItemMetadata property : metadata.getProperties()) {
+                    // Properties which are not bound to a Java element (ex : mp-rest properties) are contributed by each file
+                    if (existingProperties.add(new PropertyKey(property))) {
+                        properties.add(property);
+                    }
+                }
+                ConfigurationMetadata newProperties = new ConfigurationMetadata();
+                newProperties.setProperties(properties);
+                collector.merge(newProperties, MergingStrategy.FORCE);
+            }
+            if (metadata.getHints() != null) {
+                for (ItemHint hint : metadata.getHints()) {
+                    mergeHint(hint, collector.getItemHint(hint.getName()));
+                }
+            }
+        }
+
+        private static void mergeHint(ItemHint from, ItemHint to) {
+            if (to.getSourceType() == null) {
+                to.setSourceType(from.getSourceType());
+            }
+            if (to.getDescription() == null) {
+                to.setDescription(from.getDescription());
+            }
+            if (Boolean.TRUE.equals(from.getSource())) {
+                to.setSource(Boolean.TRUE);
+            }
+            if (from.getValues() != null) {
+                if (to.getValues() == null) {
+                    to.setValues(new ArrayList<>());
+                }
+                Set<String> existingValues = new HashSet<>();
+                to.getValues().forEach(value -> existingValues.add(value.getValue()));
+                for (ValueHint value : from.getValues()) {
+                    if (existingValues.add(value.getValue())) {
+                        to.getValues().add(value);
+                    }
+                }
+            }
+            if (from.getProviders() != null) {
+                if (to.getProviders() == null) {
+                    to.setProviders(new ArrayList<>());
+                }
+                to.getProviders().addAll(from.getProviders());
+            }
+        }
+    }
+
+    private record PropertyKey(String name, String sourceType, String sourceField, String sourceMethod) {
+
+        PropertyKey(ItemMetadata property) {
+            this(property.getName(), property.getSourceType(), property.getSourceField(), property.getSourceMethod());
+        }
+    }
+}
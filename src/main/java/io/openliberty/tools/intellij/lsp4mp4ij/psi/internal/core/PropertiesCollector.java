@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2019 Red Hat Inc. and others.
+* Copyright (c) 2019, 2026 Red Hat Inc. and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,11 +13,14 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
@@ -25,10 +28,21 @@ import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Properties collector implementation.
  *
+ * <p>
+ * The collected properties are indexed by name next to the properties list of the configuration, so that merging
+ * properties doesn't need to scan the list for each merged property.
+ * </p>
+ *
+ * <p>
+ * When the collected properties are cached, the collector is created with the {@link PropertiesInterner} of the
+ * project to share the strings and the hint values of the properties.
+ * </p>
+ *
  * @author Angelo ZERR
  *
  */
@@ -38,14 +52,52 @@ public class PropertiesCollector implements IPropertiesCollector {
 
 	private final Map<String, ItemHint> hintsCache;
 
+	/**
+	 * Properties of the configuration indexed by name, in the order of the properties list (a property name can be
+	 * collected several times, ex : same property declared in several classes).
+	 */
+	private final Map<String, Deque<ItemMetadata>> propertiesIndex;
+
 	private final boolean onlySources;
 
+	private final @Nullable PropertiesInterner interner;
+
 	public PropertiesCollector(ConfigurationMetadata configuration, List<MicroProfilePropertiesScope> scopes) {
+		this(configuration, scopes, null);
+	}
+
+	public PropertiesCollector(ConfigurationMetadata configuration, List<MicroProfilePropertiesScope> scopes,
+			@Nullable PropertiesInterner interner) {
 		this.configuration = configuration;
 		this.configuration.setProperties(new ArrayList<>());
 		this.configuration.setHints(new ArrayList<>());
 		this.hintsCache = new HashMap<>();
+		this.propertiesIndex = new LinkedHashMap<>();
 		this.onlySources = MicroProfilePropertiesScope.isOnlySources(scopes);
+		this.interner = interner;
+	}
+
+	/**
+	 * Returns the configuration metadata filled by this collector.
+	 *
+	 * @return the configuration metadata filled by this collector.
+	 */
+	public ConfigurationMetadata getConfiguration() {
+		return configuration;
+	}
+
+	/**
+	 * Returns the configuration metadata filled by this collector, with its hints interned. It must be called once
+	 * the properties are collected, the values lists of the interned hints are unmodifiable.
+	 *
+	 * @return the configuration metadata filled by this collector, with its hints interned.
+	 */
+	public ConfigurationMetadata getInternedConfiguration() {
+		if (interner != null) {
+			// The hints values are added by the providers after the hint creation, so they are interned at the end
+			configuration.getHints().forEach(interner::intern);
+		}
+		return configuration;
 	}
 
 	@Override
@@ -69,8 +121,11 @@ public class PropertiesCollector implements IPropertiesCollector {
 		}
 		property.setPhase(phase);
 		property.setRequired(defaultValue == null);
+		if (interner != null) {
+			interner.intern(property);
+		}
 
-		configuration.getProperties().add(property);
+		addProperty(property);
 		return property;
 	}
 
@@ -96,9 +151,12 @@ public class PropertiesCollector implements IPropertiesCollector {
 	public void merge(ConfigurationMetadata metadata, MergingStrategy mergingStrategy) {
 		List<ItemMetadata> properties = metadata.getProperties();
 		if (properties != null) {
+			// Replaced properties are removed from the properties list once all properties are merged
+			Map<ItemMetadata, Integer> removedProperties = new IdentityHashMap<>();
 			for (ItemMetadata property: properties) {
-				merge(property, mergingStrategy);
+				merge(property, mergingStrategy, removedProperties);
 			}
+			removeProperties(removedProperties);
 		}
 		List<ItemHint> hints = metadata.getHints();
 		if (hints != null) {
@@ -109,6 +167,12 @@ public class PropertiesCollector implements IPropertiesCollector {
 	}
 
 	public void merge(ItemMetadata property, MergingStrategy mergingStrategy) {
+		Map<ItemMetadata, Integer> removedProperties = new IdentityHashMap<>();
+		merge(property, mergingStrategy, removedProperties);
+		removeProperties(removedProperties);
+	}
+
+	private void merge(ItemMetadata property, MergingStrategy mergingStrategy, Map<ItemMetadata, Integer> removedProperties) {
 		if (onlySources && (property.getSource() == null || !property.getSource())) {
 			// In the case of the scopes is only sources, the property which is a binary
 			// property must not be added.
@@ -119,7 +183,7 @@ public class PropertiesCollector implements IPropertiesCollector {
 				mergeWithIgnoreIfExists(property);
 				break;
 			case REPLACE:
-				mergeWithReplace(property);
+				mergeWithReplace(property, removedProperties);
 				break;
 			default:
 				addProperty(property);
@@ -128,30 +192,54 @@ public class PropertiesCollector implements IPropertiesCollector {
 	}
 
 	private void mergeWithIgnoreIfExists(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
+		if (propertiesIndex.containsKey(property.getName())) {
 			return;
 		}
 		addProperty(property);
 	}
 
-	private Optional<ItemMetadata> getExistingProperty(ItemMetadata property) {
-		List<ItemMetadata> configProperties = configuration.getProperties();
-		Optional<ItemMetadata> configProperty = configProperties.stream()
-				.filter(cp -> cp.getName().equals(property.getName())).findFirst();
-		return configProperty;
-	}
-
-	private void mergeWithReplace(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
-			configuration.getProperties().remove(configProperty.get());
+	private void mergeWithReplace(ItemMetadata property, Map<ItemMetadata, Integer> removedProperties) {
+		Deque<ItemMetadata> existingProperties = propertiesIndex.get(property.getName());
+		if (existingProperties != null) {
+			// Remove the first property with the same name
+			removedProperties.merge(existingProperties.pollFirst(), 1, Integer::sum);
+			if (existingProperties.isEmpty()) {
+				propertiesIndex.remove(property.getName());
+			}
 		}
 		addProperty(property);
 	}
 
 	private void addProperty(ItemMetadata property) {
 		configuration.getProperties().add(property);
+		propertiesIndex.computeIfAbsent(property.getName(), k -> new ArrayDeque<>()).add(property);
+	}
+
+	private void removeProperties(Map<ItemMetadata, Integer> removedProperties) {
+		removeFirstOccurrences(configuration.getProperties(), removedProperties);
+	}
+
+	/**
+	 * Removes from the given list the first occurrences of the given elements in one pass.
+	 *
+	 * @param list    the list to update.
+	 * @param removed the elements to remove with their number of occurrences to remove.
+	 */
+	private static <T> void removeFirstOccurrences(List<T> list, Map<T, Integer> removed) {
+		if (removed.isEmpty()) {
+			return;
+		}
+		List<T> kept = new ArrayList<>(list.size());
+		for (T element : list) {
+			Integer count = removed.get(element);
+			if (count != null && count > 0) {
+				removed.put(element, count - 1);
+			} else {
+				kept.add(element);
+			}
+		}
+		list.clear();
+		list.addAll(kept);
 	}
 
 	// --------------- ItemHint merge
@@ -174,28 +262,31 @@ public class PropertiesCollector implements IPropertiesCollector {
 		if (to.getValues() == null) {
 			to.setValues(new ArrayList<>());
 		}
+		List<ValueHint> toValues = to.getValues();
+		if (mergingStrategy != MergingStrategy.IGNORE_IF_EXISTS && mergingStrategy != MergingStrategy.REPLACE) {
+			toValues.addAll(from);
+			return;
+		}
+		// Index the values of the hint by value (the values list can be updated by the providers directly, so the
+		// index is built for each merge).
+		Map<String, Deque<ValueHint>> valuesIndex = new HashMap<>();
+		for (ValueHint toValue : toValues) {
+			valuesIndex.computeIfAbsent(toValue.getValue(), k -> new ArrayDeque<>()).add(toValue);
+		}
+		Map<ValueHint, Integer> removedValues = new IdentityHashMap<>();
 		for (ValueHint fromValue : from) {
-			switch (mergingStrategy) {
-				case IGNORE_IF_EXISTS:
-					if (!getExistingValue(fromValue.getValue(), to.getValues()).isPresent()) {
-						to.getValues().add(fromValue);
-					}
-					break;
-				case REPLACE:
-					Optional<ValueHint> existingValue = getExistingValue(fromValue.getValue(), to.getValues());
-					if (existingValue.isPresent()) {
-						to.getValues().remove(existingValue.get());
-					}
-					to.getValues().add(fromValue);
-					break;
-				default:
-					to.getValues().add(fromValue);
+			Deque<ValueHint> existingValues = valuesIndex.get(fromValue.getValue());
+			if (existingValues != null && !existingValues.isEmpty()) {
+				if (mergingStrategy == MergingStrategy.IGNORE_IF_EXISTS) {
+					continue;
+				}
+				// Replace the first value with the same value
+				removedValues.merge(existingValues.pollFirst(), 1, Integer::sum);
 			}
+			toValues.add(fromValue);
+			valuesIndex.computeIfAbsent(fromValue.getValue(), k -> new ArrayDeque<>()).add(fromValue);
 		}
-	}
-
-	private static Optional<ValueHint> getExistingValue(String name, List<ValueHint> values) {
-		return values.stream().filter(cp -> cp.getValue().equals(name)).findFirst();
+		removeFirstOccurrences(toValues, removedValues);
 	}
 
 	private ItemHint getExistingItemHint(String hint) {
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.util.containers.HashingStrategy;
+import com.intellij.util.containers.Interner;
+import com.intellij.util.containers.WeakInterner;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Interner of the MicroProfile properties metadata of a project.
+ *
+ * <p>
+ * The properties collected per Java source file and per library root are kept in the
+ * {@link MicroProfileProjectInfoCache}, and they repeat the same type names, source types, descriptions and hint
+ * values. The interner replaces them with one canonical instance, referenced weakly so that the strings and hint
+ * values which are not used anymore are garbage collected. The most common type names are flyweights shared by all
+ * the projects.
+ * </p>
+ *
+ * <p>
+ * The values lists of the interned hints are shared between the hints with the same values, so they are unmodifiable.
+ * </p>
+ */
+public final class PropertiesInterner {
+
+    public static PropertiesInterner getInstance(@NotNull Project project) {
+        return project.getService(PropertiesInterner.class);
+    }
+
+    private static final Map<String, String> COMMON_STRINGS = Stream.of(
+                    "boolean", "byte", "char", "double", "float", "int", "long", "short",
+                    "java.lang.Boolean", "java.lang.Byte", "java.lang.Character", "java.lang.Double", "java.lang.Float",
+                    "java.lang.Integer", "java.lang.Long", "java.lang.Short", "java.lang.String",
+                    "java.math.BigDecimal", "java.math.BigInteger", "java.time.Duration", "java.net.URI", "java.net.URL",
+                    "java.util.List<java.lang.String>", "java.util.Optional<java.lang.String>",
+                    "java.util.Optional<java.lang.Integer>", "java.util.Optional<java.lang.Boolean>",
+                    "java.lang.String[]", "java.lang.Class<?>[]", "true", "false")
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), Function.identity()));
+
+    private static final HashingStrategy<ValueHint> VALUE_HINT_STRATEGY = new HashingStrategy<>() {
+        @Override
+        public int hashCode(ValueHint value) {
+            return Objects.hash(value.getValue(), value.getDescription(), value.getSourceType());
+        }
+
+        @Override
+        public boolean equals(ValueHint value1, ValueHint value2) {
+            return value1 == value2 || (value1 != null && value2 != null
+                    && Objects.equals(value1.getValue(), value2.getValue())
+                    && Objects.equals(value1.getDescription(), value2.getDescription())
+                    && Objects.equals(value1.getSourceType(), value2.getSourceType()));
+        }
+    };
+
+    // The elements of the interned lists are interned, so the lists are compared by the identity of their elements
+    private static final HashingStrategy<List<ValueHint>> VALUE_HINTS_STRATEGY = new HashingStrategy<>() {
+        @Override
+        public int hashCode(List<ValueHint> values) {
+            int hash = 1;
+            for (ValueHint value : values) {
+                hash = 31 * hash + System.identityHashCode(value);
+            }
+            return hash;
+        }
+
+        @Override
+        public boolean equals(List<ValueHint> values1, List<ValueHint> values2) {
+            if (values1 == values2) {
+                return true;
+            }
+            if (values1 == null || values2 == null || values1.size() != values2.size()) {
+                return false;
+            }
+            for (int i = 0; i < values1.size(); i++) {
+                if (values1.get(i) != values2.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    };
+
+    private final Interner<String> strings = Interner.createWeakInterner();
+
+    private final Interner<ValueHint> valueHints = new WeakInterner<>(VALUE_HINT_STRATEGY);
+
+    private final Interner<List<ValueHint>> valueHintLists = new WeakInterner<>(VALUE_HINTS_STRATEGY);
+
+    /**
+     * Returns the canonical instance of the given string.
+     *
+     * @param value the string.
+     * @return the canonical instance of the given string, or null if the string is null.
+     */
+    public @Nullable String intern(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        String common = COMMON_STRINGS.get(value);
+        return common != null ? common : strings.intern(value);
+    }
+
+    /**
+     * Interns the strings of the given property.
+     *
+     * @param property the property.
+     * @return the given property.
+     */
+    public @NotNull ItemMetadata intern(@NotNull ItemMetadata property) {
+        property.setName(intern(property.getName()));
+        property.setType(intern(property.getType()));
+        property.setDescription(intern(property.getDescription()));
+        property.setSourceType(intern(property.getSourceType()));
+        property.setSourceField(intern(property.getSourceField()));
+        property.setSourceMethod(intern(property.getSourceMethod()));
+        property.setDefaultValue(intern(property.getDefaultValue()));
+        property.setExtensionName(intern(property.getExtensionName()));
+        return property;
+    }
+
+    /**
+     * Interns the strings of the given hint and replaces its values list with the canonical unmodifiable list of the
+     * same values.
+     *
+     * @param hint the hint.
+     * @return the given hint.
+     */
+    public @NotNull ItemHint intern(@NotNull ItemHint hint) {
+        hint.setName(intern(hint.getName()));
+        hint.setDescription(intern(hint.getDescription()));
+        hint.setSourceType(intern(hint.getSourceType()));
+        List<ValueHint> values = hint.getValues();
+        if (values != null) {
+            hint.setValues(valueHintLists.intern(values.stream().map(this::intern).toList()));
+        }
+        return hint;
+    }
+
+    /**
+     * Interns the properties and the hints of the given metadata.
+     *
+     * @param metadata the metadata.
+     * @return the given metadata.
+     */
+    public @NotNull ConfigurationMetadata intern(@NotNull ConfigurationMetadata metadata) {
+        if (metadata.getProperties() != null) {
+            metadata.getProperties().forEach(this::intern);
+        }
+        if (metadata.getHints() != null) {
+            metadata.getHints().forEach(this::intern);
+        }
+        return metadata;
+    }
+
+    private @NotNull ValueHint intern(@NotNull ValueHint value) {
+        ValueHint interned = valueHints.intern(value);
+        if (interned == value) {
+            value.setValue(intern(value.getValue()));
+            value.setDescription(intern(value.getDescription()));
+            value.setSourceType(intern(value.getSourceType()));
+        }
+        return interned;
+    }
+}
@@ -0,0 +1,319 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary format of the static properties metadata, compiled at build time from the
+ * <code>/static-properties/*.json</code> files by the <code>StaticPropertiesCompiler</code> of the
+ * <code>staticProperties</code> build source set.
+ *
+ * <p>
+ * The strings of all the metadata are stored once in a string table and are referenced by index, so that a repeated
+ * type, extension name or description is decoded as a single string instance. The format only uses the JDK so that it
+ * can be written by the build without the IntelliJ platform:
+ * </p>
+ *
+ * <pre>
+ * magic version
+ * stringCount (byteLength utf8Bytes)*
+ * resourceCount (path metadata)*
+ *
+ * metadata: propertyCount property* hintCount hint*
+ * property: name type description sourceType sourceField sourceMethod defaultValue extensionName flags phase
+ * hint:     name description sourceType flags valueCount (value description sourceType)*
+ * </pre>
+ *
+ * <p>
+ * The counts are unsigned variable-length integers, a list count being stored as <code>size + 1</code> and
+ * <code>0</code> for a <code>null</code> list. The strings are referenced by <code>index + 1</code>, <code>0</code>
+ * being the <code>null</code> string.
+ * </p>
+ */
+public final class StaticPropertiesFormat {
+
+    private static final int MAGIC = 0x4C545350; // LTSP
+
+    private static final int VERSION = 1;
+
+    private static final int REQUIRED = 1;
+
+    private static final int SOURCE_TRUE = 1 << 1;
+
+    private static final int SOURCE_FALSE = 1 << 2;
+
+    private StaticPropertiesFormat() {
+    }
+
+    /**
+     * Writes the given metadata in the binary format.
+     *
+     * @param metadataByPath the metadata by resource path, e.g. <code>/static-properties/mp-metrics-metadata.json</code>
+     * @param out            the output stream
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(@NotNull Map<String, ConfigurationMetadata> metadataByPath, @NotNull OutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+        // The string table is written before the metadata which references it
+        metadataByPath.forEach((path, metadata) -> strings.collect(path, metadata));
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        writeVarInt(data, VERSION);
+        writeVarInt(data, strings.values.size());
+        for (String value : strings.values) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(data, bytes.length);
+            data.write(bytes);
+        }
+        writeVarInt(data, metadataByPath.size());
+        for (Map.Entry<String, ConfigurationMetadata> entry : metadataByPath.entrySet()) {
+            strings.write(data, entry.getKey());
+            writeMetadata(data, entry.getValue(), strings);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads the metadata written with {@link #write(Map, OutputStream)}.
+     *
+     * @param in the input stream
+     * @return the metadata by resource path, in their order of declaration.
+     * @throws IOException if the stream is not in the binary format or if an I/O error occurs
+     */
+    public static @NotNull Map<String, ConfigurationMetadata> read(@NotNull InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a static properties binary resource");
+        }
+        int version = readVarInt(data);
+        if (version != VERSION) {
+            throw new IOException("Unsupported static properties binary version " + version);
+        }
+        String[] strings = new String[readVarInt(data)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readVarInt(data)];
+            data.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        int resourceCount = readVarInt(data);
+        Map<String, ConfigurationMetadata> metadataByPath = new LinkedHashMap<>(resourceCount * 2);
+        for (int i = 0; i < resourceCount; i++) {
+            String path = readString(data, strings);
+            metadataByPath.put(path, readMetadata(data, strings));
+        }
+        return metadataByPath;
+    }
+
+    private static void writeMetadata(DataOutputStream data, ConfigurationMetadata metadata, StringTable strings) throws IOException {
+        List<ItemMetadata> properties = metadata.getProperties();
+        writeListSize(data, properties);
+        if (properties != null) {
+            for (ItemMetadata property : properties) {
+                strings.write(data, property.getName());
+                strings.write(data, property.getType());
+                strings.write(data, property.getDescription());
+                strings.write(data, property.getSourceType());
+                strings.write(data, property.getSourceField());
+                strings.write(data, property.getSourceMethod());
+                strings.write(data, property.getDefaultValue());
+                strings.write(data, property.getExtensionName());
+                writeVarInt(data, (property.isRequired() ? REQUIRED : 0) | getSourceFlags(property.getSource()));
+                writeVarInt(data, property.getPhase());
+            }
+        }
+        List<ItemHint> hints = metadata.getHints();
+        writeListSize(data, hints);
+        if (hints != null) {
+            for (ItemHint hint : hints) {
+                strings.write(data, hint.getName());
+                strings.write(data, hint.getDescription());
+                strings.write(data, hint.getSourceType());
+                writeVarInt(data, getSourceFlags(hint.getSource()));
+                List<ValueHint> values = hint.getValues();
+                writeListSize(data, values);
+                if (values != null) {
+                    for (ValueHint value : values) {
+                        strings.write(data, value.getValue());
+                        strings.write(data, value.getDescription());
+                        strings.write(data, value.getSourceType());
+                    }
+                }
+            }
+        }
+    }
+
+    private static ConfigurationMetadata readMetadata(DataInputStream data, String[] strings) throws IOException {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        int propertyCount = readVarInt(data) - 1;
+        if (propertyCount >= 0) {
+            List<ItemMetadata> properties = new ArrayList<>(propertyCount);
+            for (int i = 0; i < propertyCount; i++) {
+                ItemMetadata property = new ItemMetadata();
+                property.setName(readString(data, strings));
+                property.setType(readString(data, strings));
+                property.setDescription(readString(data, strings));
+                property.setSourceType(readString(data, strings));
+                property.setSourceField(readString(data, strings));
+                property.setSourceMethod(readString(data, strings));
+                property.setDefaultValue(readString(data, strings));
+                property.setExtensionName(readString(data, strings));
+                int flags = readVarInt(data);
+                property.setRequired((flags & REQUIRED) != 0);
+                property.setSource(getSource(flags));
+                property.setPhase(readVarInt(data));
+                properties.add(property);
+            }
+            metadata.setProperties(properties);
+        }
+        int hintCount = readVarInt(data) - 1;
+        if (hintCount >= 0) {
+            List<ItemHint> hints = new ArrayList<>(hintCount);
+            for (int i = 0; i < hintCount; i++) {
+                ItemHint hint = new ItemHint();
+                hint.setName(readString(data, strings));
+                hint.setDescription(readString(data, strings));
+                hint.setSourceType(readString(data, strings));
+                hint.setSource(getSource(readVarInt(data)));
+                int valueCount = readVarInt(data) - 1;
+                if (valueCount >= 0) {
+                    List<ValueHint> values = new ArrayList<>(valueCount);
+                    for (int j = 0; j < valueCount; j++) {
+                        ValueHint value = new ValueHint();
+                        value.setValue(readString(data, strings));
+                        value.setDescription(readString(data, strings));
+                        value.setSourceType(readString(data, strings));
+                        values.add(value);
+                    }
+                    hint.setValues(values);
+                }
+                hints.add(hint);
+            }
+            metadata.setHints(hints);
+        }
+        return metadata;
+    }
+
+    private static int getSourceFlags(Boolean source) {
+        if (source == null) {
+            return 0;
+        }
+        return source ? SOURCE_TRUE : SOURCE_FALSE;
+    }
+
+    private static Boolean getSource(int flags) {
+        if ((flags & SOURCE_TRUE) != 0) {
+            return Boolean.TRUE;
+        }
+        return (flags & SOURCE_FALSE) != 0 ? Boolean.FALSE : null;
+    }
+
+    private static void writeListSize(DataOutputStream data, List<?> list) throws IOException {
+        writeVarInt(data, list != null ? list.size() + 1 : 0);
+    }
+
+    private static String readString(DataInputStream data, String[] strings) throws IOException {
+        int index = readVarInt(data);
+        if (index == 0) {
+            return null;
+        }
+        if (index > strings.length) {
+            throw new IOException("Invalid string index " + index);
+        }
+        return strings[index - 1];
+    }
+
+    private static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    /**
+     * The distinct strings of the metadata, in their order of first occurrence.
+     */
+    private static class StringTable {
+
+        private final List<String> values = new ArrayList<>();
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        private void collect(String path, ConfigurationMetadata metadata) {
+            add(path);
+            for (ItemMetadata property : nonNull(metadata.getProperties())) {
+                add(property.getName());
+                add(property.getType());
+                add(property.getDescription());
+                add(property.getSourceType());
+                add(property.getSourceField());
+                add(property.getSourceMethod());
+                add(property.getDefaultValue());
+                add(property.getExtensionName());
+            }
+            for (ItemHint hint : nonNull(metadata.getHints())) {
+                add(hint.getName());
+                add(hint.getDescription());
+                add(hint.getSourceType());
+                for (ValueHint value : nonNull(hint.getValues())) {
+                    add(value.getValue());
+                    add(value.getDescription());
+                    add(value.getSourceType());
+                }
+            }
+        }
+
+        private void add(String value) {
+            if (value != null && !indexes.containsKey(value)) {
+                indexes.put(value, values.size());
+                values.add(value);
+            }
+        }
+
+        private void write(DataOutputStream data, String value) throws IOException {
+            writeVarInt(data, value == null ? 0 : indexes.get(value) + 1);
+        }
+
+        private static <T> List<T> nonNull(List<T> list) {
+            return list != null ? list : Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.intellij.openapi.diagnostic.Logger;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry of the static properties metadata compiled at build time in the
+ * {@link StaticPropertiesFormat binary format}.
+ *
+ * <p>
+ * The binary resource is loaded once per application, the first time static properties are collected, and the
+ * registry is immutable. The static properties providers parse their JSON file when it is not in the registry, e.g.
+ * when the binary resource has not been built.
+ * </p>
+ */
+public final class StaticPropertiesRegistry {
+
+    private static final Logger LOGGER = Logger.getInstance(StaticPropertiesRegistry.class);
+
+    /**
+     * The resource path of the JSON files.
+     */
+    static final String JSON_RESOURCES_PATH = "/static-properties/";
+
+    static final String BINARY_RESOURCE_PATH = JSON_RESOURCES_PATH + "static-properties.bin";
+
+    private final Map<String, ConfigurationMetadata> metadataByPath;
+
+    private static class Holder {
+        private static final StaticPropertiesRegistry INSTANCE = load();
+    }
+
+    public static StaticPropertiesRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    StaticPropertiesRegistry(@NotNull Map<String, ConfigurationMetadata> metadataByPath) {
+        this.metadataByPath = Collections.unmodifiableMap(metadataByPath);
+    }
+
+    /**
+     * Returns the metadata of the given static properties JSON resource, or null if it is not in the registry.
+     *
+     * @param path the resource path of the JSON file, e.g. <code>/static-properties/mp-metrics-metadata.json</code>
+     * @return the metadata of the given static properties JSON resource, or null if it is not in the registry.
+     */
+    public @Nullable ConfigurationMetadata getMetadata(@Nullable String path) {
+        return path != null ? metadataByPath.get(path) : null;
+    }
+
+    /**
+     * Returns the resource paths of the JSON files compiled in the registry.
+     */
+    public @NotNull Set<String> getPaths() {
+        return metadataByPath.keySet();
+    }
+
+    private static StaticPropertiesRegistry load() {
+        try (InputStream in = StaticPropertiesRegistry.class.getResourceAsStream(BINARY_RESOURCE_PATH)) {
+            if (in == null) {
+                LOGGER.info("The static properties binary resource is not available, the JSON files are parsed");
+                return new StaticPropertiesRegistry(Collections.emptyMap());
+            }
+            return new StaticPropertiesRegistry(StaticPropertiesFormat.read(new BufferedInputStream(in)));
+        } catch (IOException e) {
+            LOGGER.warn("Failed to load the static properties binary resource, the JSON files are parsed", e);
+            return new StaticPropertiesRegistry(Collections.emptyMap());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.index;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Annotation declared in a Java source file, as stored in the {@link JavaAnnotationsIndex}.
+ *
+ * <p>
+ * The index is built without resolving references, so the qualified name is computed from the imports of the file and
+ * is null when the annotation is imported on demand or declared in the same package.
+ * </p>
+ *
+ * @param qualifiedName the qualified name of the annotation computed from the imports and null if it is unknown.
+ * @param offset        the start offset of the annotation in the Java file.
+ * @param target        the kind of the annotated element.
+ * @param targetName    the qualified name of the annotated class, or the name of the annotated member.
+ * @param targetType    the simple name of the type of the annotated field or parameter and null otherwise.
+ * @param attributes    the literal values of the annotation attributes.
+ */
+public record IndexedAnnotation(@Nullable String qualifiedName, int offset, @NotNull Target target,
+                                @NotNull String targetName, @Nullable String targetType,
+                                @NotNull Map<String, String> attributes) {
+
+    /**
+     * Kind of annotated element.
+     */
+    public enum Target {
+        TYPE, METHOD, FIELD, PARAMETER
+    }
+
+    /**
+     * Returns true if this annotation can be the annotation with the given qualified name and false otherwise.
+     *
+     * @param annotationName the annotation qualified name.
+     * @return true if this annotation can be the annotation with the given qualified name and false otherwise.
+     */
+    public boolean mayMatch(@NotNull String annotationName) {
+        return qualifiedName == null || qualifiedName.equals(annotationName);
+    }
+
+    /**
+     * Returns the literal value of the given attribute and null if the attribute is not declared or its value is not
+     * a literal.
+     *
+     * @param attributeName the attribute name.
+     * @return the literal value of the given attribute and null otherwise.
+     */
+    public @Nullable String getAttribute(@NotNull String attributeName) {
+        return attributes.get(attributeName);
+    }
+}
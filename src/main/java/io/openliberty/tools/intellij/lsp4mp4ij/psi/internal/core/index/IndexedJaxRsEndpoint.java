@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.index;
+
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.HttpMethod;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * JAX-RS path declared in a Java source file, as stored in the {@link JaxRsEndpointsIndex}.
+ *
+ * <p>
+ * An entry is either a resource method, with its HTTP method and the path of its class joined with its own path, or an
+ * <code>@ApplicationPath</code> value, without HTTP method. The position is the position of the name of the method or
+ * class, so that the workspace symbols can be created without loading the PSI.
+ * </p>
+ *
+ * @param httpMethod the HTTP method of the resource method and null for an application path.
+ * @param path       the class and method <code>@Path</code> values joined, or the <code>@ApplicationPath</code> value.
+ * @param line       the zero-based line of the name of the method or class.
+ * @param character  the zero-based character of the name of the method or class in its line.
+ * @param length     the length of the name of the method or class.
+ */
+public record IndexedJaxRsEndpoint(@Nullable HttpMethod httpMethod, @NotNull String path, int line, int character,
+                                   int length) {
+}
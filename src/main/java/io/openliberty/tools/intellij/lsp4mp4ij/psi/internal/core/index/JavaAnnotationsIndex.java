@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.index;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaRecursiveElementWalkingVisitor;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiImportStatement;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.PsiNameValuePair;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiTypeElement;
+import com.intellij.psi.PsiVariable;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Index of the annotations declared in the Java source files.
+ *
+ * <p>
+ * The key is the simple name of the annotation and the value is the list of the annotations with this name declared
+ * in the file, with their target and their literal attribute values (ex : <code>@Path("/api")</code>,
+ * <code>@ConfigProperty(name = "greeting")</code>). It replaces the <code>AnnotatedElementsSearch</code> and
+ * <code>ReferencesSearch</code> queries which were run over the module scope on each request. Compiled classes of the
+ * libraries are not indexed.
+ * </p>
+ */
+public class JavaAnnotationsIndex extends FileBasedIndexExtension<String, List<IndexedAnnotation>> {
+
+    public static final ID<String, List<IndexedAnnotation>> NAME = ID.create("open-liberty.javaAnnotations");
+
+    private static final int VERSION = 1;
+
+    private static final String DEFAULT_ATTRIBUTE_NAME = "value";
+
+    @Override
+    public @NotNull ID<String, List<IndexedAnnotation>> getName() {
+        return NAME;
+    }
+
+    @Override
+    public @NotNull DataIndexer<String, List<IndexedAnnotation>, FileContent> getIndexer() {
+        return inputData -> {
+            PsiFile psiFile = inputData.getPsiFile();
+            if (!(psiFile instanceof PsiJavaFile javaFile)) {
+                return Collections.emptyMap();
+            }
+            return indexAnnotations(javaFile);
+        };
+    }
+
+    @Override
+    public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @Override
+    public @NotNull DataExternalizer<List<IndexedAnnotation>> getValueExternalizer() {
+        return AnnotationsExternalizer.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * Returns the elements of the given scope annotated with the given annotation.
+     *
+     * @param project        the project.
+     * @param annotationName the annotation qualified name.
+     * @param scope          the search scope.
+     * @return the elements of the given scope annotated with the given annotation.
+     */
+    public static @NotNull List<PsiModifierListOwner> getAnnotatedElements(@NotNull Project project, @NotNull String annotationName,
+                                                                           @NotNull GlobalSearchScope scope) {
+        return getAnnotatedElements(project, annotationName, scope, null);
+    }
+
+    /**
+     * Returns the elements of the given scope annotated with the given annotation, whose indexed annotation matches
+     * the given filter.
+     *
+     * @param project        the project.
+     * @param annotationName the annotation qualified name.
+     * @param scope          the search scope.
+     * @param filter         the filter applied on the indexed annotations before loading the PSI, or null.
+     * @return the elements of the given scope annotated with the given annotation.
+     */
+    public static @NotNull List<PsiModifierListOwner> getAnnotatedElements(@NotNull Project project, @NotNull String annotationName,
+                                                                           @NotNull GlobalSearchScope scope,
+                                                                           @Nullable Predicate<IndexedAnnotation> filter) {
+        // Collect the candidates first, the PSI must not be loaded while processing the index
+        List<Pair<VirtualFile, IndexedAnnotation>> candidates = new ArrayList<>();
+        FileBasedIndex.getInstance().processValues(NAME, StringUtil.getShortName(annotationName), null, (file, annotations) -> {
+            for (IndexedAnnotation annotation : annotations) {
+                if (annotation.mayMatch(annotationName) && (filter == null || filter.test(annotation))) {
+                    candidates.add(Pair.create(file, annotation));
+                }
+            }
+            return true;
+        }, scope);
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+        PsiManager psiManager = PsiManager.getInstance(project);
+        Set<PsiModifierListOwner> elements = new LinkedHashSet<>();
+        for (Pair<VirtualFile, IndexedAnnotation> candidate : candidates) {
+            ProgressManager.checkCanceled();
+            PsiFile psiFile = candidate.getFirst().isValid() ? psiManager.findFile(candidate.getFirst()) : null;
+            if (psiFile != null) {
+                PsiModifierListOwner element = findAnnotatedElement(psiFile, candidate.getSecond(), annotationName);
+                if (element != null) {
+                    elements.add(element);
+                }
+            }
+        }
+        return new ArrayList<>(elements);
+    }
+
+    /**
+     * Returns the element annotated by the given indexed annotation and null if the annotation doesn't exist anymore
+     * or doesn't resolve to the given annotation.
+     */
+    private static @Nullable PsiModifierListOwner findAnnotatedElement(PsiFile psiFile, IndexedAnnotation indexedAnnotation,
+                                                                       String annotationName) {
+        PsiElement element = psiFile.findElementAt(indexedAnnotation.offset());
+        PsiAnnotation annotation = PsiTreeUtil.getParentOfType(element, PsiAnnotation.class, false);
+        if (annotation == null || annotation.getTextRange().getStartOffset() != indexedAnnotation.offset()
+                || !AnnotationUtils.isMatchAnnotation(annotation, annotationName)) {
+            return null;
+        }
+        if (annotation.getOwner() instanceof PsiModifierList modifierList
+                && modifierList.getParent() instanceof PsiModifierListOwner owner) {
+            return owner;
+        }
+        return null;
+    }
+
+    private static Map<String, List<IndexedAnnotation>> indexAnnotations(PsiJavaFile javaFile) {
+        Map<String, String> imports = new HashMap<>();
+        if (javaFile.getImportList() != null) {
+            for (PsiImportStatement importStatement : javaFile.getImportList().getImportStatements()) {
+                String qualifiedName = importStatement.getQualifiedName();
+                if (qualifiedName != null && !importStatement.isOnDemand()) {
+                    imports.put(StringUtil.getShortName(qualifiedName), qualifiedName);
+                }
+            }
+        }
+        Map<String, List<IndexedAnnotation>> result = new HashMap<>();
+        javaFile.accept(new JavaRecursiveElementWalkingVisitor() {
+            @Override
+            public void visitAnnotation(@NotNull PsiAnnotation annotation) {
+                super.visitAnnotation(annotation);
+                PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+                String shortName = reference != null ? reference.getReferenceName() : null;
+                if (shortName == null || !(annotation.getOwner() instanceof PsiModifierList modifierList)) {
+                    return;
+                }
+                PsiElement owner = modifierList.getParent();
+                IndexedAnnotation.Target target;
+                String targetName;
+                String targetType = null;
+                if (owner instanceof PsiClass psiClass) {
+                    target = IndexedAnnotation.Target.TYPE;
+                    targetName = psiClass.getQualifiedName();
+                } else if (owner instanceof PsiMethod method) {
+                    target = IndexedAnnotation.Target.METHOD;
+                    targetName = method.getName();
+                } else if (owner instanceof PsiField field) {
+                    target = IndexedAnnotation.Target.FIELD;
+                    targetName = field.getName();
+                    targetType = getTypeShortName(field);
+                } else if (owner instanceof PsiParameter parameter) {
+                    target = IndexedAnnotation.Target.PARAMETER;
+                    targetName = parameter.getName();
+                    targetType = getTypeShortName(parameter);
+                } else {
+                    // Local variables, packages
+                    return;
+                }
+                IndexedAnnotation indexedAnnotation = new IndexedAnnotation(getQualifiedName(reference, imports),
+                        annotation.getTextRange().getStartOffset(), target, targetName != null ? targetName : "",
+                        targetType, getLiteralAttributes(annotation));
+                result.computeIfAbsent(shortName, k -> new ArrayList<>()).add(indexedAnnotation);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the qualified name of the annotation from its reference text and the imports of the file, without
+     * resolving the reference.
+     */
+    private static @Nullable String getQualifiedName(PsiJavaCodeReferenceElement reference, Map<String, String> imports) {
+        String text = StringUtil.replace(reference.getText(), " ", "");
+        int dotIndex = text.indexOf('.');
+        if (dotIndex == -1) {
+            return imports.get(text);
+        }
+        // ex : @Outer.Inner with an import of Outer
+        String importedName = imports.get(text.substring(0, dotIndex));
+        return importedName != null ? importedName + text.substring(dotIndex) : text;
+    }
+
+    private static @Nullable String getTypeShortName(PsiVariable variable) {
+        PsiTypeElement typeElement = variable.getTypeElement();
+        if (typeElement == null) {
+            return null;
+        }
+        String text = typeElement.getText();
+        int genericIndex = text.indexOf('<');
+        if (genericIndex != -1) {
+            text = text.substring(0, genericIndex);
+        }
+        return StringUtil.getShortName(text.trim());
+    }
+
+    private static Map<String, String> getLiteralAttributes(PsiAnnotation annotation) {
+        PsiNameValuePair[] attributes = annotation.getParameterList().getAttributes();
+        if (attributes.length == 0) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        for (PsiNameValuePair attribute : attributes) {
+            PsiAnnotationMemberValue value = attribute.getValue();
+            if (value instanceof PsiLiteralExpression literal && literal.getValue() != null) {
+                String name = attribute.getName();
+                values.put(name != null ? name : DEFAULT_ATTRIBUTE_NAME, String.valueOf(literal.getValue()));
+            }
+        }
+        return values;
+    }
+
+    private static class AnnotationsExternalizer implements DataExternalizer<List<IndexedAnnotation>> {
+
+        private static final AnnotationsExternalizer INSTANCE = new AnnotationsExternalizer();
+
+        private static final IndexedAnnotation.Target[] TARGETS = IndexedAnnotation.Target.values();
+
+        @Override
+        public void save(@NotNull DataOutput out, List<IndexedAnnotation> annotations) throws IOException {
+            DataInputOutputUtil.writeINT(out, annotations.size());
+            for (IndexedAnnotation annotation : annotations) {
+                writeNullableString(out, annotation.qualifiedName());
+                DataInputOutputUtil.writeINT(out, annotation.offset());
+                DataInputOutputUtil.writeINT(out, annotation.target().ordinal());
+                IOUtil.writeUTF(out, annotation.targetName());
+                writeNullableString(out, annotation.targetType());
+                DataInputOutputUtil.writeINT(out, annotation.attributes().size());
+                for (var attribute : annotation.attributes().entrySet()) {
+                    IOUtil.writeUTF(out, attribute.getKey());
+                    IOUtil.writeUTF(out, attribute.getValue());
+                }
+            }
+        }
+
+        @Override
+        public List<IndexedAnnotation> read(@NotNull DataInput in) throws IOException {
+            int size = DataInputOutputUtil.readINT(in);
+            List<IndexedAnnotation> annotations = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String qualifiedName = readNullableString(in);
+                int offset = DataInputOutputUtil.readINT(in);
+                IndexedAnnotation.Target target = TARGETS[DataInputOutputUtil.readINT(in)];
+                String targetName = IOUtil.readUTF(in);
+                String targetType = readNullableString(in);
+                int attributesCount = DataInputOutputUtil.readINT(in);
+                Map<String, String> attributes = attributesCount == 0 ? Collections.emptyMap() : new LinkedHashMap<>();
+                for (int j = 0; j < attributesCount; j++) {
+                    attributes.put(IOUtil.readUTF(in), IOUtil.readUTF(in));
+                }
+                annotations.add(new IndexedAnnotation(qualifiedName, offset, target, targetName, targetType, attributes));
+            }
+            return annotations;
+        }
+
+        private static void writeNullableString(DataOutput out, @Nullable String value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                IOUtil.writeUTF(out, value);
+            }
+        }
+
+        private static @Nullable String readNullableString(DataInput in) throws IOException {
+            return in.readBoolean() ? IOUtil.readUTF(in) : null;
+        }
+    }
+}
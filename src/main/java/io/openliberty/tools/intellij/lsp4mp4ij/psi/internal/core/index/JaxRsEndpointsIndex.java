@@ -0,0 +1,332 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.index;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.text.LineColumn;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaRecursiveElementWalkingVisitor;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiIdentifier;
+import com.intellij.psi.PsiImportStatement;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.HttpMethod;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the JAX-RS resource methods and application paths declared in the Java source files.
+ *
+ * <p>
+ * For each resource method (a public method annotated with an HTTP method annotation, declared in a class annotated
+ * with <code>@Path</code>), the index stores the HTTP method, the class and method paths joined and the position of
+ * the method name. The <code>@ApplicationPath</code> values are stored under their own key, since the application
+ * class is usually declared in another file. The index is built without resolving references, so only the literal
+ * <code>@Path</code> values and the annotations imported from the <code>javax.ws.rs</code> and
+ * <code>jakarta.ws.rs</code> packages are taken into account.
+ * </p>
+ */
+public class JaxRsEndpointsIndex extends FileBasedIndexExtension<String, List<IndexedJaxRsEndpoint>> {
+
+    public static final ID<String, List<IndexedJaxRsEndpoint>> NAME = ID.create("open-liberty.jaxrsEndpoints");
+
+    private static final String ENDPOINT_KEY = "endpoint";
+
+    private static final String APPLICATION_PATH_KEY = "applicationPath";
+
+    private static final int VERSION = 1;
+
+    private static final Set<String> JAX_RS_PACKAGES = Set.of("javax.ws.rs", "jakarta.ws.rs");
+
+    private static final String[] PATH_ANNOTATIONS = {
+            JaxRsConstants.JAVAX_WS_RS_PATH_ANNOTATION,
+            JaxRsConstants.JAKARTA_WS_RS_PATH_ANNOTATION
+    };
+
+    private static final String[] APPLICATION_PATH_ANNOTATIONS = {
+            JaxRsConstants.JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION,
+            JaxRsConstants.JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION
+    };
+
+    @Override
+    public @NotNull ID<String, List<IndexedJaxRsEndpoint>> getName() {
+        return NAME;
+    }
+
+    @Override
+    public @NotNull DataIndexer<String, List<IndexedJaxRsEndpoint>, FileContent> getIndexer() {
+        return inputData -> {
+            PsiFile psiFile = inputData.getPsiFile();
+            if (!(psiFile instanceof PsiJavaFile javaFile)) {
+                return Collections.emptyMap();
+            }
+            return indexEndpoints(javaFile, inputData.getContentAsText());
+        };
+    }
+
+    @Override
+    public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @Override
+    public @NotNull DataExternalizer<List<IndexedJaxRsEndpoint>> getValueExternalizer() {
+        return EndpointsExternalizer.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * Returns the JAX-RS resource methods declared in the given scope with their file.
+     *
+     * @param scope the search scope.
+     * @return the JAX-RS resource methods declared in the given scope with their file.
+     */
+    public static @NotNull List<Pair<VirtualFile, IndexedJaxRsEndpoint>> getEndpoints(@NotNull GlobalSearchScope scope) {
+        List<Pair<VirtualFile, IndexedJaxRsEndpoint>> endpoints = new ArrayList<>();
+        FileBasedIndex.getInstance().processValues(NAME, ENDPOINT_KEY, null, (file, values) -> {
+            for (IndexedJaxRsEndpoint endpoint : values) {
+                endpoints.add(Pair.create(file, endpoint));
+            }
+            return true;
+        }, scope);
+        return endpoints;
+    }
+
+    /**
+     * Returns a tracker which changes when the content of the index changes in the given project.
+     *
+     * @param project the project.
+     * @return a tracker which changes when the content of the index changes in the given project.
+     */
+    public static @NotNull ModificationTracker getModificationTracker(@NotNull Project project) {
+        return () -> FileBasedIndex.getInstance().getIndexModificationStamp(NAME, project);
+    }
+
+    /**
+     * Returns the first <code>@ApplicationPath</code> value declared in the given scope and null if there is none.
+     *
+     * @param scope the search scope.
+     * @return the first <code>@ApplicationPath</code> value declared in the given scope and null otherwise.
+     */
+    public static @Nullable String getApplicationPath(@NotNull GlobalSearchScope scope) {
+        String[] applicationPath = new String[1];
+        FileBasedIndex.getInstance().processValues(NAME, APPLICATION_PATH_KEY, null, (file, values) -> {
+            applicationPath[0] = values.get(0).path();
+            return false;
+        }, scope);
+        return applicationPath[0];
+    }
+
+    private static Map<String, List<IndexedJaxRsEndpoint>> indexEndpoints(PsiJavaFile javaFile, CharSequence text) {
+        Map<String, String> imports = new HashMap<>();
+        Set<String> onDemandPackages = new LinkedHashSet<>();
+        if (javaFile.getImportList() != null) {
+            for (PsiImportStatement importStatement : javaFile.getImportList().getImportStatements()) {
+                String qualifiedName = importStatement.getQualifiedName();
+                if (qualifiedName == null) {
+                    continue;
+                }
+                if (!importStatement.isOnDemand()) {
+                    imports.put(StringUtil.getShortName(qualifiedName), qualifiedName);
+                } else if (JAX_RS_PACKAGES.contains(qualifiedName)) {
+                    onDemandPackages.add(qualifiedName);
+                }
+            }
+        }
+        List<IndexedJaxRsEndpoint> applicationPaths = new ArrayList<>();
+        List<IndexedJaxRsEndpoint> endpoints = new ArrayList<>();
+        javaFile.accept(new JavaRecursiveElementWalkingVisitor() {
+            @Override
+            public void visitClass(@NotNull PsiClass psiClass) {
+                super.visitClass(psiClass);
+                PsiIdentifier classIdentifier = psiClass.getNameIdentifier();
+                if (classIdentifier == null) {
+                    return;
+                }
+                String applicationPath = getPathValue(psiClass, APPLICATION_PATH_ANNOTATIONS, imports, onDemandPackages);
+                if (applicationPath != null) {
+                    applicationPaths.add(createEndpoint(null, applicationPath, classIdentifier, text));
+                }
+                String classPath = getPathValue(psiClass, PATH_ANNOTATIONS, imports, onDemandPackages);
+                if (classPath == null) {
+                    return;
+                }
+                for (PsiMethod method : psiClass.getMethods()) {
+                    PsiIdentifier methodIdentifier = method.getNameIdentifier();
+                    if (method.isConstructor() || methodIdentifier == null
+                            || !method.getModifierList().hasExplicitModifier(PsiModifier.PUBLIC)) {
+                        continue;
+                    }
+                    HttpMethod httpMethod = getHttpMethod(method, imports, onDemandPackages);
+                    if (httpMethod != null) {
+                        String methodPath = getPathValue(method, PATH_ANNOTATIONS, imports, onDemandPackages);
+                        endpoints.add(createEndpoint(httpMethod, JaxRsUtils.buildURL(classPath, methodPath),
+                                methodIdentifier, text));
+                    }
+                }
+            }
+        });
+        Map<String, List<IndexedJaxRsEndpoint>> result = new HashMap<>();
+        if (!endpoints.isEmpty()) {
+            result.put(ENDPOINT_KEY, endpoints);
+        }
+        if (!applicationPaths.isEmpty()) {
+            result.put(APPLICATION_PATH_KEY, applicationPaths);
+        }
+        return result;
+    }
+
+    private static IndexedJaxRsEndpoint createEndpoint(@Nullable HttpMethod httpMethod, String path,
+                                                       PsiIdentifier identifier, CharSequence text) {
+        int offset = identifier.getTextRange().getStartOffset();
+        LineColumn position = StringUtil.offsetToLineColumn(text, offset);
+        return new IndexedJaxRsEndpoint(httpMethod, path, position.line, position.column, identifier.getTextLength());
+    }
+
+    private static @Nullable HttpMethod getHttpMethod(PsiMethod method, Map<String, String> imports,
+                                                      Set<String> onDemandPackages) {
+        for (PsiAnnotation annotation : method.getModifierList().getAnnotations()) {
+            String qualifiedName = getQualifiedName(annotation, imports, onDemandPackages);
+            HttpMethod httpMethod = qualifiedName != null ? JaxRsUtils.getHttpMethodForAnnotation(qualifiedName) : null;
+            if (httpMethod != null) {
+                return httpMethod;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the literal value of the first of the given annotations declared on the element and null if none is
+     * declared or its value is not a literal.
+     */
+    private static @Nullable String getPathValue(PsiModifierListOwner owner, String[] annotationNames,
+                                                 Map<String, String> imports, Set<String> onDemandPackages) {
+        if (owner.getModifierList() == null) {
+            return null;
+        }
+        for (PsiAnnotation annotation : owner.getModifierList().getAnnotations()) {
+            String qualifiedName = getQualifiedName(annotation, imports, onDemandPackages);
+            for (String annotationName : annotationNames) {
+                if (annotationName.equals(qualifiedName)) {
+                    PsiAnnotationMemberValue value = annotation.findDeclaredAttributeValue(JaxRsConstants.PATH_VALUE);
+                    return value instanceof PsiLiteralExpression literal && literal.getValue() instanceof String path
+                            ? path : null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the qualified name of the annotation from its reference text and the imports of the file, without
+     * resolving the reference.
+     */
+    private static @Nullable String getQualifiedName(PsiAnnotation annotation, Map<String, String> imports,
+                                                     Set<String> onDemandPackages) {
+        PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+        if (reference == null) {
+            return null;
+        }
+        String text = StringUtil.replace(reference.getText(), " ", "");
+        if (text.indexOf('.') != -1) {
+            return text;
+        }
+        String importedName = imports.get(text);
+        if (importedName != null) {
+            return importedName;
+        }
+        // ex : @GET with an import of jakarta.ws.rs.*
+        return onDemandPackages.isEmpty() ? null : onDemandPackages.iterator().next() + '.' + text;
+    }
+
+    private static class EndpointsExternalizer implements DataExternalizer<List<IndexedJaxRsEndpoint>> {
+
+        private static final EndpointsExternalizer INSTANCE = new EndpointsExternalizer();
+
+        private static final HttpMethod[] HTTP_METHODS = HttpMethod.values();
+
+        @Override
+        public void save(@NotNull DataOutput out, List<IndexedJaxRsEndpoint> endpoints) throws IOException {
+            DataInputOutputUtil.writeINT(out, endpoints.size());
+            for (IndexedJaxRsEndpoint endpoint : endpoints) {
+                // 0 for an application path
+                DataInputOutputUtil.writeINT(out, endpoint.httpMethod() != null ? endpoint.httpMethod().ordinal() + 1 : 0);
+                IOUtil.writeUTF(out, endpoint.path());
+                DataInputOutputUtil.writeINT(out, endpoint.line());
+                DataInputOutputUtil.writeINT(out, endpoint.character());
+                DataInputOutputUtil.writeINT(out, endpoint.length());
+            }
+        }
+
+        @Override
+        public List<IndexedJaxRsEndpoint> read(@NotNull DataInput in) throws IOException {
+            int size = DataInputOutputUtil.readINT(in);
+            List<IndexedJaxRsEndpoint> endpoints = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int httpMethod = DataInputOutputUtil.readINT(in);
+                endpoints.add(new IndexedJaxRsEndpoint(httpMethod != 0 ? HTTP_METHODS[httpMethod - 1] : null,
+                        IOUtil.readUTF(in), DataInputOutputUtil.readINT(in), DataInputOutputUtil.readINT(in),
+                        DataInputOutputUtil.readINT(in)));
+            }
+            return endpoints;
+        }
+    }
+}
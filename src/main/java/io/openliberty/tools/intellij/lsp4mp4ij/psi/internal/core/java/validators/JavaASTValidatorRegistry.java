@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2021 Red Hat Inc. and others.
+* Copyright (c) 2021, 2026 Red Hat Inc. and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,6 +13,7 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.validators;
 
+import com.intellij.openapi.Disposable;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidatorExtensionPointBean;
@@ -20,12 +21,13 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotati
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRule;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRuleAttributeExtensionPointBean;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRuleExtensionPointBean;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRules;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRulesJavaASTValidator;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationValidator;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.RangeExpressionException;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
 import org.eclipse.lsp4j.Diagnostic;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -67,16 +69,19 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 		return INSTANCE;
 	}
 
-	private boolean extensionProvidersLoaded;
-	private boolean registryListenerIntialized;
+	/**
+	 * The validators and annotation rules loaded from the extension points. They
+	 * are loaded once and reloaded when the extension points change.
+	 */
+	private record Extensions(AnnotationRules rules, List<JavaASTValidatorExtensionPointBean> validatorsFromClass) {
+	}
 
-	private final List<JavaASTValidatorExtensionPointBean> validatorsFromClass;
+	private volatile Extensions extensions;
+	private boolean registryListenerIntialized;
 
 	private JavaASTValidatorRegistry() {
 		super();
-		this.extensionProvidersLoaded = false;
 		this.registryListenerIntialized = false;
-		this.validatorsFromClass = new ArrayList<>();
 	}
 
 	public String getExtensionId() {
@@ -84,42 +89,52 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 	}
 
 	@Override
-	public String validate(String value, AnnotationAttributeRule rule) {
-		loadExtensionJavaASTValidators();
-		return super.validate(value, rule);
+	public Collection<AnnotationRule> getRules() {
+		return getExtensions().rules().getRules();
 	}
 
-	@Override
-	public Collection<AnnotationRule> getRules() {
-		loadExtensionJavaASTValidators();
-		return super.getRules();
+	private Extensions getExtensions() {
+		Extensions extensions = this.extensions;
+		if (extensions == null) {
+			extensions = loadExtensionJavaASTValidators();
+		}
+		return extensions;
 	}
 
-	private synchronized void loadExtensionJavaASTValidators() {
-		if (extensionProvidersLoaded)
-			return;
+	private synchronized Extensions loadExtensionJavaASTValidators() {
+		if (extensions != null)
+			return extensions;
 
-		// Immediately set the flag, as to ensure that this method is never
-		// called twice
-		extensionProvidersLoaded = true;
+		if (!registryListenerIntialized) {
+			Disposable parent = LibertyToolPluginDisposable.getInstance();
+			JavaASTValidator.EP_NAME.addChangeListener(this::reset, parent);
+			AnnotationValidator.EP_NAME.addChangeListener(this::reset, parent);
+			registryListenerIntialized = true;
+		}
 
 		LOGGER.log(Level.INFO, "->- Loading ." + getExtensionId() + " extension point ->-");
 
-		addExtensionJavaASTValidators();
+		extensions = new Extensions(createRules(), List.copyOf(JavaASTValidator.EP_NAME.getExtensionList()));
 
 		LOGGER.log(Level.INFO, "-<- Done loading ." + getExtensionId() + " extension point -<-");
+		return extensions;
 	}
 
-	private void addExtensionJavaASTValidators() {
-		try {
-			validatorsFromClass.addAll(JavaASTValidator.EP_NAME.getExtensionList());
-			for(AnnotationRuleExtensionPointBean bean : AnnotationValidator.EP_NAME.getExtensions()) {
-				registerRule(createRule(bean));
+	private synchronized void reset() {
+		extensions = null;
+	}
 
+	private AnnotationRules createRules() {
+		// Merge the rules of the same annotation
+		AnnotationValidator validator = new AnnotationValidator();
+		for (AnnotationRuleExtensionPointBean bean : AnnotationValidator.EP_NAME.getExtensionList()) {
+			try {
+				validator.registerRule(createRule(bean));
+			} catch (RangeExpressionException e) {
+				LOGGER.log(Level.WARNING, "  Loaded while loading " + getExtensionId(), e);
 			}
-		} catch (RangeExpressionException e) {
-			LOGGER.log(Level.WARNING, "  Loaded while loading " + getExtensionId(), e);
 		}
+		return new AnnotationRules(validator.getRules());
 	}
 
 	private AnnotationRule createRule(AnnotationRuleExtensionPointBean bean) throws RangeExpressionException {
@@ -133,13 +148,13 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 	}
 
 	public Collection<JavaASTValidator> getValidators(JavaDiagnosticsContext context, List<Diagnostic> diagnostics) {
+		Extensions extensions = getExtensions();
 		List<JavaASTValidator> validators = new ArrayList<>();
-		addValidator(new AnnotationRulesJavaASTValidator(getRules()), context, diagnostics, validators);
-		for (JavaASTValidatorExtensionPointBean ce : validatorsFromClass) {
+		addValidator(new AnnotationRulesJavaASTValidator(extensions.rules()), context, diagnostics, validators);
+		for (JavaASTValidatorExtensionPointBean ce : extensions.validatorsFromClass()) {
 			try {
 				addValidator(ce.createValidator(), context, diagnostics, validators);
-			} catch (ClassNotFoundException | NoSuchMethodException |
-					 InvocationTargetException | InstantiationException | IllegalAccessException e) {
+			} catch (ReflectiveOperationException e) {
 				LOGGER.log(Level.WARNING, e.getLocalizedMessage(), e);
 			}
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2021 Red Hat Inc. and others.
+* Copyright (c) 2021, 2026 Red Hat Inc. and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,6 +14,7 @@
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.validators;
 
 import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.IndexNotReadyException;
 import com.intellij.psi.JavaRecursiveElementVisitor;
 import com.intellij.psi.PsiAnnotation;
@@ -29,6 +30,12 @@ import java.util.logging.Logger;
 
 /**
  * Multiple JDT AST visitor.
+ *
+ * <p>
+ * The visitor checks the cancellation of the request before each visited
+ * annotation, class and method, so that a cancelled diagnostics request stops
+ * its PSI walk.
+ * </p>
  * 
  * @author Angelo ZERR
  *
@@ -44,6 +51,7 @@ public class MultiASTVisitor extends JavaRecursiveElementVisitor {
 
 	@Override
 	public void visitAnnotation(PsiAnnotation node) {
+		ProgressManager.checkCanceled();
 		for (JavaRecursiveElementVisitor visitor : visitors) {
 			try {
 				visitor.visitAnnotation(node);
@@ -61,6 +69,7 @@ public class MultiASTVisitor extends JavaRecursiveElementVisitor {
 
 	@Override
 	public void visitClass(PsiClass node) {
+		ProgressManager.checkCanceled();
 		for (JavaRecursiveElementVisitor visitor : visitors) {
 			try {
 				visitor.visitClass(node);
@@ -78,6 +87,7 @@ public class MultiASTVisitor extends JavaRecursiveElementVisitor {
 
 	@Override
 	public void visitMethod(PsiMethod node) {
+		ProgressManager.checkCanceled();
 		for (JavaRecursiveElementVisitor visitor : visitors) {
 			try {
 				visitor.visitMethod(node);
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.project;
+
+import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
+import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes the values expanded by the lsp4mp {@link PropertyValueExpander}.
+ *
+ * <p>
+ * The properties referenced by the raw values are recorded in a reverse-dependency graph, so that when the raw value
+ * of a property changes, only the memoized values of this property and of the properties which reference it,
+ * directly or transitively, are invalidated. The expansion itself (escapes, default values, nested expressions,
+ * cycles) is left to {@link PropertyValueExpander}: the references are only collected to invalidate the memoized
+ * values, and they include every name found after a <code>${</code>, so that they cover the references resolved by
+ * the expander.
+ * </p>
+ */
+public class MemoizedPropertyValueExpander {
+
+    private static final String EXPRESSION_START = "${";
+
+    // Memoized value of the properties which have no expanded value
+    private static final String NO_VALUE = new String("<no value>");
+
+    private final Supplier<IConfigSourcePropertiesProvider> propertiesProvider;
+
+    // property name -> memoized expanded value
+    private final Map<String, String> expandedValues = new HashMap<>();
+
+    // property name -> raw value when the references of the property were recorded, null if it was not defined
+    private final Map<String, String> rawValues = new HashMap<>();
+
+    // property name -> names of the properties that its raw value may reference
+    private final Map<String, Set<String>> references = new HashMap<>();
+
+    // property name -> names of the properties whose raw value may reference it
+    private final Map<String, Set<String>> dependents = new HashMap<>();
+
+    private PropertyValueExpander expander;
+
+    /**
+     * The expander constructor.
+     *
+     * @param propertiesProvider returns the provider of the raw property values.
+     */
+    public MemoizedPropertyValueExpander(@NotNull Supplier<IConfigSourcePropertiesProvider> propertiesProvider) {
+        this.propertiesProvider = propertiesProvider;
+    }
+
+    /**
+     * Returns the value of the given property expanded by {@link PropertyValueExpander#getValue(String)}.
+     *
+     * @param propertyKey the property name with its profile, if any (ex : <code>%dev.greeting</code>)
+     * @return the expanded value of the given property and null if it can't be expanded.
+     */
+    public synchronized @Nullable String getValue(@NotNull String propertyKey) {
+        String value = expandedValues.get(propertyKey);
+        if (value == null) {
+            recordReferences(propertyKey);
+            if (expander == null) {
+                expander = new PropertyValueExpander(propertiesProvider.get());
+            }
+            value = Objects.requireNonNullElse(expander.getValue(propertyKey), NO_VALUE);
+            expandedValues.put(propertyKey, value);
+        }
+        return value == NO_VALUE ? null : value;
+    }
+
+    /**
+     * Invalidates the memoized values of the properties whose raw value has been added, modified or removed since
+     * they were expanded, and of the properties which reference them, directly or transitively.
+     */
+    public synchronized void revalidate() {
+        IConfigSourcePropertiesProvider provider = propertiesProvider.get();
+        List<String> modifiedKeys = new ArrayList<>();
+        rawValues.forEach((propertyKey, rawValue) -> {
+            if (!Objects.equals(rawValue, provider.getValue(propertyKey))) {
+                modifiedKeys.add(propertyKey);
+            }
+        });
+        invalidate(modifiedKeys);
+        // The next values are expanded from the current provider
+        expander = null;
+    }
+
+    /**
+     * Invalidates the memoized values of the given properties and of the properties which reference them, directly
+     * or transitively.
+     *
+     * @param propertyKeys the names of the properties whose raw value has been added, modified or removed.
+     */
+    public synchronized void invalidate(@NotNull Collection<String> propertyKeys) {
+        Deque<String> toInvalidate = new ArrayDeque<>(propertyKeys);
+        Set<String> invalidated = new HashSet<>();
+        while (!toInvalidate.isEmpty()) {
+            String propertyKey = toInvalidate.poll();
+            if (!invalidated.add(propertyKey)) {
+                continue;
+            }
+            expandedValues.remove(propertyKey);
+            rawValues.remove(propertyKey);
+            // The references of the property are recorded again when it is expanded again
+            Set<String> referencedKeys = references.remove(propertyKey);
+            if (referencedKeys != null) {
+                for (String referencedKey : referencedKeys) {
+                    Set<String> referencingKeys = dependents.get(referencedKey);
+                    if (referencingKeys != null) {
+                        referencingKeys.remove(propertyKey);
+                    }
+                }
+            }
+            Set<String> referencingKeys = dependents.get(propertyKey);
+            if (referencingKeys != null) {
+                toInvalidate.addAll(referencingKeys);
+            }
+        }
+        if (!invalidated.isEmpty()) {
+            expander = null;
+        }
+    }
+
+    @TestOnly
+    synchronized int getMemoizedCount() {
+        return expandedValues.size();
+    }
+
+    /**
+     * Records the raw values and the references of the given property and of the properties it references, directly
+     * or transitively, which are not recorded yet.
+     */
+    private void recordReferences(String propertyKey) {
+        IConfigSourcePropertiesProvider provider = propertiesProvider.get();
+        Deque<String> toRecord = new ArrayDeque<>();
+        toRecord.push(propertyKey);
+        while (!toRecord.isEmpty()) {
+            String key = toRecord.pop();
+            if (rawValues.containsKey(key)) {
+                continue;
+            }
+            String rawValue = provider.getValue(key);
+            rawValues.put(key, rawValue);
+            Set<String> referencedKeys = parseReferences(key, rawValue);
+            references.put(key, referencedKeys);
+            for (String referencedKey : referencedKeys) {
+                dependents.computeIfAbsent(referencedKey, k -> new HashSet<>()).add(key);
+                toRecord.push(referencedKey);
+            }
+        }
+    }
+
+    /**
+     * Returns the names of the properties that the given raw value may reference: the names found after each
+     * <code>${</code>, including the escaped and the nested ones, and for a profile property (ex :
+     * <code>%dev.greeting</code>), the same names with the profile.
+     */
+    private static Set<String> parseReferences(String propertyKey, @Nullable String rawValue) {
+        if (rawValue == null || !rawValue.contains(EXPRESSION_START)) {
+            return Set.of();
+        }
+        String profilePrefix = null;
+        if (propertyKey.startsWith("%")) {
+            int dot = propertyKey.indexOf('.');
+            if (dot != -1) {
+                profilePrefix = propertyKey.substring(0, dot + 1);
+            }
+        }
+        Set<String> referencedKeys = new HashSet<>();
+        int start = rawValue.indexOf(EXPRESSION_START);
+        while (start != -1) {
+            int nameStart = start + EXPRESSION_START.length();
+            int nameEnd = nameStart;
+            while (nameEnd < rawValue.length() && ":}$".indexOf(rawValue.charAt(nameEnd)) == -1) {
+                nameEnd++;
+            }
+            if (nameEnd > nameStart) {
+                String name = rawValue.substring(nameStart, nameEnd);
+                referencedKeys.add(name);
+                if (profilePrefix != null && !name.startsWith("%")) {
+                    referencedKeys.add(profilePrefix + name);
+                }
+            }
+            start = rawValue.indexOf(EXPRESSION_START, nameStart);
+        }
+        return referencedKeys;
+    }
+}
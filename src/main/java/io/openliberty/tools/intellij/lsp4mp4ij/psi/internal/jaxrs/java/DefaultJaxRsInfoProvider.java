@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2023, 2024 Red Hat Inc. and others.
+* Copyright (c) 2023, 2026 Red Hat Inc. and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -18,20 +18,18 @@ import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.IndexNotReadyException;
 import com.intellij.psi.*;
-import com.intellij.psi.search.SearchScope;
-import com.intellij.psi.search.searches.AnnotatedElementsSearch;
+import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.util.MergeQuery;
-import com.intellij.util.Query;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.*;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.index.IndexedAnnotation;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.index.JavaAnnotationsIndex;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 import java.util.concurrent.CancellationException;
-import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -62,33 +60,24 @@ public class DefaultJaxRsInfoProvider implements IJaxRsInfoProvider {
 		}
 
 		try {
-			SearchScope scope = javaProject.getModuleScope(false);
+			GlobalSearchScope scope = javaProject.getModuleScope(false);
 
-			Query<PsiModifierListOwner> query = null;
+			Set<PsiClass> jaxRsClasses = new HashSet<>();
 			for (var httpAnnotation : JaxRsConstants.HTTP_METHOD_ANNOTATIONS) {
 				PsiClass annotationClass = utils.findClass(javaProject, httpAnnotation);
 				if (annotationClass != null) {
-					Query<PsiModifierListOwner> annotationQuery = AnnotatedElementsSearch.searchElements(annotationClass, scope, PsiModifierListOwner.class);
-					if (query == null) {
-						query = annotationQuery;
-					} else {
-						query = new MergeQuery<>(query, annotationQuery);
+					// Only annotated methods are JAX-RS resource methods
+					for (PsiModifierListOwner item : JavaAnnotationsIndex.getAnnotatedElements(javaProject.getProject(),
+							httpAnnotation, scope, annotation -> annotation.target() == IndexedAnnotation.Target.METHOD)) {
+						if (item instanceof PsiMember) {
+							PsiClass cl = ((PsiMember) item).getContainingClass();
+							if (cl != null) {
+								jaxRsClasses.add(cl);
+							}
+						}
 					}
 				}
 			}
-			if (query == null) {
-				return Collections.emptySet();
-			}
-
-			Set<PsiClass> jaxRsClasses = new HashSet<>();
-			query.forEach((Consumer<? super PsiModifierListOwner>) item -> {
-				if (item instanceof PsiMember) {
-					PsiClass cl = ((PsiMember) item).getContainingClass();
-					if (cl != null) {
-						jaxRsClasses.add(cl);
-					}
-				}
-			});
 			if (monitor.isCanceled()) {
 				return Collections.emptySet();
 			}
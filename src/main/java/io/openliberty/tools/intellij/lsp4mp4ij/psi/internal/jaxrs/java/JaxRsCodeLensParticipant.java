@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2020 Red Hat Inc. and others.
+* Copyright (c) 2020, 2026 Red Hat Inc. and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -26,6 +26,7 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.IJaxRsInfoProvider
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsMethodInfo;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.util.ServerPortStatusService;
 import org.eclipse.lsp4j.CodeLens;
 import org.eclipse.lsp4j.Command;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeLensParams;
@@ -52,8 +53,6 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 
 	private static final String LOCALHOST = "localhost";
 
-	private static final int PING_TIMEOUT = 2000;
-
 	private static final String JAX_RS_INFO_PROVIDER = IJaxRsInfoProvider.class.getName();
 	@Override
 	public boolean isAdaptedForCodeLens(JavaCodeLensContext context, ProgressIndicator monitor) {
@@ -83,7 +82,7 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 		IPsiUtils utils = context.getUtils();
 
 		if (context.getParams().isCheckServerAvailable()
-				&& !isServerAvailable(LOCALHOST, jaxrsContext.getServerPort(), PING_TIMEOUT)) {
+				&& !isServerAvailable(LOCALHOST, jaxrsContext.getServerPort())) {
 			return Collections.emptyList();
 		}
 
@@ -139,19 +138,12 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 		return HttpMethod.GET.equals(httpMethod);
 	}
 
-	private static boolean isServerAvailable(String host, int port, int timeout) {
-		/*try (Socket socket = new Socket()) {
-			socket.connect(new InetSocketAddress(host, port), timeout);
-			return true;
-		} catch (IOException e) {
-			return false;
-		}*/
+	private static boolean isServerAvailable(String host, int port) {
 		// As IJ InlayHints cannot be computed in async mode with a CompletableFuture
-		// we consider that the server is every time available
-		// We do that because the check with Socket takes some times and freeze the Java Editor
-		// as soon as the user type something in the Java Editor.
-		// By returning true, the URL codelens will be displayed even if the server is not started.
-		return true;
+		// the socket check must not be done while computing the codelens, since it
+		// would freeze the Java Editor as soon as the user types something in it.
+		// The port is probed in background and the last known status is returned.
+		return ServerPortStatusService.getInstance().isServerAvailable(host, port);
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2024, 2025 Red Hat Inc. and others.
+* Copyright (c) 2024, 2026 Red Hat Inc. and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,110 +15,81 @@ package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.jaxrs.java;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProgressIndicator;
-import com.intellij.openapi.util.TextRange;
-import com.intellij.psi.PsiClass;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.symbols.IJavaWorkspaceSymbolsParticipant;
-import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.IJaxRsInfoProvider;
-import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsContext;
-import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsMethodInfo;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.index.IndexedJaxRsEndpoint;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.index.JaxRsEndpointsIndex;
 import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.SymbolKind;
 
-import java.net.MalformedURLException;
-import java.net.URISyntaxException;
-import java.net.URL;
-import java.net.URI;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * Collects workspace symbols for JAX-RS REST endpoints.
+ *
+ * <p>
+ * The symbols are created from the {@link JaxRsEndpointsIndex} without loading the PSI, and are cached per module
+ * until the index or the project roots change, so that the edits which don't change any endpoint keep the cache.
+ * </p>
  */
 public class JaxRsWorkspaceSymbolParticipant implements IJavaWorkspaceSymbolsParticipant {
 
-	private static final Logger LOGGER = Logger.getLogger(JaxRsWorkspaceSymbolParticipant.class.getName());
+	private static final Key<CachedValue<List<SymbolInformation>>> SYMBOLS_KEY = Key.create(JaxRsWorkspaceSymbolParticipant.class.getName());
 
 	@Override
 	public void collectSymbols(Module project, IPsiUtils utils, List<SymbolInformation> symbols, ProgressIndicator monitor) {
 		if (monitor.isCanceled()) {
 			return;
 		}
-
-		JaxRsContext jaxrsContext = new JaxRsContext(project);
-		Set<PsiClass> jaxrsTypes = getAllJaxRsTypes(project, utils, monitor);
-		if (jaxrsTypes == null || monitor.isCanceled()) {
-			return;
-		}
-		List<JaxRsMethodInfo> methodsInfo = new ArrayList<>();
-		for (PsiClass typeRoot : jaxrsTypes) {
-			IJaxRsInfoProvider provider = getProviderForType(typeRoot, project, monitor);
-			if (provider != null) {
-				methodsInfo.addAll(provider.getJaxRsMethodInfo(typeRoot.getContainingFile(), jaxrsContext, utils, monitor));
-			}
-			if (monitor.isCanceled()) {
-				return;
-			}
-		}
-
-		methodsInfo.forEach(methodInfo -> {
-			try {
-				symbols.add(createSymbol(methodInfo, utils));
-			} catch (Exception e) {
-				LOGGER.log(Level.WARNING, "failed to create workspace symbol for jax-rs method", e);
-			}
-		});
+		symbols.addAll(getSymbols(project));
 	}
 
-	/**
-	 * Returns the provider that can provide JAX-RS method info for the given class,
-	 * or null if no provider can provide info.
-	 *
-	 * @param typeRoot the class to collect JAX-RS method info for
-	 * @param project the Module project
-	 * @param monitor the progress monitor
-	 * @return the provider that can provide JAX-RS method info for the given class,
-	 *         or null if no provider can provide info
-	 */
-	private static IJaxRsInfoProvider getProviderForType(PsiClass typeRoot, Module project,  ProgressIndicator monitor) {
-		for (IJaxRsInfoProvider provider : JaxRsInfoProviderRegistry.getInstance().getProviders()) {
-			if (provider.canProvideJaxRsMethodInfoForClass(typeRoot.getContainingFile(), project, monitor)) {
-				return provider;
-			}
-		}
-		LOGGER.severe("Attempted to collect JAX-RS info for " + typeRoot.getQualifiedName()
-				+ ", but no participant was suitable, despite the fact that an earlier check found a suitable participant");
-		return null;
+	private static List<SymbolInformation> getSymbols(Module javaProject) {
+		Project project = javaProject.getProject();
+		return CachedValuesManager.getManager(project).getCachedValue(javaProject, SYMBOLS_KEY,
+				() -> CachedValueProvider.Result.create(createSymbols(javaProject),
+						JaxRsEndpointsIndex.getModificationTracker(project),
+						ProjectRootModificationTracker.getInstance(project)),
+				false);
 	}
 
-	private static Set<PsiClass> getAllJaxRsTypes(Module javaProject, IPsiUtils utils, ProgressIndicator monitor) {
-		Set<PsiClass> jaxrsTypes = new HashSet<>();
-		for (IJaxRsInfoProvider provider : JaxRsInfoProviderRegistry.getInstance().getProviders()) {
-			jaxrsTypes.addAll(provider.getAllJaxRsClasses(javaProject, utils,monitor));
-			if (monitor.isCanceled()) {
-				return null;
-			}
+	private static List<SymbolInformation> createSymbols(Module javaProject) {
+		List<Pair<VirtualFile, IndexedJaxRsEndpoint>> endpoints = JaxRsEndpointsIndex.getEndpoints(javaProject.getModuleScope(false));
+		if (endpoints.isEmpty()) {
+			return Collections.emptyList();
+		}
+		String applicationPath = JaxRsEndpointsIndex.getApplicationPath(javaProject.getModuleWithDependenciesScope());
+		List<SymbolInformation> symbols = new ArrayList<>(endpoints.size());
+		for (Pair<VirtualFile, IndexedJaxRsEndpoint> endpoint : endpoints) {
+			symbols.add(createSymbol(endpoint.getFirst(), endpoint.getSecond(), applicationPath));
 		}
-		return jaxrsTypes;
+		return Collections.unmodifiableList(symbols);
 	}
 
-	private static SymbolInformation createSymbol(JaxRsMethodInfo methodInfo, IPsiUtils utils) throws MalformedURLException, URISyntaxException {
-		TextRange sourceRange = methodInfo.getJavaMethod().getNameIdentifier().getTextRange();
-		Range r = utils.toRange(methodInfo.getJavaMethod(), sourceRange.getStartOffset(), sourceRange.getLength());
-		Location location = new Location(methodInfo.getDocumentUri(), r);
+	private static SymbolInformation createSymbol(VirtualFile file, IndexedJaxRsEndpoint endpoint, String applicationPath) {
+		Range r = new Range(new Position(endpoint.line(), endpoint.character()),
+				new Position(endpoint.line(), endpoint.character() + endpoint.length()));
+		Location location = new Location(LSPIJUtils.toUriAsString(file), r);
 
 		StringBuilder nameBuilder = new StringBuilder("@");
-		URL url = new URI(methodInfo.getUrl()).toURL();
-		String path = url.getPath();
-		nameBuilder.append(path);
+		nameBuilder.append(JaxRsUtils.buildURL("/", applicationPath, endpoint.path()));
 		nameBuilder.append(": ");
-		nameBuilder.append(methodInfo.getHttpMethod());
+		nameBuilder.append(endpoint.httpMethod());
 
 		SymbolInformation symbol = new SymbolInformation();
 		symbol.setName(nameBuilder.toString());
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2020 Red Hat Inc. and others.
+* Copyright (c) 2020, 2026 Red Hat Inc. and others.
 * All rights reserved. This program and the accompanying materials
 * which accompanies this distribution, and is available at
 * https://www.eclipse.org/legal/epl-v20.html
@@ -13,19 +13,19 @@ package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient.java;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.search.searches.ReferencesSearch;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.util.Query;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PositionUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.index.IndexedAnnotation;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.index.JavaAnnotationsIndex;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient.MicroProfileRestClientConstants;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient.MicroProfileRestClientErrorCode;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
@@ -34,6 +34,7 @@ import org.eclipse.lsp4j.Range;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.INJECT_JAKARTA_ANNOTATION;
@@ -202,18 +203,22 @@ public class MicroProfileRestClientDiagnosticsParticipant implements IJavaDiagno
 			return;
 		}
 
+		// Search the @RestClient fields whose type is the interface with the annotations index
 		final AtomicInteger nbReferences = new AtomicInteger(0);
-		Query<PsiReference> query = ReferencesSearch.search(interfaceType, createSearchScope(context.getJavaProject()));
-		query.forEach(match -> {
-			PsiField field = PsiTreeUtil.getParentOfType(match.getElement(), PsiField.class);
-			if (field != null) {
+		String interfaceName = interfaceType.getName();
+		List<PsiModifierListOwner> restClientFields = JavaAnnotationsIndex.getAnnotatedElements(interfaceType.getProject(),
+				REST_CLIENT_ANNOTATION, createSearchScope(context.getJavaProject()),
+				annotation -> annotation.target() == IndexedAnnotation.Target.FIELD
+						&& Objects.equals(interfaceName, annotation.targetType()));
+		for (PsiModifierListOwner match : restClientFields) {
+			if (match instanceof PsiField field && field.getType() instanceof PsiClassType fieldType
+					&& interfaceType.equals(fieldType.resolve())) {
 				boolean hasInjectAnnotation = AnnotationUtils.hasAnyAnnotation(field, INJECT_JAVAX_ANNOTATION, INJECT_JAKARTA_ANNOTATION);
-				boolean hasRestClientAnnotation = AnnotationUtils.hasAnnotation(field, REST_CLIENT_ANNOTATION);
-				if (hasInjectAnnotation && hasRestClientAnnotation) {
+				if (hasInjectAnnotation) {
 					nbReferences.incrementAndGet();
 				}
 			}
-		});
+		}
 
 		if (nbReferences.get() > 0) {
 			String uri = context.getUri();
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe histogram of positive long values with a fixed memory footprint, in the style of HdrHistogram.
+ *
+ * <p>
+ * The values lower than {@value #SUB_BUCKET_COUNT} are counted exactly. The greater values are counted in buckets
+ * whose width doubles with each power of two, each power of two being split in {@value #SUB_BUCKET_COUNT} linear
+ * sub-buckets, so that the values reported for a percentile are within 1/{@value #SUB_BUCKET_COUNT} of the recorded
+ * values. The values greater than {@link #MAX_VALUE} are counted as {@link #MAX_VALUE}.
+ * </p>
+ */
+public final class BoundedHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The greatest value which is recorded, about 19 hours in microseconds.
+     */
+    public static final long MAX_VALUE = (1L << 36) - 1;
+
+    private static final int BUCKET_COUNT = getBucketIndex(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    private final AtomicLong totalCount = new AtomicLong();
+
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Records the given value, a negative value being recorded as 0.
+     *
+     * @param value the value to record.
+     */
+    public void record(long value) {
+        long boundedValue = Math.max(0, Math.min(value, MAX_VALUE));
+        counts.incrementAndGet(getBucketIndex(boundedValue));
+        totalCount.incrementAndGet();
+        maxValue.accumulateAndGet(boundedValue, Math::max);
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public long getMaxValue() {
+        return maxValue.get();
+    }
+
+    /**
+     * Returns the value below which the given percentage of the recorded values fall, or 0 when no value has been
+     * recorded.
+     *
+     * @param percentile the percentile between 0 and 100.
+     * @return the highest value of the bucket which contains the given percentile.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+        long countAtPercentile = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+            if (count >= countAtPercentile) {
+                return Math.min(getHighestValue(i), maxValue.get());
+            }
+        }
+        // Values recorded while iterating the buckets
+        return maxValue.get();
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        maxValue.set(0);
+    }
+
+    static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long getHighestValue(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucketIndex % SUB_BUCKET_COUNT;
+        long lowestValue = (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+}
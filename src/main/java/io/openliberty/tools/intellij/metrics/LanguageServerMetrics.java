@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.metrics;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionResult;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency metrics of the requests sent by the MicroProfile and Jakarta language servers to Liberty Tools, and of the
+ * Java diagnostics participants and collectors called by these requests.
+ *
+ * <p>
+ * The metrics are kept in memory for the lifetime of the IDE in {@link BoundedHistogram histograms} with a fixed
+ * footprint, one per request method and per participant, and are displayed in the "Liberty LS Performance" tool
+ * window.
+ * </p>
+ */
+public final class LanguageServerMetrics {
+
+    static final double[] PERCENTILES = {50, 95, 99};
+
+    private record Key(String method, String participant) {
+    }
+
+    private final Map<Key, RequestMetrics> metrics = new ConcurrentHashMap<>();
+
+    public static LanguageServerMetrics getInstance() {
+        return ApplicationManager.getApplication().getService(LanguageServerMetrics.class);
+    }
+
+    /**
+     * Starts measuring a request received from a language server.
+     *
+     * @param method the method of the request, e.g. <code>microprofile/java/diagnostics</code>.
+     * @param <R>    the type of the result of the request.
+     * @return the tracker of the request.
+     */
+    public <R> @NotNull RequestTracker<R> startRequest(@NotNull String method) {
+        return new RequestTracker<>(getMetrics(method, null));
+    }
+
+    /**
+     * Records a completed call of a participant.
+     *
+     * @param method       the method of the request which called the participant.
+     * @param participant  the name of the participant.
+     * @param computeNanos the duration of the call in nanoseconds.
+     * @param resultSize   the number of items returned by the participant.
+     */
+    public void recordParticipant(@NotNull String method, @NotNull String participant, long computeNanos, long resultSize) {
+        getMetrics(method, participant).recordCompleted(0, 0, computeNanos, resultSize);
+    }
+
+    /**
+     * Records a call of a participant which has been cancelled.
+     *
+     * @param method      the method of the request which called the participant.
+     * @param participant the name of the participant.
+     */
+    public void recordParticipantCancelled(@NotNull String method, @NotNull String participant) {
+        getMetrics(method, participant).recordCancelled();
+    }
+
+    private RequestMetrics getMetrics(String method, @Nullable String participant) {
+        return metrics.computeIfAbsent(new Key(method, participant), key -> new RequestMetrics(method, participant));
+    }
+
+    /**
+     * Returns the metrics of the requests and participants sorted by method, each request being followed by its
+     * participants.
+     *
+     * @return the metrics of the requests and participants.
+     */
+    public @NotNull List<RequestMetrics> getMetrics() {
+        List<RequestMetrics> result = new ArrayList<>(metrics.values());
+        result.sort(Comparator.comparing(RequestMetrics::getMethod)
+                .thenComparing(RequestMetrics::getParticipant, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return result;
+    }
+
+    public void reset() {
+        metrics.values().forEach(RequestMetrics::reset);
+    }
+
+    /**
+     * Returns the metrics in CSV format, the times being in microseconds.
+     *
+     * @return the metrics in CSV format.
+     */
+    public @NotNull String toCsv() {
+        StringWriter writer = new StringWriter();
+        try {
+            writeCsv(getMetrics(), writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    static void writeCsv(List<RequestMetrics> metrics, Writer writer) throws IOException {
+        writer.write("method,participant,completed,cancelled,cancellation rate (%)");
+        for (String histogram : List.of("queue wait (us)", "read action wait (us)", "compute time (us)", "result size")) {
+            for (double percentile : PERCENTILES) {
+                writer.write(String.format(Locale.ROOT, ",%s p%d", histogram, (int) percentile));
+            }
+        }
+        writer.write('\n');
+        for (RequestMetrics requestMetrics : metrics) {
+            writer.write(escapeCsv(requestMetrics.getMethod()));
+            writer.write(',');
+            writer.write(escapeCsv(requestMetrics.getParticipant() != null ? requestMetrics.getParticipant() : ""));
+            writer.write(String.format(Locale.ROOT, ",%d,%d,%.1f", requestMetrics.getCompletedCount(),
+                    requestMetrics.getCancelledCount(), requestMetrics.getCancellationRate()));
+            writePercentiles(requestMetrics.getQueueWait(), writer);
+            writePercentiles(requestMetrics.getReadActionWait(), writer);
+            writePercentiles(requestMetrics.getComputeTime(), writer);
+            writePercentiles(requestMetrics.getResultSize(), writer);
+            writer.write('\n');
+        }
+    }
+
+    private static void writePercentiles(@Nullable BoundedHistogram histogram, Writer writer) throws IOException {
+        for (double percentile : PERCENTILES) {
+            writer.write(',');
+            if (histogram != null && histogram.getTotalCount() > 0) {
+                writer.write(Long.toString(histogram.getValueAtPercentile(percentile)));
+            }
+        }
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Returns the number of items of the given request result, e.g. the number of diagnostics or of completion items.
+     */
+    static long getResultSize(@Nullable Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            long size = 0;
+            for (Object item : collection) {
+                size += item instanceof PublishDiagnosticsParams diagnostics ? getResultSize(diagnostics.getDiagnostics()) : 1;
+            }
+            return size;
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof CompletionList completionList) {
+            return getResultSize(completionList.getItems());
+        }
+        if (result instanceof MicroProfileJavaCompletionResult completionResult) {
+            return getResultSize(completionResult.getCompletionList());
+        }
+        if (result instanceof MicroProfileProjectInfo projectInfo) {
+            return getResultSize(projectInfo.getProperties());
+        }
+        return 1;
+    }
+
+    static boolean isCancellation(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CancellationException || cause instanceof ProcessCanceledException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
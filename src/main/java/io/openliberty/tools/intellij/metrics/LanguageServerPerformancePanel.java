@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.metrics;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionPlaces;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.Alarm;
+import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Content of the "Liberty LS Performance" tool window, which lists the percentiles of the queue wait, read action
+ * wait, compute time and result size of the requests sent by the language servers, and of the Java diagnostics
+ * participants and collectors called by these requests.
+ */
+public class LanguageServerPerformancePanel extends SimpleToolWindowPanel implements Disposable {
+
+    private static final int REFRESH_DELAY_MILLIS = 2000;
+
+    private final Project project;
+
+    private final MetricsTableModel tableModel = new MetricsTableModel();
+
+    private final Alarm refreshAlarm = new Alarm(Alarm.ThreadToUse.SWING_THREAD, this);
+
+    public LanguageServerPerformancePanel(@NotNull Project project) {
+        super(true, true);
+        this.project = project;
+        JBTable table = new JBTable(tableModel);
+        table.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
+        setContent(new JBScrollPane(table));
+        setToolbar(createToolbar(table).getComponent());
+        refresh();
+        scheduleRefresh();
+    }
+
+    private ActionToolbar createToolbar(JComponent target) {
+        DefaultActionGroup group = new DefaultActionGroup();
+        group.add(new DumbAwareAction(LocalizedResourceUtil.getMessage("ls.performance.refresh"), null, AllIcons.Actions.Refresh) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                refresh();
+            }
+        });
+        group.add(new DumbAwareAction(LocalizedResourceUtil.getMessage("ls.performance.reset"), null, AllIcons.Actions.GC) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                LanguageServerMetrics.getInstance().reset();
+                refresh();
+            }
+        });
+        group.add(new DumbAwareAction(LocalizedResourceUtil.getMessage("ls.performance.export"), null, AllIcons.ToolbarDecorator.Export) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                exportCsv();
+            }
+        });
+        ActionToolbar toolbar = ActionManager.getInstance().createActionToolbar(ActionPlaces.TOOLBAR, group, true);
+        toolbar.setTargetComponent(target);
+        return toolbar;
+    }
+
+    private void scheduleRefresh() {
+        refreshAlarm.addRequest(() -> {
+            if (isShowing()) {
+                refresh();
+            }
+            scheduleRefresh();
+        }, REFRESH_DELAY_MILLIS);
+    }
+
+    private void refresh() {
+        tableModel.setMetrics(LanguageServerMetrics.getInstance().getMetrics());
+    }
+
+    private void exportCsv() {
+        FileSaverDescriptor descriptor = new FileSaverDescriptor(LocalizedResourceUtil.getMessage("ls.performance.export"),
+                LocalizedResourceUtil.getMessage("ls.performance.export.description"), "csv");
+        VirtualFileWrapper file = FileChooserFactory.getInstance().createSaveFileDialog(descriptor, project)
+                .save((VirtualFile) null, "liberty-ls-performance.csv");
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.writeString(file.getFile().toPath(), LanguageServerMetrics.getInstance().toCsv(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            Messages.showErrorDialog(project, e.getLocalizedMessage(),
+                    LocalizedResourceUtil.getMessage("ls.performance.export.error"));
+        }
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    private static class MetricsTableModel extends AbstractTableModel {
+
+        private static final String[] HISTOGRAMS = {
+                LocalizedResourceUtil.getMessage("ls.performance.column.queue.wait"),
+                LocalizedResourceUtil.getMessage("ls.performance.column.read.action.wait"),
+                LocalizedResourceUtil.getMessage("ls.performance.column.compute.time"),
+                LocalizedResourceUtil.getMessage("ls.performance.column.result.size")};
+
+        private static final String[] COLUMNS = createColumns();
+
+        private static final int FIRST_HISTOGRAM_COLUMN = 4;
+
+        private List<RequestMetrics> metrics = List.of();
+
+        private static String[] createColumns() {
+            List<String> columns = new ArrayList<>();
+            columns.add(LocalizedResourceUtil.getMessage("ls.performance.column.method"));
+            columns.add(LocalizedResourceUtil.getMessage("ls.performance.column.participant"));
+            columns.add(LocalizedResourceUtil.getMessage("ls.performance.column.completed"));
+            columns.add(LocalizedResourceUtil.getMessage("ls.performance.column.cancellation.rate"));
+            for (String histogram : HISTOGRAMS) {
+                for (double percentile : LanguageServerMetrics.PERCENTILES) {
+                    columns.add(LocalizedResourceUtil.getMessage("ls.performance.column.percentile", histogram,
+                            Integer.toString((int) percentile)));
+                }
+            }
+            return columns.toArray(String[]::new);
+        }
+
+        private void setMetrics(List<RequestMetrics> metrics) {
+            this.metrics = metrics;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return metrics.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            RequestMetrics requestMetrics = metrics.get(rowIndex);
+            switch (columnIndex) {
+                case 0:
+                    return requestMetrics.getMethod();
+                case 1:
+                    return requestMetrics.getParticipant() != null ? requestMetrics.getParticipant() : "";
+                case 2:
+                    return requestMetrics.getCompletedCount();
+                case 3:
+                    return String.format(Locale.ROOT, "%.1f %%", requestMetrics.getCancellationRate());
+                default:
+                    int histogramIndex = (columnIndex - FIRST_HISTOGRAM_COLUMN) / LanguageServerMetrics.PERCENTILES.length;
+                    double percentile = LanguageServerMetrics.PERCENTILES[(columnIndex - FIRST_HISTOGRAM_COLUMN) % LanguageServerMetrics.PERCENTILES.length];
+                    BoundedHistogram histogram = getHistogram(requestMetrics, histogramIndex);
+                    if (histogram == null || histogram.getTotalCount() == 0) {
+                        return "";
+                    }
+                    long value = histogram.getValueAtPercentile(percentile);
+                    // The times are displayed in milliseconds
+                    return histogramIndex < 3 ? String.format(Locale.ROOT, "%.1f", value / 1000.0) : Long.toString(value);
+            }
+        }
+
+        private static @Nullable BoundedHistogram getHistogram(RequestMetrics requestMetrics, int histogramIndex) {
+            return switch (histogramIndex) {
+                case 0 -> requestMetrics.getQueueWait();
+                case 1 -> requestMetrics.getReadActionWait();
+                case 2 -> requestMetrics.getComputeTime();
+                default -> requestMetrics.getResultSize();
+            };
+        }
+    }
+}
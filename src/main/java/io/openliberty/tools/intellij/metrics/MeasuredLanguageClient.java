@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.metrics;
+
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.redhat.devtools.lsp4ij.client.CoalesceByKey;
+import com.redhat.devtools.lsp4ij.client.IndexAwareLanguageClient;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Language client which records the metrics of the requests it computes in {@link LanguageServerMetrics}.
+ */
+public abstract class MeasuredLanguageClient extends IndexAwareLanguageClient {
+
+    protected MeasuredLanguageClient(Project project) {
+        super(project);
+    }
+
+    /**
+     * Computes the given request in a non-blocking read action and records its metrics in
+     * {@link LanguageServerMetrics}.
+     *
+     * @param method        the method of the request, used as the name of its metrics.
+     * @param progressTitle the title of the progress of the request.
+     * @param code          the computation of the request.
+     * @param coalesceBy    the key which cancels the previous request with the same key.
+     * @return the future of the request.
+     */
+    protected <R> @NotNull CompletableFuture<R> runAsMeasuredBackground(@NotNull String method,
+                                                                        @NotNull String progressTitle,
+                                                                        @NotNull Function<ProgressIndicator, R> code,
+                                                                        @NotNull CoalesceByKey coalesceBy) {
+        RequestTracker<R> tracker = LanguageServerMetrics.getInstance().startRequest(method);
+        return tracker.track(runAsBackground(progressTitle, tracker.wrap(code), coalesceBy));
+    }
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of a language server request method, or of a participant called by a request.
+ *
+ * <p>
+ * The times are recorded in microseconds. The queue and read action waits are only recorded for the requests, the
+ * participants being called once the request holds the read action.
+ * </p>
+ */
+public final class RequestMetrics {
+
+    private final String method;
+
+    private final String participant;
+
+    private final BoundedHistogram queueWait;
+
+    private final BoundedHistogram readActionWait;
+
+    private final BoundedHistogram computeTime = new BoundedHistogram();
+
+    private final BoundedHistogram resultSize = new BoundedHistogram();
+
+    private final AtomicLong cancelled = new AtomicLong();
+
+    RequestMetrics(@NotNull String method, @Nullable String participant) {
+        this.method = method;
+        this.participant = participant;
+        this.queueWait = participant == null ? new BoundedHistogram() : null;
+        this.readActionWait = participant == null ? new BoundedHistogram() : null;
+    }
+
+    /**
+     * Returns the method of the request, e.g. <code>microprofile/java/diagnostics</code>.
+     *
+     * @return the method of the request.
+     */
+    public @NotNull String getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns the participant called by the request, or null for the metrics of the request itself.
+     *
+     * @return the participant called by the request, or null for the metrics of the request itself.
+     */
+    public @Nullable String getParticipant() {
+        return participant;
+    }
+
+    public @Nullable BoundedHistogram getQueueWait() {
+        return queueWait;
+    }
+
+    public @Nullable BoundedHistogram getReadActionWait() {
+        return readActionWait;
+    }
+
+    public @NotNull BoundedHistogram getComputeTime() {
+        return computeTime;
+    }
+
+    public @NotNull BoundedHistogram getResultSize() {
+        return resultSize;
+    }
+
+    /**
+     * Returns the number of completed requests or participant calls.
+     *
+     * @return the number of completed requests or participant calls.
+     */
+    public long getCompletedCount() {
+        return computeTime.getTotalCount();
+    }
+
+    public long getCancelledCount() {
+        return cancelled.get();
+    }
+
+    /**
+     * Returns the percentage of the requests or participant calls which have been cancelled.
+     *
+     * @return the percentage of the requests or participant calls which have been cancelled.
+     */
+    public double getCancellationRate() {
+        long cancelledCount = cancelled.get();
+        long total = cancelledCount + getCompletedCount();
+        return total == 0 ? 0 : 100.0 * cancelledCount / total;
+    }
+
+    void recordCompleted(long queueWaitNanos, long readActionWaitNanos, long computeNanos, long size) {
+        if (queueWait != null) {
+            queueWait.record(TimeUnit.NANOSECONDS.toMicros(queueWaitNanos));
+        }
+        if (readActionWait != null) {
+            readActionWait.record(TimeUnit.NANOSECONDS.toMicros(readActionWaitNanos));
+        }
+        computeTime.record(TimeUnit.NANOSECONDS.toMicros(computeNanos));
+        resultSize.record(size);
+    }
+
+    void recordCancelled() {
+        cancelled.incrementAndGet();
+    }
+
+    void reset() {
+        if (queueWait != null) {
+            queueWait.reset();
+        }
+        if (readActionWait != null) {
+            readActionWait.reset();
+        }
+        computeTime.reset();
+        resultSize.reset();
+        cancelled.set(0);
+    }
+}
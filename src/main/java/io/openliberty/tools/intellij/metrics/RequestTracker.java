@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.metrics;
+
+import com.intellij.openapi.progress.ProgressIndicator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Measures one language server request computed in a non-blocking read action.
+ *
+ * <p>
+ * A non-blocking read action is restarted when a write action cancels it, so the computation of the request may be
+ * called several times. The tracker records:
+ * <ul>
+ *     <li>the queue wait, from the reception of the request to the first call of the computation;</li>
+ *     <li>the read action wait, from the first call to the call which completed, i.e. the time lost in the calls
+ *     cancelled by write actions;</li>
+ *     <li>the compute time of the call which completed and the size of its result.</li>
+ * </ul>
+ * A request cancelled by the language server or replaced by a newer request with the same coalescing key is counted
+ * as cancelled.
+ * </p>
+ *
+ * @param <R> the type of the result of the request.
+ */
+public final class RequestTracker<R> {
+
+    private final RequestMetrics metrics;
+
+    private final long receivedTime = System.nanoTime();
+
+    private volatile boolean started;
+
+    private volatile long firstStartTime;
+
+    private volatile long lastStartTime;
+
+    private volatile long computeNanos = -1;
+
+    private volatile long resultSize;
+
+    RequestTracker(@NotNull RequestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the given computation which measures each of its calls.
+     *
+     * @param code the computation of the request.
+     * @return the given computation which measures each of its calls.
+     */
+    public @NotNull Function<ProgressIndicator, R> wrap(@NotNull Function<ProgressIndicator, R> code) {
+        return monitor -> {
+            long startTime = System.nanoTime();
+            if (!started) {
+                firstStartTime = startTime;
+                started = true;
+            }
+            lastStartTime = startTime;
+            R result = code.apply(monitor);
+            resultSize = LanguageServerMetrics.getResultSize(result);
+            computeNanos = System.nanoTime() - startTime;
+            return result;
+        };
+    }
+
+    /**
+     * Records the metrics of the request when the given future completes.
+     *
+     * @param future the future of the request.
+     * @return the given future.
+     */
+    public @NotNull CompletableFuture<R> track(@NotNull CompletableFuture<R> future) {
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                if (LanguageServerMetrics.isCancellation(error)) {
+                    metrics.recordCancelled();
+                }
+            } else if (computeNanos >= 0) {
+                metrics.recordCompleted(firstStartTime - receivedTime, lastStartTime - firstStartTime, computeNanos,
+                        resultSize);
+            }
+        });
+        return future;
+    }
+}
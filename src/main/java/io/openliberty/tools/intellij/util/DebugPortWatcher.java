@@ -0,0 +1,359 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import com.intellij.openapi.diagnostic.Logger;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waits for the JVM of a Liberty server started in dev mode to listen for debugger connections.
+ *
+ * <p>
+ * Dev mode writes liberty-plugin-config.xml in the build folder of the project, which contains the server directory,
+ * and then writes the debug port in the server.env file of the server. Instead of polling these files, the watcher
+ * reacts to their creation and modification with a {@link WatchService}, and only parses them again when their
+ * modification time or size has changed. Once dev mode has started, the debug port is probed with an exponential
+ * backoff until the JDWP handshake can be sent.
+ * </p>
+ */
+class DebugPortWatcher implements Closeable {
+
+    private static final Logger LOGGER = Logger.getInstance(DebugPortWatcher.class);
+
+    static final String LIBERTY_PLUGIN_CONFIG_FILE_NAME = "liberty-plugin-config.xml";
+
+    private static final String WLP_ENV_DEBUG_ADDRESS = "WLP_DEBUG_ADDRESS";
+
+    private static final byte[] JDWP_HANDSHAKE = "JDWP-Handshake".getBytes(StandardCharsets.US_ASCII);
+
+    // Longest wait for a file event, so that a cancellation or a change missed by the watch service is detected
+    private static final long MAX_WAIT_MILLIS = 500;
+
+    private static final long MIN_PROBE_DELAY_MILLIS = 50;
+
+    private static final long MAX_PROBE_DELAY_MILLIS = 2000;
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 500;
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+
+    private final Path projectDirectory;
+
+    private final Path buildDirectory;
+
+    private final String host;
+
+    private final WatchService watchService;
+
+    private final Set<Path> watchedDirectories = new HashSet<>();
+
+    private final CachedFile<String> pluginConfig;
+
+    private CachedFile<Integer> serverEnv;
+
+    // If server.env does not exist when the watcher is created, someone did a 'clean' before starting
+    private final boolean cleanStart;
+
+    private int debugPort;
+
+    private int parseCount;
+
+    /**
+     * Creates a watcher for the Liberty server of the given project.
+     *
+     * @param projectDirectory folder of the build file of the project
+     * @param buildFolderName  build folder of the project, target for Maven and build for Gradle
+     * @param host             JVM host to connect to
+     * @throws IOException if the watch service cannot be created
+     */
+    DebugPortWatcher(Path projectDirectory, String buildFolderName, String host) throws IOException {
+        this.projectDirectory = projectDirectory;
+        this.buildDirectory = projectDirectory.resolve(buildFolderName);
+        this.host = host;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.pluginConfig = new CachedFile<>(buildDirectory.resolve(LIBERTY_PLUGIN_CONFIG_FILE_NAME), DebugPortWatcher::readServerDirectory);
+        refresh();
+        this.cleanStart = serverEnv == null || !Files.exists(serverEnv.path);
+    }
+
+    /**
+     * Waits for dev mode to start and for the JVM to accept a connection on its debug port. If dev mode writes a
+     * different debug port in server.env, e.g. because the given port was taken by another process, that port is used.
+     *
+     * @param debugPort     JVM port to connect to
+     * @param timeoutMillis maximum time to wait
+     * @param cancelled     returns true when the wait is cancelled
+     * @return the port that the handshake was sent to, or null if the wait was cancelled
+     * @throws TimeoutException     if the JVM does not accept a connection before the timeout
+     * @throws InterruptedException if the thread is interrupted
+     */
+    @Nullable
+    Integer waitForDebugPort(int debugPort, long timeoutMillis, BooleanSupplier cancelled) throws TimeoutException, InterruptedException {
+        this.debugPort = debugPort;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        long probeDelay = MIN_PROBE_DELAY_MILLIS;
+        long nextProbe = System.nanoTime();
+        while (!cancelled.getAsBoolean()) {
+            long now = System.nanoTime();
+            if (now - deadline >= 0) {
+                throw new TimeoutException();
+            }
+            refresh();
+            boolean started = isDevModeStarted();
+            if (started) {
+                Integer envPort = getServerEnvDebugPort();
+                if (envPort != null && envPort != this.debugPort) {
+                    // dev mode allocated another port, probe it right away
+                    this.debugPort = envPort;
+                    probeDelay = MIN_PROBE_DELAY_MILLIS;
+                    nextProbe = now;
+                }
+                if (now - nextProbe >= 0) {
+                    if (probe(this.debugPort)) {
+                        return this.debugPort;
+                    }
+                    // After dev mode starts it still takes a few seconds for the runtime to start.
+                    nextProbe = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(probeDelay);
+                    probeDelay = Math.min(probeDelay * 2, MAX_PROBE_DELAY_MILLIS);
+                }
+            }
+            long waitNanos = TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS);
+            if (started) {
+                waitNanos = Math.min(waitNanos, nextProbe - System.nanoTime());
+            }
+            waitNanos = Math.min(waitNanos, deadline - System.nanoTime());
+            waitForFileEvents(Math.max(waitNanos, 0));
+        }
+        return null;
+    }
+
+    /**
+     * Returns the last debug port that was probed.
+     *
+     * @return the last debug port that was probed
+     */
+    int getDebugPort() {
+        return debugPort;
+    }
+
+    @TestOnly
+    int getParseCount() {
+        return parseCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void waitForFileEvents(long waitNanos) throws InterruptedException {
+        WatchKey key = watchService.poll(waitNanos, TimeUnit.NANOSECONDS);
+        // the files are checked again after any event, drain the other events
+        while (key != null) {
+            key.pollEvents();
+            key.reset();
+            key = watchService.poll();
+        }
+    }
+
+    /**
+     * Watches the folders of the files as soon as they exist, and resolves server.env from the server directory.
+     */
+    private void refresh() {
+        watch(projectDirectory);
+        watch(buildDirectory);
+        String serverDirectory = pluginConfig.get();
+        if (serverDirectory == null || serverDirectory.isEmpty()) {
+            LOGGER.trace(String.format("Server directory is null or empty for project %s", projectDirectory));
+            return;
+        }
+        Path serverEnvPath = Paths.get(serverDirectory, DebugModeHandler.WLP_SERVER_ENV_FILE_NAME);
+        if (serverEnv == null || !serverEnv.path.equals(serverEnvPath)) {
+            serverEnv = new CachedFile<>(serverEnvPath, DebugPortWatcher::readDebugPort);
+        }
+        watch(serverEnvPath.getParent());
+    }
+
+    /**
+     * Dev mode has started and updated server.env. server.env.bak only exists when dev mode is running assuming dev
+     * mode did not crash. If it did crash we will be trying the old port number until dev mode really updates the
+     * server.env. This is the risk we assume in the case of catastrophic failure.
+     */
+    private boolean isDevModeStarted() {
+        if (serverEnv == null || !Files.exists(serverEnv.path)) {
+            return false;
+        }
+        return cleanStart || Files.exists(serverEnv.path.resolveSibling(DebugModeHandler.WLP_SERVER_ENV_BAK_FILE_NAME));
+    }
+
+    private Integer getServerEnvDebugPort() {
+        return serverEnv != null ? serverEnv.get() : null;
+    }
+
+    private void watch(Path directory) {
+        if (directory == null || watchedDirectories.contains(directory) || !Files.isDirectory(directory)) {
+            return;
+        }
+        try {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            watchedDirectories.add(directory);
+        } catch (IOException e) {
+            // the files are still checked after each wait
+            LOGGER.trace(String.format("Unable to watch %s", directory), e);
+        }
+    }
+
+    private boolean probe(int port) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MILLIS);
+            socket.getOutputStream().write(JDWP_HANDSHAKE);
+            return true;
+        } catch (IOException e) {
+            LOGGER.trace(String.format("%s waiting for runtime to start on port %d", e.getClass().getSimpleName(), port));
+            return false;
+        }
+    }
+
+    /**
+     * Returns the value of the serverDirectory element of liberty-plugin-config.xml.
+     */
+    private static String readServerDirectory(Path configPath) throws IOException {
+        try (InputStream input = Files.newInputStream(configPath)) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(input);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && "serverDirectory".equals(reader.getLocalName())) {
+                        return reader.getElementText();
+                    }
+                }
+                return null;
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            // the file may be read while dev mode writes it
+            throw new IOException(String.format("Error parsing %s", configPath), e);
+        }
+    }
+
+    /**
+     * Returns the port value associated with the WLP_DEBUG_ADDRESS entry in server.env. Null if not found. If there
+     * are multiple WLP_DEBUG_ADDRESS entries, the last entry is returned.
+     */
+    private static Integer readDebugPort(Path serverEnvPath) throws IOException {
+        List<String> lines = Files.readAllLines(serverEnvPath, StandardCharsets.ISO_8859_1);
+        for (int i = lines.size() - 1; i >= 0; i--) {
+            String line = lines.get(i);
+            if (line.contains(WLP_ENV_DEBUG_ADDRESS)) {
+                String[] parts = line.split("=");
+                if (parts.length > 1) {
+                    try {
+                        return Integer.parseInt(parts[1].trim());
+                    } catch (NumberFormatException e) {
+                        LOGGER.warn(String.format("Unable to parse debug port from %s: %s", serverEnvPath, parts[1]));
+                    }
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    private interface FileParser<T> {
+        T parse(Path path) throws IOException;
+    }
+
+    /**
+     * The value parsed from a file, which is parsed again only when its modification time or size changes.
+     */
+    private final class CachedFile<T> {
+
+        private final Path path;
+
+        private final FileParser<T> parser;
+
+        private FileTime lastModified;
+
+        private long size = -1;
+
+        private T value;
+
+        private CachedFile(Path path, FileParser<T> parser) {
+            this.path = path;
+            this.parser = parser;
+        }
+
+        private T get() {
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                lastModified = null;
+                value = null;
+                return null;
+            } catch (IOException e) {
+                LOGGER.trace(String.format("Unable to read %s", path), e);
+                return value;
+            }
+            if (Objects.equals(attributes.lastModifiedTime(), lastModified) && attributes.size() == size) {
+                return value;
+            }
+            parseCount++;
+            try {
+                value = parser.parse(path);
+                lastModified = attributes.lastModifiedTime();
+                size = attributes.size();
+            } catch (IOException e) {
+                // parsed again on the next check
+                LOGGER.trace(String.format("Unable to parse %s", path), e);
+                value = null;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.redhat.devtools.lsp4ij.AbstractDocumentMatcher;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Matches all the Java files of the modules whose classpath contains one of the given packages, so that a language
+ * server is only started for the modules which use the APIs it supports.
+ *
+ * <p>
+ * The content of the Java files is not checked, so a new class is connected before it imports any API. The classpath
+ * check only looks up the package folders in the class roots of the module and its dependencies. It is cached per
+ * module until the project roots change.
+ * </p>
+ */
+public abstract class JavaClasspathDocumentMatcher extends AbstractDocumentMatcher {
+
+    private final Key<CachedValue<Boolean>> cacheKey;
+
+    private final String[] packagePaths;
+
+    /**
+     * @param cacheKey     the key of the cached result on the modules, specific to the matcher.
+     * @param packageNames the qualified names of the packages.
+     */
+    protected JavaClasspathDocumentMatcher(@NotNull Key<CachedValue<Boolean>> cacheKey, String... packageNames) {
+        this.cacheKey = cacheKey;
+        this.packagePaths = new String[packageNames.length];
+        for (int i = 0; i < packageNames.length; i++) {
+            packagePaths[i] = packageNames[i].replace('.', '/');
+        }
+    }
+
+    @Override
+    public boolean match(@NotNull VirtualFile file, @NotNull Project fileProject) {
+        if (!"java".equalsIgnoreCase(file.getExtension())) {
+            return false;
+        }
+        Module module = LSPIJUtils.getModule(file, fileProject);
+        return module != null && hasPackageOnClasspath(module);
+    }
+
+    private boolean hasPackageOnClasspath(Module module) {
+        Project project = module.getProject();
+        return CachedValuesManager.getManager(project).getCachedValue(module, cacheKey,
+                () -> CachedValueProvider.Result.create(ReadAction.compute(() -> findPackageOnClasspath(module)),
+                        ProjectRootModificationTracker.getInstance(project)),
+                false);
+    }
+
+    private boolean findPackageOnClasspath(Module module) {
+        if (module.isDisposed()) {
+            return false;
+        }
+        VirtualFile[] roots = OrderEnumerator.orderEntries(module).withoutSdk().recursively().classes().getRoots();
+        for (VirtualFile root : roots) {
+            for (String packagePath : packagePaths) {
+                VirtualFile packageDir = root.findFileByRelativePath(packagePath);
+                if (packageDir != null && packageDir.isDirectory()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import com.intellij.openapi.application.PathManager;
+import com.intellij.util.execution.ParametersListUtil;
+import io.openliberty.tools.intellij.LibertyLanguageServerSettings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Computes the JVM options of the language server processes launched by Liberty Tools.
+ *
+ * <p>
+ * The language servers run with the default options of the JVM, unless JVM options are set in
+ * {@link LibertyLanguageServerSettings}. {@link #STARTUP_JVM_OPTIONS} trade the peak throughput for a faster startup
+ * and a smaller footprint; they are opt-in because they apply for the whole life of the server, whose long sessions
+ * benefit from the C2 compiler.
+ * </p>
+ * <p>
+ * When class data sharing is enabled, the first launch of a server dumps the classes it loaded to an AppCDS archive
+ * when the process exits, and the next launches map this archive instead of loading and verifying the classes again.
+ * The archive is specific to the server jars and to the Java runtime, so an update of either one creates a new
+ * archive. When a new archive is created, the outdated archives of the same Java runtime are deleted, while the
+ * archives of the other Java runtimes are kept until they have not been used for {@link #MAX_ARCHIVE_AGE}. The JVM
+ * ignores an archive it cannot map, for instance one truncated by a killed process.
+ * </p>
+ */
+public final class LanguageServerJvmOptions {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LanguageServerJvmOptions.class);
+
+    /**
+     * The JVM options suggested in the settings to favour the startup time of a language server.
+     */
+    public static final String STARTUP_JVM_OPTIONS = "-XX:+UseSerialGC -XX:TieredStopAtLevel=1";
+
+    private static final String ARCHIVE_EXTENSION = ".jsa";
+
+    /**
+     * The time after which the unused archives of the other Java runtimes are deleted.
+     */
+    static final Duration MAX_ARCHIVE_AGE = Duration.ofDays(30);
+
+    private LanguageServerJvmOptions() {
+    }
+
+    /**
+     * Returns the JVM options of the given language server with the current settings. The options must be added to
+     * the command line before the <code>-jar</code> or <code>-cp</code> option.
+     *
+     * @param serverName the name of the language server, e.g. {@link Constants#LIBERTY_CONFIG_SERVER}.
+     * @param javaHome   the home of the Java runtime which runs the language server.
+     * @param jars       the jars of the language server.
+     * @return the JVM options of the given language server.
+     */
+    public static @NotNull List<String> getJvmOptions(@NotNull String serverName, @NotNull String javaHome,
+                                                      @NotNull File... jars) {
+        LibertyLanguageServerSettings settings = LibertyLanguageServerSettings.getInstance();
+        Path archiveDir = settings.isClassDataSharingEnabled() ? getArchiveDir() : null;
+        return getJvmOptions(serverName, settings.getJvmOptions(serverName), archiveDir, javaHome, jars);
+    }
+
+    /**
+     * Returns the JVM options of the given language server.
+     *
+     * @param serverName the name of the language server.
+     * @param jvmOptions the JVM options set in the settings, or null to use the defaults of the JVM.
+     * @param archiveDir the directory of the AppCDS archives, or null to disable class data sharing.
+     * @param javaHome   the home of the Java runtime which runs the language server.
+     * @param jars       the jars of the language server.
+     * @return the JVM options of the given language server.
+     */
+    public static @NotNull List<String> getJvmOptions(@NotNull String serverName, @Nullable String jvmOptions,
+                                                      @Nullable Path archiveDir, @NotNull String javaHome,
+                                                      @NotNull File... jars) {
+        List<String> options = new ArrayList<>(ParametersListUtil.parse(jvmOptions != null ? jvmOptions : ""));
+        if (archiveDir != null && !hasClassDataSharingOption(options)) {
+            Path archive = getArchive(archiveDir, serverName, javaHome, jars);
+            if (archive != null) {
+                // The JVM logs to the standard output by default, which is the channel of the language server protocol
+                options.add("-Xlog:disable");
+                options.add("-Xlog:all=warning:stderr");
+                if (Files.isRegularFile(archive)) {
+                    touch(archive);
+                    options.add("-XX:SharedArchiveFile=" + archive);
+                } else {
+                    deleteOutdatedArchives(archiveDir, serverName, javaHome);
+                    options.add("-XX:ArchiveClassesAtExit=" + archive);
+                }
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Returns the directory of the AppCDS archives of the language servers.
+     *
+     * @return the directory of the AppCDS archives of the language servers.
+     */
+    public static @NotNull Path getArchiveDir() {
+        return PathManager.getSystemDir().resolve("liberty-tools").resolve("cds");
+    }
+
+    private static boolean hasClassDataSharingOption(List<String> options) {
+        return options.stream().anyMatch(option -> option.startsWith("-Xshare")
+                || option.startsWith("-XX:SharedArchiveFile")
+                || option.startsWith("-XX:ArchiveClassesAtExit"));
+    }
+
+    private static @Nullable Path getArchive(Path archiveDir, String serverName, String javaHome, File... jars) {
+        try {
+            Files.createDirectories(archiveDir);
+            return archiveDir.resolve(getArchivePrefix(serverName, javaHome) + getArchiveKey(javaHome, jars) + ARCHIVE_EXTENSION);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOGGER.warn(String.format("Unable to use class data sharing for the %s language server", serverName), e);
+            return null;
+        }
+    }
+
+    private static String getArchivePrefix(String serverName) {
+        return serverName.replaceAll("[^A-Za-z0-9]+", "-") + "-";
+    }
+
+    /**
+     * Returns the prefix of the archives of the given language server run by the Java runtime installed in the given
+     * home, whatever the version of the server jars and of the runtime.
+     */
+    private static String getArchivePrefix(String serverName, String javaHome) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(javaHome.getBytes(StandardCharsets.UTF_8));
+        return getArchivePrefix(serverName) + HexFormat.of().formatHex(digest.digest(), 0, 4) + "-";
+    }
+
+    /**
+     * Deletes the archives created for previous versions of the server jars or of the Java runtime installed in the
+     * given home, and the archives of the other Java runtimes which have not been used for {@link #MAX_ARCHIVE_AGE}.
+     */
+    private static void deleteOutdatedArchives(Path archiveDir, String serverName, String javaHome) {
+        String glob = getArchivePrefix(serverName) + "*" + ARCHIVE_EXTENSION;
+        try (DirectoryStream<Path> archives = Files.newDirectoryStream(archiveDir, glob)) {
+            String runtimePrefix = getArchivePrefix(serverName, javaHome);
+            Instant expiration = Instant.now().minus(MAX_ARCHIVE_AGE);
+            for (Path archive : archives) {
+                if (archive.getFileName().toString().startsWith(runtimePrefix)
+                        || Files.getLastModifiedTime(archive).toInstant().isBefore(expiration)) {
+                    Files.deleteIfExists(archive);
+                }
+            }
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOGGER.debug("Unable to delete the outdated class data sharing archives", e);
+        }
+    }
+
+    /**
+     * Records the last use of the given archive, to keep it while its Java runtime is used.
+     */
+    private static void touch(Path archive) {
+        try {
+            Files.setLastModifiedTime(archive, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            LOGGER.debug("Unable to update the last use of the class data sharing archive", e);
+        }
+    }
+
+    private static String getArchiveKey(String javaHome, File... jars) throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(javaHome.getBytes(StandardCharsets.UTF_8));
+        // The release file identifies the exact build of the Java runtime
+        Path release = Path.of(javaHome, "release");
+        if (Files.isRegularFile(release)) {
+            digest.update(Files.readAllBytes(release));
+        }
+        for (File jar : jars) {
+            digest.update(jar.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+            digest.update(Long.toString(jar.length()).getBytes(StandardCharsets.UTF_8));
+            digest.update(Long.toString(jar.lastModified()).getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 8);
+    }
+}
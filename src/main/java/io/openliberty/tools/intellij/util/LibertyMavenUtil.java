@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2024 IBM Corporation.
+ * Copyright (c) 2020, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -22,16 +22,7 @@ import org.jetbrains.idea.maven.project.StaticResolvedMavenHomeType;
 import org.jetbrains.idea.maven.server.MavenServerConnector;
 import org.jetbrains.idea.maven.server.MavenServerManager;
 import org.jetbrains.idea.maven.utils.MavenUtil;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
 
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
@@ -49,134 +40,32 @@ public class LibertyMavenUtil {
      * Return the project name given a pom.xml build file
      * @param file pom.xml
      * @return String of project name
-     * @throws ParserConfigurationException
      * @throws IOException
-     * @throws SAXException
      */
-    public static String getProjectNameFromPom(VirtualFile file) throws ParserConfigurationException, IOException, SAXException {
-        DocumentBuilderFactory factory = newDocumentBuilderFactory();
-        DocumentBuilder builder = factory.newDocumentBuilder();
-
-        File inputFile = new File(file.getPath());
-        Document doc = builder.parse(inputFile);
-
-        doc.getDocumentElement().normalize();
-        Node root = doc.getDocumentElement();
-
-        NodeList nList = root.getChildNodes();
-        for (int temp = 0; temp < nList.getLength(); temp++) {
-            Node nNode = nList.item(temp);
-            if (nNode.getNodeName().equals("artifactId")) {
-                if (nNode.getTextContent() != null) {
-                    return nNode.getTextContent();
-                }
-            }
+    public static String getProjectNameFromPom(VirtualFile file) throws IOException {
+        String artifactId = PomSummary.getSummary(file).getArtifactId();
+        if (artifactId != null) {
+            return artifactId;
         }
         VirtualFile parentFolder = file.getParent();
         return parentFolder.getName();
     }
 
     /**
-     * Check if a pom uses the liberty maven plugin
+     * Check if a pom uses the liberty maven plugin, in the plugins of the build or of a profile, or in the plugin
+     * management of the build, which indicates a parent pom listed in the Liberty Dev Dashboard
      *
      * @param file pom.xml build file
      * @return BuildFile, validBuildFile true if using the liberty maven plugin,
      * validContainerVersion true if plugin version is valid for dev mode in containers
-     * @throws ParserConfigurationException
      * @throws IOException
-     * @throws SAXException
      */
-    public static BuildFile validPom(VirtualFile file) throws ParserConfigurationException, IOException, SAXException {
-        BuildFile buildFile = new BuildFile(false, false);
-        DocumentBuilderFactory factory = newDocumentBuilderFactory();
-        DocumentBuilder builder = factory.newDocumentBuilder();
-
-        File inputFile = new File(file.getPath());
-        Document doc = builder.parse(inputFile);
-
-        doc.getDocumentElement().normalize();
-        Node root = doc.getDocumentElement();
-
-        NodeList nList = root.getChildNodes();
-        for (int temp = 0; temp < nList.getLength(); temp++) {
-            Node nNode = nList.item(temp);
-
-            // check for liberty maven plugin in profiles
-            if (nNode.getNodeName().equals("profiles")) {
-                NodeList profiles = nNode.getChildNodes();
-                for (int i = 0; i < profiles.getLength(); i++) {
-                    Node profile = profiles.item(i);
-                    if (profile.getNodeName().equals("profile")) {
-                        NodeList profileList = profile.getChildNodes();
-                        for (int j = 0; j < profileList.getLength(); j++) {
-                            if (profileList.item(j).getNodeName().equals("build")) {
-                                NodeList buildNodeList = profileList.item(j).getChildNodes();
-                                buildFile = mavenPluginDetected(buildNodeList);
-                                if (buildFile.isValidBuildFile()){
-                                    return buildFile;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-
-            // check for liberty maven plugin in plugins
-            if (nNode.getNodeName().equals("build")) {
-                NodeList buildNodeList = nNode.getChildNodes();
-                buildFile = mavenPluginDetected(buildNodeList);
-                if (buildFile.isValidBuildFile()){
-                    return buildFile;
-                }
-
-                // check for liberty maven plugin in plugin management
-                // indicates this is a parent pom, list in the Liberty Dev Dashboard
-                for (int i = 0; i < buildNodeList.getLength(); i++) {
-                    Node buildNode = buildNodeList.item(i);
-                    if (buildNode.getNodeName().equals("pluginManagement")) {
-                        NodeList pluginManagementList = buildNode.getChildNodes();
-                        buildFile = mavenPluginDetected(pluginManagementList);
-                    }
-                }
-            }
+    public static BuildFile validPom(VirtualFile file) throws IOException {
+        PomSummary summary = PomSummary.getSummary(file);
+        if (summary.isLibertyPluginDeclared() || summary.isLibertyPluginManaged()) {
+            return new BuildFile(true, containerVersion(summary.getLibertyPluginVersion()));
         }
-        return buildFile;
-    }
-
-    private static BuildFile mavenPluginDetected(NodeList buildList) {
-        for (int i = 0; i < buildList.getLength(); i++) {
-            Node buildNode = buildList.item(i);
-            if (buildNode.getNodeName().equals("plugins")) {
-                NodeList plugins = buildNode.getChildNodes();
-                if (buildNode.getNodeType() == Node.ELEMENT_NODE) {
-                    Element pluginsElem = (Element) buildNode;
-                    NodeList pluginsList = pluginsElem.getElementsByTagName("plugin");
-                    for (int j = 0; j < pluginsList.getLength(); j++) {
-                        Node pluginNode = pluginsList.item(j);
-                        if (pluginNode.getNodeType() == Node.ELEMENT_NODE) {
-                            Element pluginElem = (Element) pluginNode;
-                            String groupId = "";
-                            String artifactId = "";
-                            String version = "";
-                            if (pluginElem.getElementsByTagName("groupId").getLength() != 0) {
-                                groupId = pluginElem.getElementsByTagName("groupId").item(0).getTextContent();
-                            }
-                            if (pluginElem.getElementsByTagName("artifactId").getLength() != 0) {
-                                artifactId = pluginElem.getElementsByTagName("artifactId").item(0).getTextContent();
-                            }
-                            if (pluginElem.getElementsByTagName("version").getLength() != 0) {
-                                version = pluginElem.getElementsByTagName("version").item(0).getTextContent();
-                            }
-                            if (groupId.equals("io.openliberty.tools") && artifactId.equals("liberty-maven-plugin")){
-                                boolean validContainerVersion = containerVersion(version);
-                                return (new BuildFile(true, validContainerVersion));
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        return (new BuildFile(false, false));
+        return new BuildFile(false, false);
     }
 
     /**
@@ -349,18 +238,4 @@ public class LibertyMavenUtil {
         }
         return null;
     }
-
-    private static DocumentBuilderFactory newDocumentBuilderFactory() {
-        final DocumentBuilderFactory factory = DocumentBuilderFactory.newDefaultInstance();
-        try {
-            // This property is required to be recognized by the JDK implementation.
-            // Setting this property would only fail if the JDK is broken. Returning
-            // the factory from within the "finally" block prevents any exception
-            // from being thrown from this method.
-            factory.setAttribute(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-        }
-        finally {
-            return factory;
-        }
-    }
 }
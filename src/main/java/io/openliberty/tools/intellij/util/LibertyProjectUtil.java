@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 IBM Corporation.
+ * Copyright (c) 2020, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,8 +13,10 @@ import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.actionSystem.DataContext;
 import com.intellij.openapi.application.ApplicationInfo;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
 import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.wm.ToolWindow;
@@ -45,6 +47,11 @@ import java.util.concurrent.ExecutionException;
 public class LibertyProjectUtil {
     private static Logger LOGGER = Logger.getInstance(LibertyProjectUtil.class);
 
+    public static final String MAVEN_BUILD_FILE = "pom.xml";
+    public static final String GRADLE_BUILD_FILE = "build.gradle";
+    // server.xml of a Liberty project, relative to its build file
+    public static final String LIBERTY_SERVER_XML = "src/main/liberty/config/server.xml";
+
     enum BuildFileFilter {
         ADDABLE {
             public boolean matches(Project project, BuildFile buildFile, VirtualFile virtualFile) {
@@ -236,23 +243,15 @@ public class LibertyProjectUtil {
         ArrayList<BuildFile> collectedBuildFiles = new ArrayList<BuildFile>();
         Collection<VirtualFile> indexedVFiles;
         if (buildFileType.equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT)) {
-            indexedVFiles = readIndex(project, "pom.xml");
+            indexedVFiles = readIndex(project, MAVEN_BUILD_FILE);
         } else {
-            indexedVFiles = readIndex(project, "build.gradle");
+            indexedVFiles = readIndex(project, GRADLE_BUILD_FILE);
         }
         if (indexedVFiles != null) {
             for (VirtualFile vFile : indexedVFiles) {
                 try {
-                    BuildFile buildFile;
-                    if (buildFileType.equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT)) {
-                        buildFile = LibertyMavenUtil.validPom(vFile);
-                    } else {
-                        buildFile = LibertyGradleUtil.validBuildGradle(vFile);
-                    }
-                    // check if valid pom.xml or build.gradle, or if part of Liberty project
-                    if (filter.matches(project, buildFile, vFile)) {
-                        buildFile.setBuildFile(vFile);
-                        buildFile.setProjectType(buildFileType);
+                    BuildFile buildFile = getBuildFile(project, vFile, buildFileType, filter);
+                    if (buildFile != null) {
                         collectedBuildFiles.add(buildFile);
                     }
                 } catch (Exception e) {
@@ -263,6 +262,60 @@ public class LibertyProjectUtil {
         return collectedBuildFiles;
     }
 
+    /**
+     * Returns the given pom.xml or build.gradle file if it belongs to a Liberty project listed in the Liberty tool
+     * window, without searching the other build files of the project.
+     *
+     * @param project
+     * @param vFile pom.xml or build.gradle file
+     * @return BuildFile, or null if the file is not the build file of a Liberty project of the given project
+     * @throws IOException if the build file cannot be read or parsed
+     */
+    @Nullable
+    public static BuildFile getLibertyBuildFile(Project project, VirtualFile vFile) throws IOException {
+        Constants.ProjectType buildFileType = getBuildFileType(vFile);
+        if (buildFileType == null || !vFile.isValid() || !isInProjectContent(project, vFile)) {
+            return null;
+        }
+        return getBuildFile(project, vFile, buildFileType, BuildFileFilter.LIST);
+    }
+
+    /**
+     * Returns the type of Liberty project of the given build file
+     *
+     * @param vFile file
+     * @return LIBERTY_MAVEN_PROJECT for a pom.xml, LIBERTY_GRADLE_PROJECT for a build.gradle, null otherwise
+     */
+    @Nullable
+    public static Constants.ProjectType getBuildFileType(VirtualFile vFile) {
+        return switch (vFile.getName()) {
+            case MAVEN_BUILD_FILE -> Constants.ProjectType.LIBERTY_MAVEN_PROJECT;
+            case GRADLE_BUILD_FILE -> Constants.ProjectType.LIBERTY_GRADLE_PROJECT;
+            default -> null;
+        };
+    }
+
+    // check if valid pom.xml or build.gradle, or if part of Liberty project
+    private static BuildFile getBuildFile(Project project, VirtualFile vFile, Constants.ProjectType buildFileType, BuildFileFilter filter) throws IOException {
+        BuildFile buildFile;
+        if (buildFileType.equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT)) {
+            buildFile = LibertyMavenUtil.validPom(vFile);
+        } else {
+            buildFile = LibertyGradleUtil.validBuildGradle(vFile);
+        }
+        if (!filter.matches(project, buildFile, vFile)) {
+            return null;
+        }
+        buildFile.setBuildFile(vFile);
+        buildFile.setProjectType(buildFileType);
+        return buildFile;
+    }
+
+    // Same scope as the filename index search of the build files
+    private static boolean isInProjectContent(Project project, VirtualFile vFile) {
+        return ReadAction.compute(() -> !project.isDisposed() && ProjectFileIndex.getInstance(project).isInContent(vFile));
+    }
+
     // Wrap the search for files in a executeOnPooledThread() method to handle the slow operations on EDT issue
     // and in a runReadAction() to handle the read action required problem.
     private static Collection<VirtualFile> readIndex(Project project, String name) {
@@ -283,7 +336,7 @@ public class LibertyProjectUtil {
      */
     private static boolean isLibertyProject(VirtualFile buildFile) {
         String rootDir = buildFile.getParent().getPath();
-        return new File(rootDir, "src/main/liberty/config/server.xml").exists();
+        return new File(rootDir, LIBERTY_SERVER_XML).exists();
     }
 
     /**
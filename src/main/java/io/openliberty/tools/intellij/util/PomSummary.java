@@ -0,0 +1,319 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The information of a pom.xml used by Liberty Tools, extracted in a single streaming pass.
+ *
+ * <p>
+ * The summary of a pom.xml is cached in its {@link VirtualFile} until the modification stamp of the file changes, so
+ * that scanning the build files of a project only parses the pom.xml files which have changed since the last scan.
+ * </p>
+ */
+public final class PomSummary {
+
+    private static final Key<PomSummary> SUMMARY_KEY = Key.create("liberty.pom.summary");
+
+    private static final String LIBERTY_MAVEN_PLUGIN_GROUP_ID = "io.openliberty.tools";
+
+    private static final String LIBERTY_MAVEN_PLUGIN_ARTIFACT_ID = "liberty-maven-plugin";
+
+    private static final String BUILD_PLUGINS = "project/build/plugins";
+
+    private static final String PROFILE_BUILD_PLUGINS = "project/profiles/profile/build/plugins";
+
+    private static final String PLUGIN_MANAGEMENT_PLUGINS = "project/build/pluginManagement/plugins";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+
+    private static final AtomicInteger parseCount = new AtomicInteger();
+
+    private final long modificationStamp;
+
+    private final String artifactId;
+
+    private final String name;
+
+    private final boolean libertyPluginDeclared;
+
+    private final boolean libertyPluginManaged;
+
+    private final String libertyPluginVersion;
+
+    private final Map<String, String> libertyPluginConfiguration;
+
+    private PomSummary(long modificationStamp, String artifactId, String name, boolean libertyPluginDeclared,
+                       boolean libertyPluginManaged, String libertyPluginVersion,
+                       Map<String, String> libertyPluginConfiguration) {
+        this.modificationStamp = modificationStamp;
+        this.artifactId = artifactId;
+        this.name = name;
+        this.libertyPluginDeclared = libertyPluginDeclared;
+        this.libertyPluginManaged = libertyPluginManaged;
+        this.libertyPluginVersion = libertyPluginVersion;
+        this.libertyPluginConfiguration = libertyPluginConfiguration;
+    }
+
+    /**
+     * Returns the summary of the given pom.xml, which is only parsed again when it has been modified since the last
+     * call.
+     *
+     * @param file pom.xml
+     * @return the summary of the given pom.xml.
+     * @throws IOException if the file cannot be read or is not well-formed.
+     */
+    public static @NotNull PomSummary getSummary(@NotNull VirtualFile file) throws IOException {
+        long modificationStamp = file.getModificationStamp();
+        PomSummary summary = file.getUserData(SUMMARY_KEY);
+        if (summary != null && summary.modificationStamp == modificationStamp) {
+            return summary;
+        }
+        try (InputStream input = file.getInputStream()) {
+            summary = parse(input, modificationStamp);
+        } catch (XMLStreamException e) {
+            throw new IOException(String.format("Error parsing %s", file.getPath()), e);
+        }
+        file.putUserData(SUMMARY_KEY, summary);
+        return summary;
+    }
+
+    /**
+     * Returns the artifactId of the project, or null when it is not declared.
+     *
+     * @return the artifactId of the project.
+     */
+    public @Nullable String getArtifactId() {
+        return artifactId;
+    }
+
+    /**
+     * Returns the name of the project, or null when it is not declared.
+     *
+     * @return the name of the project.
+     */
+    public @Nullable String getName() {
+        return name;
+    }
+
+    /**
+     * Returns true if the liberty-maven-plugin is declared in the plugins of the build or of a profile.
+     *
+     * @return true if the liberty-maven-plugin is declared in the plugins of the build or of a profile.
+     */
+    public boolean isLibertyPluginDeclared() {
+        return libertyPluginDeclared;
+    }
+
+    /**
+     * Returns true if the liberty-maven-plugin is declared in the plugin management of the build, which indicates a
+     * parent pom.
+     *
+     * @return true if the liberty-maven-plugin is declared in the plugin management of the build.
+     */
+    public boolean isLibertyPluginManaged() {
+        return libertyPluginManaged;
+    }
+
+    /**
+     * Returns the version of the liberty-maven-plugin, an empty string when no version is declared and null when the
+     * plugin is not used.
+     *
+     * @return the version of the liberty-maven-plugin.
+     */
+    public @Nullable String getLibertyPluginVersion() {
+        return libertyPluginVersion;
+    }
+
+    /**
+     * Returns the simple elements of the configuration of the liberty-maven-plugin, e.g. <code>serverName</code>.
+     *
+     * @return the simple elements of the configuration of the liberty-maven-plugin.
+     */
+    public @NotNull Map<String, String> getLibertyPluginConfiguration() {
+        return libertyPluginConfiguration;
+    }
+
+    @TestOnly
+    static int getParseCount() {
+        return parseCount.get();
+    }
+
+    static PomSummary parse(InputStream input, long modificationStamp) throws XMLStreamException {
+        parseCount.incrementAndGet();
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(input);
+        try {
+            String artifactId = null;
+            String name = null;
+            Plugin declaredPlugin = null;
+            Plugin managedPlugin = null;
+            List<String> path = new ArrayList<>();
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    path.remove(path.size() - 1);
+                } else if (event == XMLStreamConstants.START_ELEMENT) {
+                    String element = reader.getLocalName();
+                    if (path.size() == 1 && "project".equals(path.get(0))
+                            && ("artifactId".equals(element) || "name".equals(element))) {
+                        // readElement consumes the end of the element
+                        String text = readElement(reader);
+                        if ("artifactId".equals(element) && artifactId == null) {
+                            artifactId = text;
+                        } else if ("name".equals(element) && name == null) {
+                            name = text;
+                        }
+                    } else if ("plugin".equals(element) && !path.isEmpty() && "plugins".equals(path.get(path.size() - 1))) {
+                        String pluginsPath = String.join("/", path);
+                        if (BUILD_PLUGINS.equals(pluginsPath) || PROFILE_BUILD_PLUGINS.equals(pluginsPath)) {
+                            Plugin plugin = readPlugin(reader);
+                            if (declaredPlugin == null && plugin.isLibertyPlugin()) {
+                                declaredPlugin = plugin;
+                            }
+                        } else if (PLUGIN_MANAGEMENT_PLUGINS.equals(pluginsPath)) {
+                            Plugin plugin = readPlugin(reader);
+                            if (managedPlugin == null && plugin.isLibertyPlugin()) {
+                                managedPlugin = plugin;
+                            }
+                        } else {
+                            path.add(element);
+                        }
+                    } else {
+                        path.add(element);
+                    }
+                }
+            }
+            Plugin libertyPlugin = declaredPlugin != null ? declaredPlugin : managedPlugin;
+            return new PomSummary(modificationStamp, artifactId, name, declaredPlugin != null, managedPlugin != null,
+                    libertyPlugin != null ? libertyPlugin.version() : null,
+                    libertyPlugin != null ? libertyPlugin.configuration() : Collections.emptyMap());
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads the plugin element on which the given reader is positioned, up to its end.
+     */
+    private static Plugin readPlugin(XMLStreamReader reader) throws XMLStreamException {
+        String groupId = "";
+        String artifactId = "";
+        String version = "";
+        Map<String, String> configuration = Collections.emptyMap();
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                if (depth > 1) {
+                    depth++;
+                    continue;
+                }
+                switch (reader.getLocalName()) {
+                    case "groupId" -> groupId = readElement(reader, "");
+                    case "artifactId" -> artifactId = readElement(reader, "");
+                    case "version" -> version = readElement(reader, "");
+                    case "configuration" -> configuration = readConfiguration(reader);
+                    default -> depth++;
+                }
+            }
+        }
+        return new Plugin(groupId, artifactId, version, configuration);
+    }
+
+    /**
+     * Reads the configuration element on which the given reader is positioned, up to its end, and returns its child
+     * elements which only contain text.
+     */
+    private static Map<String, String> readConfiguration(XMLStreamReader reader) throws XMLStreamException {
+        Map<String, String> configuration = new LinkedHashMap<>();
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return Collections.unmodifiableMap(configuration);
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String element = reader.getLocalName();
+                String text = readElement(reader);
+                if (text != null) {
+                    configuration.putIfAbsent(element, text);
+                }
+            }
+        }
+    }
+
+    private static String readElement(XMLStreamReader reader, String defaultValue) throws XMLStreamException {
+        String text = readElement(reader);
+        return text != null ? text : defaultValue;
+    }
+
+    /**
+     * Reads the element on which the given reader is positioned, up to its end, and returns its trimmed text, or null
+     * when the element contains other elements.
+     */
+    private static @Nullable String readElement(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        boolean simple = true;
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    simple = false;
+                    depth++;
+                }
+                case XMLStreamConstants.END_ELEMENT -> depth--;
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                    if (depth == 1) {
+                        text.append(reader.getText());
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return simple ? text.toString().trim() : null;
+    }
+
+    private static XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+        // The build files must never resolve external entities
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    private record Plugin(String groupId, String artifactId, String version, Map<String, String> configuration) {
+
+        private boolean isLibertyPlugin() {
+            return LIBERTY_MAVEN_PLUGIN_GROUP_ID.equals(groupId) && LIBERTY_MAVEN_PLUGIN_ARTIFACT_ID.equals(artifactId);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tracks whether a server listens on the host and port of the JAX-RS URL code lenses.
+ *
+ * <p>
+ * The code lenses are computed in a read action, which must not wait for a socket connection. The service returns the
+ * last known status of a port, and probes the ports which have been requested recently in the background: on a short
+ * schedule, when the status is older than its time to live, and after the dev mode start and stop actions. The change
+ * handlers are called when the status of a port changes, so that the code lenses can be refreshed.
+ * </p>
+ */
+public final class ServerPortStatusService implements Disposable {
+
+    private static final Logger LOGGER = Logger.getInstance(ServerPortStatusService.class);
+
+    private static final long PROBE_PERIOD_MILLIS = 5_000;
+
+    private static final long STATUS_TTL_MILLIS = 15_000;
+
+    // Ports which have not been requested for this time are no longer probed
+    private static final long IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 500;
+
+    // The server takes a few seconds to start or stop after the dev mode actions
+    private static final long[] ACTION_PROBE_DELAYS_MILLIS = {1_000, 3_000, 10_000, 30_000};
+
+    private final Map<Endpoint, PortStatus> statuses = new ConcurrentHashMap<>();
+
+    private final List<Runnable> changeHandlers = ContainerUtil.createConcurrentList();
+
+    private final ScheduledExecutorService executor;
+
+    private final long probePeriodMillis;
+
+    private final long statusTtlMillis;
+
+    private ScheduledFuture<?> periodicProbe;
+
+    public static ServerPortStatusService getInstance() {
+        return ApplicationManager.getApplication().getService(ServerPortStatusService.class);
+    }
+
+    public ServerPortStatusService() {
+        this(AppExecutorUtil.createBoundedScheduledExecutorService("Liberty server port status", 1),
+                PROBE_PERIOD_MILLIS, STATUS_TTL_MILLIS);
+    }
+
+    ServerPortStatusService(ScheduledExecutorService executor, long probePeriodMillis, long statusTtlMillis) {
+        this.executor = executor;
+        this.probePeriodMillis = probePeriodMillis;
+        this.statusTtlMillis = statusTtlMillis;
+    }
+
+    /**
+     * Returns the last known status of the given port without waiting, false when the port has not been probed yet.
+     * The port is probed in the background when its status is older than its time to live.
+     *
+     * @param host server host
+     * @param port server port
+     * @return true if a server listened on the port when it was last probed.
+     */
+    public boolean isServerAvailable(@NotNull String host, int port) {
+        Endpoint endpoint = new Endpoint(host, port);
+        PortStatus status = statuses.computeIfAbsent(endpoint, e -> new PortStatus());
+        long now = System.nanoTime();
+        status.lastRequested = now;
+        if (status.checked == 0 || now - status.checked > TimeUnit.MILLISECONDS.toNanos(statusTtlMillis)) {
+            submitProbe(endpoint, status, 0);
+            startPeriodicProbe();
+        }
+        return status.available;
+    }
+
+    /**
+     * Probes the requested ports a few times in the next seconds, e.g. after a dev mode action starts or stops a
+     * server.
+     */
+    public void refresh() {
+        for (long delay : ACTION_PROBE_DELAYS_MILLIS) {
+            statuses.forEach((endpoint, status) -> submitProbe(endpoint, status, delay));
+        }
+    }
+
+    public void addChangeHandler(Runnable handler) {
+        changeHandlers.add(handler);
+    }
+
+    public void removeChangeHandler(Runnable handler) {
+        changeHandlers.remove(handler);
+    }
+
+    private synchronized void startPeriodicProbe() {
+        if (periodicProbe == null) {
+            try {
+                periodicProbe = executor.scheduleWithFixedDelay(this::probeAll, probePeriodMillis, probePeriodMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // the service is disposed
+            }
+        }
+    }
+
+    private void probeAll() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Endpoint, PortStatus>> it = statuses.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Endpoint, PortStatus> entry = it.next();
+            if (now - entry.getValue().lastRequested > TimeUnit.MILLISECONDS.toNanos(IDLE_TIMEOUT_MILLIS)) {
+                it.remove();
+            } else {
+                submitProbe(entry.getKey(), entry.getValue(), 0);
+            }
+        }
+    }
+
+    private void submitProbe(Endpoint endpoint, PortStatus status, long delayMillis) {
+        if (delayMillis == 0 && !status.probing.compareAndSet(false, true)) {
+            // a probe of the port is already running
+            return;
+        }
+        try {
+            if (delayMillis == 0) {
+                executor.execute(() -> probe(endpoint, status));
+            } else {
+                executor.schedule(() -> {
+                    if (status.probing.compareAndSet(false, true)) {
+                        probe(endpoint, status);
+                    }
+                }, delayMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            // the service is disposed
+            status.probing.set(false);
+        }
+    }
+
+    private void probe(Endpoint endpoint, PortStatus status) {
+        try {
+            boolean available = isListening(endpoint.host(), endpoint.port());
+            status.checked = System.nanoTime();
+            if (status.available != available) {
+                status.available = available;
+                LOGGER.debug(String.format("Server on %s:%d is %s", endpoint.host(), endpoint.port(), available ? "available" : "unavailable"));
+                changeHandlers.forEach(Runnable::run);
+            }
+        } catch (Exception e) {
+            LOGGER.warn(String.format("Error probing %s:%d", endpoint.host(), endpoint.port()), e);
+        } finally {
+            status.probing.set(false);
+        }
+    }
+
+    private static boolean isListening(String host, int port) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MILLIS);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        synchronized (this) {
+            if (periodicProbe != null) {
+                periodicProbe.cancel(false);
+            }
+        }
+        executor.shutdownNow();
+        statuses.clear();
+        changeHandlers.clear();
+    }
+
+    private record Endpoint(String host, int port) {
+    }
+
+    private static final class PortStatus {
+
+        private final AtomicBoolean probing = new AtomicBoolean();
+
+        private volatile boolean available;
+
+        // System.nanoTime() of the last probe, 0 when the port has not been probed
+        private volatile long checked;
+
+        private volatile long lastRequested;
+    }
+}
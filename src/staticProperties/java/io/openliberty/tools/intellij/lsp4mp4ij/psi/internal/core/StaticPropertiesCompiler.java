@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.google.gson.Gson;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.AbstractStaticPropertiesProvider;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Compiles the static properties JSON files into the {@link StaticPropertiesFormat binary format}. It is only part of
+ * the <code>staticProperties</code> build source set, and is run by the <code>compileStaticProperties</code> Gradle
+ * task:
+ *
+ * <pre>
+ * StaticPropertiesCompiler &lt;JSON files directory&gt; &lt;binary resource file&gt;
+ * </pre>
+ *
+ * <p>
+ * The compilation fails when the binary resource doesn't decode to the same metadata as the JSON files, e.g. when a
+ * JSON file uses a metadata field which is not supported by the binary format.
+ * </p>
+ */
+public final class StaticPropertiesCompiler {
+
+    private StaticPropertiesCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: StaticPropertiesCompiler <JSON files directory> <binary resource file>");
+        }
+        Path jsonDir = Path.of(args[0]);
+        Path binaryFile = Path.of(args[1]);
+        Map<String, ConfigurationMetadata> metadataByPath = parseJsonFiles(jsonDir);
+        byte[] bytes = compile(metadataByPath);
+        Files.createDirectories(binaryFile.getParent());
+        Files.write(binaryFile, bytes);
+    }
+
+    /**
+     * Returns the metadata of the JSON files of the given directory, by resource path.
+     */
+    static @NotNull Map<String, ConfigurationMetadata> parseJsonFiles(@NotNull Path jsonDir) throws IOException {
+        List<Path> jsonFiles;
+        try (Stream<Path> files = Files.list(jsonDir)) {
+            jsonFiles = files.filter(file -> file.getFileName().toString().endsWith(".json")).sorted().toList();
+        }
+        Map<String, ConfigurationMetadata> metadataByPath = new LinkedHashMap<>();
+        for (Path jsonFile : jsonFiles) {
+            try (InputStream in = Files.newInputStream(jsonFile)) {
+                metadataByPath.put(StaticPropertiesRegistry.JSON_RESOURCES_PATH + jsonFile.getFileName(),
+                        AbstractStaticPropertiesProvider.parseJson(in));
+            }
+        }
+        return metadataByPath;
+    }
+
+    /**
+     * Returns the binary format of the given metadata, checking that it decodes to the same metadata.
+     */
+    static byte[] compile(@NotNull Map<String, ConfigurationMetadata> metadataByPath) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StaticPropertiesFormat.write(metadataByPath, out);
+        byte[] bytes = out.toByteArray();
+        Map<String, ConfigurationMetadata> decoded = StaticPropertiesFormat.read(new ByteArrayInputStream(bytes));
+        Gson gson = new Gson();
+        for (Map.Entry<String, ConfigurationMetadata> entry : metadataByPath.entrySet()) {
+            if (!gson.toJson(entry.getValue()).equals(gson.toJson(decoded.get(entry.getKey())))) {
+                throw new IOException("The binary format doesn't support all the metadata of " + entry.getKey());
+            }
+        }
+        return bytes;
+    }
+}
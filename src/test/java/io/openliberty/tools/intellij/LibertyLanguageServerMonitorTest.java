@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij;
+
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.fileEditor.FileEditorManagerListener;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.redhat.devtools.lsp4ij.ServerStatus;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests that {@link LibertyLanguageServerMonitor} stops the idle language servers and restarts them when one of their
+ * files is opened, with a fake clock instead of the system time.
+ */
+public class LibertyLanguageServerMonitorTest extends BasePlatformTestCase {
+
+    private static final int IDLE_TIMEOUT_MINUTES = 10;
+
+    private static final List<String> SERVER_IDS = List.of("libertyls", "libertyXml", "lsp4mp", "jakartals");
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    private final List<String> launches = new CopyOnWriteArrayList<>();
+
+    private LibertyLanguageServerMonitor monitor;
+
+    private int idleTimeoutMinutes;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        LibertyLanguageServerSettings settings = LibertyLanguageServerSettings.getInstance();
+        idleTimeoutMinutes = settings.getIdleTimeoutMinutes();
+        settings.setIdleTimeoutMinutes(IDLE_TIMEOUT_MINUTES);
+        monitor = new LibertyLanguageServerMonitor(getProject(), clock::get, new LibertyLanguageServerMonitor.ServerLauncher() {
+            @Override
+            public void start(String id) {
+                launches.add("start " + id);
+                monitor.serverStatusChanged(id, ServerStatus.started, null);
+            }
+
+            @Override
+            public void stop(String id) {
+                launches.add("stop " + id);
+                monitor.serverStatusChanged(id, ServerStatus.stopped, null);
+            }
+        });
+        Disposer.register(getTestRootDisposable(), monitor);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            LibertyLanguageServerSettings.getInstance().setIdleTimeoutMinutes(idleTimeoutMinutes);
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    public void testStopIdleServers() {
+        SERVER_IDS.forEach(id -> monitor.serverStatusChanged(id, ServerStatus.started, null));
+
+        clock.addAndGet(TimeUnit.MINUTES.toMillis(IDLE_TIMEOUT_MINUTES) - 1);
+        monitor.checkServers();
+        assertEquals(List.of(), launches);
+
+        // A status change is an activity of the server
+        monitor.serverStatusChanged("libertyls", ServerStatus.started, null);
+        clock.addAndGet(2);
+        monitor.checkServers();
+        assertEquals(List.of("stop libertyXml", "stop lsp4mp", "stop jakartals"), launches);
+        for (LibertyLanguageServerMonitor.ServerInfo server : monitor.getServers()) {
+            assertEquals(server.id(), !"libertyls".equals(server.id()), server.idle());
+        }
+
+        // The servers which are not started are not stopped again
+        launches.clear();
+        clock.addAndGet(TimeUnit.MINUTES.toMillis(IDLE_TIMEOUT_MINUTES));
+        monitor.checkServers();
+        assertEquals(List.of("stop libertyls"), launches);
+    }
+
+    public void testRestartIdleServerWhenFileOpened() throws Exception {
+        SERVER_IDS.forEach(id -> monitor.serverStatusChanged(id, ServerStatus.started, null));
+        clock.addAndGet(TimeUnit.MINUTES.toMillis(IDLE_TIMEOUT_MINUTES) + 1);
+        monitor.checkServers();
+        launches.clear();
+
+        // Not a Liberty server configuration file
+        openFile(myFixture.addFileToProject("config/other.xml", "<other/>").getVirtualFile());
+        assertEquals(List.of(), launches);
+
+        openFile(myFixture.addFileToProject("config/server.xml", "<server/>").getVirtualFile());
+        assertEquals(List.of("start libertyXml"), launches);
+        for (LibertyLanguageServerMonitor.ServerInfo server : monitor.getServers()) {
+            assertEquals(server.id(), !"libertyXml".equals(server.id()), server.idle());
+        }
+
+        // The restarted server is stopped again after the idle timeout
+        launches.clear();
+        clock.addAndGet(TimeUnit.MINUTES.toMillis(IDLE_TIMEOUT_MINUTES) + 1);
+        monitor.checkServers();
+        assertEquals(List.of("stop libertyXml"), launches);
+    }
+
+    public void testIdleTimeoutDisabled() {
+        LibertyLanguageServerSettings.getInstance().setIdleTimeoutMinutes(0);
+        SERVER_IDS.forEach(id -> monitor.serverStatusChanged(id, ServerStatus.started, null));
+        clock.addAndGet(TimeUnit.DAYS.toMillis(1));
+        monitor.checkServers();
+        assertEquals(List.of(), launches);
+    }
+
+    private void openFile(VirtualFile file) throws Exception {
+        getProject().getMessageBus().syncPublisher(FileEditorManagerListener.FILE_EDITOR_MANAGER)
+                .fileOpened(FileEditorManager.getInstance(getProject()), file);
+        monitor.waitForRestarts();
+    }
+}
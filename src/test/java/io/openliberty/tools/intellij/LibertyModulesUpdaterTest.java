@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import io.openliberty.tools.intellij.util.Constants;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tests the incremental update of the Liberty modules when build files are created, changed, renamed or deleted.
+ */
+public class LibertyModulesUpdaterTest extends BasePlatformTestCase {
+
+    private final List<String> changes = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        getProject().getMessageBus().connect(getTestRootDisposable()).subscribe(LibertyModules.TOPIC,
+                (LibertyModules.Listener) (added, changed, removed) -> {
+                    added.forEach(module -> changes.add("added " + module.getName()));
+                    changed.forEach(module -> changes.add("changed " + module.getName()));
+                    removed.forEach(module -> changes.add("removed " + module.getName()));
+                });
+        LibertyModulesUpdater.getInstance(getProject());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            LibertyModules.getInstance().removeForProject(getProject());
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    public void testBuildFileLifecycle() throws Exception {
+        VirtualFile other = myFixture.getTempDirFixture().createFile("other/pom.xml", createPom("other", false));
+        VirtualFile pom = myFixture.getTempDirFixture().createFile("app/pom.xml", createPom("app", true));
+        waitForUpdate();
+        assertEquals(List.of("added app"), changes);
+        LibertyModule module = LibertyModules.getInstance().getLibertyModule(pom);
+        assertNotNull(module);
+        assertEquals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT, module.getProjectType());
+        assertNull(LibertyModules.getInstance().getLibertyModule(other));
+
+        // A change which does not affect the module is not published
+        changes.clear();
+        WriteAction.runAndWait(() -> VfsUtil.saveText(pom, createPom("app", true) + "\n"));
+        waitForUpdate();
+        assertEquals(List.of(), changes);
+
+        // The module is updated in place
+        WriteAction.runAndWait(() -> VfsUtil.saveText(pom, createPom("renamed", true)));
+        waitForUpdate();
+        assertEquals(List.of("changed renamed"), changes);
+        assertSame(module, LibertyModules.getInstance().getLibertyModule(pom));
+
+        changes.clear();
+        WriteAction.runAndWait(() -> VfsUtil.saveText(pom, createPom("renamed", false)));
+        waitForUpdate();
+        assertEquals(List.of("removed renamed"), changes);
+        assertTrue(LibertyModules.getInstance().getLibertyModules(getProject()).isEmpty());
+
+        changes.clear();
+        WriteAction.runAndWait(() -> VfsUtil.saveText(other, createPom("other", true)));
+        waitForUpdate();
+        assertEquals(List.of("added other"), changes);
+
+        changes.clear();
+        WriteAction.runAndWait(() -> other.rename(this, "pom.bak"));
+        waitForUpdate();
+        assertEquals(List.of("removed other"), changes);
+
+        changes.clear();
+        WriteAction.runAndWait(() -> other.rename(this, "pom.xml"));
+        waitForUpdate();
+        assertEquals(List.of("added other"), changes);
+
+        changes.clear();
+        WriteAction.runAndWait(() -> other.getParent().delete(this));
+        waitForUpdate();
+        assertEquals(List.of("removed other"), changes);
+        assertTrue(LibertyModules.getInstance().getLibertyModules(getProject()).isEmpty());
+    }
+
+    public void testFolderWithBuildFiles() throws Exception {
+        VirtualFile target = myFixture.getTempDirFixture().findOrCreateDir("target");
+        VirtualFile pom = myFixture.getTempDirFixture().createFile("sources/maven/pom.xml", createPom("maven", true));
+        waitForUpdate();
+        assertEquals(List.of("added maven"), changes);
+
+        // The build files of a moved folder are evaluated again, the module is kept
+        changes.clear();
+        WriteAction.runAndWait(() -> pom.getParent().move(this, target));
+        waitForUpdate();
+        assertEquals(List.of(), changes);
+        assertEquals(1, LibertyModules.getInstance().getLibertyModules(getProject()).size());
+        assertNotNull(LibertyModules.getInstance().getLibertyModule(pom));
+
+        // The build files of a copied folder are added
+        WriteAction.runAndWait(() -> VfsUtil.copy(this, pom.getParent(), myFixture.getTempDirFixture().findOrCreateDir("copy")));
+        waitForUpdate();
+        assertEquals(List.of("added maven"), changes);
+        assertEquals(2, LibertyModules.getInstance().getLibertyModules(getProject()).size());
+    }
+
+    private void waitForUpdate() throws Exception {
+        LibertyModulesUpdater.getInstance(getProject()).waitForUpdate();
+    }
+
+    private static String createPom(String artifactId, boolean libertyPlugin) {
+        StringBuilder pom = new StringBuilder();
+        pom.append("<project>\n");
+        pom.append("    <artifactId>").append(artifactId).append("</artifactId>\n");
+        if (libertyPlugin) {
+            pom.append("    <build><plugins><plugin><groupId>io.openliberty.tools</groupId>")
+                    .append("<artifactId>liberty-maven-plugin</artifactId><version>3.11.2</version></plugin></plugins></build>\n");
+        }
+        pom.append("</project>\n");
+        return pom.toString();
+    }
+}
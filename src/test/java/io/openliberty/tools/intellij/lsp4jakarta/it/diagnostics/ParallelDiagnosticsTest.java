@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4jakarta.it.diagnostics;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.extensions.LoadingOrder;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.util.registry.Registry;
+import com.intellij.openapi.util.registry.RegistryValue;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.testFramework.IndexingTestUtil;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import io.openliberty.tools.intellij.lsp4jakarta.it.core.BaseJakartaTest;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.DiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JakartaDiagnosticsParticipant;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.PropertiesManagerForJakarta;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.DiagnosticsHandler;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.ReadActionUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Checks that the Java diagnostics collected in parallel are the same as the diagnostics collected sequentially, that
+ * a diagnostics request cancelled while the files are walked stops, and that a cancellable computation outside a read
+ * action is restarted by a write action and stopped by its progress monitor.
+ */
+@RunWith(JUnit4.class)
+public class ParallelDiagnosticsTest extends BaseJakartaTest {
+
+    private static final int FILES_COUNT = 200;
+
+    // Index of the file whose collector cancels the request
+    private static final int CANCELLED_FILE_INDEX = 2;
+
+    @Test
+    public void parallelDiagnosticsMatchSequentialDiagnostics() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        List<String> uris = createJavaFiles(Path.of(ModuleUtilCore.getModuleDirPath(module), "src", "main", "java"));
+        JakartaJavaDiagnosticsParams diagnosticsParams = new JakartaJavaDiagnosticsParams();
+        diagnosticsParams.setUris(uris);
+
+        RegistryValue parallelism = Registry.get(DiagnosticsHandler.PARALLELISM_REGISTRY_KEY);
+        try {
+            parallelism.setValue(1);
+            List<PublishDiagnosticsParams> sequentialDiagnostics = collectDiagnostics(diagnosticsParams, utils);
+            parallelism.setValue(8);
+            List<PublishDiagnosticsParams> parallelDiagnostics = collectDiagnostics(diagnosticsParams, utils);
+
+            assertEquals(FILES_COUNT, sequentialDiagnostics.size());
+            assertTrue("The sample files must have diagnostics",
+                    sequentialDiagnostics.stream().anyMatch(p -> !p.getDiagnostics().isEmpty()));
+            assertEquals(sequentialDiagnostics, parallelDiagnostics);
+        } finally {
+            parallelism.resetToDefault();
+        }
+    }
+
+    @Test
+    public void cancelledRequestStopsDiagnostics() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        List<String> uris = createJavaFiles(Path.of(ModuleUtilCore.getModuleDirPath(module), "src", "main", "java"));
+        JakartaJavaDiagnosticsParams diagnosticsParams = new JakartaJavaDiagnosticsParams();
+        diagnosticsParams.setUris(uris);
+        // The first collector cancels the request while the files are walked, the last one checks it is not called
+        CountingCollector firstCollector = new CountingCollector(CANCELLED_FILE_INDEX + 1);
+        CountingCollector lastCollector = new CountingCollector(0);
+        JakartaDiagnosticsParticipant.EP_NAME.getPoint().registerExtension(firstCollector, LoadingOrder.FIRST, getTestRootDisposable());
+        JakartaDiagnosticsParticipant.EP_NAME.getPoint().registerExtension(lastCollector, LoadingOrder.LAST, getTestRootDisposable());
+
+        RegistryValue parallelism = Registry.get(DiagnosticsHandler.PARALLELISM_REGISTRY_KEY);
+        try {
+            // A request cancelled before it starts
+            ProgressIndicator monitor = new EmptyProgressIndicator();
+            monitor.cancel();
+            firstCollector.reset(monitor);
+            lastCollector.reset(monitor);
+            for (int value : new int[]{1, 8}) {
+                parallelism.setValue(value);
+                assertThrows(ProcessCanceledException.class, () -> ReadAction.run(() ->
+                        PropertiesManagerForJakarta.getInstance().diagnostics(diagnosticsParams, utils, monitor)));
+            }
+            assertEquals(0, firstCollector.calls.get() + lastCollector.calls.get());
+
+            // A request cancelled by a collector, the collectors are not called for the remaining files
+            parallelism.setValue(1);
+            collectCancelledDiagnostics(diagnosticsParams, utils, firstCollector, lastCollector);
+            assertEquals(CANCELLED_FILE_INDEX + 1, firstCollector.calls.get());
+            assertEquals(CANCELLED_FILE_INDEX, lastCollector.calls.get());
+            assertEquals(0, firstCollector.callsAfterCancel.get() + lastCollector.callsAfterCancel.get());
+
+            // Each worker may have started its collector before the cancellation, but none starts another one
+            parallelism.setValue(8);
+            collectCancelledDiagnostics(diagnosticsParams, utils, firstCollector, lastCollector);
+            assertTrue("The collectors must not be called for the remaining files",
+                    firstCollector.calls.get() < FILES_COUNT / 2);
+            assertTrue("The workers must stop after the cancellation",
+                    firstCollector.callsAfterCancel.get() + lastCollector.callsAfterCancel.get() < 8);
+        } finally {
+            parallelism.resetToDefault();
+        }
+    }
+
+    @Test
+    public void computeCancellableOutsideReadAction() throws Exception {
+        // A pending write action restarts the computation
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        Future<String> result = AppExecutorUtil.getAppExecutorService().submit(() ->
+                ReadActionUtils.computeCancellable(getProject(), null, () -> {
+                    if (attempts.incrementAndGet() > 1) {
+                        return "restarted";
+                    }
+                    started.countDown();
+                    return waitForCancellation();
+                }));
+        assertTrue(started.await(1, TimeUnit.MINUTES));
+        WriteAction.runAndWait(() -> {
+        });
+        assertEquals("restarted", result.get(1, TimeUnit.MINUTES));
+        assertEquals(2, attempts.get());
+
+        // The cancelled monitor stops the computation, which is not restarted
+        attempts.set(0);
+        CountDownLatch cancelledStarted = new CountDownLatch(1);
+        ProgressIndicator monitor = new EmptyProgressIndicator();
+        Future<String> cancelledResult = AppExecutorUtil.getAppExecutorService().submit(() ->
+                ReadActionUtils.computeCancellable(getProject(), monitor, () -> {
+                    attempts.incrementAndGet();
+                    cancelledStarted.countDown();
+                    return waitForCancellation();
+                }));
+        assertTrue(cancelledStarted.await(1, TimeUnit.MINUTES));
+        monitor.cancel();
+        try {
+            cancelledResult.get(1, TimeUnit.MINUTES);
+            fail("The computation must be cancelled");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ProcessCanceledException);
+        }
+        assertEquals(1, attempts.get());
+    }
+
+    /**
+     * Collects the diagnostics with a new progress monitor which is cancelled by the given first collector.
+     */
+    private static void collectCancelledDiagnostics(JakartaJavaDiagnosticsParams params, IPsiUtils utils,
+                                                    CountingCollector firstCollector, CountingCollector lastCollector) {
+        ProgressIndicator monitor = new EmptyProgressIndicator();
+        firstCollector.reset(monitor);
+        lastCollector.reset(monitor);
+        // The collectors check the progress indicator of the thread, like in the language server requests
+        assertThrows(ProcessCanceledException.class, () -> ProgressManager.getInstance().runProcess(() ->
+                ReadAction.compute(() -> PropertiesManagerForJakarta.getInstance().diagnostics(params, utils, monitor)), monitor));
+        assertTrue(monitor.isCanceled());
+    }
+
+    /**
+     * Waits until the progress indicator of the thread is cancelled, and returns a value if it is not cancelled in
+     * time.
+     */
+    private static String waitForCancellation() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while (System.nanoTime() < deadline) {
+            ProgressManager.checkCanceled();
+            Thread.sleep(10);
+        }
+        return "not cancelled";
+    }
+
+    /**
+     * Collects the diagnostics in a non-blocking read action, like the Jakarta language client.
+     */
+    private static List<PublishDiagnosticsParams> collectDiagnostics(JakartaJavaDiagnosticsParams params, IPsiUtils utils) throws Exception {
+        return ReadAction.nonBlocking(() -> PropertiesManagerForJakarta.getInstance().diagnostics(params, utils))
+                .submit(AppExecutorUtil.getAppExecutorService())
+                .get(5, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Creates copies of the Java files of the sample project, up to {@link #FILES_COUNT} files.
+     */
+    private List<String> createJavaFiles(Path sourceDir) throws Exception {
+        List<Path> sampleFiles;
+        try (Stream<Path> files = Files.walk(sourceDir)) {
+            sampleFiles = files.filter(file -> file.toString().endsWith(".java")).sorted().toList();
+        }
+        List<String> uris = new ArrayList<>();
+        for (int i = 0; i < FILES_COUNT; i++) {
+            Path sampleFile = sampleFiles.get(i % sampleFiles.size());
+            String className = sampleFile.getFileName().toString().replace(".java", "");
+            String copyName = className + "Copy" + i;
+            String content = Files.readString(sampleFile, StandardCharsets.UTF_8)
+                    .replaceAll("\\b" + className + "\\b", copyName);
+            Path copy = sampleFile.resolveSibling(copyName + ".java");
+            Files.writeString(copy, content, StandardCharsets.UTF_8);
+            uris.add(copy.toFile().toURI().toString());
+        }
+        LocalFileSystem.getInstance().refreshAndFindFileByNioFile(sourceDir).refresh(false, true);
+        IndexingTestUtil.waitUntilIndexesAreReady(getProject());
+        return uris;
+    }
+
+    /**
+     * Counts its calls, and cancels the progress monitor of the request at the given call.
+     */
+    private static final class CountingCollector implements DiagnosticsCollector {
+
+        private final int cancelAt;
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private final AtomicInteger callsAfterCancel = new AtomicInteger();
+
+        private volatile ProgressIndicator monitor;
+
+        private CountingCollector(int cancelAt) {
+            this.cancelAt = cancelAt;
+        }
+
+        private void reset(ProgressIndicator monitor) {
+            this.monitor = monitor;
+            calls.set(0);
+            callsAfterCancel.set(0);
+        }
+
+        @Override
+        public void completeDiagnostic(Diagnostic diagnostic) {
+        }
+
+        @Override
+        public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+            if (monitor == null) {
+                return;
+            }
+            if (monitor.isCanceled()) {
+                callsAfterCancel.incrementAndGet();
+            }
+            if (calls.incrementAndGet() == cancelAt) {
+                monitor.cancel();
+            }
+        }
+    }
+}
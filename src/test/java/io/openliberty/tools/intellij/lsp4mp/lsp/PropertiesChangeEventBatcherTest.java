@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp.lsp;
+
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageServerAPI;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.lang.reflect.Proxy;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope.configfiles;
+import static org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope.dependencies;
+import static org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope.sources;
+
+/**
+ * Tests {@link PropertiesChangeEventBatcher} with a fake language server which records the
+ * <code>microprofile/propertiesChanged</code> notifications.
+ */
+@RunWith(JUnit4.class)
+public class PropertiesChangeEventBatcherTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private final List<MicroProfilePropertiesChangeEvent> notifications = new CopyOnWriteArrayList<>();
+
+    private int received;
+
+    private ScheduledExecutorService executor;
+
+    private PropertiesChangeEventBatcher batcher;
+
+    @Before
+    public void setUp() {
+        MicroProfileLanguageServerAPI server = (MicroProfileLanguageServerAPI) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[]{MicroProfileLanguageServerAPI.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("propertiesChanged")) {
+                        notifications.add((MicroProfilePropertiesChangeEvent) args[0]);
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        executor = Executors.newSingleThreadScheduledExecutor();
+        batcher = new PropertiesChangeEventBatcher(server::propertiesChanged, executor, 100);
+    }
+
+    @After
+    public void tearDown() {
+        batcher.dispose();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void mergesChangesOfTheSameScope() throws Exception {
+        for (int i = 0; i < 1_000; i++) {
+            batcher.propertiesChanged(sources, Set.of("project" + (i % 2)));
+        }
+        Assert.assertEquals(Map.of(Set.of(sources), Set.of("project0", "project1")), waitForNotifications(1));
+
+        // The next changes are sent in a new notification
+        batcher.propertiesChanged(configfiles, Set.of("project0"));
+        Assert.assertEquals(Map.of(Set.of(configfiles), Set.of("project0")), waitForNotifications(1));
+    }
+
+    @Test
+    public void groupsProjectsByScopes() throws Exception {
+        batcher.propertiesChanged(sources, Set.of("project0", "project1", "project2"));
+        batcher.propertiesChanged(configfiles, Set.of("project0", "project1"));
+        batcher.propertiesChanged(configfiles, Set.of("project3"));
+
+        Assert.assertEquals(Map.of(
+                Set.of(sources, configfiles), Set.of("project0", "project1"),
+                Set.of(sources), Set.of("project2"),
+                Set.of(configfiles), Set.of("project3")), waitForNotifications(3));
+    }
+
+    @Test
+    public void classpathChangeSupersedesSourcesChanges() throws Exception {
+        batcher.propertiesChanged(sources, Set.of("project0", "project1"));
+        batcher.propertiesChanged(configfiles, Set.of("project0"));
+        batcher.propertiesChanged(dependencies, Set.of("project0"));
+        batcher.propertiesChanged(sources, Set.of("project0"));
+
+        Assert.assertEquals(Map.of(
+                Set.of(dependencies), Set.of("project0"),
+                Set.of(sources), Set.of("project1")), waitForNotifications(2));
+    }
+
+    @Test
+    public void disposedBatcherDoesNotSend() throws Exception {
+        batcher.propertiesChanged(sources, Set.of("project0"));
+        batcher.dispose();
+        batcher.propertiesChanged(sources, Set.of("project1"));
+        Thread.sleep(300);
+        Assert.assertTrue(notifications.isEmpty());
+    }
+
+    /**
+     * Waits for the given number of new notifications, and returns their project URIs by scopes.
+     */
+    private Map<Set<MicroProfilePropertiesScope>, Set<String>> waitForNotifications(int count) throws Exception {
+        int expected = received + count;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+        while (notifications.size() < expected) {
+            Assert.assertTrue("Only " + (notifications.size() - received) + " of " + count + " notifications were sent",
+                    System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+        // Wait for the end of the flush window, no other notification must be sent
+        Thread.sleep(300);
+        Assert.assertEquals(expected, notifications.size());
+        List<MicroProfilePropertiesChangeEvent> newNotifications = notifications.subList(received, expected);
+        received = expected;
+        return newNotifications.stream().collect(Collectors.toMap(event -> EnumSet.copyOf(event.getType()),
+                MicroProfilePropertiesChangeEvent::getProjectURIs));
+    }
+}
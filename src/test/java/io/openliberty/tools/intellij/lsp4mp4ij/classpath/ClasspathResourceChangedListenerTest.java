@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.classpath;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiTreeChangeAdapter;
+import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests that {@link ClasspathResourceChangedListener} notifies the Psi changes of a command in one batch.
+ */
+public class ClasspathResourceChangedListenerTest extends BasePlatformTestCase {
+
+    private final Set<VirtualFile> notifiedSourceFiles = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger notificationCount = new AtomicInteger();
+
+    private final AtomicInteger psiEventCount = new AtomicInteger();
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        // Start tracking the classpath resource changes
+        assertNotNull(ClasspathResourceChangedManager.getInstance(getProject()));
+        getProject().getMessageBus().connect(getTestRootDisposable()).subscribe(ClasspathResourceChangedManager.TOPIC,
+                new ClasspathResourceChangedManager.Listener() {
+                    @Override
+                    public void librariesChanged() {
+                    }
+
+                    @Override
+                    public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+                        notificationCount.incrementAndGet();
+                        sources.forEach(pair -> notifiedSourceFiles.add(pair.getFirst()));
+                    }
+                });
+        PsiManager.getInstance(getProject()).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+            @Override
+            public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+                psiEventCount.incrementAndGet();
+            }
+
+            @Override
+            public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+                psiEventCount.incrementAndGet();
+            }
+        }, getTestRootDisposable());
+    }
+
+    public void testRenameAcrossFiles() {
+        int fileCount = 300;
+        PsiClass greeting = myFixture.addClass("""
+                package org.acme;
+
+                public class Greeting {
+                }
+                """);
+        for (int i = 0; i < fileCount; i++) {
+            myFixture.addFileToProject("org/acme/User" + i + ".java", """
+                    package org.acme;
+
+                    public class User%d {
+
+                        private Greeting greeting = new Greeting();
+
+                        public Greeting getGreeting() {
+                            return greeting;
+                        }
+                    }
+                    """.formatted(i));
+        }
+        notifiedSourceFiles.clear();
+        notificationCount.set(0);
+        psiEventCount.set(0);
+
+        int moduleLookups = getModuleLookupCount();
+        myFixture.renameElement(greeting, "Salutation");
+
+        // The renamed class and the 300 files which reference it
+        assertEquals(fileCount + 1, notifiedSourceFiles.size());
+        assertTrue("The rename fired " + psiEventCount.get() + " Psi events", psiEventCount.get() > fileCount);
+        assertEquals("The rename is notified once", 1, notificationCount.get());
+        // The module of each file is resolved at most once
+        assertTrue(getModuleLookupCount() - moduleLookups <= fileCount + 1);
+    }
+
+    public void testChangeOutsideCommand() {
+        myFixture.configureByText("Greeting.java", """
+                package org.acme;
+
+                public class Greeting {
+                }
+                """);
+        notifiedSourceFiles.clear();
+        notificationCount.set(0);
+
+        // Typing runs a command, the document is committed later in a write action
+        myFixture.type("// comment");
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+        assertTrue(notificationCount.get() >= 1);
+        assertTrue(notifiedSourceFiles.contains(myFixture.getFile().getVirtualFile()));
+    }
+
+    public void testMovedFile() throws IOException {
+        PsiFile file = myFixture.addFileToProject("org/acme/Greeting.java", """
+                package org.acme;
+
+                public class Greeting {
+                }
+                """);
+        VirtualFile otherFolder = myFixture.addFileToProject("org/other/Other.java", "package org.other; public class Other {}")
+                .getVirtualFile().getParent();
+        edit(file, "// first");
+        int moduleLookups = getModuleLookupCount();
+
+        // The module of the file is cached
+        edit(file, "// second");
+        assertEquals(moduleLookups, getModuleLookupCount());
+
+        // The module of the moved file is resolved again
+        WriteCommandAction.writeCommandAction(getProject()).run(() -> file.getVirtualFile().move(this, otherFolder));
+        notifiedSourceFiles.clear();
+        edit(file, "// moved");
+        assertTrue(getModuleLookupCount() > moduleLookups);
+        assertTrue(notifiedSourceFiles.contains(file.getVirtualFile()));
+    }
+
+    private void edit(PsiFile file, String comment) {
+        Document document = PsiDocumentManager.getInstance(getProject()).getDocument(file);
+        assertNotNull(document);
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            document.insertString(document.getTextLength(), comment + "\n");
+            PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        });
+    }
+
+    private int getModuleLookupCount() {
+        return ClasspathResourceChangedManager.getInstance(getProject()).getListener().getModuleLookupCount();
+    }
+}
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.classpath;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.LightVirtualFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.intellij.util.concurrency.AppExecutorUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the debounce of {@link ClasspathResourceChangedNotifier}.
+ */
+public class ClasspathResourceChangedNotifierTest extends BasePlatformTestCase {
+
+    private static final long TIMEOUT_MILLIS = 30_000;
+
+    private final Set<Pair<VirtualFile, Module>> notifiedSourceFiles = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger notificationCount = new AtomicInteger();
+
+    private ClasspathResourceChangedNotifier notifier;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        notifier = new ClasspathResourceChangedNotifier(getProject(), AppExecutorUtil.getAppScheduledExecutorService(), true);
+        Disposer.register(getTestRootDisposable(), notifier);
+        getProject().getMessageBus().connect(getTestRootDisposable()).subscribe(ClasspathResourceChangedManager.TOPIC,
+                new ClasspathResourceChangedManager.Listener() {
+                    @Override
+                    public void librariesChanged() {
+                    }
+
+                    @Override
+                    public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+                        notificationCount.incrementAndGet();
+                        notifiedSourceFiles.addAll(sources);
+                    }
+                });
+    }
+
+    public void testDebounceDelay() {
+        assertEquals(ClasspathResourceChangedNotifier.MIN_DEBOUNCE_DELAY, ClasspathResourceChangedNotifier.getDebounceDelay(1));
+        assertTrue(ClasspathResourceChangedNotifier.getDebounceDelay(10) > ClasspathResourceChangedNotifier.getDebounceDelay(1));
+        assertEquals(ClasspathResourceChangedNotifier.MAX_DEBOUNCE_DELAY, ClasspathResourceChangedNotifier.getDebounceDelay(10_000));
+    }
+
+    public void testIsolatedSave() throws Exception {
+        Pair<VirtualFile, Module> sourceFile = Pair.pair(new LightVirtualFile("Saved.txt"), getModule());
+        notifier.addSourceFile(sourceFile);
+        waitForNotifiedSourceFiles(1);
+
+        assertEquals(Set.of(sourceFile), notifiedSourceFiles);
+        assertEquals(1, notificationCount.get());
+        // An isolated save is notified in its own batch, once the shortest debounce window has elapsed
+        assertEquals(1, notifier.getBatchSizes().getMaxValue());
+        assertEquals(1, notifier.getFlushLatencies().getTotalCount());
+        assertTrue(notifier.getFlushLatencies().getMaxValue() >= ClasspathResourceChangedNotifier.getDebounceDelay(1));
+    }
+
+    public void testBurst() throws Exception {
+        int threadCount = 8;
+        int changeCount = 10_000;
+        // Each file is changed twice
+        List<Pair<VirtualFile, Module>> sourceFiles = new ArrayList<>();
+        for (int i = 0; i < changeCount / 2; i++) {
+            sourceFiles.add(Pair.pair(new LightVirtualFile("File" + i + ".txt"), getModule()));
+        }
+
+        ExecutorService threads = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                int thread = t;
+                futures.add(threads.submit(() -> {
+                    for (int i = thread; i < changeCount; i += threadCount) {
+                        notifier.addSourceFile(sourceFiles.get(i % sourceFiles.size()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+        waitForNotifiedSourceFiles(sourceFiles.size());
+        // Wait for the end of the debounce window, a late flush must not notify the files again
+        Thread.sleep(ClasspathResourceChangedNotifier.MAX_DEBOUNCE_DELAY);
+
+        assertEquals(sourceFiles.size(), notifiedSourceFiles.size());
+        assertTrue("The burst was notified " + notificationCount.get() + " times", notificationCount.get() <= 3);
+        assertEquals(notificationCount.get(), notifier.getBatchSizes().getTotalCount());
+        assertEquals(notificationCount.get(), notifier.getFlushLatencies().getTotalCount());
+        assertTrue(notifier.getFlushLatencies().getMaxValue() < ClasspathResourceChangedNotifier.MAX_FLUSH_LATENCY
+                + ClasspathResourceChangedNotifier.MAX_DEBOUNCE_DELAY);
+
+        // The next isolated save starts a new batch
+        Pair<VirtualFile, Module> savedFile = Pair.pair(new LightVirtualFile("Saved.txt"), getModule());
+        notifier.addSourceFile(savedFile);
+        waitForNotifiedSourceFiles(sourceFiles.size() + 1);
+        assertTrue(notifiedSourceFiles.contains(savedFile));
+    }
+
+    public void testDisposedNotifierDoesNotNotify() throws Exception {
+        notifier.addSourceFile(Pair.pair(new LightVirtualFile("Disposed.txt"), getModule()));
+        Disposer.dispose(notifier);
+        Thread.sleep(2 * ClasspathResourceChangedNotifier.MIN_DEBOUNCE_DELAY);
+        assertEquals(0, notificationCount.get());
+    }
+
+    private void waitForNotifiedSourceFiles(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+        while (notifiedSourceFiles.size() < count) {
+            assertTrue("Only " + notifiedSourceFiles.size() + " of " + count + " source files were notified",
+                    System.nanoTime() < deadline);
+            Thread.sleep(20);
+        }
+    }
+}
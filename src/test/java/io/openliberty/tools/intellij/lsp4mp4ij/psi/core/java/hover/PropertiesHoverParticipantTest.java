@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.hover;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.config.java.MicroProfileConfigHoverParticipant;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.Hover;
+import org.eclipse.lsp4j.MarkupContent;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+
+/**
+ * Tests the cache of the {@link PropertiesHoverParticipant} hover documentation.
+ */
+public class PropertiesHoverParticipantTest extends BasePlatformTestCase {
+
+    public void testHoverIsCachedUntilConfigSourceChanges() throws Exception {
+        myFixture.addClass("""
+                package org.eclipse.microprofile.config.inject;
+
+                public @interface ConfigProperty {
+                    String name() default "";
+                    String defaultValue() default "";
+                }
+                """);
+        VirtualFile properties = myFixture.addFileToProject("META-INF/microprofile-config.properties",
+                "greeting=hello\n").getVirtualFile();
+        PsiFile javaFile = myFixture.addFileToProject("org/acme/Greeting.java", """
+                package org.acme;
+
+                import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+                public class Greeting {
+
+                    @ConfigProperty(name = "greeting", defaultValue = "hi")
+                    String greeting;
+                }
+                """);
+
+        MarkupContent first = hover(javaFile);
+        assertTrue(first.getValue(), first.getValue().contains("`greeting = hello`"));
+        // Repeated hovers, even from another participant instance, reuse the documentation
+        assertSame(first, hover(javaFile));
+        assertNotSame(first, hover(javaFile, DocumentFormat.PlainText));
+
+        WriteAction.runAndWait(() -> VfsUtil.saveText(properties, "greeting=bonjour\n"));
+        MarkupContent updated = hover(javaFile);
+        assertNotSame(first, updated);
+        assertTrue(updated.getValue(), updated.getValue().contains("`greeting = bonjour`"));
+        assertSame(updated, hover(javaFile));
+    }
+
+    private MarkupContent hover(PsiFile javaFile) {
+        return hover(javaFile, DocumentFormat.Markdown);
+    }
+
+    private MarkupContent hover(PsiFile javaFile, DocumentFormat documentFormat) {
+        Document document = PsiDocumentManager.getInstance(getProject()).getDocument(javaFile);
+        assertNotNull(document);
+        int offset = javaFile.getText().indexOf("\"greeting\"") + 2;
+        int line = document.getLineNumber(offset);
+        Position position = new Position(line, offset - document.getLineStartOffset(line));
+        JavaHoverContext context = new JavaHoverContext(LSPIJUtils.toUriAsString(javaFile), javaFile,
+                PsiUtilsLSImpl.getInstance(getProject()), getModule(),
+                ((PsiJavaFile) javaFile).getClasses()[0].getFields()[0], position, documentFormat, true);
+        PropertiesHoverParticipant participant = new MicroProfileConfigHoverParticipant();
+        assertTrue(participant.isAdaptedForHover(context));
+        Hover hover = participant.collectHover(context);
+        assertNotNull(hover);
+        return hover.getContents().getRight();
+    }
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+
+/**
+ * Tests the {@link ResolvedTypeCache}.
+ */
+public class ResolvedTypeCacheTest extends BasePlatformTestCase {
+
+    private static final String GREETING_SERVICE = """
+            package org.acme;
+
+            public class GreetingService {
+
+                public String greet() {
+                    return "hello";
+                }
+            }
+            """;
+
+    public void testFoundClassSurvivesEdits() {
+        PsiFile file = myFixture.addFileToProject("org/acme/GreetingService.java", GREETING_SERVICE);
+        assertNotNull(ResolvedTypeCache.findClass(getModule(), "org.acme.GreetingService"));
+        assertTrue(ResolvedTypeCache.isResolved(getModule(), "org.acme.GreetingService"));
+
+        // An edit of a method body doesn't drop the found class
+        setText(file, GREETING_SERVICE.replace("\"hello\"", "\"hi\""));
+        assertTrue(ResolvedTypeCache.isResolved(getModule(), "org.acme.GreetingService"));
+        PsiClass type = ResolvedTypeCache.findClass(getModule(), "org.acme.GreetingService");
+        assertNotNull(type);
+        assertEquals("org.acme.GreetingService", type.getQualifiedName());
+    }
+
+    public void testRenamedClass() {
+        PsiFile file = myFixture.addFileToProject("org/acme/GreetingService.java", GREETING_SERVICE);
+        assertNotNull(ResolvedTypeCache.findClass(getModule(), "org.acme.GreetingService"));
+
+        setText(file, GREETING_SERVICE.replace("class GreetingService", "class HelloService"));
+        assertNull(ResolvedTypeCache.findClass(getModule(), "org.acme.GreetingService"));
+        assertFalse(ResolvedTypeCache.isResolved(getModule(), "org.acme.GreetingService"));
+        assertNotNull(ResolvedTypeCache.findClass(getModule(), "org.acme.HelloService"));
+    }
+
+    public void testAddedClass() {
+        assertNull(ResolvedTypeCache.findClass(getModule(), "org.acme.GreetingService"));
+        // The missing class is cached until the Java PSI changes
+        assertNull(ResolvedTypeCache.findClass(getModule(), "org.acme.GreetingService"));
+
+        myFixture.addFileToProject("org/acme/GreetingService.java", GREETING_SERVICE);
+        assertNotNull(ResolvedTypeCache.findClass(getModule(), "org.acme.GreetingService"));
+    }
+
+    private void setText(PsiFile file, String text) {
+        Document document = PsiDocumentManager.getInstance(getProject()).getDocument(file);
+        assertNotNull(document);
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            document.setText(text);
+            PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        });
+    }
+}
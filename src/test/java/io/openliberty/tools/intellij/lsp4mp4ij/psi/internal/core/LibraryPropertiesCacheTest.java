@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+/**
+ * Tests for the invalidation and the eviction of the {@link LibraryPropertiesCache} entries.
+ */
+@RunWith(JUnit4.class)
+public class LibraryPropertiesCacheTest {
+
+    private static final String VARIANT = "Markdown";
+
+    private static final String PRODUCER = "1.0.0";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void getCachedProperties() throws IOException {
+        Path cacheDir = temporaryFolder.newFolder("cache").toPath();
+        Path jar = createFixtureJar("fixture.jar", "value=1");
+        LibraryPropertiesCache cache = new LibraryPropertiesCache(cacheDir, Long.MAX_VALUE, PRODUCER);
+        Assert.assertNull(cache.get(jar, VARIANT));
+
+        cache.put(jar, VARIANT, createMetadata());
+
+        // A new cache instance simulates a new IDE session
+        ConfigurationMetadata metadata = new LibraryPropertiesCache(cacheDir, Long.MAX_VALUE, PRODUCER).get(jar, VARIANT);
+        Assert.assertNotNull(metadata);
+        Assert.assertEquals(1, metadata.getProperties().size());
+        ItemMetadata property = metadata.getProperties().get(0);
+        Assert.assertEquals("fixture.timeout", property.getName());
+        Assert.assertEquals("java.lang.Integer", property.getType());
+        Assert.assertEquals("org.acme.FixtureConfig", property.getSourceType());
+        Assert.assertEquals("timeout", property.getSourceField());
+        Assert.assertEquals(1, metadata.getHints().size());
+        Assert.assertEquals("fixture.mode", metadata.getHints().get(0).getName());
+        Assert.assertEquals("FAST", metadata.getHints().get(0).getValues().get(0).getValue());
+        Assert.assertNull(cache.get(jar, "PlainText"));
+    }
+
+    @Test
+    public void invalidateWhenJarSizeChanges() throws IOException {
+        Path cacheDir = temporaryFolder.newFolder("cache").toPath();
+        Path jar = createFixtureJar("fixture.jar", "value=1");
+        LibraryPropertiesCache cache = new LibraryPropertiesCache(cacheDir, Long.MAX_VALUE, PRODUCER);
+        cache.put(jar, VARIANT, createMetadata());
+        Assert.assertNotNull(cache.get(jar, VARIANT));
+
+        createFixtureJar("fixture.jar", "value=1\nother=2");
+
+        Assert.assertNull(cache.get(jar, VARIANT));
+        Assert.assertFalse("The stale entry must be deleted", Files.exists(cache.getEntryFile(jar, VARIANT)));
+    }
+
+    @Test
+    public void invalidateWhenJarContentChanges() throws IOException {
+        Path cacheDir = temporaryFolder.newFolder("cache").toPath();
+        Path jar = createFixtureJar("fixture.jar", "value=1");
+        FileTime lastModified = Files.getLastModifiedTime(jar);
+        long size = Files.size(jar);
+        new LibraryPropertiesCache(cacheDir, Long.MAX_VALUE, PRODUCER).put(jar, VARIANT, createMetadata());
+
+        // Same size and same timestamp, only the content hash differs
+        createFixtureJar("fixture.jar", "value=2");
+        Files.setLastModifiedTime(jar, lastModified);
+        Assert.assertEquals(size, Files.size(jar));
+
+        Assert.assertNull(new LibraryPropertiesCache(cacheDir, Long.MAX_VALUE, PRODUCER).get(jar, VARIANT));
+    }
+
+    @Test
+    public void invalidateWhenVersionChanges() throws IOException {
+        Path cacheDir = temporaryFolder.newFolder("cache").toPath();
+        Path jar = createFixtureJar("fixture.jar", "value=1");
+        new LibraryPropertiesCache(cacheDir, Long.MAX_VALUE, PRODUCER).put(jar, VARIANT, createMetadata());
+
+        Assert.assertNull(new LibraryPropertiesCache(cacheDir, Long.MAX_VALUE, "2.0.0").get(jar, VARIANT));
+
+        Path outdatedVersionDir = Files.createDirectories(cacheDir.resolve("v" + (LibraryPropertiesCache.VERSION - 1)));
+        Files.writeString(outdatedVersionDir.resolve("entry.json"), "{}");
+        new LibraryPropertiesCache(cacheDir, Long.MAX_VALUE, PRODUCER);
+        Assert.assertFalse("Entries of other cache versions must be deleted", Files.exists(outdatedVersionDir));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsedEntries() throws IOException {
+        Path cacheDir = temporaryFolder.newFolder("cache").toPath();
+        Path jarA = createFixtureJar("a.jar", "value=a");
+        Path jarB = createFixtureJar("b.jar", "value=b");
+        Path jarC = createFixtureJar("c.jar", "value=c");
+        new LibraryPropertiesCache(cacheDir, Long.MAX_VALUE, PRODUCER).put(jarA, VARIANT, createMetadata());
+        LibraryPropertiesCache unboundedCache = new LibraryPropertiesCache(cacheDir, Long.MAX_VALUE, PRODUCER);
+        long entrySize = Files.size(unboundedCache.getEntryFile(jarA, VARIANT));
+
+        // Room for 2 entries
+        LibraryPropertiesCache cache = new LibraryPropertiesCache(cacheDir, 2 * entrySize + entrySize / 2, PRODUCER);
+        cache.put(jarB, VARIANT, createMetadata());
+        long now = System.currentTimeMillis();
+        Files.setLastModifiedTime(cache.getEntryFile(jarA, VARIANT), FileTime.fromMillis(now - 20_000));
+        Files.setLastModifiedTime(cache.getEntryFile(jarB, VARIANT), FileTime.fromMillis(now - 10_000));
+        // 'a' becomes the most recently used entry
+        Assert.assertNotNull(cache.get(jarA, VARIANT));
+
+        cache.put(jarC, VARIANT, createMetadata());
+
+        Assert.assertFalse(Files.exists(cache.getEntryFile(jarB, VARIANT)));
+        Assert.assertNotNull(cache.get(jarA, VARIANT));
+        Assert.assertNotNull(cache.get(jarC, VARIANT));
+    }
+
+    /**
+     * Creates a jar with a single stored entry, so that the jar size only depends on the size of the given content.
+     */
+    private Path createFixtureJar(String name, String content) throws IOException {
+        Path jar = temporaryFolder.getRoot().toPath().resolve(name);
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        ZipEntry entry = new ZipEntry("META-INF/fixture.properties");
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(bytes.length);
+        entry.setCrc(crc.getValue());
+        entry.setTime(0);
+        try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+            jarOut.putNextEntry(entry);
+            jarOut.write(bytes);
+            jarOut.closeEntry();
+        }
+        return jar;
+    }
+
+    private static ConfigurationMetadata createMetadata() {
+        ItemMetadata property = new ItemMetadata();
+        property.setName("fixture.timeout");
+        property.setType("java.lang.Integer");
+        property.setSourceType("org.acme.FixtureConfig");
+        property.setSourceField("timeout");
+        ValueHint value = new ValueHint();
+        value.setValue("FAST");
+        ItemHint hint = new ItemHint();
+        hint.setName("fixture.mode");
+        hint.setValues(List.of(value));
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        metadata.setProperties(List.of(property));
+        metadata.setHints(List.of(hint));
+        return metadata;
+    }
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector.MergingStrategy;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the merge strategies of {@link PropertiesCollector} and the number of lookups required to collect a large
+ * number of properties.
+ */
+@RunWith(JUnit4.class)
+public class PropertiesCollectorTest {
+
+    private static final int PROPERTIES_COUNT = 50_000;
+
+    @Test
+    public void mergeIgnoreIfExists() {
+        ConfigurationMetadata configuration = new ConfigurationMetadata();
+        PropertiesCollector collector = createCollector(configuration);
+        addProperty(collector, "a", "A1");
+        addProperty(collector, "b", "B1");
+
+        collector.merge(metadata(p("b", "B2"), p("c", "C2"), p("c", "C3")), MergingStrategy.IGNORE_IF_EXISTS);
+
+        Assert.assertEquals(Arrays.asList("a:A1", "b:B1", "c:C2"), toStrings(configuration));
+    }
+
+    @Test
+    public void mergeReplace() {
+        ConfigurationMetadata configuration = new ConfigurationMetadata();
+        PropertiesCollector collector = createCollector(configuration);
+        addProperty(collector, "a", "A1");
+        addProperty(collector, "b", "B1");
+        addProperty(collector, "a", "A2");
+        addProperty(collector, "c", "C1");
+
+        // The first 'a' is replaced by 'A3' which is added at the end, then 'A2' is replaced by 'A4'
+        collector.merge(metadata(p("a", "A3"), p("b", "B2"), p("a", "A4")), MergingStrategy.REPLACE);
+
+        Assert.assertEquals(Arrays.asList("c:C1", "a:A3", "b:B2", "a:A4"), toStrings(configuration));
+    }
+
+    @Test
+    public void mergeForce() {
+        ConfigurationMetadata configuration = new ConfigurationMetadata();
+        PropertiesCollector collector = createCollector(configuration);
+        addProperty(collector, "a", "A1");
+
+        collector.merge(metadata(p("a", "A2")), MergingStrategy.FORCE);
+
+        Assert.assertEquals(Arrays.asList("a:A1", "a:A2"), toStrings(configuration));
+    }
+
+    @Test
+    public void mergeHintValues() {
+        ConfigurationMetadata configuration = new ConfigurationMetadata();
+        PropertiesCollector collector = createCollector(configuration);
+        ItemHint existingHint = collector.getItemHint("hint");
+        existingHint.getValues().add(v("x", "X1"));
+        existingHint.getValues().add(v("y", "Y1"));
+
+        collector.merge(hintMetadata("hint", v("y", "Y2"), v("z", "Z2")), MergingStrategy.IGNORE_IF_EXISTS);
+        Assert.assertEquals(Arrays.asList("x:X1", "y:Y1", "z:Z2"), toStrings(existingHint.getValues()));
+
+        collector.merge(hintMetadata("hint", v("x", "X3"), v("x", "X4")), MergingStrategy.REPLACE);
+        Assert.assertEquals(Arrays.asList("y:Y1", "z:Z2", "x:X4"), toStrings(existingHint.getValues()));
+    }
+
+    @Test
+    public void collectManyProperties() {
+        ConfigurationMetadata configuration = new ConfigurationMetadata();
+        PropertiesCollector collector = createCollector(configuration);
+        AtomicLong nameLookups = new AtomicLong();
+        List<ItemMetadata> javaProperties = new ArrayList<>();
+        List<ItemMetadata> properties = new ArrayList<>();
+        List<ItemMetadata> replacedProperties = new ArrayList<>();
+        for (int i = 0; i < PROPERTIES_COUNT; i++) {
+            javaProperties.add(p("property." + i, "java", nameLookups));
+            properties.add(p("property." + i, "static", nameLookups));
+            if (i % 2 == 0) {
+                replacedProperties.add(p("property." + i, "replaced", nameLookups));
+            }
+        }
+        ConfigurationMetadata javaMetadata = new ConfigurationMetadata();
+        javaMetadata.setProperties(javaProperties);
+        ConfigurationMetadata staticProperties = new ConfigurationMetadata();
+        staticProperties.setProperties(properties);
+        ConfigurationMetadata replaceProperties = new ConfigurationMetadata();
+        replaceProperties.setProperties(replacedProperties);
+
+        collector.merge(javaMetadata, MergingStrategy.FORCE);
+        // Nothing is added, each property already exists
+        collector.merge(staticProperties, MergingStrategy.IGNORE_IF_EXISTS);
+        collector.merge(replaceProperties, MergingStrategy.REPLACE);
+
+        Assert.assertEquals(PROPERTIES_COUNT, configuration.getProperties().size());
+        Assert.assertEquals("property.1", configuration.getProperties().get(0).getName());
+        Assert.assertEquals("replaced", configuration.getProperties().get(PROPERTIES_COUNT - 1).getDescription());
+        // Each merged property is looked up by name a constant number of times, scanning the properties list for
+        // each merged property reads the name of every collected property instead
+        Assert.assertTrue("Merging " + PROPERTIES_COUNT + " properties read " + nameLookups.get() + " property names",
+                nameLookups.get() < 10L * PROPERTIES_COUNT);
+    }
+
+    private static PropertiesCollector createCollector(ConfigurationMetadata configuration) {
+        return new PropertiesCollector(configuration, MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+    }
+
+    private static void addProperty(PropertiesCollector collector, String name, String description) {
+        collector.addItemMetadata(name, "java.lang.String", description, "org.acme.Config", null, null, null, null,
+                false, 0);
+    }
+
+    /**
+     * Returns a property which counts the reads of its name.
+     */
+    private static ItemMetadata p(String name, String description, AtomicLong nameLookups) {
+        ItemMetadata property = new ItemMetadata() {
+            @Override
+            public String getName() {
+                nameLookups.incrementAndGet();
+                return super.getName();
+            }
+        };
+        property.setName(name);
+        property.setDescription(description);
+        return property;
+    }
+
+    private static ItemMetadata p(String name, String description) {
+        ItemMetadata property = new ItemMetadata();
+        property.setName(name);
+        property.setDescription(description);
+        return property;
+    }
+
+    private static ValueHint v(String value, String description) {
+        ValueHint valueHint = new ValueHint();
+        valueHint.setValue(value);
+        valueHint.setDescription(description);
+        return valueHint;
+    }
+
+    private static ConfigurationMetadata metadata(ItemMetadata... properties) {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        metadata.setProperties(Arrays.asList(properties));
+        return metadata;
+    }
+
+    private static ConfigurationMetadata hintMetadata(String name, ValueHint... values) {
+        ItemHint hint = new ItemHint();
+        hint.setName(name);
+        hint.setValues(Arrays.asList(values));
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        metadata.setHints(List.of(hint));
+        return metadata;
+    }
+
+    private static List<String> toStrings(ConfigurationMetadata configuration) {
+        return configuration.getProperties().stream()
+                .map(p -> p.getName() + ":" + p.getDescription())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> toStrings(List<ValueHint> values) {
+        return values.stream()
+                .map(v -> v.getValue() + ":" + v.getDescription())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests {@link PropertiesInterner} and measures the retained heap of the properties collected for a large synthetic
+ * project with and without interning.
+ */
+@RunWith(JUnit4.class)
+public class PropertiesInternerTest {
+
+    private static final int FILES_COUNT = 500;
+
+    private static final int PROPERTIES_PER_FILE = 40;
+
+    private static final int HINTS_PER_FILE = 4;
+
+    private static final int VALUES_PER_HINT = 6;
+
+    @Test
+    public void internStrings() {
+        PropertiesInterner interner = new PropertiesInterner();
+        String value = interner.intern(copy("org.acme.Config"));
+        Assert.assertSame(value, interner.intern(copy("org.acme.Config")));
+        Assert.assertSame(value, interner.intern(value));
+        Assert.assertNull(interner.intern((String) null));
+        // Common types are flyweights shared by all the interners
+        Assert.assertSame(new PropertiesInterner().intern(copy("java.lang.String")),
+                interner.intern(copy("java.lang.String")));
+    }
+
+    @Test
+    public void internHintValues() {
+        PropertiesInterner interner = new PropertiesInterner();
+        ItemHint hint1 = interner.intern(hint("org.acme.Color", "RED", "GREEN"));
+        ItemHint hint2 = interner.intern(hint("org.acme.Color", "RED", "GREEN"));
+        ItemHint hint3 = interner.intern(hint("org.acme.Color", "GREEN", "RED"));
+
+        Assert.assertSame(hint1.getName(), hint2.getName());
+        Assert.assertSame(hint1.getValues(), hint2.getValues());
+        Assert.assertNotSame(hint1.getValues(), hint3.getValues());
+        Assert.assertSame(hint1.getValues().get(0), hint3.getValues().get(1));
+        Assert.assertEquals(List.of("RED", "GREEN"), hint1.getValues().stream().map(ValueHint::getValue).toList());
+        Assert.assertThrows(UnsupportedOperationException.class, () -> hint1.getValues().add(new ValueHint()));
+    }
+
+    @Test
+    public void collectorInternsProperties() {
+        PropertiesInterner interner = new PropertiesInterner();
+        ItemMetadata property1 = collect(interner, 0).getProperties().get(0);
+        ItemMetadata property2 = collect(interner, 50).getProperties().get(0);
+        Assert.assertNotSame(property1, property2);
+        Assert.assertSame(property1.getType(), property2.getType());
+        Assert.assertSame(property1.getSourceType(), property2.getSourceType());
+        Assert.assertSame(property1.getDescription(), property2.getDescription());
+        Assert.assertSame(property1.getExtensionName(), property2.getExtensionName());
+    }
+
+    @Test
+    public void internedPropertiesRetainLessHeap() {
+        List<ConfigurationMetadata> plain = new ArrayList<>();
+        for (int file = 0; file < FILES_COUNT; file++) {
+            plain.add(collect(null, file));
+        }
+        PropertiesInterner interner = new PropertiesInterner();
+        List<ConfigurationMetadata> interned = new ArrayList<>();
+        for (int file = 0; file < FILES_COUNT; file++) {
+            interned.add(collect(interner, file));
+        }
+        long plainSize = RetainedSizeEstimator.getRetainedSize(plain);
+        long internedSize = RetainedSizeEstimator.getRetainedSize(interned);
+        // The estimated sizes are about 8.7 MB without interning and 2.5 MB with interning
+        Assert.assertTrue("Interned properties retain " + internedSize + " bytes, instead of " + plainSize,
+                internedSize < plainSize / 3);
+        Assert.assertTrue("Interned properties retain " + internedSize + " bytes",
+                internedSize < 3L * 1024 * 1024);
+    }
+
+    /**
+     * Collects the properties of a synthetic Java file, the strings are new instances as when they are read from the
+     * PSI.
+     */
+    private static ConfigurationMetadata collect(PropertiesInterner interner, int file) {
+        PropertiesCollector collector = new PropertiesCollector(new ConfigurationMetadata(),
+                MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, interner);
+        String sourceType = copy("org.acme.config.Config" + (file % 50));
+        for (int i = 0; i < PROPERTIES_PER_FILE; i++) {
+            String type = i % 2 == 0 ? "java.lang.String" : "org.acme.Color";
+            collector.addItemMetadata(copy("acme.file" + file + ".property" + i), copy(type),
+                    copy("The description of the property " + (i % 10) + " of the config"), sourceType,
+                    copy("field" + i), null, i % 3 == 0 ? copy("10") : null, copy("acme-extension"), false, 0);
+        }
+        for (int i = 0; i < HINTS_PER_FILE; i++) {
+            ItemHint hint = collector.getItemHint(copy("org.acme.Enum" + i));
+            hint.setSourceType(copy("org.acme.Enum" + i));
+            for (int j = 0; j < VALUES_PER_HINT; j++) {
+                hint.getValues().add(value(copy("VALUE_" + j)));
+            }
+        }
+        return collector.getInternedConfiguration();
+    }
+
+    private static ItemHint hint(String name, String... values) {
+        ItemHint hint = new ItemHint();
+        hint.setName(copy(name));
+        List<ValueHint> valueHints = new ArrayList<>();
+        for (String value : values) {
+            valueHints.add(value(copy(value)));
+        }
+        hint.setValues(valueHints);
+        return hint;
+    }
+
+    private static ValueHint value(String value) {
+        ValueHint valueHint = new ValueHint();
+        valueHint.setValue(value);
+        return valueHint;
+    }
+
+    private static String copy(String value) {
+        return new String(value.toCharArray());
+    }
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Estimates the heap retained by the properties metadata in the tests.
+ */
+final class RetainedSizeEstimator {
+
+    private RetainedSizeEstimator() {
+    }
+
+    /**
+     * Returns the estimated retained size in bytes of the given objects graph, with the compressed oops layout of a
+     * 64-bit JVM (12 bytes object header, 4 bytes references, 8 bytes alignment). Each object reachable from the
+     * roots is counted once; the Boolean, Integer and enum constants are shared by the JVM and are not counted.
+     */
+    static long getRetainedSize(Object root) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> stack = new ArrayDeque<>();
+        stack.push(root);
+        long size = 0;
+        while (!stack.isEmpty()) {
+            Object object = stack.pop();
+            if (!visited.add(object)) {
+                continue;
+            }
+            if (object instanceof String value) {
+                // String instance + latin1 byte[]
+                size += align(24) + align(16 + value.length());
+            } else if (object instanceof Collection<?> collection) {
+                // Collection instance + Object[] of the elements
+                size += align(24) + align(16 + 4L * collection.size());
+                collection.forEach(element -> push(stack, element));
+            } else {
+                long shallowSize = 12;
+                for (Class<?> type = object.getClass(); type != Object.class; type = type.getSuperclass()) {
+                    for (Field field : type.getDeclaredFields()) {
+                        if (Modifier.isStatic(field.getModifiers())) {
+                            continue;
+                        }
+                        shallowSize += getFieldSize(field.getType());
+                        if (!field.getType().isPrimitive()) {
+                            field.setAccessible(true);
+                            try {
+                                push(stack, field.get(object));
+                            } catch (IllegalAccessException e) {
+                                throw new AssertionError(e);
+                            }
+                        }
+                    }
+                }
+                size += align(shallowSize);
+            }
+        }
+        return size;
+    }
+
+    private static void push(Deque<Object> stack, Object value) {
+        if (value != null && !(value instanceof Boolean) && !(value instanceof Integer) && !(value instanceof Enum)) {
+            stack.push(value);
+        }
+    }
+
+    private static long getFieldSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 4;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
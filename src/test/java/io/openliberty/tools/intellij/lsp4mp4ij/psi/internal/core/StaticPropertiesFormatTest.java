@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.google.gson.Gson;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.AbstractStaticPropertiesProvider;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests the static properties {@link StaticPropertiesFormat binary format} compiled from the
+ * <code>src/main/resources/static-properties</code> JSON files, and compares its size, parse time and retained heap
+ * with the JSON files.
+ */
+@RunWith(JUnit4.class)
+public class StaticPropertiesFormatTest {
+
+    private static final Path JSON_DIR = Path.of("src/main/resources/static-properties");
+
+    private static final int ITERATIONS = 50;
+
+    private static Map<String, byte[]> jsonFiles;
+
+    private static Map<String, ConfigurationMetadata> jsonMetadata;
+
+    private static byte[] binary;
+
+    @BeforeClass
+    public static void compile() throws IOException {
+        jsonMetadata = StaticPropertiesCompiler.parseJsonFiles(JSON_DIR);
+        jsonFiles = new LinkedHashMap<>();
+        for (String path : jsonMetadata.keySet()) {
+            jsonFiles.put(path, Files.readAllBytes(JSON_DIR.resolve(path.substring(StaticPropertiesRegistry.JSON_RESOURCES_PATH.length()))));
+        }
+        binary = StaticPropertiesCompiler.compile(jsonMetadata);
+    }
+
+    @Test
+    public void binaryDecodesToTheJsonMetadata() throws IOException {
+        Assert.assertFalse(jsonMetadata.isEmpty());
+        Map<String, ConfigurationMetadata> binaryMetadata = readBinary();
+        Assert.assertEquals(jsonMetadata.keySet(), binaryMetadata.keySet());
+        Gson gson = new Gson();
+        jsonMetadata.forEach((path, metadata) ->
+                Assert.assertEquals(path, gson.toJson(metadata), gson.toJson(binaryMetadata.get(path))));
+    }
+
+    @Test
+    public void invalidBinaryIsRejected() {
+        byte[] corrupted = binary.clone();
+        corrupted[0] = 0;
+        Assert.assertThrows(IOException.class, () -> StaticPropertiesFormat.read(new ByteArrayInputStream(corrupted)));
+        byte[] truncated = new byte[binary.length / 2];
+        System.arraycopy(binary, 0, truncated, 0, truncated.length);
+        Assert.assertThrows(IOException.class, () -> StaticPropertiesFormat.read(new ByteArrayInputStream(truncated)));
+    }
+
+    @Test
+    public void registryReturnsCompiledMetadata() throws IOException {
+        StaticPropertiesRegistry registry = new StaticPropertiesRegistry(readBinary());
+        Assert.assertEquals(jsonMetadata.keySet(), registry.getPaths());
+        String path = jsonMetadata.keySet().iterator().next();
+        Assert.assertSame(registry.getMetadata(path), registry.getMetadata(path));
+        Assert.assertNull(registry.getMetadata("/static-properties/unknown.json"));
+        Assert.assertNull(registry.getMetadata(null));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> registry.getPaths().clear());
+    }
+
+    @Test
+    public void binaryIsSmallerAndRetainsLessHeap() throws IOException {
+        long jsonBytes = jsonFiles.values().stream().mapToLong(bytes -> bytes.length).sum();
+        Assert.assertTrue("The binary format takes " + binary.length + " bytes, instead of " + jsonBytes,
+                binary.length < jsonBytes);
+        long jsonSize = RetainedSizeEstimator.getRetainedSize(new ArrayList<>(parseJson()));
+        long binarySize = RetainedSizeEstimator.getRetainedSize(new ArrayList<>(readBinary().values()));
+        Assert.assertTrue("The binary format retains " + binarySize + " bytes, instead of " + jsonSize,
+                binarySize < jsonSize);
+    }
+
+    @Test
+    public void binaryParsesFasterThanJson() throws IOException {
+        // Warm up both parsers before measuring
+        measure(StaticPropertiesFormatTest::parseJson);
+        measure(() -> readBinary().values());
+        long jsonNanos = measure(StaticPropertiesFormatTest::parseJson);
+        long binaryNanos = measure(() -> readBinary().values());
+        // The binary format decodes about 15 times faster, the bound leaves room for noisy machines
+        Assert.assertTrue("The binary format is parsed in " + binaryNanos / 1_000 + " us, instead of "
+                + jsonNanos / 1_000 + " us", binaryNanos < jsonNanos / 2);
+    }
+
+    private static Map<String, ConfigurationMetadata> readBinary() throws IOException {
+        return StaticPropertiesFormat.read(new ByteArrayInputStream(binary));
+    }
+
+    private static List<ConfigurationMetadata> parseJson() {
+        List<ConfigurationMetadata> metadatas = new ArrayList<>();
+        for (byte[] bytes : jsonFiles.values()) {
+            metadatas.add(AbstractStaticPropertiesProvider.parseJson(new ByteArrayInputStream(bytes)));
+        }
+        return metadatas;
+    }
+
+    /**
+     * Returns the average time in nanoseconds of the given parse.
+     */
+    private static long measure(Parser parser) throws IOException {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            Assert.assertEquals(jsonFiles.size(), parser.parse().size());
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private interface Parser {
+        Collection<?> parse() throws IOException;
+    }
+}
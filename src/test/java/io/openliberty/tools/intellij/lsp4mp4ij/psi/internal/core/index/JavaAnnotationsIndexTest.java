@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.index;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMember;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.PsiNamedElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.intellij.util.indexing.FileBasedIndex;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests the {@link JavaAnnotationsIndex} lookups.
+ */
+public class JavaAnnotationsIndexTest extends BasePlatformTestCase {
+
+    private static final String GREETING_RESOURCE = """
+            package org.acme;
+
+            import jakarta.ws.rs.GET;
+            import jakarta.ws.rs.Path;
+            import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+            @Path("/greeting")
+            public class GreetingResource {
+
+                @ConfigProperty(name = "greeting.message", defaultValue = "hello")
+                String message;
+
+                @GET
+                public String hello() {
+                    return message;
+                }
+            }
+            """;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.addFileToProject("jakarta/ws/rs/GET.java", "package jakarta.ws.rs; public @interface GET {}");
+        myFixture.addFileToProject("jakarta/ws/rs/Path.java", "package jakarta.ws.rs; public @interface Path { String value(); }");
+        myFixture.addFileToProject("org/eclipse/microprofile/config/inject/ConfigProperty.java",
+                "package org.eclipse.microprofile.config.inject; public @interface ConfigProperty { String name() default \"\"; String defaultValue() default \"\"; }");
+        myFixture.addFileToProject("org/other/GET.java", "package org.other; public @interface GET {}");
+    }
+
+    public void testAnnotatedElements() {
+        myFixture.addFileToProject("org/acme/GreetingResource.java", GREETING_RESOURCE);
+        myFixture.addFileToProject("org/acme/OnDemandResource.java", """
+                package org.acme;
+
+                import jakarta.ws.rs.*;
+
+                public class OnDemandResource {
+
+                    @GET
+                    public String get() {
+                        return "";
+                    }
+                }
+                """);
+        myFixture.addFileToProject("org/acme/OtherResource.java", """
+                package org.acme;
+
+                import org.other.GET;
+
+                public class OtherResource {
+
+                    @GET
+                    public String get() {
+                        return "";
+                    }
+                }
+                """);
+
+        // The annotation imported on demand is checked against the PSI, the annotation with the same simple name from
+        // another package is filtered out
+        assertSameElements(getNames("jakarta.ws.rs.GET"), "GreetingResource.hello", "OnDemandResource.get");
+        assertSameElements(getNames("org.other.GET"), "OtherResource.get");
+        assertSameElements(getNames("jakarta.ws.rs.Path"), "GreetingResource");
+        assertEmpty(getNames("jakarta.ws.rs.POST"));
+    }
+
+    public void testFilter() {
+        myFixture.addFileToProject("org/acme/GreetingResource.java", GREETING_RESOURCE);
+
+        assertEmpty(JavaAnnotationsIndex.getAnnotatedElements(getProject(), "jakarta.ws.rs.Path", getScope(),
+                annotation -> annotation.target() == IndexedAnnotation.Target.METHOD));
+        assertSize(1, JavaAnnotationsIndex.getAnnotatedElements(getProject(),
+                "org.eclipse.microprofile.config.inject.ConfigProperty", getScope(),
+                annotation -> "greeting.message".equals(annotation.getAttribute("name"))));
+        assertEmpty(JavaAnnotationsIndex.getAnnotatedElements(getProject(),
+                "org.eclipse.microprofile.config.inject.ConfigProperty", getScope(),
+                annotation -> "unknown".equals(annotation.getAttribute("name"))));
+    }
+
+    public void testIndexedValues() {
+        PsiFile file = myFixture.addFileToProject("org/acme/GreetingResource.java", GREETING_RESOURCE);
+
+        IndexedAnnotation path = getIndexedAnnotation("Path", file);
+        assertEquals("jakarta.ws.rs.Path", path.qualifiedName());
+        assertEquals(IndexedAnnotation.Target.TYPE, path.target());
+        assertEquals("org.acme.GreetingResource", path.targetName());
+        assertEquals(Map.of("value", "/greeting"), path.attributes());
+        assertEquals(GREETING_RESOURCE.indexOf("@Path"), path.offset());
+
+        IndexedAnnotation configProperty = getIndexedAnnotation("ConfigProperty", file);
+        assertEquals(IndexedAnnotation.Target.FIELD, configProperty.target());
+        assertEquals("message", configProperty.targetName());
+        assertEquals("String", configProperty.targetType());
+        assertEquals("greeting.message", configProperty.getAttribute("name"));
+        assertEquals("hello", configProperty.getAttribute("defaultValue"));
+    }
+
+    public void testUpdatedFile() {
+        PsiFile file = myFixture.addFileToProject("org/acme/GreetingResource.java", GREETING_RESOURCE);
+        assertSameElements(getNames("jakarta.ws.rs.GET"), "GreetingResource.hello");
+
+        Document document = PsiDocumentManager.getInstance(getProject()).getDocument(file);
+        assertNotNull(document);
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            document.setText(GREETING_RESOURCE.replace("@GET\n", "").replace("public class", "\n\npublic class"));
+            PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        });
+
+        assertEmpty(getNames("jakarta.ws.rs.GET"));
+        // The offset of the moved annotation is updated
+        assertSameElements(getNames("jakarta.ws.rs.Path"), "GreetingResource");
+    }
+
+    private List<String> getNames(String annotationName) {
+        return JavaAnnotationsIndex.getAnnotatedElements(getProject(), annotationName, getScope()).stream()
+                .map(JavaAnnotationsIndexTest::getName)
+                .toList();
+    }
+
+    private static String getName(PsiModifierListOwner element) {
+        String name = ((PsiNamedElement) element).getName();
+        if (element instanceof PsiMember member && member.getContainingClass() != null) {
+            return member.getContainingClass().getName() + "." + name;
+        }
+        return name;
+    }
+
+    private IndexedAnnotation getIndexedAnnotation(String shortName, PsiFile file) {
+        List<List<IndexedAnnotation>> values = FileBasedIndex.getInstance().getValues(JavaAnnotationsIndex.NAME,
+                shortName, GlobalSearchScope.fileScope(file));
+        assertSize(1, values);
+        assertSize(1, values.get(0));
+        return values.get(0).get(0);
+    }
+
+    private GlobalSearchScope getScope() {
+        return GlobalSearchScope.projectScope(getProject());
+    }
+}
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.project;
+
+import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
+import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests {@link MemoizedPropertyValueExpander} against the lsp4mp {@link PropertyValueExpander}.
+ */
+@RunWith(JUnit4.class)
+public class MemoizedPropertyValueExpanderTest {
+
+    private final Map<String, String> properties = new HashMap<>();
+
+    private final AtomicInteger rawValueReads = new AtomicInteger();
+
+    private final IConfigSourcePropertiesProvider provider = new IConfigSourcePropertiesProvider() {
+
+        @Override
+        public Set<String> keys() {
+            return properties.keySet();
+        }
+
+        @Override
+        public boolean hasKey(String key) {
+            return properties.containsKey(key);
+        }
+
+        @Override
+        public String getValue(String key) {
+            rawValueReads.incrementAndGet();
+            return properties.get(key);
+        }
+    };
+
+    private final MemoizedPropertyValueExpander expander = new MemoizedPropertyValueExpander(() -> provider);
+
+    @Test
+    public void matchesUpstreamExpansion() {
+        // Default values and nested expressions
+        properties.put("greeting", "Hello ${name}, ${missing:welcome} to ${place:here}!");
+        properties.put("name", "${first} ${last}");
+        properties.put("first", "John");
+        properties.put("last", "Doe");
+        properties.put("place", "Liberty");
+        properties.put("nested", "${missing:${first}}");
+        properties.put("undefined.reference", "${missing}");
+        // Escapes
+        properties.put("escaped", "\\${first} ${last}");
+        // Profiles
+        properties.put("%dev.greeting", "Hi ${first}");
+        properties.put("%dev.first", "Jane");
+        properties.put("%dev.qualified", "${%dev.first}");
+        // Cycles
+        properties.put("a", "${b}");
+        properties.put("b", "x${a}");
+        properties.put("self", "${self}");
+        properties.put("dependent", "${a:default}");
+        assertMatchesUpstream();
+
+        properties.put("first", "Jack");
+        properties.put("%dev.first", "Jill");
+        properties.put("b", "x");
+        properties.remove("place");
+        properties.put("missing", "found");
+        expander.revalidate();
+        assertMatchesUpstream();
+    }
+
+    @Test
+    public void memoizesValues() {
+        properties.put("url", "http://${host}:${port}");
+        properties.put("host", "localhost");
+        properties.put("port", "9080");
+        properties.put("a", "${b}");
+        properties.put("b", "${a}");
+
+        Assert.assertEquals(upstreamValue("url"), expander.getValue("url"));
+        Assert.assertEquals(upstreamValue("a"), expander.getValue("a"));
+        int reads = rawValueReads.get();
+
+        for (String key : List.of("url", "a")) {
+            expander.getValue(key);
+        }
+        expander.revalidate();
+        expander.getValue("url");
+        // The memoized values are returned without reading the raw values, except to revalidate them
+        Assert.assertEquals(reads + 5, rawValueReads.get());
+    }
+
+    @Test
+    public void invalidatesOnlyTheDependents() {
+        properties.put("host", "localhost");
+        properties.put("port", "9080");
+        properties.put("url", "http://${host}:${port}");
+        properties.put("health", "${url}/health");
+        properties.put("name", "app");
+        properties.put("title", "${name} title");
+        for (String key : List.copyOf(properties.keySet())) {
+            expander.getValue(key);
+        }
+        Assert.assertEquals(6, expander.getMemoizedCount());
+
+        // Nothing changed
+        expander.revalidate();
+        Assert.assertEquals(6, expander.getMemoizedCount());
+
+        properties.put("port", "9443");
+        expander.revalidate();
+        // port, url and health are invalidated, host, name and title are kept
+        Assert.assertEquals(3, expander.getMemoizedCount());
+        Assert.assertEquals(upstreamValue("health"), expander.getValue("health"));
+
+        // A property defined after it was referenced
+        properties.put("url", "${scheme:http}://${host}:${port}");
+        expander.revalidate();
+        Assert.assertEquals(upstreamValue("health"), expander.getValue("health"));
+        properties.put("scheme", "https");
+        expander.revalidate();
+        Assert.assertEquals(upstreamValue("health"), expander.getValue("health"));
+
+        expander.invalidate(List.of("name"));
+        // name and title
+        Assert.assertEquals(2, expander.getMemoizedCount());
+    }
+
+    @Test
+    public void invalidatesNestedAndProfileReferences() {
+        properties.put("nested", "${missing:${first}}");
+        properties.put("first", "John");
+        properties.put("%dev.greeting", "Hi ${name}");
+        properties.put("name", "Doe");
+        properties.put("other", "${last}");
+        properties.put("last", "Doe");
+        for (String key : List.of("nested", "%dev.greeting", "other")) {
+            expander.getValue(key);
+        }
+        Assert.assertEquals(3, expander.getMemoizedCount());
+
+        // The reference of the default value
+        properties.put("first", "Jane");
+        expander.revalidate();
+        Assert.assertEquals(2, expander.getMemoizedCount());
+        Assert.assertEquals(upstreamValue("nested"), expander.getValue("nested"));
+
+        // The profile property which may override the referenced one
+        properties.put("%dev.name", "Smith");
+        expander.revalidate();
+        Assert.assertEquals(2, expander.getMemoizedCount());
+        Assert.assertEquals(upstreamValue("%dev.greeting"), expander.getValue("%dev.greeting"));
+        Assert.assertEquals(3, expander.getMemoizedCount());
+    }
+
+    @Test
+    public void referenceChains() {
+        int count = 1_000;
+        properties.put("p0", "0");
+        for (int i = 1; i < count; i++) {
+            properties.put("p" + i, "${p" + (i - 1) + "}" + (i % 10));
+        }
+        for (int i = 0; i < count; i++) {
+            expander.getValue("p" + i);
+        }
+        Assert.assertEquals(count, expander.getMemoizedCount());
+
+        // Modifying the middle of the chain only invalidates the second half
+        properties.put("p" + (count / 2), "x");
+        expander.revalidate();
+        Assert.assertEquals(count / 2, expander.getMemoizedCount());
+        Assert.assertEquals(upstreamValue("p" + (count - 1)), expander.getValue("p" + (count - 1)));
+        Assert.assertEquals(count / 2 + 1, expander.getMemoizedCount());
+
+        // A cycle closing the first half of the chain invalidates the first half
+        properties.put("p0", "${p" + (count / 2 - 1) + "}");
+        expander.revalidate();
+        Assert.assertEquals(1, expander.getMemoizedCount());
+        Assert.assertEquals(upstreamValue("p1"), expander.getValue("p1"));
+    }
+
+    @Test
+    public void manyIndependentProperties() {
+        int count = 10_000;
+        for (int i = 0; i < count; i++) {
+            properties.put("base" + i, "b" + i);
+            properties.put("derived" + i, "${base" + i + "}-${base" + ((i + 1) % count) + "}");
+        }
+        for (int i = 0; i < count; i++) {
+            expander.getValue("derived" + i);
+        }
+        Assert.assertEquals(count, expander.getMemoizedCount());
+
+        properties.put("base42", "changed");
+        expander.revalidate();
+        // derived41 and derived42
+        Assert.assertEquals(count - 2, expander.getMemoizedCount());
+        Assert.assertEquals(upstreamValue("derived41"), expander.getValue("derived41"));
+        Assert.assertEquals(upstreamValue("derived42"), expander.getValue("derived42"));
+    }
+
+    private void assertMatchesUpstream() {
+        for (String key : List.copyOf(properties.keySet())) {
+            Assert.assertEquals(key, upstreamValue(key), expander.getValue(key));
+        }
+    }
+
+    private String upstreamValue(String key) {
+        return new PropertyValueExpander(provider).getValue(key);
+    }
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.jaxrs.java;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SymbolInformation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests the JAX-RS workspace symbols created from the JAX-RS endpoints index.
+ */
+public class JaxRsWorkspaceSymbolParticipantTest extends BasePlatformTestCase {
+
+    private static final String APPLICATION = """
+            package org.acme;
+
+            import jakarta.ws.rs.ApplicationPath;
+            import jakarta.ws.rs.core.Application;
+
+            @ApplicationPath("api")
+            public class RestApplication extends Application {
+            }
+            """;
+
+    private static final String USERS_RESOURCE = """
+            package org.acme;
+
+            import jakarta.ws.rs.*;
+
+            @Path("/users")
+            public class UsersResource {
+
+                @GET
+                public String list() {
+                    return "";
+                }
+
+                @GET
+                @Path("{id}")
+                public String get(@PathParam("id") String id) {
+                    return id;
+                }
+
+                @POST
+                void notPublic() {
+                }
+
+                public String notAnEndpoint() {
+                    return "";
+                }
+            }
+            """;
+
+    public void testSymbols() {
+        myFixture.addFileToProject("org/acme/RestApplication.java", APPLICATION);
+        myFixture.addFileToProject("org/acme/UsersResource.java", USERS_RESOURCE);
+
+        List<SymbolInformation> symbols = getSymbols();
+        assertSameElements(symbols.stream().map(SymbolInformation::getName).toList(),
+                "@/api/users: GET", "@/api/users/{id}: GET");
+        SymbolInformation get = symbols.stream().filter(s -> s.getName().endsWith("{id}: GET")).findFirst().orElseThrow();
+        assertTrue(get.getLocation().getUri().endsWith("org/acme/UsersResource.java"));
+        // The range of the method name
+        assertEquals(new Range(new Position(14, 18), new Position(14, 21)),
+                get.getLocation().getRange());
+    }
+
+    public void testIncrementalUpdate() {
+        PsiFile resource = myFixture.addFileToProject("org/acme/UsersResource.java", USERS_RESOURCE);
+        assertEquals(List.of("@/users: GET", "@/users/{id}: GET"), getNames());
+
+        Document document = PsiDocumentManager.getInstance(getProject()).getDocument(resource);
+        assertNotNull(document);
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            document.setText(USERS_RESOURCE.replace("@Path(\"/users\")", "@Path(\"/people\")")
+                    .replace("@POST\n    void", "@POST\n    public void"));
+            PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        });
+        assertEquals(List.of("@/people: GET", "@/people/{id}: GET", "@/people: POST"), getNames());
+
+        myFixture.addFileToProject("org/acme/RestApplication.java", APPLICATION);
+        assertEquals(List.of("@/api/people: GET", "@/api/people/{id}: GET", "@/api/people: POST"), getNames());
+    }
+
+    public void testManyResources() {
+        int count = 1_000;
+        for (int i = 0; i < count; i++) {
+            myFixture.addFileToProject("org/acme/Resource" + i + ".java", """
+                    package org.acme;
+
+                    import jakarta.ws.rs.*;
+
+                    @Path("resource%d")
+                    public class Resource%d {
+
+                        @GET
+                        public String get() {
+                            return "";
+                        }
+
+                        @PUT
+                        @Path("items/{id}")
+                        public void put() {
+                        }
+                    }
+                    """.formatted(i, i));
+        }
+        List<SymbolInformation> symbols = getSymbols();
+        assertEquals(2 * count, symbols.size());
+
+        // The next requests reuse the cached symbols until the index changes
+        List<SymbolInformation> cachedSymbols = getSymbols();
+        assertEquals(symbols.size(), cachedSymbols.size());
+        for (int i = 0; i < symbols.size(); i++) {
+            assertSame(symbols.get(i), cachedSymbols.get(i));
+        }
+
+        myFixture.addFileToProject("org/acme/RestApplication.java", APPLICATION);
+        List<SymbolInformation> updatedSymbols = getSymbols();
+        assertEquals(2 * count, updatedSymbols.size());
+        assertTrue(updatedSymbols.get(0).getName().startsWith("@/api/resource"));
+    }
+
+    private List<SymbolInformation> getSymbols() {
+        List<SymbolInformation> symbols = new ArrayList<>();
+        new JaxRsWorkspaceSymbolParticipant().collectSymbols(getModule(), null, symbols, new EmptyProgressIndicator());
+        return symbols;
+    }
+
+    private List<String> getNames() {
+        return getSymbols().stream()
+                .map(SymbolInformation::getName)
+                .toList();
+    }
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.metrics;
+
+import com.intellij.openapi.progress.ProgressIndicator;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Tests the histograms and the request metrics of {@link LanguageServerMetrics}.
+ */
+@RunWith(JUnit4.class)
+public class LanguageServerMetricsTest {
+
+    @Test
+    public void percentilesAreWithinBucketPrecision() {
+        BoundedHistogram histogram = new BoundedHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+        Assert.assertEquals(100_000, histogram.getTotalCount());
+        assertWithinPrecision(50_000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(95_000, histogram.getValueAtPercentile(95));
+        assertWithinPrecision(99_000, histogram.getValueAtPercentile(99));
+        Assert.assertEquals(100_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void smallValuesAreExact() {
+        BoundedHistogram histogram = new BoundedHistogram();
+        histogram.record(3);
+        histogram.record(3);
+        histogram.record(7);
+        histogram.record(-1);
+        Assert.assertEquals(3, histogram.getValueAtPercentile(50));
+        Assert.assertEquals(7, histogram.getValueAtPercentile(99));
+        Assert.assertEquals(0, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void bucketsCoverAllValues() {
+        long previousHighestValue = -1;
+        for (int i = 0; i <= BoundedHistogram.getBucketIndex(BoundedHistogram.MAX_VALUE); i++) {
+            long highestValue = BoundedHistogram.getHighestValue(i);
+            Assert.assertEquals(i, BoundedHistogram.getBucketIndex(previousHighestValue + 1));
+            Assert.assertEquals(i, BoundedHistogram.getBucketIndex(highestValue));
+            previousHighestValue = highestValue;
+        }
+        Assert.assertEquals(BoundedHistogram.MAX_VALUE, previousHighestValue);
+
+        BoundedHistogram histogram = new BoundedHistogram();
+        histogram.record(Long.MAX_VALUE);
+        Assert.assertEquals(BoundedHistogram.MAX_VALUE, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void requestMetrics() {
+        LanguageServerMetrics metrics = new LanguageServerMetrics();
+        Diagnostic diagnostic = new Diagnostic();
+        List<PublishDiagnosticsParams> result = List.of(
+                new PublishDiagnosticsParams("file:///A.java", List.of(diagnostic, diagnostic)),
+                new PublishDiagnosticsParams("file:///B.java", List.of(diagnostic)));
+
+        // A completed request
+        RequestTracker<List<PublishDiagnosticsParams>> tracker = metrics.startRequest("jakarta/java/diagnostics");
+        Function<ProgressIndicator, List<PublishDiagnosticsParams>> code = tracker.wrap(monitor -> result);
+        tracker.track(CompletableFuture.completedFuture(code.apply(null)));
+
+        // A request cancelled before being computed
+        RequestTracker<List<PublishDiagnosticsParams>> cancelledTracker = metrics.startRequest("jakarta/java/diagnostics");
+        cancelledTracker.track(new CompletableFuture<>()).cancel(true);
+
+        metrics.recordParticipant("jakarta/java/diagnostics", "JakartaDiagnosticsParticipant", 2_000_000, 3);
+
+        List<RequestMetrics> requestMetrics = metrics.getMetrics();
+        Assert.assertEquals(2, requestMetrics.size());
+        RequestMetrics request = requestMetrics.get(0);
+        Assert.assertNull(request.getParticipant());
+        Assert.assertEquals(1, request.getCompletedCount());
+        Assert.assertEquals(1, request.getCancelledCount());
+        Assert.assertEquals(50.0, request.getCancellationRate(), 0.01);
+        Assert.assertEquals(3, request.getResultSize().getValueAtPercentile(50));
+        Assert.assertNotNull(request.getQueueWait());
+
+        RequestMetrics participant = requestMetrics.get(1);
+        Assert.assertEquals("JakartaDiagnosticsParticipant", participant.getParticipant());
+        Assert.assertNull(participant.getQueueWait());
+        assertWithinPrecision(2_000, participant.getComputeTime().getValueAtPercentile(99));
+
+        String[] csv = metrics.toCsv().split("\n");
+        Assert.assertEquals(3, csv.length);
+        Assert.assertTrue(csv[0], csv[0].startsWith("method,participant,completed,cancelled"));
+        Assert.assertTrue(csv[2], csv[2].startsWith("jakarta/java/diagnostics,JakartaDiagnosticsParticipant,1,0,0.0,,,,,,,"));
+
+        metrics.reset();
+        Assert.assertEquals(0, metrics.getMetrics().get(0).getCompletedCount());
+        Assert.assertEquals(0, metrics.getMetrics().get(0).getCancelledCount());
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        Assert.assertTrue("Expected " + expected + " but was " + actual,
+                actual >= expected && actual <= expected + expected / 16);
+    }
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import com.intellij.openapi.util.io.FileUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Tests {@link DebugPortWatcher} with a fake JDWP endpoint on localhost.
+ */
+@RunWith(JUnit4.class)
+public class DebugPortWatcherTest {
+
+    private static final long TIMEOUT_MILLIS = 20_000;
+
+    private Path projectDirectory;
+
+    private Path serverDirectory;
+
+    @Before
+    public void setUp() throws IOException {
+        projectDirectory = Files.createTempDirectory("liberty-debug");
+        serverDirectory = projectDirectory.resolve("target/liberty/wlp/usr/servers/defaultServer");
+    }
+
+    @After
+    public void tearDown() {
+        FileUtil.delete(projectDirectory.toFile());
+    }
+
+    @Test
+    public void attachesWhenServerEnvIsCreated() throws Exception {
+        try (ServerSocket jdwp = createJdwpEndpoint(); DebugPortWatcher watcher = createWatcher()) {
+            CompletableFuture<String> handshake = acceptHandshake(jdwp);
+            // dev mode writes the plugin config, then the server.env with the debug port
+            CompletableFuture<Void> devMode = CompletableFuture.runAsync(() -> {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(300);
+                    writePluginConfig();
+                    TimeUnit.MILLISECONDS.sleep(300);
+                    writeServerEnv(jdwp.getLocalPort());
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            Integer port = watcher.waitForDebugPort(getUnusedPort(), TIMEOUT_MILLIS, () -> false);
+            devMode.get();
+
+            Assert.assertEquals(Integer.valueOf(jdwp.getLocalPort()), port);
+            Assert.assertEquals("JDWP-Handshake", handshake.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void waitsForDevModeWhenServerEnvExists() throws Exception {
+        // server.env of a previous start, dev mode backs it up when it starts
+        writePluginConfig();
+        int previousPort = getUnusedPort();
+        writeServerEnv(previousPort);
+        try (ServerSocket jdwp = createJdwpEndpoint(); DebugPortWatcher watcher = createWatcher()) {
+            CompletableFuture<String> handshake = acceptHandshake(jdwp);
+            CompletableFuture<Void> devMode = CompletableFuture.runAsync(() -> {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(500);
+                    Files.copy(serverDirectory.resolve(DebugModeHandler.WLP_SERVER_ENV_FILE_NAME),
+                            serverDirectory.resolve(DebugModeHandler.WLP_SERVER_ENV_BAK_FILE_NAME));
+                    writeServerEnv(jdwp.getLocalPort());
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            Integer port = watcher.waitForDebugPort(previousPort, TIMEOUT_MILLIS, () -> false);
+            devMode.get();
+
+            Assert.assertEquals(Integer.valueOf(jdwp.getLocalPort()), port);
+            Assert.assertEquals("JDWP-Handshake", handshake.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void parsesFilesOnlyWhenModified() throws Exception {
+        writePluginConfig();
+        try (DebugPortWatcher watcher = createWatcher()) {
+            Assert.assertThrows(TimeoutException.class, () -> watcher.waitForDebugPort(getUnusedPort(), 1_500, () -> false));
+            // the plugin config was checked on each wake-up, but parsed once
+            Assert.assertEquals(1, watcher.getParseCount());
+        }
+    }
+
+    @Test
+    public void stopsWhenCancelled() throws Exception {
+        try (DebugPortWatcher watcher = createWatcher()) {
+            long start = System.nanoTime();
+            Assert.assertNull(watcher.waitForDebugPort(getUnusedPort(), TIMEOUT_MILLIS,
+                    () -> System.nanoTime() - start > TimeUnit.MILLISECONDS.toNanos(200)));
+            Assert.assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS));
+        }
+    }
+
+    private DebugPortWatcher createWatcher() throws IOException {
+        return new DebugPortWatcher(projectDirectory, "target", "localhost");
+    }
+
+    private void writePluginConfig() throws IOException {
+        Path config = projectDirectory.resolve("target").resolve(DebugPortWatcher.LIBERTY_PLUGIN_CONFIG_FILE_NAME);
+        Files.createDirectories(config.getParent());
+        Files.writeString(config, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<liberty-plugin-config version=\"2.0\">\n"
+                + "    <serverName>defaultServer</serverName>\n"
+                + "    <serverDirectory>" + serverDirectory + "</serverDirectory>\n"
+                + "</liberty-plugin-config>\n");
+    }
+
+    private void writeServerEnv(int port) throws IOException {
+        Files.createDirectories(serverDirectory);
+        Files.writeString(serverDirectory.resolve(DebugModeHandler.WLP_SERVER_ENV_FILE_NAME),
+                "keystore_password=secret\nWLP_DEBUG_SUSPEND=n\nWLP_DEBUG_ADDRESS=" + port + "\n");
+    }
+
+    private static ServerSocket createJdwpEndpoint() throws IOException {
+        // listen on all the addresses since localhost may resolve to an IPv4 or IPv6 address
+        return new ServerSocket(0);
+    }
+
+    /**
+     * Accepts one connection and returns the handshake sent by the debugger.
+     */
+    private static CompletableFuture<String> acceptHandshake(ServerSocket jdwp) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (Socket socket = jdwp.accept(); InputStream input = socket.getInputStream()) {
+                return new String(input.readNBytes(14), StandardCharsets.US_ASCII);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private static int getUnusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import com.intellij.openapi.roots.ModuleRootModificationUtil;
+import com.intellij.openapi.roots.libraries.Library;
+import com.intellij.openapi.roots.libraries.LibraryTable;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp.JakartaJavaMatcher;
+import io.openliberty.tools.intellij.lsp4mp.lsp.MicroProfileJavaMatcher;
+
+import java.io.IOException;
+
+/**
+ * Tests that the {@link MicroProfileJavaMatcher} and the {@link JakartaJavaMatcher} match the Java files of a module
+ * depending on the APIs on its classpath, and that they check the classpath again when the roots change.
+ */
+public class JavaClasspathDocumentMatcherTest extends BasePlatformTestCase {
+
+    private final MicroProfileJavaMatcher microProfileMatcher = new MicroProfileJavaMatcher();
+
+    private final JakartaJavaMatcher jakartaMatcher = new JakartaJavaMatcher();
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            // The light project is reused by the next tests
+            removeLibraries();
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    public void testModuleWithoutApis() {
+        VirtualFile javaFile = addJavaFile();
+        assertFalse(microProfileMatcher.match(javaFile, getProject()));
+        assertFalse(jakartaMatcher.match(javaFile, getProject()));
+    }
+
+    public void testModuleWithMicroProfileApis() throws IOException {
+        VirtualFile javaFile = addJavaFile();
+        addLibrary("microprofile", "org/eclipse/microprofile/config");
+        assertTrue(microProfileMatcher.match(javaFile, getProject()));
+        assertFalse(jakartaMatcher.match(javaFile, getProject()));
+    }
+
+    public void testModuleWithJakartaApis() throws IOException {
+        VirtualFile javaFile = addJavaFile();
+        addLibrary("jakarta", "jakarta/ws/rs");
+        assertTrue(microProfileMatcher.match(javaFile, getProject()));
+        assertTrue(jakartaMatcher.match(javaFile, getProject()));
+
+        // Only the Java files are matched
+        VirtualFile textFile = myFixture.addFileToProject("org/acme/notes.txt", "").getVirtualFile();
+        assertFalse(microProfileMatcher.match(textFile, getProject()));
+        assertFalse(jakartaMatcher.match(textFile, getProject()));
+    }
+
+    public void testClasspathCheckedAgainWhenRootsChange() throws IOException {
+        VirtualFile javaFile = addJavaFile();
+        assertFalse(jakartaMatcher.match(javaFile, getProject()));
+
+        addLibrary("jakarta", "jakarta/enterprise");
+        assertTrue(jakartaMatcher.match(javaFile, getProject()));
+
+        removeLibraries();
+        assertFalse(jakartaMatcher.match(javaFile, getProject()));
+        assertFalse(microProfileMatcher.match(javaFile, getProject()));
+    }
+
+    private VirtualFile addJavaFile() {
+        return myFixture.addFileToProject("org/acme/Greeting.java", """
+                package org.acme;
+
+                public class Greeting {
+                }
+                """).getVirtualFile();
+    }
+
+    /**
+     * Adds a module library whose class root contains the given package folder.
+     */
+    private void addLibrary(String name, String packagePath) throws IOException {
+        VirtualFile root = myFixture.getTempDirFixture().findOrCreateDir("lib/" + name);
+        myFixture.getTempDirFixture().findOrCreateDir("lib/" + name + "/" + packagePath);
+        ModuleRootModificationUtil.addModuleLibrary(getModule(), root.getUrl());
+    }
+
+    private void removeLibraries() {
+        ModuleRootModificationUtil.updateModel(getModule(), model -> {
+            LibraryTable libraryTable = model.getModuleLibraryTable();
+            for (Library library : libraryTable.getLibraries()) {
+                libraryTable.removeLibrary(library);
+            }
+        });
+    }
+}
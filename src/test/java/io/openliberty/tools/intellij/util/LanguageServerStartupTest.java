@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import org.eclipse.lsp4j.InitializeParams;
+import org.eclipse.lsp4j.InitializeResult;
+import org.eclipse.lsp4j.MessageActionItem;
+import org.eclipse.lsp4j.MessageParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.ShowMessageRequestParams;
+import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.launch.LSPLauncher;
+import org.eclipse.lsp4j.services.LanguageClient;
+import org.eclipse.lsp4j.services.LanguageServer;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the time to the <code>initialize</code> response of the Liberty Config language server launched with the
+ * JVM options of {@link LanguageServerJvmOptions}, without and with an AppCDS archive.
+ *
+ * <p>
+ * The test uses the server jar copied by the "copyDeps" Gradle task and is skipped when it is missing.
+ * </p>
+ */
+@RunWith(JUnit4.class)
+public class LanguageServerStartupTest {
+
+    private static final File SERVER_JAR = new File("build/server/server/liberty-langserver-jar-with-dependencies.jar");
+
+    private static final long MAX_STARTUP_MILLIS = 30_000;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void initializeWithClassDataSharing() throws Exception {
+        Assume.assumeTrue("The language server jar has not been copied", SERVER_JAR.exists());
+        Path archiveDir = temporaryFolder.getRoot().toPath();
+
+        // The first launch creates the archive when the server exits
+        measureStartup(archiveDir);
+        Assert.assertEquals("The AppCDS archive has not been created", 1, countArchives(archiveDir));
+
+        // The next launch maps the archive
+        List<String> options = getJvmOptions(archiveDir);
+        Assert.assertTrue(options.toString(), options.stream().anyMatch(option -> option.startsWith("-XX:SharedArchiveFile=")));
+        long warmStartup = measureStartup(archiveDir);
+
+        Assert.assertTrue("Startup with the AppCDS archive took " + warmStartup + " ms", warmStartup < MAX_STARTUP_MILLIS);
+    }
+
+    @Test
+    public void jvmOptionsOverrideDefaults() {
+        List<String> options = LanguageServerJvmOptions.getJvmOptions(Constants.LIBERTY_CONFIG_SERVER, "-Xmx1g -XX:+UseG1GC",
+                null, System.getProperty("java.home"), SERVER_JAR);
+        Assert.assertEquals(List.of("-Xmx1g", "-XX:+UseG1GC"), options);
+
+        options = LanguageServerJvmOptions.getJvmOptions(Constants.LIBERTY_CONFIG_SERVER, null, null,
+                System.getProperty("java.home"), SERVER_JAR);
+        // The JVM defaults keep the tiered compilation
+        Assert.assertEquals(List.of(), options);
+    }
+
+    @Test
+    public void explicitClassDataSharingOptionDisablesArchive() {
+        Path archiveDir = temporaryFolder.getRoot().toPath();
+        List<String> options = LanguageServerJvmOptions.getJvmOptions(Constants.LIBERTY_CONFIG_SERVER, "-Xshare:off",
+                archiveDir, System.getProperty("java.home"), SERVER_JAR);
+        Assert.assertEquals(List.of("-Xshare:off"), options);
+    }
+
+    @Test
+    public void keepArchivesOfOtherRuntimes() throws Exception {
+        Path archiveDir = temporaryFolder.newFolder("cds").toPath();
+        String javaHome = System.getProperty("java.home");
+        String otherJavaHome = temporaryFolder.newFolder("other-jdk").getAbsolutePath();
+
+        Path otherArchive = createArchive(archiveDir, otherJavaHome);
+        Path archive = createArchive(archiveDir, javaHome);
+        Assert.assertTrue("The archive of the other Java runtime must be kept", Files.exists(otherArchive));
+
+        // An archive of the same Java runtime for other server jars, and an unused archive of the other Java runtime
+        Path outdatedArchive = archive.resolveSibling(archive.getFileName().toString()
+                .replaceFirst("[0-9a-f]+\\.jsa$", "0000000000000000.jsa"));
+        Files.createFile(outdatedArchive);
+        Files.setLastModifiedTime(otherArchive, FileTime.from(Instant.now()
+                .minus(LanguageServerJvmOptions.MAX_ARCHIVE_AGE).minus(Duration.ofDays(1))));
+        Files.delete(archive);
+        createArchive(archiveDir, javaHome);
+
+        Assert.assertFalse("The outdated archive of the Java runtime must be deleted", Files.exists(outdatedArchive));
+        Assert.assertFalse("The unused archive of the other Java runtime must be deleted", Files.exists(otherArchive));
+        Assert.assertEquals(1, countArchives(archiveDir));
+    }
+
+    /**
+     * Simulates the first launch of the server with the given Java runtime, which creates its archive.
+     */
+    private static Path createArchive(Path archiveDir, String javaHome) throws Exception {
+        List<String> options = LanguageServerJvmOptions.getJvmOptions(Constants.LIBERTY_CONFIG_SERVER, null, archiveDir,
+                javaHome, SERVER_JAR);
+        String prefix = "-XX:ArchiveClassesAtExit=";
+        Path archive = options.stream().filter(option -> option.startsWith(prefix))
+                .map(option -> Path.of(option.substring(prefix.length())))
+                .findFirst().orElseThrow(() -> new AssertionError(options.toString()));
+        return Files.createFile(archive);
+    }
+
+    private static List<String> getJvmOptions(Path archiveDir) {
+        return LanguageServerJvmOptions.getJvmOptions(Constants.LIBERTY_CONFIG_SERVER, null, archiveDir,
+                System.getProperty("java.home"), SERVER_JAR);
+    }
+
+    private static long countArchives(Path archiveDir) throws Exception {
+        try (Stream<Path> files = Files.list(archiveDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jsa")).count();
+        }
+    }
+
+    /**
+     * Launches the language server, sends the <code>initialize</code> request, shuts the server down and returns the
+     * time between the launch and the <code>initialize</code> response.
+     */
+    private static long measureStartup(Path archiveDir) throws Exception {
+        String javaHome = System.getProperty("java.home");
+        List<String> command = new ArrayList<>();
+        command.add(javaHome + File.separator + "bin" + File.separator + "java");
+        command.addAll(getJvmOptions(archiveDir));
+        command.add("-jar");
+        command.add(SERVER_JAR.getAbsolutePath());
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+        try {
+            Launcher<LanguageServer> launcher = LSPLauncher.createClientLauncher(new NoOpLanguageClient(),
+                    process.getInputStream(), process.getOutputStream());
+            launcher.startListening();
+            LanguageServer server = launcher.getRemoteProxy();
+
+            InitializeParams params = new InitializeParams();
+            params.setProcessId((int) ProcessHandle.current().pid());
+            params.setInitializationOptions(Map.of("extendedClientCapabilities",
+                    Map.of("shouldLanguageServerExitOnShutdown", Boolean.TRUE)));
+            InitializeResult result = server.initialize(params).get(MAX_STARTUP_MILLIS, TimeUnit.MILLISECONDS);
+            long startup = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Assert.assertNotNull(result.getCapabilities());
+
+            server.shutdown().get(MAX_STARTUP_MILLIS, TimeUnit.MILLISECONDS);
+            server.exit();
+            Assert.assertTrue("The language server did not exit", process.waitFor(MAX_STARTUP_MILLIS, TimeUnit.MILLISECONDS));
+            return startup;
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    private static class NoOpLanguageClient implements LanguageClient {
+
+        @Override
+        public void telemetryEvent(Object object) {
+        }
+
+        @Override
+        public void publishDiagnostics(PublishDiagnosticsParams diagnostics) {
+        }
+
+        @Override
+        public void showMessage(MessageParams messageParams) {
+        }
+
+        @Override
+        public CompletableFuture<MessageActionItem> showMessageRequest(ShowMessageRequestParams requestParams) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void logMessage(MessageParams message) {
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests the pom.xml summaries used to scan the Liberty Maven projects, and their cache.
+ */
+public class PomSummaryTest extends BasePlatformTestCase {
+
+    private static final int POM_COUNT = 500;
+
+    public void testScanSyntheticTree() throws Exception {
+        List<VirtualFile> poms = new ArrayList<>();
+        for (int i = 0; i < POM_COUNT; i++) {
+            poms.add(myFixture.getTempDirFixture().createFile("module" + i + "/pom.xml", createPom(i)));
+        }
+
+        // The first scan parses each pom.xml once for both the validity and the project name
+        int parseCount = PomSummary.getParseCount();
+        int validCount = scan(poms);
+        assertEquals(POM_COUNT, PomSummary.getParseCount() - parseCount);
+        assertEquals(POM_COUNT / 2, validCount);
+
+        // The next scan uses the cached summaries
+        assertEquals(POM_COUNT / 2, scan(poms));
+        assertEquals(POM_COUNT, PomSummary.getParseCount() - parseCount);
+
+        // Only the modified pom.xml is parsed again
+        VirtualFile pom = poms.get(1);
+        assertFalse(LibertyMavenUtil.validPom(pom).isValidBuildFile());
+        WriteAction.runAndWait(() -> VfsUtil.saveText(pom, createPom(0)));
+        assertTrue(LibertyMavenUtil.validPom(pom).isValidBuildFile());
+        assertEquals("module0", LibertyMavenUtil.getProjectNameFromPom(pom));
+        assertEquals(POM_COUNT + 1, PomSummary.getParseCount() - parseCount);
+    }
+
+    public void testLibertyPluginLocations() throws Exception {
+        PomSummary summary = getSummary("profile.xml", """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <artifactId> profiled </artifactId>
+                    <name>Profiled project</name>
+                    <profiles>
+                        <profile>
+                            <build>
+                                <plugins>
+                                    <plugin>
+                                        <groupId>io.openliberty.tools</groupId>
+                                        <artifactId>liberty-maven-plugin</artifactId>
+                                        <version>3.1</version>
+                                        <configuration>
+                                            <serverName>guideServer</serverName>
+                                            <bootstrapProperties>
+                                                <http.port>9080</http.port>
+                                            </bootstrapProperties>
+                                        </configuration>
+                                    </plugin>
+                                </plugins>
+                            </build>
+                        </profile>
+                    </profiles>
+                </project>
+                """);
+        assertEquals("profiled", summary.getArtifactId());
+        assertEquals("Profiled project", summary.getName());
+        assertTrue(summary.isLibertyPluginDeclared());
+        assertFalse(summary.isLibertyPluginManaged());
+        assertEquals("3.1", summary.getLibertyPluginVersion());
+        assertEquals("guideServer", summary.getLibertyPluginConfiguration().get("serverName"));
+        assertFalse(summary.getLibertyPluginConfiguration().containsKey("bootstrapProperties"));
+
+        summary = getSummary("parent.xml", """
+                <project>
+                    <parent>
+                        <artifactId>parent</artifactId>
+                    </parent>
+                    <build>
+                        <pluginManagement>
+                            <plugins>
+                                <plugin>
+                                    <groupId>io.openliberty.tools</groupId>
+                                    <artifactId>liberty-maven-plugin</artifactId>
+                                </plugin>
+                            </plugins>
+                        </pluginManagement>
+                        <plugins>
+                            <plugin>
+                                <groupId>org.apache.maven.plugins</groupId>
+                                <artifactId>maven-war-plugin</artifactId>
+                            </plugin>
+                        </plugins>
+                    </build>
+                </project>
+                """);
+        assertNull(summary.getArtifactId());
+        assertFalse(summary.isLibertyPluginDeclared());
+        assertTrue(summary.isLibertyPluginManaged());
+        assertEquals("", summary.getLibertyPluginVersion());
+
+        summary = getSummary("dependency.xml", """
+                <project>
+                    <artifactId>app</artifactId>
+                    <dependencies>
+                        <dependency>
+                            <groupId>io.openliberty.tools</groupId>
+                            <artifactId>liberty-maven-plugin</artifactId>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """);
+        assertFalse(summary.isLibertyPluginDeclared());
+        assertFalse(summary.isLibertyPluginManaged());
+        assertNull(summary.getLibertyPluginVersion());
+    }
+
+    public void testOldPluginVersionIsNotValidForContainers() throws Exception {
+        VirtualFile pom = myFixture.getTempDirFixture().createFile("old/pom.xml", """
+                <project>
+                    <build>
+                        <plugins>
+                            <plugin>
+                                <groupId>io.openliberty.tools</groupId>
+                                <artifactId>liberty-maven-plugin</artifactId>
+                                <version>3.0</version>
+                            </plugin>
+                        </plugins>
+                    </build>
+                </project>
+                """);
+        BuildFile buildFile = LibertyMavenUtil.validPom(pom);
+        assertTrue(buildFile.isValidBuildFile());
+        assertFalse(buildFile.isValidContainerVersion());
+        assertEquals("old", LibertyMavenUtil.getProjectNameFromPom(pom));
+    }
+
+    private PomSummary getSummary(String name, String content) throws Exception {
+        return PomSummary.getSummary(myFixture.getTempDirFixture().createFile(name, content));
+    }
+
+    private static int scan(List<VirtualFile> poms) throws Exception {
+        int validCount = 0;
+        for (VirtualFile pom : poms) {
+            if (LibertyMavenUtil.validPom(pom).isValidBuildFile()) {
+                validCount++;
+            }
+            assertNotNull(LibertyMavenUtil.getProjectNameFromPom(pom));
+        }
+        return validCount;
+    }
+
+    private static String createPom(int index) {
+        StringBuilder pom = new StringBuilder();
+        pom.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        pom.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n");
+        pom.append("    <modelVersion>4.0.0</modelVersion>\n");
+        pom.append("    <groupId>io.openliberty.sample</groupId>\n");
+        pom.append("    <artifactId>module").append(index).append("</artifactId>\n");
+        pom.append("    <dependencies>\n");
+        for (int i = 0; i < 20; i++) {
+            pom.append("        <dependency><groupId>org.acme</groupId><artifactId>lib").append(i)
+                    .append("</artifactId><version>1.0</version></dependency>\n");
+        }
+        pom.append("    </dependencies>\n");
+        pom.append("    <build>\n        <plugins>\n");
+        pom.append("            <plugin><artifactId>maven-war-plugin</artifactId><version>3.4.0</version></plugin>\n");
+        if (index % 2 == 0) {
+            pom.append("            <plugin><groupId>io.openliberty.tools</groupId>")
+                    .append("<artifactId>liberty-maven-plugin</artifactId><version>3.11.2</version></plugin>\n");
+        }
+        pom.append("        </plugins>\n    </build>\n");
+        pom.append("</project>\n");
+        return pom.toString();
+    }
+}
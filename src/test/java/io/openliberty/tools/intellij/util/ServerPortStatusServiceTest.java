@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tests {@link ServerPortStatusService} against a local {@link ServerSocket}.
+ */
+@RunWith(JUnit4.class)
+public class ServerPortStatusServiceTest {
+
+    private static final String HOST = InetAddress.getLoopbackAddress().getHostAddress();
+
+    private ServerPortStatusService service;
+
+    private final AtomicInteger changes = new AtomicInteger();
+
+    @Before
+    public void setUp() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        service = new ServerPortStatusService(executor, 100, 200);
+        service.addChangeHandler(changes::incrementAndGet);
+    }
+
+    @After
+    public void tearDown() {
+        service.dispose();
+    }
+
+    @Test
+    public void detectsServerStartAndStop() throws Exception {
+        ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        int port = server.getLocalPort();
+        try {
+            waitUntil(() -> service.isServerAvailable(HOST, port));
+            Assert.assertEquals(1, changes.get());
+        } finally {
+            server.close();
+        }
+        waitUntil(() -> !service.isServerAvailable(HOST, port));
+        Assert.assertEquals(2, changes.get());
+    }
+
+    @Test
+    public void cachedStatusIsReturnedWithoutProbing() throws Exception {
+        AtomicInteger probes = new AtomicInteger();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1) {
+            @Override
+            public void execute(Runnable command) {
+                probes.incrementAndGet();
+                super.execute(command);
+            }
+        };
+        // The status stays valid for the whole test
+        ServerPortStatusService cachingService = new ServerPortStatusService(executor, 60_000, 60_000);
+        ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        try {
+            int port = server.getLocalPort();
+            waitUntil(() -> cachingService.isServerAvailable(HOST, port));
+            Assert.assertEquals(1, probes.get());
+
+            for (int i = 0; i < 100_000; i++) {
+                Assert.assertTrue(cachingService.isServerAvailable(HOST, port));
+            }
+            Assert.assertEquals(1, probes.get());
+        } finally {
+            server.close();
+            cachingService.dispose();
+        }
+    }
+
+    @Test
+    public void unavailablePortDoesNotNotify() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            port = socket.getLocalPort();
+        }
+        Assert.assertFalse(service.isServerAvailable(HOST, port));
+        service.refresh();
+        TimeUnit.MILLISECONDS.sleep(500);
+        Assert.assertFalse(service.isServerAvailable(HOST, port));
+        Assert.assertEquals(0, changes.get());
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue("Timed out", System.nanoTime() < deadline);
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+    }
+}